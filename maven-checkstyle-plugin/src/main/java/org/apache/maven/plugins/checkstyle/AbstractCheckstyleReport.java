@@ -402,6 +402,16 @@ public abstract class AbstractCheckstyleReport
     @Parameter( defaultValue = "false" )
     private boolean omitIgnoredModules;
 
+    /**
+     * The number of threads used to run Checkstyle. With a value greater than <code>1</code>, the files are split
+     * between several independently configured Checkstyle <code>Checker</code>s running concurrently, each of them
+     * using its own cache file, derived from <code>cacheFile</code>.
+     *
+     * @since 3.0.0
+     */
+    @Parameter( property = "checkstyle.threads", defaultValue = "1" )
+    private int threads;
+
     /**
      */
     @Component
@@ -458,7 +468,7 @@ public abstract class AbstractCheckstyleReport
         {
             CheckstyleExecutorRequest request = createRequest().setLicenseArtifacts( collectArtifacts( "license" ) )
                             .setConfigurationArtifacts( collectArtifacts( "configuration" ) )
-                            .setOmitIgnoredModules( omitIgnoredModules );
+                            .setOmitIgnoredModules( omitIgnoredModules ).setThreads( threads );
 
             CheckstyleResults results = checkstyleExecutor.executeCheckstyle( request );
 
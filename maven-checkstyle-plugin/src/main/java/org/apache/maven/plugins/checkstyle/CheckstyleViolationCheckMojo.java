@@ -116,6 +116,26 @@ public class CheckstyleViolationCheckMojo
     @Parameter( property = "checkstyle.maxAllowedViolations", defaultValue = "0" )
     private int maxAllowedViolations;
 
+    /**
+     * Stop Checkstyle as soon as the number of violations is above <code>maxAllowedViolations</code>, instead of
+     * analysing the remaining files. Only used when <code>failOnViolation</code> is <code>true</code>. Note that the
+     * output file is incomplete when the analysis is stopped.
+     *
+     * @since 3.0.0
+     */
+    @Parameter( property = "checkstyle.failFast", defaultValue = "false" )
+    private boolean failFast;
+
+    /**
+     * Write the Checkstyle output to <code>outputFile</code> when Checkstyle is executed by this goal. The violations
+     * are counted while Checkstyle is running, so the output file is not needed by this goal: it can be disabled
+     * on large code bases when nothing else reads it.
+     *
+     * @since 3.0.0
+     */
+    @Parameter( property = "checkstyle.writeOutputFile", defaultValue = "true" )
+    private boolean writeOutputFile;
+
     /**
      * The lowest severity level that is considered a violation.
      * Valid values are "<code>error</code>", "<code>warning</code>" and "<code>info</code>".
@@ -459,9 +479,17 @@ public class CheckstyleViolationCheckMojo
     @Parameter( defaultValue = "false" )
     private boolean omitIgnoredModules;
 
-    private ByteArrayOutputStream stringOutputStream;
+    /**
+     * The number of threads used to run Checkstyle. With a value greater than <code>1</code>, the files are split
+     * between several independently configured Checkstyle <code>Checker</code>s running concurrently, each of them
+     * using its own cache file, derived from <code>cacheFile</code>.
+     *
+     * @since 3.0.0
+     */
+    @Parameter( property = "checkstyle.threads", defaultValue = "1" )
+    private int threads;
 
-    private File outputXmlFile;
+    private ByteArrayOutputStream stringOutputStream;
 
     /** {@inheritDoc} */
     public void execute()
@@ -474,8 +502,6 @@ public class CheckstyleViolationCheckMojo
             return;
         }
 
-        outputXmlFile = outputFile;
-
         if ( !skipExec )
         {
             if ( checkstyleRules != null )
@@ -504,6 +530,8 @@ public class CheckstyleViolationCheckMojo
                 configLocation = rulesFiles.getAbsolutePath();
             }
 
+            ViolationCountListener violationCountListener = newViolationCountListener();
+
             ClassLoader currentClassLoader = Thread.currentThread().getContextClassLoader();
 
             try
@@ -515,7 +543,8 @@ public class CheckstyleViolationCheckMojo
                     .setResourceExcludes( resourceExcludes )
                     .setIncludeResources( includeResources )
                     .setIncludeTestResources( includeTestResources )
-                    .setIncludeTestSourceDirectory( includeTestSourceDirectory ).setListener( getListener() )
+                    .setIncludeTestSourceDirectory( includeTestSourceDirectory )
+                    .setListener( getListener( violationCountListener ) )
                     .setProject( project ).setSourceDirectories( getSourceDirectories() )
                     .setResources( resources ).setTestResources( testResources )
                     .setStringOutputStream( stringOutputStream ).setSuppressionsLocation( suppressionsLocation )
@@ -525,65 +554,131 @@ public class CheckstyleViolationCheckMojo
                     .setHeaderLocation( headerLocation ).setLicenseArtifacts( collectArtifacts( "license" ) )
                     .setCacheFile( cacheFile ).setSuppressionsFileExpression( suppressionsFileExpression )
                     .setEncoding( encoding ).setPropertiesLocation( propertiesLocation )
-                    .setOmitIgnoredModules( omitIgnoredModules );
+                    .setOmitIgnoredModules( omitIgnoredModules ).setThreads( threads );
                 checkstyleExecutor.executeCheckstyle( request );
 
             }
             catch ( CheckstyleException e )
             {
-                throw new MojoExecutionException( "Failed during checkstyle configuration", e );
+                // Checkstyle wraps the exceptions thrown by the listeners
+                ViolationCountListener.TooManyViolationsException tooManyViolations = getTooManyViolations( e );
+                if ( tooManyViolations == null )
+                {
+                    throw new MojoExecutionException( "Failed during checkstyle configuration", e );
+                }
+                failOnTooManyViolations( tooManyViolations );
             }
             catch ( CheckstyleExecutorException e )
             {
-                throw new MojoExecutionException( "Failed during checkstyle execution", e );
+                ViolationCountListener.TooManyViolationsException tooManyViolations = getTooManyViolations( e );
+                if ( tooManyViolations == null )
+                {
+                    throw new MojoExecutionException( "Failed during checkstyle execution", e );
+                }
+                failOnTooManyViolations( tooManyViolations );
+            }
+            catch ( ViolationCountListener.TooManyViolationsException e )
+            {
+                failOnTooManyViolations( e );
             }
             finally
             {
                 //be sure to restore original context classloader
                 Thread.currentThread().setContextClassLoader( currentClassLoader );
             }
+
+            checkViolations( violationCountListener );
+            return;
         }
 
-        if ( !"xml".equals( outputFileFormat ) && skipExec )
+        if ( !"xml".equals( outputFileFormat ) )
         {
             throw new MojoExecutionException( "Output format is '" + outputFileFormat
                 + "', checkstyle:check requires format to be 'xml' when using skipExec." );
         }
 
-        if ( !outputXmlFile.exists() )
+        if ( !outputFile.exists() )
         {
             getLog().info( "Unable to perform checkstyle:check, unable to find checkstyle:checkstyle outputFile." );
             return;
         }
 
-        try ( Reader reader = new BufferedReader( ReaderFactory.newXmlReader( outputXmlFile ) ) )
+        try ( Reader reader = new BufferedReader( ReaderFactory.newXmlReader( outputFile ) ) )
         {
             XmlPullParser xpp = new MXParser();
             xpp.setInput( reader );
 
-            int violations = countViolations( xpp );
+            ViolationCountListener violationCountListener = newViolationCountListener();
+            countViolations( xpp, violationCountListener );
 
-            if ( violations > maxAllowedViolations )
+            checkViolations( violationCountListener );
+        }
+        catch ( IOException | XmlPullParserException e )
+        {
+            throw new MojoExecutionException( "Unable to read Checkstyle results xml: "
+                + outputFile.getAbsolutePath(), e );
+        }
+    }
+
+    private ViolationCountListener newViolationCountListener()
+    {
+        int failFastThreshold = ( failFast && failOnViolation ) ? maxAllowedViolations : -1;
+        return new ViolationCountListener( getLog(), project.getBasedir().getAbsolutePath(), violationSeverity,
+                                           violationIgnore, logViolationsToConsole, failFastThreshold );
+    }
+
+    private void checkViolations( ViolationCountListener violationCountListener )
+        throws MojoFailureException
+    {
+        int violations = violationCountListener.getCount();
+        int ignoreCount = violationCountListener.getIgnoreCount();
+
+        if ( ignoreCount > 0 )
+        {
+            getLog().info( "Ignored " + ignoreCount + " error" + ( ( ignoreCount > 1 ) ? "s" : "" ) + ", "
+                               + violations + " violation" + ( ( violations > 1 ) ? "s" : "" ) + " remaining." );
+        }
+
+        if ( violations > maxAllowedViolations )
+        {
+            if ( failOnViolation )
             {
-                if ( failOnViolation )
+                String msg =
+                    "You have " + violations + " Checkstyle violation" + ( ( violations > 1 ) ? "s" : "" ) + ".";
+                if ( maxAllowedViolations > 0 )
                 {
-                    String msg =
-                        "You have " + violations + " Checkstyle violation" + ( ( violations > 1 ) ? "s" : "" ) + ".";
-                    if ( maxAllowedViolations > 0 )
-                    {
-                        msg += " The maximum number of allowed violations is " + maxAllowedViolations + ".";
-                    }
-                    throw new MojoFailureException( msg );
+                    msg += " The maximum number of allowed violations is " + maxAllowedViolations + ".";
                 }
-
-                getLog().warn( "checkstyle:check violations detected but failOnViolation set to false" );
+                throw new MojoFailureException( msg );
             }
+
+            getLog().warn( "checkstyle:check violations detected but failOnViolation set to false" );
         }
-        catch ( IOException | XmlPullParserException e )
+    }
+
+    private void failOnTooManyViolations( ViolationCountListener.TooManyViolationsException e )
+        throws MojoFailureException
+    {
+        String msg = "You have at least " + e.getCount() + " Checkstyle violation" + ( ( e.getCount() > 1 ) ? "s" : "" )
+            + ".";
+        if ( maxAllowedViolations > 0 )
         {
-            throw new MojoExecutionException( "Unable to read Checkstyle results xml: "
-                + outputXmlFile.getAbsolutePath(), e );
+            msg += " The maximum number of allowed violations is " + maxAllowedViolations + ".";
         }
+        msg += " The analysis has been stopped since failFast is enabled.";
+        throw new MojoFailureException( msg, e );
+    }
+
+    private ViolationCountListener.TooManyViolationsException getTooManyViolations( Throwable throwable )
+    {
+        for ( Throwable cause = throwable; cause != null; cause = cause.getCause() )
+        {
+            if ( cause instanceof ViolationCountListener.TooManyViolationsException )
+            {
+                return (ViolationCountListener.TooManyViolationsException) cause;
+            }
+        }
+        return null;
     }
 
     private void checkDeprecatedParameterUsage( Object parameter, String name, String replacement )
@@ -597,14 +692,9 @@ public class CheckstyleViolationCheckMojo
         }
     }
 
-    private int countViolations( XmlPullParser xpp )
+    private void countViolations( XmlPullParser xpp, ViolationCountListener violationCountListener )
         throws XmlPullParserException, IOException
     {
-        int count = 0;
-        int ignoreCount = 0;
-        RuleUtil.Matcher[] ignores =
-            ( violationIgnore == null ) ? null : RuleUtil.parseMatchers( violationIgnore.split( "," ) );
-
         String basedir = project.getBasedir().getAbsolutePath();
         String file = "";
         for ( int eventType = xpp.getEventType(); eventType != XmlPullParser.END_DOCUMENT; eventType = xpp.next() )
@@ -620,104 +710,13 @@ public class CheckstyleViolationCheckMojo
             }
             else if ( "error".equals( xpp.getName() ) )
             {
-                String severity = xpp.getAttributeValue( "", "severity" );
-
-                if ( !isViolation( severity ) )
-                {
-                    continue;
-                }
-
-                String source = xpp.getAttributeValue( "", "source" );
-
-                if ( ignore( ignores, source ) )
-                {
-                    ignoreCount++;
-                }
-                else
-                {
-                    count++;
-
-                    if ( logViolationsToConsole )
-                    {
-                        String line = xpp.getAttributeValue( "", "line" );
-                        String column = xpp.getAttributeValue( "", "column" );
-                        String message = xpp.getAttributeValue( "", "message" );
-                        String rule = RuleUtil.getName( source );
-                        String category = RuleUtil.getCategory( source );
-
-                        log( severity, file + ":[" + line + ( ( column == null ) ? "" : ( ',' + column ) ) + "] ("
-                            + category + ") " + rule + ": " + message );
-                    }
-                }
-            }
-        }
-
-        if ( ignoreCount > 0 )
-        {
-            getLog().info( "Ignored " + ignoreCount + " error" + ( ( ignoreCount > 1 ) ? "s" : "" ) + ", " + count
-                               + " violation" + ( ( count > 1 ) ? "s" : "" ) + " remaining." );
-        }
-
-        return count;
-    }
-
-    private void log( String severity, String message )
-    {
-        if ( "info".equals( severity ) )
-        {
-            getLog().info( message );
-        }
-        else if ( "warning".equals( severity ) )
-        {
-            getLog().warn( message );
-        }
-        else
-        {
-            getLog().error( message );
-        }
-    }
-
-    /**
-     * Checks if the given severity is considered a violation.
-     *
-     * @param severity The severity to check
-     * @return <code>true</code> if the given severity is a violation, otherwise <code>false</code>
-     */
-    private boolean isViolation( String severity )
-    {
-        if ( "error".equals( severity ) )
-        {
-            return "error".equals( violationSeverity ) || "warning".equals( violationSeverity )
-                || "info".equals( violationSeverity );
-        }
-        else if ( "warning".equals( severity ) )
-        {
-            return "warning".equals( violationSeverity ) || "info".equals( violationSeverity );
-        }
-        else if ( "info".equals( severity ) )
-        {
-            return "info".equals( violationSeverity );
-        }
-        else
-        {
-            return false;
-        }
-    }
-
-    private boolean ignore( RuleUtil.Matcher[] ignores, String source )
-    {
-        if ( ignores != null )
-        {
-            for ( RuleUtil.Matcher ignore : ignores )
-            {
-                if ( ignore.match( source ) )
-                {
-                    return true;
-                }
+                violationCountListener.addViolation( file, xpp.getAttributeValue( "", "severity" ),
+                                                     xpp.getAttributeValue( "", "source" ),
+                                                     xpp.getAttributeValue( "", "line" ),
+                                                     xpp.getAttributeValue( "", "column" ),
+                                                     xpp.getAttributeValue( "", "message" ) );
             }
         }
-
-        return false;
     }
 
     private DefaultLogger getConsoleListener()
@@ -762,44 +761,29 @@ public class CheckstyleViolationCheckMojo
         return fileOutputStream;
     }
 
-    private AuditListener getListener()
+    private AuditListener getListener( ViolationCountListener violationCountListener )
         throws MojoFailureException, MojoExecutionException
     {
-        AuditListener listener = null;
+        CompositeAuditListener listener = new CompositeAuditListener();
+        listener.addListener( violationCountListener );
 
-        if ( StringUtils.isNotEmpty( outputFileFormat ) )
+        if ( writeOutputFile && StringUtils.isNotEmpty( outputFileFormat ) )
         {
-            File resultFile = outputFile;
+            if ( !"xml".equals( outputFileFormat ) && !"plain".equals( outputFileFormat ) )
+            {
+                throw new MojoFailureException( "Invalid output file format: (" + outputFileFormat
+                    + "). Must be 'plain' or 'xml'." );
+            }
 
-            OutputStream out = getOutputStream( resultFile );
+            OutputStream out = getOutputStream( outputFile );
 
             if ( "xml".equals( outputFileFormat ) )
             {
-                listener = new XMLLogger( out, true );
-            }
-            else if ( "plain".equals( outputFileFormat ) )
-            {
-                try
-                {
-                    // Write a plain output file to the standard output file,
-                    // and write an XML output file to the temp directory that can be used to count violations
-                    outputXmlFile = File.createTempFile( "checkstyle-result", ".xml" );
-                    outputXmlFile.deleteOnExit();
-                    OutputStream xmlOut = getOutputStream( outputXmlFile );
-                    CompositeAuditListener compoundListener = new CompositeAuditListener();
-                    compoundListener.addListener( new XMLLogger( xmlOut, true ) );
-                    compoundListener.addListener( new DefaultLogger( out, true ) );
-                    listener = compoundListener;
-                }
-                catch ( IOException e )
-                {
-                    throw new MojoExecutionException( "Unable to create temporary file", e );
-                }
+                listener.addListener( new XMLLogger( out, true ) );
             }
             else
             {
-                throw new MojoFailureException( "Invalid output file format: (" + outputFileFormat
-                    + "). Must be 'plain' or 'xml'." );
+                listener.addListener( new DefaultLogger( out, true ) );
             }
         }
 
@@ -0,0 +1,252 @@
+package org.apache.maven.plugins.checkstyle;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import org.apache.maven.plugin.logging.Log;
+import org.codehaus.plexus.util.PathTool;
+
+import com.puppycrawl.tools.checkstyle.api.AuditEvent;
+import com.puppycrawl.tools.checkstyle.api.AuditListener;
+
+/**
+ * AuditListener that counts the violations while Checkstyle is running, so that <code>checkstyle:check</code> does
+ * not need to read them back from the XML output file. The violations can also be fed from a previous analysis with
+ * {@link #addViolation(String, String, String, String, String, String)}.
+ *
+ * @since 3.0.0
+ */
+class ViolationCountListener
+    implements AuditListener
+{
+    private final Log log;
+
+    private final String basedir;
+
+    private final String violationSeverity;
+
+    private final RuleUtil.Matcher[] ignores;
+
+    private final boolean logViolationsToConsole;
+
+    private final int failFastThreshold;
+
+    private int count;
+
+    private int ignoreCount;
+
+    /**
+     * @param log the log to output the violations to.
+     * @param basedir the base directory, to compute the relative path of the files.
+     * @param violationSeverity the lowest severity level that is considered a violation.
+     * @param violationIgnore a comma-separated list of violations to ignore, may be <code>null</code>.
+     * @param logViolationsToConsole whether to log the violations.
+     * @param failFastThreshold the number of violations which interrupts Checkstyle by throwing a
+     *            {@link TooManyViolationsException}, or <code>-1</code> to never interrupt it.
+     */
+    ViolationCountListener( Log log, String basedir, String violationSeverity, String violationIgnore,
+                            boolean logViolationsToConsole, int failFastThreshold )
+    {
+        this.log = log;
+        this.basedir = basedir;
+        this.violationSeverity = violationSeverity;
+        this.ignores = ( violationIgnore == null ) ? null : RuleUtil.parseMatchers( violationIgnore.split( "," ) );
+        this.logViolationsToConsole = logViolationsToConsole;
+        this.failFastThreshold = failFastThreshold;
+    }
+
+    @Override
+    public void auditStarted( AuditEvent event )
+    {
+        // nothing to do
+    }
+
+    @Override
+    public void auditFinished( AuditEvent event )
+    {
+        // nothing to do
+    }
+
+    @Override
+    public void fileStarted( AuditEvent event )
+    {
+        // nothing to do
+    }
+
+    @Override
+    public void fileFinished( AuditEvent event )
+    {
+        // nothing to do
+    }
+
+    @Override
+    public void addError( AuditEvent event )
+    {
+        String file = PathTool.getRelativeFilePath( basedir, event.getFileName() );
+        String severity = event.getSeverityLevel().getName();
+        String column = ( event.getColumn() > 0 ) ? String.valueOf( event.getColumn() ) : null;
+
+        addViolation( file, severity, event.getSourceName(), String.valueOf( event.getLine() ), column,
+                      event.getMessage() );
+
+        if ( failFastThreshold >= 0 && count > failFastThreshold )
+        {
+            throw new TooManyViolationsException( count );
+        }
+    }
+
+    @Override
+    public void addException( AuditEvent event, Throwable throwable )
+    {
+        // nothing to do
+    }
+
+    /**
+     * Counts a violation, unless its severity is too low or it is ignored.
+     *
+     * @param file the file, relative to the base directory.
+     * @param severity the severity of the violation.
+     * @param source the name of the check that reported the violation.
+     * @param line the line of the violation.
+     * @param column the column of the violation, may be <code>null</code>.
+     * @param message the message of the violation.
+     */
+    void addViolation( String file, String severity, String source, String line, String column, String message )
+    {
+        if ( !isViolation( severity ) )
+        {
+            return;
+        }
+
+        if ( ignore( source ) )
+        {
+            ignoreCount++;
+        }
+        else
+        {
+            count++;
+
+            if ( logViolationsToConsole )
+            {
+                String rule = RuleUtil.getName( source );
+                String category = RuleUtil.getCategory( source );
+
+                log( severity, file + ":[" + line + ( ( column == null ) ? "" : ( ',' + column ) ) + "] ("
+                    + category + ") " + rule + ": " + message );
+            }
+        }
+    }
+
+    /**
+     * @return the number of violations counted so far.
+     */
+    int getCount()
+    {
+        return count;
+    }
+
+    /**
+     * @return the number of ignored violations counted so far.
+     */
+    int getIgnoreCount()
+    {
+        return ignoreCount;
+    }
+
+    private void log( String severity, String message )
+    {
+        if ( "info".equals( severity ) )
+        {
+            log.info( message );
+        }
+        else if ( "warning".equals( severity ) )
+        {
+            log.warn( message );
+        }
+        else
+        {
+            log.error( message );
+        }
+    }
+
+    /**
+     * Checks if the given severity is considered a violation.
+     *
+     * @param severity The severity to check
+     * @return <code>true</code> if the given severity is a violation, otherwise <code>false</code>
+     */
+    private boolean isViolation( String severity )
+    {
+        if ( "error".equals( severity ) )
+        {
+            return "error".equals( violationSeverity ) || "warning".equals( violationSeverity )
+                || "info".equals( violationSeverity );
+        }
+        else if ( "warning".equals( severity ) )
+        {
+            return "warning".equals( violationSeverity ) || "info".equals( violationSeverity );
+        }
+        else if ( "info".equals( severity ) )
+        {
+            return "info".equals( violationSeverity );
+        }
+        else
+        {
+            return false;
+        }
+    }
+
+    private boolean ignore( String source )
+    {
+        if ( ignores != null )
+        {
+            for ( RuleUtil.Matcher ignore : ignores )
+            {
+                if ( ignore.match( source ) )
+                {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Thrown from the listener to interrupt Checkstyle once the number of violations exceeds the fail fast threshold.
+     */
+    static class TooManyViolationsException
+        extends RuntimeException
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final int count;
+
+        TooManyViolationsException( int count )
+        {
+            super( "Interrupting Checkstyle after " + count + " violations" );
+            this.count = count;
+        }
+
+        int getCount()
+        {
+            return count;
+        }
+    }
+}
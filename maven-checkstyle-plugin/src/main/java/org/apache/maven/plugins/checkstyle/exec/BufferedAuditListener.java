@@ -0,0 +1,156 @@
+package org.apache.maven.plugins.checkstyle.exec;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.puppycrawl.tools.checkstyle.api.AuditEvent;
+import com.puppycrawl.tools.checkstyle.api.AuditListener;
+
+/**
+ * An {@link AuditListener} used when several <code>Checker</code>s run concurrently and report to the same listener.
+ * The events of a file are buffered until the file is finished, and then forwarded all together to the delegate
+ * while holding a lock shared by all the buffered listeners of the execution, so that the delegate never sees the
+ * events of different files interleaved.
+ * <p>
+ * The audit start and end events are not forwarded, they must be fired once on the delegate by the caller.
+ * </p>
+ *
+ * @since 3.0.0
+ */
+class BufferedAuditListener
+    implements AuditListener
+{
+    private final AuditListener delegate;
+
+    private final Object lock;
+
+    private List<BufferedEvent> fileEvents;
+
+    /**
+     * @param delegate the listener to forward the events to.
+     * @param lock the lock shared by all the listeners forwarding to the same delegate.
+     */
+    BufferedAuditListener( AuditListener delegate, Object lock )
+    {
+        this.delegate = delegate;
+        this.lock = lock;
+    }
+
+    /** {@inheritDoc} */
+    public void auditStarted( AuditEvent event )
+    {
+        // fired once by the executor
+    }
+
+    /** {@inheritDoc} */
+    public void auditFinished( AuditEvent event )
+    {
+        // fired once by the executor
+    }
+
+    /** {@inheritDoc} */
+    public void fileStarted( AuditEvent event )
+    {
+        fileEvents = new ArrayList<>();
+        fileEvents.add( new BufferedEvent( event, null ) );
+    }
+
+    /** {@inheritDoc} */
+    public void fileFinished( AuditEvent event )
+    {
+        if ( fileEvents == null )
+        {
+            synchronized ( lock )
+            {
+                delegate.fileFinished( event );
+            }
+            return;
+        }
+
+        synchronized ( lock )
+        {
+            for ( int i = 0; i < fileEvents.size(); i++ )
+            {
+                BufferedEvent bufferedEvent = fileEvents.get( i );
+                if ( i == 0 )
+                {
+                    delegate.fileStarted( bufferedEvent.event );
+                }
+                else if ( bufferedEvent.throwable != null )
+                {
+                    delegate.addException( bufferedEvent.event, bufferedEvent.throwable );
+                }
+                else
+                {
+                    delegate.addError( bufferedEvent.event );
+                }
+            }
+            delegate.fileFinished( event );
+        }
+        fileEvents = null;
+    }
+
+    /** {@inheritDoc} */
+    public void addError( AuditEvent event )
+    {
+        if ( fileEvents != null )
+        {
+            fileEvents.add( new BufferedEvent( event, null ) );
+        }
+        else
+        {
+            synchronized ( lock )
+            {
+                delegate.addError( event );
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    public void addException( AuditEvent event, Throwable throwable )
+    {
+        if ( fileEvents != null )
+        {
+            fileEvents.add( new BufferedEvent( event, throwable ) );
+        }
+        else
+        {
+            synchronized ( lock )
+            {
+                delegate.addException( event, throwable );
+            }
+        }
+    }
+
+    private static class BufferedEvent
+    {
+        private final AuditEvent event;
+
+        private final Throwable throwable;
+
+        BufferedEvent( AuditEvent event, Throwable throwable )
+        {
+            this.event = event;
+            this.throwable = throwable;
+        }
+    }
+}
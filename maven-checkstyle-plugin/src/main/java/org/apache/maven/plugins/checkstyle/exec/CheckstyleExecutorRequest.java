@@ -128,6 +128,11 @@ public class CheckstyleExecutorRequest
      */
     private boolean omitIgnoredModules;
 
+    /**
+     * @since 3.0.0
+     */
+    private int threads = 1;
+
     /**
      * Constructor.
      */
@@ -531,4 +536,24 @@ public class CheckstyleExecutorRequest
         this.omitIgnoredModules = omitIgnoredModules;
         return this;
     }
+
+    /**
+     * Returns the number of threads, and so of <code>Checker</code> instances, used to process the files.
+     *
+     * @return the number of threads.
+     */
+    public int getThreads()
+    {
+        return threads;
+    }
+
+    /**
+     * @param threads The number of threads used to process the files.
+     * @return This object.
+     */
+    public CheckstyleExecutorRequest setThreads( int threads )
+    {
+        this.threads = threads;
+        return this;
+    }
 }
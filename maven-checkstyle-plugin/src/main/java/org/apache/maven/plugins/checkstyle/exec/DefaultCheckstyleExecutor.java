@@ -40,6 +40,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.commons.io.IOUtils;
 import org.apache.maven.artifact.Artifact;
@@ -61,6 +67,7 @@ import com.puppycrawl.tools.checkstyle.ConfigurationLoader;
 import com.puppycrawl.tools.checkstyle.DefaultConfiguration;
 import com.puppycrawl.tools.checkstyle.PackageNamesLoader;
 import com.puppycrawl.tools.checkstyle.PropertiesExpander;
+import com.puppycrawl.tools.checkstyle.api.AuditEvent;
 import com.puppycrawl.tools.checkstyle.api.AuditListener;
 import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
 import com.puppycrawl.tools.checkstyle.api.Configuration;
@@ -111,9 +118,6 @@ public class DefaultCheckstyleExecutor
         }
 
         final String suppressionsFilePath = getSuppressionsFilePath( request );
-        FilterSet filterSet = getSuppressionsFilterSet( suppressionsFilePath );
-
-        Checker checker = new Checker();
 
         // setup classloader, needed to avoid "Unable to get class information for ..." errors
         List<String> classPathStrings = new ArrayList<>();
@@ -202,52 +206,77 @@ public class DefaultCheckstyleExecutor
             }
         } );
 
-        checker.setClassLoader( projectClassLoader );
-
-        checker.setModuleClassLoader( Thread.currentThread().getContextClassLoader() );
-
-        if ( filterSet != null )
-        {
-            checker.addFilter( filterSet );
-        }
         Configuration configuration = getConfiguration( request );
-        checker.configure( configuration );
 
-        AuditListener listener = request.getListener();
-
-        if ( listener != null )
+        int nbErrors;
+        CheckstyleResults results;
+        if ( request.getThreads() > 1 && files.size() > 1 )
         {
-            checker.addListener( listener );
-        }
+            List<CheckstyleCheckerListener> checkerListeners = new ArrayList<>();
+            for ( int i = 0; i < Math.min( request.getThreads(), files.size() ); i++ )
+            {
+                checkerListeners.add( createCheckerListener( configuration, request, sourceDirectories,
+                                                             testSourceDirectories, sourceDirectoriesByProject,
+                                                             testSourceDirectoriesByProject ) );
+            }
 
-        if ( request.isConsoleOutput() )
-        {
-            checker.addListener( request.getConsoleListener() );
-        }
+            nbErrors = processConcurrently( request, files, configuration, projectClassLoader, suppressionsFilePath,
+                                            checkerListeners );
 
-        CheckstyleCheckerListener checkerListener = new CheckstyleCheckerListener( configuration );
-        if ( request.isAggregate() )
-        {
-            for ( MavenProject childProject : request.getReactorProjects() )
+            results = new CheckstyleResults();
+            results.setConfiguration( configuration );
+            for ( CheckstyleCheckerListener checkerListener : checkerListeners )
             {
-                sourceDirectories = sourceDirectoriesByProject.get( childProject );
-                testSourceDirectories = testSourceDirectoriesByProject.get( childProject );
-                addSourceDirectory( checkerListener, sourceDirectories,
-                                    testSourceDirectories,
-                                    childProject.getResources(), request );
+                Map<String, List<AuditEvent>> partitionFiles = checkerListener.getResults().getFiles();
+                for ( Map.Entry<String, List<AuditEvent>> entry : partitionFiles.entrySet() )
+                {
+                    // with aggregate, files of different partitions may share the same relative path
+                    List<AuditEvent> violations = results.getFiles().get( entry.getKey() );
+                    if ( violations == null )
+                    {
+                        results.getFiles().put( entry.getKey(), entry.getValue() );
+                    }
+                    else
+                    {
+                        violations.addAll( entry.getValue() );
+                    }
+                }
             }
         }
         else
         {
-            addSourceDirectory( checkerListener, sourceDirectories, testSourceDirectories, request.getResources(),
-                                request );
-        }
+            Checker checker =
+                createChecker( configuration, projectClassLoader, getSuppressionsFilterSet( suppressionsFilePath ) );
 
-        checker.addListener( checkerListener );
+            AuditListener listener = request.getListener();
 
-        int nbErrors = checker.process( files );
+            if ( listener != null )
+            {
+                checker.addListener( listener );
+            }
+
+            if ( request.isConsoleOutput() )
+            {
+                checker.addListener( request.getConsoleListener() );
+            }
+
+            CheckstyleCheckerListener checkerListener =
+                createCheckerListener( configuration, request, sourceDirectories, testSourceDirectories,
+                                       sourceDirectoriesByProject, testSourceDirectoriesByProject );
+
+            checker.addListener( checkerListener );
+
+            try
+            {
+                nbErrors = checker.process( files );
+            }
+            finally
+            {
+                checker.destroy();
+            }
 
-        checker.destroy();
+            results = checkerListener.getResults();
+        }
 
         if ( projectClassLoader instanceof Closeable )
         {
@@ -314,7 +343,242 @@ public class DefaultCheckstyleExecutor
             }
         }
 
-        return checkerListener.getResults();
+        return results;
+    }
+
+    private Checker createChecker( Configuration configuration, ClassLoader projectClassLoader, FilterSet filterSet )
+        throws CheckstyleException
+    {
+        Checker checker = new Checker();
+
+        checker.setClassLoader( projectClassLoader );
+
+        checker.setModuleClassLoader( Thread.currentThread().getContextClassLoader() );
+
+        if ( filterSet != null )
+        {
+            checker.addFilter( filterSet );
+        }
+        checker.configure( configuration );
+
+        return checker;
+    }
+
+    private CheckstyleCheckerListener createCheckerListener( Configuration configuration,
+                                                 CheckstyleExecutorRequest request, Collection<File> sourceDirectories,
+                                                 Collection<File> testSourceDirectories,
+                                                 Map<MavenProject, Collection<File>> sourceDirectoriesByProject,
+                                                 Map<MavenProject, Collection<File>> testSourceDirectoriesByProject )
+    {
+        CheckstyleCheckerListener checkerListener = new CheckstyleCheckerListener( configuration );
+        if ( request.isAggregate() )
+        {
+            for ( MavenProject childProject : request.getReactorProjects() )
+            {
+                addSourceDirectory( checkerListener, sourceDirectoriesByProject.get( childProject ),
+                                    testSourceDirectoriesByProject.get( childProject ),
+                                    childProject.getResources(), request );
+            }
+        }
+        else
+        {
+            addSourceDirectory( checkerListener, sourceDirectories, testSourceDirectories, request.getResources(),
+                                request );
+        }
+        return checkerListener;
+    }
+
+    /**
+     * Splits the files between one <code>Checker</code> per checker listener and processes the partitions
+     * concurrently. A file is always assigned to the same partition, based on its path, and each partition uses its
+     * own cache file, so that the cache remains effective across runs. The listeners of the request receive the
+     * events of every file at once, and the audit start and end events only once.
+     *
+     * @return the total number of errors.
+     */
+    private int processConcurrently( CheckstyleExecutorRequest request, List<File> files,
+                                     Configuration configuration, ClassLoader projectClassLoader,
+                                     String suppressionsFilePath, List<CheckstyleCheckerListener> checkerListeners )
+        throws CheckstyleExecutorException, CheckstyleException
+    {
+        int nbPartitions = checkerListeners.size();
+        List<List<File>> partitions = new ArrayList<>( nbPartitions );
+        for ( int i = 0; i < nbPartitions; i++ )
+        {
+            partitions.add( new ArrayList<File>() );
+        }
+        for ( File file : files )
+        {
+            int partition = ( file.getAbsolutePath().hashCode() & Integer.MAX_VALUE ) % nbPartitions;
+            partitions.get( partition ).add( file );
+        }
+
+        List<AuditListener> sharedListeners = new ArrayList<>();
+        if ( request.getListener() != null )
+        {
+            sharedListeners.add( request.getListener() );
+        }
+        if ( request.isConsoleOutput() )
+        {
+            sharedListeners.add( request.getConsoleListener() );
+        }
+        Object lock = new Object();
+
+        final List<Checker> checkers = new ArrayList<>( nbPartitions );
+        // a checker is destroyed by its task once run, or by this thread if its task never runs
+        final List<AtomicBoolean> claimed = new ArrayList<>( nbPartitions );
+        ExecutorService executor = Executors.newFixedThreadPool( nbPartitions );
+        try
+        {
+            for ( int i = 0; i < nbPartitions; i++ )
+            {
+                Checker checker = createChecker( getPartitionConfiguration( configuration, i ), projectClassLoader,
+                                                 getSuppressionsFilterSet( suppressionsFilePath ) );
+                for ( AuditListener sharedListener : sharedListeners )
+                {
+                    checker.addListener( new BufferedAuditListener( sharedListener, lock ) );
+                }
+                checker.addListener( checkerListeners.get( i ) );
+                checkers.add( checker );
+                claimed.add( new AtomicBoolean() );
+            }
+
+            AuditEvent auditEvent = new AuditEvent( checkers.get( 0 ) );
+            for ( AuditListener sharedListener : sharedListeners )
+            {
+                sharedListener.auditStarted( auditEvent );
+            }
+
+            List<Future<Integer>> futures = new ArrayList<>( nbPartitions );
+            for ( int i = 0; i < nbPartitions; i++ )
+            {
+                final Checker checker = checkers.get( i );
+                final List<File> partition = partitions.get( i );
+                final AtomicBoolean partitionClaimed = claimed.get( i );
+                futures.add( executor.submit( new Callable<Integer>()
+                {
+                    public Integer call()
+                        throws CheckstyleException
+                    {
+                        if ( !partitionClaimed.compareAndSet( false, true ) )
+                        {
+                            // already failed and destroyed
+                            return 0;
+                        }
+                        try
+                        {
+                            return checker.process( partition );
+                        }
+                        finally
+                        {
+                            checker.destroy();
+                        }
+                    }
+                } ) );
+            }
+
+            int nbErrors = 0;
+            for ( Future<Integer> future : futures )
+            {
+                try
+                {
+                    nbErrors += future.get();
+                }
+                catch ( InterruptedException e )
+                {
+                    cancel( futures );
+                    Thread.currentThread().interrupt();
+                    throw new CheckstyleExecutorException( "Interrupted while running Checkstyle", e );
+                }
+                catch ( ExecutionException e )
+                {
+                    // the other partitions are not needed anymore
+                    cancel( futures );
+                    if ( e.getCause() instanceof CheckstyleException )
+                    {
+                        throw (CheckstyleException) e.getCause();
+                    }
+                    throw new CheckstyleExecutorException( e.getCause().getMessage(), e.getCause() );
+                }
+            }
+
+            for ( AuditListener sharedListener : sharedListeners )
+            {
+                sharedListener.auditFinished( auditEvent );
+            }
+
+            return nbErrors;
+        }
+        finally
+        {
+            // Checkstyle ignores interrupts: after a failure, the checkers still running are not waited for and
+            // destroy themselves when they are done
+            executor.shutdownNow();
+            for ( int i = 0; i < checkers.size(); i++ )
+            {
+                if ( claimed.get( i ).compareAndSet( false, true ) )
+                {
+                    checkers.get( i ).destroy();
+                }
+            }
+        }
+    }
+
+    private static void cancel( List<Future<Integer>> futures )
+    {
+        for ( Future<Integer> future : futures )
+        {
+            future.cancel( true );
+        }
+    }
+
+    /**
+     * Returns a copy of the configuration where the cache file, wherever it is configured, is suffixed with the
+     * partition number, as concurrent <code>Checker</code>s can't share the same cache file.
+     */
+    private Configuration getPartitionConfiguration( Configuration configuration, int partition )
+        throws CheckstyleExecutorException
+    {
+        if ( !( configuration instanceof DefaultConfiguration ) )
+        {
+            getLogger().warn( "Failed to configure partition cache file on module " + configuration );
+            return configuration;
+        }
+
+        try
+        {
+            DefaultConfiguration copy = new DefaultConfiguration( configuration.getName() );
+            for ( String name : configuration.getAttributeNames() )
+            {
+                String value = configuration.getAttribute( name );
+                if ( "cacheFile".equals( name ) && value != null )
+                {
+                    value = value + "." + partition;
+                }
+                copy.addAttribute( name, value );
+            }
+            for ( Map.Entry<String, String> message : configuration.getMessages().entrySet() )
+            {
+                copy.addMessage( message.getKey(), message.getValue() );
+            }
+            for ( Configuration child : configuration.getChildren() )
+            {
+                if ( "TreeWalker".equals( child.getName() )
+                    || "com.puppycrawl.tools.checkstyle.TreeWalker".equals( child.getName() ) )
+                {
+                    copy.addChild( getPartitionConfiguration( child, partition ) );
+                }
+                else
+                {
+                    copy.addChild( child );
+                }
+            }
+            return copy;
+        }
+        catch ( CheckstyleException e )
+        {
+            throw new CheckstyleExecutorException( "Failed during checkstyle configuration", e );
+        }
     }
 
     protected void addSourceDirectory( CheckstyleCheckerListener sinkListener, Collection<File> sourceDirectories,
@@ -160,6 +160,20 @@ public class CheckstyleReportTest
         generateReport( "test-source-directory-plugin-config.xml" );
     }
 
+    public void testThreads()
+        throws Exception
+    {
+        File outputHtml = generateReport( "threads-plugin-config.xml" );
+
+        String htmlString = FileUtils.fileRead( outputHtml );
+        assertTrue( "Test for all files", htmlString.contains( "BufferedAuditListener.java" ) );
+        assertTrue( "Test for all files", htmlString.contains( "DefaultCheckstyleExecutor.java" ) );
+
+        File outputFile = new File( getBasedir(), "target/test-harness/checkstyle/threads/checkstyle-result.xml" );
+        String xmlString = FileUtils.fileRead( outputFile );
+        assertEquals( "Test for a single audit in the XML output", 1, xmlString.split( "<checkstyle " ).length - 1 );
+    }
+
     private File generateReport( String pluginXml )
         throws Exception
     {
@@ -183,7 +197,11 @@ public class CheckstyleReportTest
         assertTrue( "Test output file exists", outputFile.exists() );
 
         String cacheFile = (String) getVariableValueFromObject( mojo, "cacheFile" );
-        if ( cacheFile != null )
+        if ( cacheFile != null && (Integer) getVariableValueFromObject( mojo, "threads" ) > 1 )
+        {
+            assertTrue( "Test partition cache file exists", new File( cacheFile + ".0" ).exists() );
+        }
+        else if ( cacheFile != null )
         {
             assertTrue( "Test cache file exists", new File( cacheFile ).exists() );
         }
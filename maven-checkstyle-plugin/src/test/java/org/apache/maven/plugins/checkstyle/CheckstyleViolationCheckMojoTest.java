@@ -147,6 +147,42 @@ public class CheckstyleViolationCheckMojoTest
         doTestPlainOutputFile( false );
     }
 
+    public void testFailFastWithoutOutputFile()
+        throws Exception
+    {
+        File pluginXmlFile = new File( getBasedir(), "src/test/plugin-configs/check-plugin-plain-output.xml" );
+
+        Mojo mojo = lookupMojo( "check", pluginXmlFile );
+
+        assertNotNull( "Mojo found.", mojo );
+
+        PluginDescriptor descriptorStub = new PluginDescriptor();
+        descriptorStub.setGroupId( "org.apache.maven.plugins" );
+        descriptorStub.setArtifactId( "maven-checkstyle-plugin" );
+        setVariableValueToObject( mojo, "plugin", descriptorStub );
+
+        File outputFile = new File( getBasedir(), "target/test-harness/checkstyle/fail-fast/checkstyle-result.txt" );
+        outputFile.delete();
+        setVariableValueToObject( mojo, "outputFile", outputFile );
+        setVariableValueToObject( mojo, "writeOutputFile", Boolean.FALSE );
+        setVariableValueToObject( mojo, "failsOnError", Boolean.FALSE );
+        setVariableValueToObject( mojo, "failOnViolation", Boolean.TRUE );
+        setVariableValueToObject( mojo, "failFast", Boolean.TRUE );
+
+        try
+        {
+            mojo.execute();
+
+            fail( "Must fail on the first violation" );
+        }
+        catch ( MojoFailureException e )
+        {
+            assertTrue( e.getMessage(), e.getMessage().contains( "failFast" ) );
+        }
+
+        assertFalse( "Output file must not be written", outputFile.exists() );
+    }
+
     public void testNoFail()
         throws Exception
     {
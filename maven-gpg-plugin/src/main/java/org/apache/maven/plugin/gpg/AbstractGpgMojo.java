@@ -149,6 +149,26 @@ public abstract class AbstractGpgMojo
     @Parameter
     private List<String> gpgArguments;
 
+    /**
+     * The signer implementation to use: {@code gpg} forks the GnuPG executable for each file, {@code bc} signs in the
+     * running JVM with Bouncy Castle, reading the secret key from {@link #secretKeyring} (by default
+     * {@code secring.gpg} from gpg's home directory) and selecting it by {@link #keyname}. The {@code bc} signer does
+     * not use an agent, so the passphrase is required if the key is protected. As GnuPG 2.1+ does not use
+     * {@code secring.gpg} anymore, export the key with {@code gpg --export-secret-keys} to use it.
+     *
+     * @since 1.7
+     */
+    @Parameter( property = "gpg.signer", defaultValue = "gpg" )
+    private String signer;
+
+    /**
+     * The number of files to sign concurrently.
+     *
+     * @since 1.7
+     */
+    @Parameter( property = "gpg.threadCount", defaultValue = "1" )
+    private int threadCount;
+
     /**
      * Current user system settings for use in Maven.
      *
@@ -168,7 +188,21 @@ public abstract class AbstractGpgMojo
     AbstractGpgSigner newSigner( MavenProject project )
         throws MojoExecutionException, MojoFailureException
     {
-        AbstractGpgSigner signer = new GpgSigner( executable );
+        AbstractGpgSigner signer;
+        boolean agent = useAgent;
+        if ( BcSigner.NAME.equals( this.signer ) )
+        {
+            signer = new BcSigner();
+            agent = false;
+        }
+        else if ( this.signer == null || "gpg".equals( this.signer ) )
+        {
+            signer = new GpgSigner( executable );
+        }
+        else
+        {
+            throw new MojoFailureException( "Unknown signer '" + this.signer + "', expected 'gpg' or 'bc'" );
+        }
 
         signer.setLog( getLog() );
         signer.setInteractive( interactive );
@@ -180,11 +214,12 @@ public abstract class AbstractGpgMojo
         signer.setPublicKeyring( publicKeyring );
         signer.setLockMode( lockMode );
         signer.setArgs( gpgArguments );
+        signer.setThreadCount( threadCount );
 
         loadGpgPassphrase();
 
         signer.setPassPhrase( passphrase );
-        if ( null == passphrase && !useAgent )
+        if ( null == passphrase && !agent )
         {
             if ( !interactive )
             {
@@ -25,7 +25,13 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.logging.Log;
@@ -69,6 +75,8 @@ public abstract class AbstractGpgSigner
 
     protected List<String> args;
 
+    private int threadCount = 1;
+
     public Log getLog()
     {
         return log;
@@ -84,6 +92,15 @@ public abstract class AbstractGpgSigner
         isInteractive = b;
     }
 
+    /**
+     * @param threadCount The number of files to sign concurrently.
+     * @since 1.7
+     */
+    public void setThreadCount( int threadCount )
+    {
+        this.threadCount = threadCount;
+    }
+
     public void setLockMode( String lockMode )
     {
         this.lockMode = lockMode;
@@ -207,6 +224,68 @@ public abstract class AbstractGpgSigner
         return signature;
     }
 
+    /**
+     * Create the detached signature files for the provided files, concurrently if the thread count is greater than 1.
+     *
+     * @param files The files to sign
+     * @return The references to the generated signature files, in the order of the files
+     * @throws MojoExecutionException
+     * @since 1.7
+     */
+    public List<File> generateSignaturesForArtifacts( List<File> files )
+        throws MojoExecutionException
+    {
+        List<File> signatures = new ArrayList<File>( files.size() );
+
+        if ( threadCount <= 1 || files.size() <= 1 )
+        {
+            for ( File file : files )
+            {
+                signatures.add( generateSignatureForArtifact( file ) );
+            }
+            return signatures;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool( Math.min( threadCount, files.size() ) );
+        try
+        {
+            List<Future<File>> futures = new ArrayList<Future<File>>( files.size() );
+            for ( final File file : files )
+            {
+                futures.add( executor.submit( new Callable<File>()
+                {
+                    public File call()
+                        throws MojoExecutionException
+                    {
+                        return generateSignatureForArtifact( file );
+                    }
+                } ) );
+            }
+
+            for ( Future<File> future : futures )
+            {
+                signatures.add( future.get() );
+            }
+        }
+        catch ( ExecutionException e )
+        {
+            if ( e.getCause() instanceof MojoExecutionException )
+            {
+                throw (MojoExecutionException) e.getCause();
+            }
+            throw new MojoExecutionException( "Unable to sign files: " + e.getCause().getMessage(), e.getCause() );
+        }
+        catch ( InterruptedException e )
+        {
+            throw new MojoExecutionException( "Interrupted while signing files", e );
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+        return signatures;
+    }
+
     /**
      * Generate the detached signature file for the provided file.
      *
@@ -0,0 +1,350 @@
+package org.apache.maven.plugin.gpg;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Locale;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.bouncycastle.bcpg.ArmoredOutputStream;
+import org.bouncycastle.bcpg.BCPGOutputStream;
+import org.bouncycastle.bcpg.HashAlgorithmTags;
+import org.bouncycastle.bcpg.SignatureSubpacketTags;
+import org.bouncycastle.bcpg.sig.KeyFlags;
+import org.bouncycastle.openpgp.PGPException;
+import org.bouncycastle.openpgp.PGPPrivateKey;
+import org.bouncycastle.openpgp.PGPPublicKey;
+import org.bouncycastle.openpgp.PGPSecretKey;
+import org.bouncycastle.openpgp.PGPSecretKeyRing;
+import org.bouncycastle.openpgp.PGPSecretKeyRingCollection;
+import org.bouncycastle.openpgp.PGPSignature;
+import org.bouncycastle.openpgp.PGPSignatureGenerator;
+import org.bouncycastle.openpgp.PGPSignatureSubpacketVector;
+import org.bouncycastle.openpgp.PGPUtil;
+import org.bouncycastle.openpgp.operator.bc.BcKeyFingerprintCalculator;
+import org.bouncycastle.openpgp.operator.bc.BcPBESecretKeyDecryptorBuilder;
+import org.bouncycastle.openpgp.operator.bc.BcPGPContentSignerBuilder;
+import org.bouncycastle.openpgp.operator.bc.BcPGPDigestCalculatorProvider;
+import org.bouncycastle.util.encoders.Hex;
+import org.codehaus.plexus.util.IOUtil;
+import org.codehaus.plexus.util.Os;
+import org.codehaus.plexus.util.StringUtils;
+
+/**
+ * A signer implementation that uses Bouncy Castle to sign in the running JVM, without GnuPG. The secret key is read
+ * from a keyring or exported key file and unlocked once, then each file is read once to compute its signature, so
+ * that several files can be signed concurrently.
+ *
+ * @since 1.7
+ */
+public class BcSigner
+    extends AbstractGpgSigner
+{
+    /**
+     * The name of the signer, as configured in the plugin.
+     */
+    public static final String NAME = "bc";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final long MILLIS_PER_SECOND = 1000L;
+
+    private PGPSecretKey secretKey;
+
+    private PGPPrivateKey privateKey;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void generateSignatureForFile( File file, File signature )
+        throws MojoExecutionException
+    {
+        PGPPrivateKey key = getPrivateKey();
+
+        try
+        {
+            PGPSignatureGenerator generator =
+                new PGPSignatureGenerator( new BcPGPContentSignerBuilder( secretKey.getPublicKey().getAlgorithm(),
+                                                                          HashAlgorithmTags.SHA256 ) );
+            generator.init( PGPSignature.BINARY_DOCUMENT, key );
+
+            InputStream in = new FileInputStream( file );
+            try
+            {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                for ( int n = in.read( buffer ); n >= 0; n = in.read( buffer ) )
+                {
+                    generator.update( buffer, 0, n );
+                }
+            }
+            finally
+            {
+                IOUtil.close( in );
+            }
+
+            OutputStream out = new ArmoredOutputStream( new FileOutputStream( signature ) );
+            try
+            {
+                generator.generate().encode( new BCPGOutputStream( out ) );
+            }
+            finally
+            {
+                IOUtil.close( out );
+            }
+        }
+        catch ( IOException e )
+        {
+            throw new MojoExecutionException( "Unable to sign " + file + ": " + e.getMessage(), e );
+        }
+        catch ( PGPException e )
+        {
+            throw new MojoExecutionException( "Unable to sign " + file + ": " + e.getMessage(), e );
+        }
+    }
+
+    /**
+     * Gets the private key to sign with, loading and unlocking it on first use.
+     *
+     * @return The private key, never <code>null</code>.
+     * @throws MojoExecutionException if the key could not be loaded or unlocked.
+     */
+    private synchronized PGPPrivateKey getPrivateKey()
+        throws MojoExecutionException
+    {
+        if ( privateKey != null )
+        {
+            return privateKey;
+        }
+
+        File keyring = getSecretKeyringFile();
+        if ( !keyring.isFile() )
+        {
+            throw new MojoExecutionException( "Secret keyring " + keyring + " does not exist. GnuPG 2.1+ does not use "
+                + "it anymore, export the key with 'gpg --export-secret-keys' and set secretKeyring to that file." );
+        }
+
+        try
+        {
+            PGPSecretKeyRingCollection keyrings;
+            InputStream in = PGPUtil.getDecoderStream( new FileInputStream( keyring ) );
+            try
+            {
+                keyrings = new PGPSecretKeyRingCollection( in, new BcKeyFingerprintCalculator() );
+            }
+            finally
+            {
+                IOUtil.close( in );
+            }
+
+            secretKey = findSecretKey( keyrings );
+            if ( secretKey == null )
+            {
+                throw new MojoExecutionException( "No signing key "
+                    + ( keyname != null ? "matching '" + keyname + "' " : "" ) + "found in " + keyring
+                    + ", a key must be allowed to sign, and be neither expired nor revoked" );
+            }
+
+            char[] pass = passphrase != null ? passphrase.toCharArray() : new char[0];
+            privateKey = secretKey.extractPrivateKey(
+                new BcPBESecretKeyDecryptorBuilder( new BcPGPDigestCalculatorProvider() ).build( pass ) );
+        }
+        catch ( IOException e )
+        {
+            throw new MojoExecutionException( "Unable to read secret keyring " + keyring + ": " + e.getMessage(), e );
+        }
+        catch ( PGPException e )
+        {
+            throw new MojoExecutionException( "Unable to unlock the secret key, check the passphrase: "
+                + e.getMessage(), e );
+        }
+        return privateKey;
+    }
+
+    /**
+     * Resolves the secret keyring as gpg would: relative to the home directory, which defaults to
+     * <code>GNUPGHOME</code>, then <code>~/.gnupg</code> or <code>%APPDATA%/gnupg</code>.
+     */
+    private File getSecretKeyringFile()
+    {
+        File home = homeDir;
+        if ( home == null )
+        {
+            String gnupgHome = System.getenv( "GNUPGHOME" );
+            if ( StringUtils.isNotEmpty( gnupgHome ) )
+            {
+                home = new File( gnupgHome );
+            }
+            else if ( Os.isFamily( Os.FAMILY_WINDOWS ) && System.getenv( "APPDATA" ) != null )
+            {
+                home = new File( System.getenv( "APPDATA" ), "gnupg" );
+            }
+            else
+            {
+                home = new File( System.getProperty( "user.home" ), ".gnupg" );
+            }
+        }
+
+        if ( StringUtils.isEmpty( secretKeyring ) )
+        {
+            return new File( home, "secring.gpg" );
+        }
+        File file = new File( secretKeyring );
+        return file.isAbsolute() ? file : new File( home, secretKeyring );
+    }
+
+    /**
+     * Finds the key to sign with, matching the key name as <code>--local-user</code> would: a key id or fingerprint in
+     * hexadecimal, or else a part of a user id. The first key that can sign is used if no key name is given. As with
+     * gpg, a key can sign if its key flags allow it, and if neither the key nor its master key is expired or revoked.
+     */
+    private PGPSecretKey findSecretKey( PGPSecretKeyRingCollection keyrings )
+    {
+        String hexName = null;
+        if ( keyname != null )
+        {
+            hexName = keyname.trim().toUpperCase( Locale.ENGLISH );
+            if ( hexName.startsWith( "0X" ) )
+            {
+                hexName = hexName.substring( 2 );
+            }
+            hexName = StringUtils.replace( hexName, " ", "" );
+            if ( !hexName.matches( "[0-9A-F]{8}|[0-9A-F]{16}|[0-9A-F]{40}" ) )
+            {
+                hexName = null;
+            }
+        }
+
+        for ( Iterator<?> rings = keyrings.getKeyRings(); rings.hasNext(); )
+        {
+            PGPSecretKeyRing ring = (PGPSecretKeyRing) rings.next();
+            if ( !isValid( ring.getPublicKey() ) )
+            {
+                continue;
+            }
+            boolean ringMatches = keyname == null || ( hexName == null && matchesUserId( ring.getSecretKey() ) );
+
+            for ( Iterator<?> keys = ring.getSecretKeys(); keys.hasNext(); )
+            {
+                PGPSecretKey key = (PGPSecretKey) keys.next();
+                if ( canSign( key ) && ( ringMatches || ( hexName != null && matchesKeyId( key, hexName ) ) ) )
+                {
+                    return key;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks that a secret key is available, valid, and allowed to sign data.
+     */
+    private static boolean canSign( PGPSecretKey key )
+    {
+        if ( !key.isSigningKey() || key.isPrivateKeyEmpty() || !isValid( key.getPublicKey() ) )
+        {
+            return false;
+        }
+        PGPSignatureSubpacketVector keyFlags = getKeyFlags( key.getPublicKey() );
+        return keyFlags == null || ( keyFlags.getKeyFlags() & KeyFlags.SIGN_DATA ) != 0;
+    }
+
+    /**
+     * Checks that a key is neither revoked nor expired.
+     */
+    private static boolean isValid( PGPPublicKey key )
+    {
+        if ( key.hasRevocation() )
+        {
+            return false;
+        }
+        long validSeconds = key.getValidSeconds();
+        return validSeconds <= 0
+            || new Date().before( new Date( key.getCreationTime().getTime() + validSeconds * MILLIS_PER_SECOND ) );
+    }
+
+    /**
+     * Gets the hashed subpackets of the most recent self-signature or binding signature of a key giving its key flags.
+     *
+     * @return The subpackets, or <code>null</code> if no signature gives key flags, in which case the usage of the key
+     *         is only restricted by its algorithm.
+     */
+    private static PGPSignatureSubpacketVector getKeyFlags( PGPPublicKey key )
+    {
+        PGPSignatureSubpacketVector keyFlags = null;
+        Date keyFlagsTime = null;
+        for ( Iterator<?> signatures = key.getSignatures(); signatures.hasNext(); )
+        {
+            PGPSignature signature = (PGPSignature) signatures.next();
+            PGPSignatureSubpacketVector subpackets = signature.getHashedSubPackets();
+            if ( isSelfSignature( key, signature ) && subpackets != null
+                && subpackets.hasSubpacket( SignatureSubpacketTags.KEY_FLAGS )
+                && ( keyFlagsTime == null || signature.getCreationTime().after( keyFlagsTime ) ) )
+            {
+                keyFlags = subpackets;
+                keyFlagsTime = signature.getCreationTime();
+            }
+        }
+        return keyFlags;
+    }
+
+    private static boolean isSelfSignature( PGPPublicKey key, PGPSignature signature )
+    {
+        switch ( signature.getSignatureType() )
+        {
+            case PGPSignature.SUBKEY_BINDING:
+                return !key.isMasterKey();
+            case PGPSignature.DIRECT_KEY:
+            case PGPSignature.DEFAULT_CERTIFICATION:
+            case PGPSignature.NO_CERTIFICATION:
+            case PGPSignature.CASUAL_CERTIFICATION:
+            case PGPSignature.POSITIVE_CERTIFICATION:
+                return key.isMasterKey() && signature.getKeyID() == key.getKeyID();
+            default:
+                return false;
+        }
+    }
+
+    private boolean matchesUserId( PGPSecretKey masterKey )
+    {
+        String name = keyname.toLowerCase( Locale.ENGLISH );
+        for ( Iterator<?> userIds = masterKey.getUserIDs(); userIds.hasNext(); )
+        {
+            if ( userIds.next().toString().toLowerCase( Locale.ENGLISH ).contains( name ) )
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matchesKeyId( PGPSecretKey key, String hexName )
+    {
+        String fingerprint = Hex.toHexString( key.getPublicKey().getFingerprint() ).toUpperCase( Locale.ENGLISH );
+        return fingerprint.equals( hexName ) || String.format( "%016X", key.getKeyID() ).endsWith( hexName );
+    }
+}
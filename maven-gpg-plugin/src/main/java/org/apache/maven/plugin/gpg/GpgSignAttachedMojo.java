@@ -121,7 +121,10 @@ public class GpgSignAttachedMojo
         signer.setBuildDirectory( new File( project.getBuild().getDirectory() ) );
         signer.setBaseDirectory( project.getBasedir() );
 
-        List signingBundles = new ArrayList();
+        // the files are collected first, to be signed together
+        List<File> files = new ArrayList<File>();
+        List<String> extensions = new ArrayList<String>();
+        List<String> classifiers = new ArrayList<String>();
 
         if ( !"pom".equals( project.getPackaging() ) )
         {
@@ -137,13 +140,9 @@ public class GpgSignAttachedMojo
             {
                 getLog().debug( "Generating signature for " + file );
 
-                File projectArtifactSignature = signer.generateSignatureForArtifact( file );
-
-                if ( projectArtifactSignature != null )
-                {
-                    signingBundles.add( new SigningBundle( artifact.getArtifactHandler().getExtension(),
-                                                           projectArtifactSignature ) );
-                }
+                files.add( file );
+                extensions.add( artifact.getArtifactHandler().getExtension() );
+                classifiers.add( null );
             }
             else if ( project.getAttachedArtifacts().isEmpty() )
             {
@@ -173,12 +172,9 @@ public class GpgSignAttachedMojo
 
         getLog().debug( "Generating signature for " + pomToSign );
 
-        File pomSignature = signer.generateSignatureForArtifact( pomToSign );
-
-        if ( pomSignature != null )
-        {
-            signingBundles.add( new SigningBundle( "pom", pomSignature ) );
-        }
+        files.add( pomToSign );
+        extensions.add( "pom" );
+        classifiers.add( null );
 
         // ----------------------------------------------------------------------------
         // Attached artifacts
@@ -192,12 +188,20 @@ public class GpgSignAttachedMojo
 
             getLog().debug( "Generating signature for " + file );
 
-            File signature = signer.generateSignatureForArtifact( file );
+            files.add( file );
+            extensions.add( artifact.getArtifactHandler().getExtension() );
+            classifiers.add( artifact.getClassifier() );
+        }
+
+        List<File> signatures = signer.generateSignaturesForArtifacts( files );
 
-            if ( signature != null )
+        List<SigningBundle> signingBundles = new ArrayList<SigningBundle>();
+        for ( int i = 0; i < signatures.size(); i++ )
+        {
+            if ( signatures.get( i ) != null )
             {
-                signingBundles.add( new SigningBundle( artifact.getArtifactHandler().getExtension(),
-                                                       artifact.getClassifier(), signature ) );
+                signingBundles.add( new SigningBundle( extensions.get( i ), classifiers.get( i ),
+                                                       signatures.get( i ) ) );
             }
         }
 
@@ -205,10 +209,8 @@ public class GpgSignAttachedMojo
         // Attach all the signatures
         // ----------------------------------------------------------------------------
 
-        for ( Object signingBundle : signingBundles )
+        for ( SigningBundle bundle : signingBundles )
         {
-            SigningBundle bundle = (SigningBundle) signingBundle;
-
             projectHelper.attachArtifact( project, bundle.getExtension() + GpgSigner.SIGNATURE_EXTENSION,
                                           bundle.getClassifier(), bundle.getSignature() );
         }
@@ -0,0 +1,326 @@
+package org.apache.maven.plugin.gpg;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.bouncycastle.bcpg.HashAlgorithmTags;
+import org.bouncycastle.bcpg.SymmetricKeyAlgorithmTags;
+import org.bouncycastle.bcpg.sig.KeyFlags;
+import org.bouncycastle.crypto.generators.RSAKeyPairGenerator;
+import org.bouncycastle.crypto.params.RSAKeyGenerationParameters;
+import org.bouncycastle.openpgp.PGPException;
+import org.bouncycastle.openpgp.PGPKeyPair;
+import org.bouncycastle.openpgp.PGPKeyRingGenerator;
+import org.bouncycastle.openpgp.PGPPublicKey;
+import org.bouncycastle.openpgp.PGPPublicKeyRingCollection;
+import org.bouncycastle.openpgp.PGPSecretKey;
+import org.bouncycastle.openpgp.PGPSecretKeyRing;
+import org.bouncycastle.openpgp.PGPSignature;
+import org.bouncycastle.openpgp.PGPSignatureGenerator;
+import org.bouncycastle.openpgp.PGPSignatureList;
+import org.bouncycastle.openpgp.PGPSignatureSubpacketGenerator;
+import org.bouncycastle.openpgp.PGPUtil;
+import org.bouncycastle.openpgp.bc.BcPGPObjectFactory;
+import org.bouncycastle.openpgp.operator.bc.BcKeyFingerprintCalculator;
+import org.bouncycastle.openpgp.operator.bc.BcPBESecretKeyDecryptorBuilder;
+import org.bouncycastle.openpgp.operator.bc.BcPBESecretKeyEncryptorBuilder;
+import org.bouncycastle.openpgp.operator.bc.BcPGPContentSignerBuilder;
+import org.bouncycastle.openpgp.operator.bc.BcPGPContentVerifierBuilderProvider;
+import org.bouncycastle.openpgp.operator.bc.BcPGPDigestCalculatorProvider;
+import org.bouncycastle.openpgp.operator.bc.BcPGPKeyPair;
+import org.codehaus.plexus.util.FileUtils;
+import org.codehaus.plexus.util.IOUtil;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests {@link BcSigner} with the test key of <code>src/test/resources/gnupg</code>, and with generated keys that
+ * must not be used to sign.
+ */
+public class BcSignerTest
+{
+    private static final String PASSPHRASE = "TEST";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private File gnupgHome;
+
+    private File file;
+
+    @Before
+    public void setUp()
+        throws Exception
+    {
+        gnupgHome = new File( System.getProperty( "basedir", "" ), "src/test/resources/gnupg" ).getAbsoluteFile();
+        file = temporaryFolder.newFile( "test.txt" );
+        FileUtils.fileWrite( file, "UTF-8", "content to sign" );
+    }
+
+    @Test
+    public void testSign()
+        throws Exception
+    {
+        BcSigner signer = newSigner( gnupgHome );
+
+        File signature = signer.generateSignatureForArtifact( file );
+
+        assertEquals( new File( file.getPath() + BcSigner.SIGNATURE_EXTENSION ), signature );
+        assertTrue( FileUtils.fileRead( signature ).startsWith( "-----BEGIN PGP SIGNATURE-----" ) );
+        verify( file, signature, readPublicKeys( new File( gnupgHome, "pubring.gpg" ) ) );
+    }
+
+    @Test
+    public void testSignConcurrently()
+        throws Exception
+    {
+        File other = temporaryFolder.newFile( "other.txt" );
+        FileUtils.fileWrite( other, "UTF-8", "other content to sign" );
+
+        BcSigner signer = newSigner( gnupgHome );
+        signer.setThreadCount( 2 );
+
+        List<File> signatures = signer.generateSignaturesForArtifacts( Arrays.asList( file, other ) );
+
+        PGPPublicKeyRingCollection publicKeys = readPublicKeys( new File( gnupgHome, "pubring.gpg" ) );
+        verify( file, signatures.get( 0 ), publicKeys );
+        verify( other, signatures.get( 1 ), publicKeys );
+    }
+
+    @Test
+    public void testKeyName()
+        throws Exception
+    {
+        BcSigner signer = newSigner( gnupgHome );
+        signer.setKeyName( "testing key" );
+
+        verify( file, signer.generateSignatureForArtifact( file ),
+                readPublicKeys( new File( gnupgHome, "pubring.gpg" ) ) );
+
+        signer = newSigner( gnupgHome );
+        signer.setKeyName( "unknown@example.org" );
+        assertNoSigningKey( signer );
+    }
+
+    @Test
+    public void testWrongPassphrase()
+    {
+        BcSigner signer = newSigner( gnupgHome );
+        signer.setPassPhrase( "WRONG" );
+
+        try
+        {
+            signer.generateSignatureForArtifact( file );
+            fail( "The key was unlocked with a wrong passphrase" );
+        }
+        catch ( MojoExecutionException e )
+        {
+            assertTrue( e.getMessage(), e.getMessage().startsWith( "Unable to unlock the secret key" ) );
+        }
+    }
+
+    @Test
+    public void testGeneratedKey()
+        throws Exception
+    {
+        PGPSecretKeyRing ring = generateKeyRing( new Date(), KeyFlags.CERTIFY_OTHER | KeyFlags.SIGN_DATA, 0 );
+
+        File signature = newSigner( writeKeyRing( ring ) ).generateSignatureForArtifact( file );
+
+        verify( file, signature, ring.getPublicKey() );
+    }
+
+    @Test
+    public void testKeyNotAllowedToSign()
+        throws Exception
+    {
+        PGPSecretKeyRing ring = generateKeyRing( new Date(), KeyFlags.CERTIFY_OTHER | KeyFlags.ENCRYPT_STORAGE, 0 );
+
+        assertNoSigningKey( newSigner( writeKeyRing( ring ) ) );
+    }
+
+    @Test
+    public void testExpiredKey()
+        throws Exception
+    {
+        Date twoDaysAgo = new Date( System.currentTimeMillis() - TimeUnit.DAYS.toMillis( 2 ) );
+        PGPSecretKeyRing ring = generateKeyRing( twoDaysAgo, KeyFlags.CERTIFY_OTHER | KeyFlags.SIGN_DATA,
+                                                 TimeUnit.DAYS.toSeconds( 1 ) );
+
+        assertNoSigningKey( newSigner( writeKeyRing( ring ) ) );
+    }
+
+    @Test
+    public void testRevokedKey()
+        throws Exception
+    {
+        PGPSecretKeyRing ring = generateKeyRing( new Date(), KeyFlags.CERTIFY_OTHER | KeyFlags.SIGN_DATA, 0 );
+
+        PGPSignatureGenerator generator = new PGPSignatureGenerator(
+            new BcPGPContentSignerBuilder( PGPPublicKey.RSA_GENERAL, HashAlgorithmTags.SHA256 ) );
+        generator.init( PGPSignature.KEY_REVOCATION, ring.getSecretKey().extractPrivateKey(
+            new BcPBESecretKeyDecryptorBuilder(
+                new BcPGPDigestCalculatorProvider() ).build( PASSPHRASE.toCharArray() ) ) );
+        PGPPublicKey revokedKey = PGPPublicKey.addCertification( ring.getPublicKey(),
+                                                                 generator.generateCertification( ring.getPublicKey() ) );
+        ring = PGPSecretKeyRing.insertSecretKey( ring,
+                                                 PGPSecretKey.replacePublicKey( ring.getSecretKey(), revokedKey ) );
+
+        assertNoSigningKey( newSigner( writeKeyRing( ring ) ) );
+    }
+
+    private BcSigner newSigner( File homeDirectory )
+    {
+        BcSigner signer = new BcSigner();
+        signer.setHomeDirectory( homeDirectory );
+        signer.setPassPhrase( PASSPHRASE );
+        return signer;
+    }
+
+    private void assertNoSigningKey( BcSigner signer )
+    {
+        try
+        {
+            signer.generateSignatureForArtifact( file );
+            fail( "The file was signed" );
+        }
+        catch ( MojoExecutionException e )
+        {
+            assertTrue( e.getMessage(), e.getMessage().startsWith( "No signing key" ) );
+        }
+    }
+
+    private static PGPSecretKeyRing generateKeyRing( Date creationTime, int keyFlags, long validSeconds )
+        throws PGPException
+    {
+        RSAKeyPairGenerator keyPairGenerator = new RSAKeyPairGenerator();
+        keyPairGenerator.init(
+            new RSAKeyGenerationParameters( BigInteger.valueOf( 0x10001 ), new SecureRandom(), 1024, 12 ) );
+        PGPKeyPair keyPair =
+            new BcPGPKeyPair( PGPPublicKey.RSA_GENERAL, keyPairGenerator.generateKeyPair(), creationTime );
+
+        PGPSignatureSubpacketGenerator subpackets = new PGPSignatureSubpacketGenerator();
+        subpackets.setKeyFlags( false, keyFlags );
+        if ( validSeconds > 0 )
+        {
+            subpackets.setKeyExpirationTime( false, validSeconds );
+        }
+
+        PGPKeyRingGenerator generator =
+            new PGPKeyRingGenerator( PGPSignature.POSITIVE_CERTIFICATION, keyPair, "Generated <test@example.org>",
+                                     new BcPGPDigestCalculatorProvider().get( HashAlgorithmTags.SHA1 ),
+                                     subpackets.generate(), null,
+                                     new BcPGPContentSignerBuilder( PGPPublicKey.RSA_GENERAL,
+                                                                    HashAlgorithmTags.SHA256 ),
+                                     new BcPBESecretKeyEncryptorBuilder( SymmetricKeyAlgorithmTags.AES_128 ).build(
+                                         PASSPHRASE.toCharArray() ) );
+        return generator.generateSecretKeyRing();
+    }
+
+    private File writeKeyRing( PGPSecretKeyRing ring )
+        throws IOException
+    {
+        File home = temporaryFolder.newFolder( "gnupg" );
+        OutputStream out = new FileOutputStream( new File( home, "secring.gpg" ) );
+        try
+        {
+            ring.encode( out );
+        }
+        finally
+        {
+            IOUtil.close( out );
+        }
+        return home;
+    }
+
+    private static PGPPublicKeyRingCollection readPublicKeys( File keyring )
+        throws Exception
+    {
+        InputStream in = PGPUtil.getDecoderStream( new FileInputStream( keyring ) );
+        try
+        {
+            return new PGPPublicKeyRingCollection( in, new BcKeyFingerprintCalculator() );
+        }
+        finally
+        {
+            IOUtil.close( in );
+        }
+    }
+
+    private static void verify( File file, File signatureFile, PGPPublicKeyRingCollection publicKeys )
+        throws Exception
+    {
+        PGPSignature signature = readSignature( signatureFile );
+        PGPPublicKey key = publicKeys.getPublicKey( signature.getKeyID() );
+        assertNotNull( "No public key for the signature " + signatureFile, key );
+        verify( file, signature, key );
+    }
+
+    private static void verify( File file, File signatureFile, PGPPublicKey key )
+        throws Exception
+    {
+        PGPSignature signature = readSignature( signatureFile );
+        assertEquals( key.getKeyID(), signature.getKeyID() );
+        verify( file, signature, key );
+    }
+
+    private static void verify( File file, PGPSignature signature, PGPPublicKey key )
+        throws Exception
+    {
+        assertEquals( PGPSignature.BINARY_DOCUMENT, signature.getSignatureType() );
+        signature.init( new BcPGPContentVerifierBuilderProvider(), key );
+        signature.update( FileUtils.fileRead( file, "UTF-8" ).getBytes( "UTF-8" ) );
+        assertTrue( "Invalid signature of " + file, signature.verify() );
+    }
+
+    private static PGPSignature readSignature( File signatureFile )
+        throws Exception
+    {
+        InputStream in = PGPUtil.getDecoderStream( new FileInputStream( signatureFile ) );
+        try
+        {
+            return ( (PGPSignatureList) new BcPGPObjectFactory( in ).nextObject() ).get( 0 );
+        }
+        finally
+        {
+            IOUtil.close( in );
+        }
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+File buildLog = new File( basedir, 'build.log' )
+assert buildLog.text.contains( '[INFO] Running the Maven invocations in resident worker processes' )
+
+// the invocations of both projects run one after the other in the same worker, whatever their directory
+assert buildLog.text.count( 'Starting Maven worker: ' ) == 1
+
+// the output of the workers is decoded as it was encoded
+File project1Log = new File( basedir, 'target/it/project1/build.log' )
+assert project1Log.getText( 'UTF-8' ).count( 'Building R\u00e9sident w\u00f6rker 1.0-SNAPSHOT' ) == 2
+assert project1Log.getText( 'UTF-8' ).count( 'BUILD SUCCESS' ) == 2
+
+File project2Log = new File( basedir, 'target/it/project2/build.log' )
+assert project2Log.getText( 'UTF-8' ).contains( 'Building Resident worker 2 1.0-SNAPSHOT' )
+assert project2Log.getText( 'UTF-8' ).contains( 'BUILD SUCCESS' )
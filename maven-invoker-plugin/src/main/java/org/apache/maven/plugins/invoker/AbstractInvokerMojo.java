@@ -36,7 +36,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
@@ -47,8 +49,11 @@ import java.util.Map.Entry;
 import java.util.Properties;
 import java.util.StringTokenizer;
 import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.model.Model;
@@ -89,6 +94,7 @@ import org.codehaus.plexus.util.DirectoryScanner;
 import org.codehaus.plexus.util.FileUtils;
 import org.codehaus.plexus.util.IOUtil;
 import org.codehaus.plexus.util.InterpolationFilterReader;
+import org.codehaus.plexus.util.Os;
 import org.codehaus.plexus.util.ReaderFactory;
 import org.codehaus.plexus.util.ReflectionUtils;
 import org.codehaus.plexus.util.StringUtils;
@@ -113,6 +119,11 @@ public abstract class AbstractInvokerMojo
      */
     private static final int RESULT_COLUMN = 60;
 
+    /**
+     * The number of seconds to wait for the build jobs to stop once they timed out.
+     */
+    private static final int ABORT_TIMEOUT_IN_SECONDS = 60;
+
     /**
      * Flag used to suppress certain invocations. This is useful in tailoring the build using profiles.
      *
@@ -201,6 +212,17 @@ public abstract class AbstractInvokerMojo
     @Parameter( defaultValue = "true" )
     private boolean cloneClean;
 
+    /**
+     * Whether to synchronize the {@link #cloneProjectsTo} directory with the projects rather than cloning them from
+     * scratch: only the new and changed files are copied, and the files which are not part of the projects anymore,
+     * like the outputs of the previous runs, are deleted. This takes precedence over {@link #cloneClean}. The projects
+     * are synchronized using as many threads as configured by {@link #parallelThreads}.
+     *
+     * @since 3.0.2
+     */
+    @Parameter( property = "invoker.cloneIncremental", defaultValue = "false" )
+    private boolean cloneIncremental;
+
     /**
      * A single POM to build, skipping any scanning parameters and behavior.
      */
@@ -545,11 +567,90 @@ public abstract class AbstractInvokerMojo
 
     /**
      * number of threads for running tests in parallel. This will be the number of maven forked process in parallel.
+     * Since 3.0.2, the value may be suffixed with <code>C</code> to be multiplied by the number of available
+     * processors, e.g. <code>1.5C</code>.
      *
      * @since 1.6
      */
     @Parameter( property = "invoker.parallelThreads", defaultValue = "1" )
-    private int parallelThreads;
+    private String parallelThreads;
+
+    /**
+     * The number of threads given by {@link #parallelThreads}, validated once per execution.
+     */
+    private int parallelThreadsCount = 1;
+
+    /**
+     * The maximum number of seconds to wait for all the build jobs run in parallel to complete. The build jobs which
+     * did not complete in time are stopped, killing their Maven process, and reported as errors. A value of
+     * <code>0</code> or less means no limit.
+     *
+     * @since 3.0.2
+     */
+    @Parameter( property = "invoker.parallelTimeoutInSeconds", defaultValue = "0" )
+    private int parallelTimeoutInSeconds;
+
+    /**
+     * The file in which the durations of the build jobs are recorded. When running the build jobs in parallel, the
+     * jobs which took the longest the last time are started first, so that they don't delay the end of the run. The
+     * jobs without recorded duration are started before all others.
+     *
+     * @since 3.0.2
+     */
+    @Parameter( property = "invoker.buildDurationsFile",
+                defaultValue = "${project.build.directory}/invoker-build-durations.properties" )
+    private File buildDurationsFile;
+
+    /**
+     * Whether to reuse the results of the successful build jobs of a previous run. A build job is not run again as
+     * long as neither the files of its project directory, the artifacts of the project under test, the setup projects
+     * nor the invoker configuration changed. The reused results are marked as cached in the summary and the reports.
+     *
+     * @since 3.0.2
+     */
+    @Parameter( property = "invoker.cacheBuildResults", defaultValue = "false" )
+    private boolean cacheBuildResults;
+
+    /**
+     * The directory in which the results of the build jobs are remembered when <code>cacheBuildResults</code> is
+     * enabled. Choose a directory outside of the build directory for the results to survive a <code>clean</code>.
+     *
+     * @since 3.0.2
+     */
+    @Parameter( property = "invoker.buildResultsCacheDirectory",
+                defaultValue = "${project.build.directory}/invoker-build-results" )
+    private File buildResultsCacheDirectory;
+
+    /**
+     * Whether to run the Maven invocations in resident worker processes rather than starting a new Maven process for
+     * each invocation, which saves the JVM startup time. A worker runs with the same Java home,
+     * <code>MAVEN_OPTS</code> and environment variables as a forked invocation, and is reused by the following
+     * invocations with the same ones, of any project. The invocations with a custom <code>mavenExecutable</code> are
+     * still run in a new process. Requires Maven 3.x as Maven installation to invoke.
+     *
+     * @since 3.0.2
+     */
+    @Parameter( property = "invoker.residentWorkers", defaultValue = "false" )
+    private boolean residentWorkers;
+
+    /**
+     * The number of Maven invocations after which a resident worker process is replaced by a new one. A worker is also
+     * replaced after any invocation that didn't complete successfully.
+     *
+     * @since 3.0.2
+     */
+    @Parameter( property = "invoker.workerMaxInvocations", defaultValue = "50" )
+    private int workerMaxInvocations;
+
+    /**
+     * The maximum number of seconds a Maven invocation may run in a resident worker process. The worker of an
+     * invocation which did not complete in time is stopped, and the build job is reported as an error. A value of
+     * <code>0</code> or less means no limit.
+     *
+     * @since 3.0.2
+     */
+    @Parameter( property = "invoker.workerTimeoutInSeconds", defaultValue = "0" )
+    private int workerTimeoutInSeconds;
 
     /**
      * @since 1.6
@@ -604,6 +705,16 @@ public abstract class AbstractInvokerMojo
      */
     private String actualMavenVersion;
 
+    /**
+     * The results of the previous runs, or <code>null</code> if they are not reused.
+     */
+    private BuildResultCache buildResultCache;
+
+    /**
+     * The resident Maven worker processes, or <code>null</code> if the invocations run in new processes.
+     */
+    private MavenWorkerPool workerPool;
+
     /**
      * Invokes Maven on the configured test projects.
      *
@@ -620,6 +731,8 @@ public abstract class AbstractInvokerMojo
             return;
         }
 
+        parallelThreadsCount = getParallelThreadsCount( parallelThreads );
+
         if ( StringUtils.isEmpty( encoding ) )
         {
             getLog().warn( "File encoding has not been set, using platform encoding " + ReaderFactory.FILE_ENCODING
@@ -700,21 +813,42 @@ public abstract class AbstractInvokerMojo
             // TODO: Check shouldn't we fail in case of problems?
         }
 
-        if ( setupBuildJobs != null )
+        if ( residentWorkers )
         {
-            // Run setup jobs in single thread
-            // mode.
-            //
-            // Some Idea about ordering?
-            getLog().info( "Running Setup Jobs" );
-            runBuilds( projectsDir, setupBuildJobs, 1 );
+            workerPool = createWorkerPool();
         }
 
-        // Afterwards run all other jobs.
-        BuildJob[] nonSetupBuildJobs = getNonSetupJobs( buildJobs );
-        // We will run the non setup jobs with the configured
-        // parallelThreads number.
-        runBuilds( projectsDir, nonSetupBuildJobs, parallelThreads );
+        BuildJob[] nonSetupBuildJobs;
+        try
+        {
+            if ( setupBuildJobs != null )
+            {
+                // Run setup jobs in single thread
+                // mode.
+                //
+                // Some Idea about ordering?
+                getLog().info( "Running Setup Jobs" );
+                runBuilds( projectsDir, setupBuildJobs, 1 );
+            }
+
+            // Afterwards run all other jobs.
+            nonSetupBuildJobs = getNonSetupJobs( buildJobs );
+            if ( cacheBuildResults )
+            {
+                buildResultCache = createBuildResultCache( setupBuildJobs );
+            }
+            // We will run the non setup jobs with the configured
+            // parallelThreads number.
+            runBuilds( projectsDir, nonSetupBuildJobs, parallelThreadsCount );
+        }
+        finally
+        {
+            if ( workerPool != null )
+            {
+                workerPool.close();
+                workerPool = null;
+            }
+        }
 
         writeSummaryFile( nonSetupBuildJobs );
 
@@ -960,10 +1094,10 @@ public abstract class AbstractInvokerMojo
      *            <code>null</code> nor contain <code>null</code> elements.
      * @throws org.apache.maven.plugin.MojoExecutionException If the the projects could not be copied/filtered.
      */
-    private void cloneProjects( Collection<String> projectPaths )
+    void cloneProjects( Collection<String> projectPaths )
         throws MojoExecutionException
     {
-        if ( !cloneProjectsTo.mkdirs() && cloneClean )
+        if ( !cloneProjectsTo.mkdirs() && cloneClean && !cloneIncremental )
         {
             try
             {
@@ -995,6 +1129,7 @@ public abstract class AbstractInvokerMojo
             filter = !cloneProjectsTo.getCanonicalFile().equals( projectsDirectory.getCanonicalFile() );
 
             List<String> clonedSubpaths = new ArrayList<String>();
+            Map<File, File> clonedDirs = new LinkedHashMap<File, File>();
 
             for ( String subpath : dirs )
             {
@@ -1034,12 +1169,19 @@ public abstract class AbstractInvokerMojo
                     {
                         File srcDir = new File( projectsDirectory, subpath );
                         File dstDir = new File( cloneProjectsTo, subpath );
-                        copyDirectoryStructure( srcDir, dstDir );
+                        clonedDirs.put( srcDir, dstDir );
                     }
 
                     clonedSubpaths.add( subpath );
                 }
             }
+
+            copyDirectoryStructures( clonedDirs );
+
+            if ( cloneIncremental && !clonedSubpaths.contains( "." ) )
+            {
+                deleteStaleProjects( cloneProjectsTo, "", clonedSubpaths );
+            }
         }
         catch ( IOException e )
         {
@@ -1089,6 +1231,66 @@ public abstract class AbstractInvokerMojo
         return ( lastSep < 0 ) ? "." : path.substring( 0, lastSep );
     }
 
+    /**
+     * Copies directory structures, concurrently if {@link #parallelThreads} allows it.
+     *
+     * @param dirs The directories to copy, keyed by source directory, must not be <code>null</code>.
+     * @throws IOException If a directory structure could not be copied.
+     * @throws MojoExecutionException If a directory structure could not be copied for another reason.
+     */
+    private void copyDirectoryStructures( Map<File, File> dirs )
+        throws IOException, MojoExecutionException
+    {
+        int threads = Math.min( parallelThreadsCount, dirs.size() );
+        if ( threads <= 1 )
+        {
+            for ( Map.Entry<File, File> dir : dirs.entrySet() )
+            {
+                copyDirectoryStructure( dir.getKey(), dir.getValue() );
+            }
+            return;
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool( threads );
+        try
+        {
+            List<Future<Void>> futures = new ArrayList<Future<Void>>( dirs.size() );
+            for ( final Map.Entry<File, File> dir : dirs.entrySet() )
+            {
+                futures.add( executorService.submit( new Callable<Void>()
+                {
+                    public Void call()
+                        throws IOException
+                    {
+                        copyDirectoryStructure( dir.getKey(), dir.getValue() );
+                        return null;
+                    }
+                } ) );
+            }
+            for ( Future<Void> future : futures )
+            {
+                future.get();
+            }
+        }
+        catch ( ExecutionException e )
+        {
+            if ( e.getCause() instanceof IOException )
+            {
+                throw (IOException) e.getCause();
+            }
+            throw new MojoExecutionException( e.getCause().getMessage(), e.getCause() );
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+            throw new MojoExecutionException( e.getMessage(), e );
+        }
+        finally
+        {
+            executorService.shutdownNow();
+        }
+    }
+
     /**
      * Copied a directory structure with default exclusions (.svn, CVS, etc)
      *
@@ -1118,11 +1320,144 @@ public abstract class AbstractInvokerMojo
         {
             File sourceFile = new File( sourceDir, includedFile );
             File destFile = new File( destDir, includedFile );
+            if ( cloneIncremental && isUpToDate( sourceFile, destFile ) )
+            {
+                continue;
+            }
             FileUtils.copyFile( sourceFile, destFile );
 
             // ensure clone project must be writable for additional changes
             destFile.setWritable( true );
+
+            if ( cloneIncremental )
+            {
+                destFile.setLastModified( sourceFile.lastModified() );
+            }
+        }
+
+        if ( cloneIncremental )
+        {
+            deleteStaleFiles( destDir, scanner.getIncludedDirectories(), scanner.getIncludedFiles() );
+        }
+    }
+
+    /**
+     * Determines whether a cloned file is identical to its source file. The content of the files is only compared if
+     * their sizes are equal but not their modification times.
+     *
+     * @param sourceFile The source file, must not be <code>null</code>.
+     * @param destFile The cloned file, must not be <code>null</code>.
+     * @return <code>true</code> if the cloned file doesn't need to be copied again, <code>false</code> otherwise.
+     * @throws IOException If the files could not be compared.
+     */
+    private static boolean isUpToDate( File sourceFile, File destFile )
+        throws IOException
+    {
+        if ( !destFile.isFile() || sourceFile.length() != destFile.length() )
+        {
+            return false;
+        }
+        if ( sourceFile.lastModified() == destFile.lastModified() )
+        {
+            return true;
         }
+        if ( FileUtils.contentEquals( sourceFile, destFile ) )
+        {
+            destFile.setLastModified( sourceFile.lastModified() );
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Deletes the files and directories of a cloned directory which are not cloned from the source directory anymore,
+     * e.g. the outputs of a previous run.
+     *
+     * @param destDir The cloned directory, must not be <code>null</code>.
+     * @param includedDirs The cloned directories, relative to the cloned directory, must not be <code>null</code>.
+     * @param includedFiles The cloned files, relative to the cloned directory, must not be <code>null</code>.
+     * @throws IOException If a file could not be deleted.
+     */
+    private static void deleteStaleFiles( File destDir, String[] includedDirs, String[] includedFiles )
+        throws IOException
+    {
+        DirectoryScanner scanner = new DirectoryScanner();
+        scanner.setBasedir( destDir );
+        scanner.scan();
+
+        Collection<String> files = new HashSet<String>( Arrays.asList( includedFiles ) );
+        for ( String file : scanner.getIncludedFiles() )
+        {
+            if ( !files.contains( file ) )
+            {
+                FileUtils.forceDelete( new File( destDir, file ) );
+            }
+        }
+
+        Collection<String> dirs = new HashSet<String>( Arrays.asList( includedDirs ) );
+        for ( String dir : scanner.getIncludedDirectories() )
+        {
+            File staleDir = new File( destDir, dir );
+            if ( !dirs.contains( dir ) && staleDir.exists() )
+            {
+                FileUtils.deleteDirectory( staleDir );
+            }
+        }
+    }
+
+    /**
+     * Deletes the entries of the {@link #cloneProjectsTo} directory which have no source in the projects directory
+     * anymore, e.g. the clones of removed projects. The cloned projects themselves are synchronized by
+     * {@link #deleteStaleFiles(File, String[], String[])}, so only their ancestor directories are walked.
+     *
+     * @param dir The directory to prune, must not be <code>null</code>.
+     * @param subpath The path of the directory relative to the {@link #cloneProjectsTo} directory, must not be
+     *            <code>null</code>.
+     * @param clonedSubpaths The paths of the cloned projects, must not be <code>null</code> nor contain
+     *            <code>null</code> elements.
+     * @throws IOException If an entry could not be deleted.
+     */
+    private void deleteStaleProjects( File dir, String subpath, Collection<String> clonedSubpaths )
+        throws IOException
+    {
+        File[] files = dir.listFiles();
+        if ( files == null )
+        {
+            return;
+        }
+
+        for ( File file : files )
+        {
+            String path = subpath + file.getName();
+            if ( !new File( projectsDirectory, path ).exists() )
+            {
+                FileUtils.forceDelete( file );
+            }
+            else if ( file.isDirectory() && isAncestor( path, clonedSubpaths ) )
+            {
+                deleteStaleProjects( file, path + '/', clonedSubpaths );
+            }
+        }
+    }
+
+    /**
+     * Determines whether the specified sub path is a parent directory of one of the cloned paths.
+     *
+     * @param subpath The sub path to check, must not be <code>null</code>.
+     * @param clonedSubpaths The cloned paths, must not be <code>null</code> nor contain <code>null</code> elements.
+     * @return <code>true</code> if the specified path contains a cloned path, <code>false</code> otherwise.
+     */
+    private static boolean isAncestor( String subpath, Collection<String> clonedSubpaths )
+    {
+        for ( String path : clonedSubpaths )
+        {
+            if ( path.replace( '\\', '/' ).startsWith( subpath + '/' ) )
+            {
+                return true;
+            }
+        }
+
+        return false;
     }
 
     /**
@@ -1191,6 +1526,27 @@ public abstract class AbstractInvokerMojo
             actualJreVersion = SelectorUtils.getJreVersion();
         }
 
+        if ( buildResultCache != null )
+        {
+            // the selectors of the build jobs depend on the environment
+            buildResultCache.addInput( actualMavenVersion );
+            buildResultCache.addInput( actualJreVersion );
+            buildResultCache.addInput( Os.OS_NAME );
+            buildResultCache.addInput( Os.OS_ARCH );
+            buildResultCache.addInput( Os.OS_VERSION );
+        }
+
+        Properties durations = readBuildDurations();
+        BuildJob[] orderedBuildJobs =
+            runWithParallelThreads > 1 ? orderByDuration( buildJobs, durations ) : buildJobs;
+        // the project of a job may be changed by runBuild, so keep the key its duration is recorded with
+        String[] projects = new String[orderedBuildJobs.length];
+        for ( int i = 0; i < orderedBuildJobs.length; i++ )
+        {
+            projects[i] = orderedBuildJobs[i].getProject();
+        }
+
+        boolean keepSettingsFiles = false;
         try
         {
             if ( runWithParallelThreads > 1 )
@@ -1198,7 +1554,7 @@ public abstract class AbstractInvokerMojo
                 getLog().info( "use parallelThreads " + runWithParallelThreads );
 
                 ExecutorService executorService = Executors.newFixedThreadPool( runWithParallelThreads );
-                for ( final BuildJob job : buildJobs )
+                for ( final BuildJob job : orderedBuildJobs )
                 {
                     executorService.execute( new Runnable()
                     {
@@ -1219,8 +1575,50 @@ public abstract class AbstractInvokerMojo
                 try
                 {
                     executorService.shutdown();
-                    // TODO add a configurable time out
-                    executorService.awaitTermination( Long.MAX_VALUE, TimeUnit.MILLISECONDS );
+                    boolean terminated;
+                    if ( parallelTimeoutInSeconds > 0 )
+                    {
+                        terminated = executorService.awaitTermination( parallelTimeoutInSeconds, TimeUnit.SECONDS );
+                    }
+                    else
+                    {
+                        terminated = executorService.awaitTermination( Long.MAX_VALUE, TimeUnit.MILLISECONDS );
+                    }
+
+                    if ( !terminated )
+                    {
+                        getLog().error( "The build jobs did not complete within " + parallelTimeoutInSeconds
+                            + " seconds" );
+                        List<BuildJob> timedOutJobs = new ArrayList<BuildJob>();
+                        for ( BuildJob job : orderedBuildJobs )
+                        {
+                            if ( job.getResult() == null )
+                            {
+                                timedOutJobs.add( job );
+                            }
+                        }
+
+                        // the interrupted invocations kill their Maven process, the workers are killed explicitly
+                        executorService.shutdownNow();
+                        if ( workerPool != null )
+                        {
+                            workerPool.close();
+                        }
+                        terminated = executorService.awaitTermination( ABORT_TIMEOUT_IN_SECONDS, TimeUnit.SECONDS );
+                        if ( !terminated )
+                        {
+                            // the settings files are still in use, don't delete them
+                            getLog().warn( "The timed out build jobs did not stop within " + ABORT_TIMEOUT_IN_SECONDS
+                                + " seconds" );
+                            keepSettingsFiles = true;
+                        }
+
+                        for ( BuildJob job : timedOutJobs )
+                        {
+                            job.setResult( BuildJob.Result.ERROR );
+                            job.setFailureMessage( "Timed out after " + parallelTimeoutInSeconds + " seconds" );
+                        }
+                    }
                 }
                 catch ( InterruptedException e )
                 {
@@ -1229,21 +1627,38 @@ public abstract class AbstractInvokerMojo
             }
             else
             {
-                for ( BuildJob job : buildJobs )
+                for ( BuildJob job : orderedBuildJobs )
                 {
                     runBuild( projectsDir, job, mergedSettingsFile, javaHome, actualJreVersion );
                 }
             }
+
+            for ( int i = 0; i < orderedBuildJobs.length; i++ )
+            {
+                if ( orderedBuildJobs[i].getTime() > 0 )
+                {
+                    durations.setProperty( projects[i], String.valueOf( orderedBuildJobs[i].getTime() ) );
+                }
+            }
+            writeBuildDurations( durations );
         }
         finally
         {
-            if ( interpolatedSettingsFile != null && cloneProjectsTo == null )
+            if ( keepSettingsFiles )
             {
-                interpolatedSettingsFile.delete();
+                getLog().debug( "Keeping the settings files " + interpolatedSettingsFile + " and "
+                    + mergedSettingsFile );
             }
-            if ( mergedSettingsFile != null && mergedSettingsFile.exists() )
+            else
             {
-                mergedSettingsFile.delete();
+                if ( interpolatedSettingsFile != null && cloneProjectsTo == null )
+                {
+                    interpolatedSettingsFile.delete();
+                }
+                if ( mergedSettingsFile != null && mergedSettingsFile.exists() )
+                {
+                    mergedSettingsFile.delete();
+                }
             }
         }
     }
@@ -1457,6 +1872,89 @@ public abstract class AbstractInvokerMojo
         return interpolatedPomFile;
     }
 
+    /**
+     * Creates the cache of the build results, with the inputs common to all the build jobs.
+     *
+     * @param setupBuildJobs The setup build jobs, may be <code>null</code>.
+     * @return The cache, never <code>null</code>.
+     * @throws MojoExecutionException If an input could not be read.
+     */
+    private BuildResultCache createBuildResultCache( BuildJob[] setupBuildJobs )
+        throws MojoExecutionException
+    {
+        BuildResultCache cache = new BuildResultCache( buildResultsCacheDirectory );
+        try
+        {
+            cache.addInput( project.getFile() );
+            Artifact projectArtifact = project.getArtifact();
+            if ( projectArtifact != null )
+            {
+                cache.addInput( projectArtifact.getFile() );
+            }
+            for ( Artifact attachedArtifact : project.getAttachedArtifacts() )
+            {
+                cache.addInput( attachedArtifact.getId() );
+                cache.addInput( attachedArtifact.getFile() );
+            }
+            for ( Artifact artifact : project.getArtifacts() )
+            {
+                // the dependencies are identified by their coordinates, except the snapshots which may change
+                cache.addInput( artifact.getId() );
+                if ( artifact.isSnapshot() && artifact.getFile() != null )
+                {
+                    cache.addInput( artifact.getFile().lastModified() );
+                }
+            }
+            if ( setupBuildJobs != null )
+            {
+                for ( BuildJob setupBuildJob : setupBuildJobs )
+                {
+                    cache.addInput( setupBuildJob.getProject() );
+                    cache.addInput( getProjectDirectory( setupBuildJob.getProject() ) );
+                }
+            }
+            cache.addInput( settingsFile );
+            cache.addInput( goals );
+            cache.addInput( profiles );
+            cache.addInput( properties );
+            cache.addInput( filterProperties );
+            cache.addInput( environmentVariables );
+            cache.addInput( scriptVariables );
+            cache.addInput( mavenOpts );
+            cache.addInput( String.valueOf( mavenHome ) );
+            cache.addInput( mavenExecutable );
+            cache.addInput( String.valueOf( javaHome ) );
+            cache.addInput( invokerPropertiesFile );
+            cache.addInput( String.valueOf( localRepositoryPath ) );
+            if ( addTestClassPath )
+            {
+                // the classpath entries may be rebuilt in place, like the project artifacts
+                for ( String element : testClassPath )
+                {
+                    cache.addInput( element );
+                    cache.addInput( new File( element ) );
+                }
+            }
+        }
+        catch ( IOException e )
+        {
+            throw new MojoExecutionException( "Failed to fingerprint the inputs of the build jobs", e );
+        }
+        return cache;
+    }
+
+    /**
+     * Gets the directory of a project in the projects directory, i.e. before the project is cloned.
+     *
+     * @param project The path to the project, relative to the projects directory, must not be <code>null</code>.
+     * @return The directory of the project, never <code>null</code>.
+     */
+    private File getProjectDirectory( String project )
+    {
+        File file = new File( projectsDirectory, project );
+        return file.isDirectory() ? file : file.getParentFile();
+    }
+
     /**
      * Runs the specified project.
      *
@@ -1470,6 +1968,37 @@ public abstract class AbstractInvokerMojo
                            CharSequence actualJreVersion )
         throws MojoExecutionException
     {
+        String project = buildJob.getProject();
+        String fingerprint = null;
+        if ( buildResultCache != null )
+        {
+            try
+            {
+                fingerprint = buildResultCache.getFingerprint( getProjectDirectory( project ) );
+            }
+            catch ( IOException e )
+            {
+                getLog().warn( "Failed to fingerprint " + project + ": " + e.getMessage() );
+            }
+
+            if ( fingerprint != null && buildResultCache.isSuccessful( project, fingerprint ) )
+            {
+                InvokerProperties invokerProperties = getInvokerProperties( getProjectDirectory( project ) );
+                buildJob.setName( invokerProperties.getJobName() );
+                buildJob.setDescription( invokerProperties.getJobDescription() );
+                buildJob.setResult( BuildJob.Result.SUCCESS );
+                buildJob.setCached( true );
+
+                if ( !suppressSummaries )
+                {
+                    getLog().info( pad( buildJob ).success( "SUCCESS" ).a( " (cached)" ).toString() );
+                }
+
+                writeBuildReport( buildJob );
+                return;
+            }
+        }
+
         // FIXME: Think about the following code part -- START
         File pomFile = new File( projectsDir, buildJob.getProject() );
         File basedir;
@@ -1612,6 +2141,18 @@ public abstract class AbstractInvokerMojo
         {
             deleteInterpolatedPomFile( interpolatedPomFile );
             writeBuildReport( buildJob );
+
+            if ( fingerprint != null )
+            {
+                try
+                {
+                    buildResultCache.setResult( project, fingerprint, buildJob.getResult() );
+                }
+                catch ( IOException e )
+                {
+                    getLog().warn( "Failed to remember the result of " + project + ": " + e.getMessage() );
+                }
+            }
         }
     }
 
@@ -1871,7 +2412,15 @@ public abstract class AbstractInvokerMojo
 
                 try
                 {
-                    result = invoker.execute( request );
+                    // a custom executable may not run the Maven installation of the workers
+                    if ( workerPool != null && mavenExecutable == null )
+                    {
+                        result = workerPool.execute( request );
+                    }
+                    else
+                    {
+                        result = invoker.execute( request );
+                    }
                 }
                 catch ( final MavenInvocationException e )
                 {
@@ -1900,6 +2449,28 @@ public abstract class AbstractInvokerMojo
         return true;
     }
 
+    /**
+     * Creates the pool of resident Maven worker processes.
+     *
+     * @return The pool, or <code>null</code> if the Maven installation to invoke is unknown.
+     */
+    private MavenWorkerPool createWorkerPool()
+    {
+        File workerMavenHome = mavenHome;
+        if ( workerMavenHome == null && System.getProperty( "maven.home" ) != null )
+        {
+            workerMavenHome = new File( System.getProperty( "maven.home" ) );
+        }
+        if ( workerMavenHome == null )
+        {
+            getLog().warn( "Not using resident workers since the Maven home directory is unknown" );
+            return null;
+        }
+
+        getLog().info( "Running the Maven invocations in resident worker processes" );
+        return new MavenWorkerPool( workerMavenHome, workerMaxInvocations, workerTimeoutInSeconds, getLog() );
+    }
+
     private void runPostBuildHook( File basedir, Map<String, Object> context, FileLogger logger )
         throws MojoExecutionException, RunFailureException
     {
@@ -2584,7 +3155,130 @@ public abstract class AbstractInvokerMojo
 
     protected boolean isParallelRun()
     {
-        return parallelThreads > 1;
+        return parallelThreadsCount > 1;
+    }
+
+    /**
+     * Gets the number of threads to run the build jobs with.
+     *
+     * @param parallelThreads The configured number of threads, possibly suffixed with <code>C</code> to be multiplied
+     *            by the number of available processors, may be <code>null</code>.
+     * @return The number of threads, at least <code>1</code>.
+     * @throws MojoExecutionException If the value is not a valid number of threads.
+     */
+    static int getParallelThreadsCount( String parallelThreads )
+        throws MojoExecutionException
+    {
+        if ( StringUtils.isBlank( parallelThreads ) )
+        {
+            return 1;
+        }
+
+        String value = parallelThreads.trim();
+        try
+        {
+            if ( value.endsWith( "C" ) || value.endsWith( "c" ) )
+            {
+                float factor = Float.parseFloat( value.substring( 0, value.length() - 1 ) );
+                return Math.max( 1, (int) ( factor * Runtime.getRuntime().availableProcessors() ) );
+            }
+            return Math.max( 1, Integer.parseInt( value ) );
+        }
+        catch ( NumberFormatException e )
+        {
+            throw new MojoExecutionException( "Invalid parallelThreads value: " + parallelThreads
+                + ", expected a number optionally suffixed with C", e );
+        }
+    }
+
+    /**
+     * Orders the build jobs longest-first, according to the durations recorded by a previous run. The jobs without
+     * recorded duration come first, the order of the jobs with the same duration is preserved.
+     *
+     * @param buildJobs The build jobs to order, must not be <code>null</code>.
+     * @param durations The recorded durations in seconds, keyed by project, must not be <code>null</code>.
+     * @return The ordered build jobs, never <code>null</code>.
+     */
+    static BuildJob[] orderByDuration( BuildJob[] buildJobs, final Properties durations )
+    {
+        BuildJob[] orderedBuildJobs = buildJobs.clone();
+        Arrays.sort( orderedBuildJobs, new Comparator<BuildJob>()
+        {
+            public int compare( BuildJob job1, BuildJob job2 )
+            {
+                return Double.compare( getDuration( job2 ), getDuration( job1 ) );
+            }
+
+            private double getDuration( BuildJob job )
+            {
+                String duration = durations.getProperty( job.getProject() );
+                if ( duration != null )
+                {
+                    try
+                    {
+                        return Double.parseDouble( duration );
+                    }
+                    catch ( NumberFormatException e )
+                    {
+                        // handled as unknown
+                    }
+                }
+                return Double.MAX_VALUE;
+            }
+        } );
+        return orderedBuildJobs;
+    }
+
+    private Properties readBuildDurations()
+    {
+        Properties durations = new Properties();
+        if ( buildDurationsFile != null && buildDurationsFile.isFile() )
+        {
+            InputStream in = null;
+            try
+            {
+                in = new FileInputStream( buildDurationsFile );
+                durations.load( in );
+                in.close();
+                in = null;
+            }
+            catch ( IOException e )
+            {
+                getLog().warn( "Failed to read the build durations from " + buildDurationsFile + ": "
+                    + e.getMessage() );
+            }
+            finally
+            {
+                IOUtil.close( in );
+            }
+        }
+        return durations;
+    }
+
+    private void writeBuildDurations( Properties durations )
+    {
+        if ( buildDurationsFile == null )
+        {
+            return;
+        }
+
+        FileOutputStream out = null;
+        try
+        {
+            buildDurationsFile.getParentFile().mkdirs();
+            out = new FileOutputStream( buildDurationsFile );
+            durations.store( out, "Durations of the Maven Invoker build jobs, in seconds" );
+            out.close();
+            out = null;
+        }
+        catch ( IOException e )
+        {
+            getLog().warn( "Failed to write the build durations to " + buildDurationsFile + ": " + e.getMessage() );
+        }
+        finally
+        {
+            IOUtil.close( out );
+        }
     }
 
 }
@@ -0,0 +1,351 @@
+package org.apache.maven.plugins.invoker;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.URLEncoder;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.apache.maven.plugins.invoker.model.BuildJob;
+import org.codehaus.plexus.util.IOUtil;
+
+/**
+ * Remembers the successful build jobs together with a fingerprint of their inputs, so that a build job can be skipped
+ * as long as neither its project directory nor the common inputs of all the build jobs changed.
+ *
+ * @since 3.0.2
+ */
+class BuildResultCache
+{
+
+    private static final String FINGERPRINT = "fingerprint";
+
+    private static final String RESULT = "result";
+
+    /**
+     * The names of the files and directories created by building a project in place, which are not inputs.
+     */
+    private static final String[] OUTPUTS = { "target", "build.log", "interpolated-pom.xml" };
+
+    /**
+     * The extensions of the archives, whose entries are fingerprinted rather than their bytes, which hold the
+     * modification times of the entries.
+     */
+    private static final String[] ARCHIVES = { ".jar", ".war", ".ear", ".zip" };
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final File directory;
+
+    private final MessageDigest commonInputs;
+
+    /**
+     * Creates a new cache.
+     *
+     * @param directory The directory to store the results in, must not be <code>null</code>.
+     */
+    BuildResultCache( File directory )
+    {
+        this.directory = directory;
+        this.commonInputs = newDigest();
+    }
+
+    /**
+     * Adds a value to the common inputs of all the build jobs.
+     *
+     * @param value The value, may be <code>null</code>.
+     */
+    void addInput( Object value )
+    {
+        update( commonInputs, String.valueOf( value ) );
+    }
+
+    /**
+     * Adds the content of a file, or of all the files of a directory, to the common inputs of all the build jobs. The
+     * content of an archive is the names and contents of its entries.
+     *
+     * @param file The file or directory, may be <code>null</code>.
+     * @throws IOException If a file could not be read.
+     */
+    void addInput( File file )
+        throws IOException
+    {
+        update( commonInputs, file, "" );
+    }
+
+    /**
+     * Computes the fingerprint of a build job, from the common inputs and the files of its project directory.
+     *
+     * @param projectDirectory The directory of the project of the build job, must not be <code>null</code>.
+     * @return The fingerprint, never <code>null</code>.
+     * @throws IOException If a file could not be read.
+     */
+    String getFingerprint( File projectDirectory )
+        throws IOException
+    {
+        MessageDigest digest;
+        try
+        {
+            digest = (MessageDigest) commonInputs.clone();
+        }
+        catch ( CloneNotSupportedException e )
+        {
+            throw new IllegalStateException( e );
+        }
+        update( digest, projectDirectory, "" );
+        return new BigInteger( 1, digest.digest() ).toString( 16 );
+    }
+
+    /**
+     * Tells whether a build job was successful with the same fingerprint.
+     *
+     * @param key The key of the build job, must not be <code>null</code>.
+     * @param fingerprint The current fingerprint of the build job, must not be <code>null</code>.
+     * @return <code>true</code> if the build job can be skipped, <code>false</code> otherwise.
+     */
+    boolean isSuccessful( String key, String fingerprint )
+    {
+        File file = getFile( key );
+        if ( !file.isFile() )
+        {
+            return false;
+        }
+
+        Properties properties = new Properties();
+        InputStream in = null;
+        try
+        {
+            in = new FileInputStream( file );
+            properties.load( in );
+        }
+        catch ( IOException e )
+        {
+            return false;
+        }
+        finally
+        {
+            IOUtil.close( in );
+        }
+        return fingerprint.equals( properties.getProperty( FINGERPRINT ) )
+            && BuildJob.Result.SUCCESS.equals( properties.getProperty( RESULT ) );
+    }
+
+    /**
+     * Records the result of a build job. Only the successful build jobs are remembered.
+     *
+     * @param key The key of the build job, must not be <code>null</code>.
+     * @param fingerprint The fingerprint of the build job, must not be <code>null</code>.
+     * @param result The result of the build job, may be <code>null</code>.
+     * @throws IOException If the result could not be recorded.
+     */
+    void setResult( String key, String fingerprint, String result )
+        throws IOException
+    {
+        File file = getFile( key );
+        if ( !BuildJob.Result.SUCCESS.equals( result ) )
+        {
+            file.delete();
+            return;
+        }
+
+        Properties properties = new Properties();
+        properties.setProperty( FINGERPRINT, fingerprint );
+        properties.setProperty( RESULT, result );
+
+        directory.mkdirs();
+        OutputStream out = new FileOutputStream( file );
+        try
+        {
+            properties.store( out, null );
+        }
+        finally
+        {
+            out.close();
+        }
+    }
+
+    private File getFile( String key )
+    {
+        try
+        {
+            // encoded so that two keys never share a file
+            return new File( directory, URLEncoder.encode( key.replace( '\\', '/' ), "UTF-8" ) + ".properties" );
+        }
+        catch ( IOException e )
+        {
+            throw new IllegalStateException( e );
+        }
+    }
+
+    private static void update( MessageDigest digest, File file, String path )
+        throws IOException
+    {
+        if ( file == null || !file.exists() )
+        {
+            update( digest, path + ":missing" );
+        }
+        else if ( file.isDirectory() )
+        {
+            String[] names = file.list();
+            Arrays.sort( names );
+            for ( String name : names )
+            {
+                if ( path.length() > 0 || !Arrays.asList( OUTPUTS ).contains( name ) )
+                {
+                    update( digest, new File( file, name ), path + '/' + name );
+                }
+            }
+        }
+        else if ( isArchive( file ) )
+        {
+            updateArchive( digest, file, path );
+        }
+        else
+        {
+            update( digest, path + ':' + file.length() );
+            InputStream in = new FileInputStream( file );
+            try
+            {
+                update( digest, in );
+            }
+            finally
+            {
+                in.close();
+            }
+        }
+    }
+
+    private static boolean isArchive( File file )
+    {
+        String name = file.getName().toLowerCase( Locale.ENGLISH );
+        for ( String extension : ARCHIVES )
+        {
+            if ( name.endsWith( extension ) )
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Updates a digest with the names and contents of the entries of an archive, in name order, leaving out their
+     * modification times and the generation date of the <code>pom.properties</code> files added by Maven.
+     */
+    private static void updateArchive( MessageDigest digest, File file, String path )
+        throws IOException
+    {
+        ZipFile zip = new ZipFile( file );
+        try
+        {
+            List<? extends ZipEntry> entries = Collections.list( zip.entries() );
+            String[] names = new String[entries.size()];
+            for ( int i = 0; i < names.length; i++ )
+            {
+                names[i] = entries.get( i ).getName();
+            }
+            Arrays.sort( names );
+
+            update( digest, path + ":archive" );
+            for ( String name : names )
+            {
+                ZipEntry entry = zip.getEntry( name );
+                update( digest, path + '!' + name );
+                if ( entry.isDirectory() )
+                {
+                    continue;
+                }
+
+                InputStream in = zip.getInputStream( entry );
+                try
+                {
+                    if ( name.startsWith( "META-INF/maven/" ) && name.endsWith( "/pom.properties" ) )
+                    {
+                        Properties properties = new Properties();
+                        properties.load( in );
+                        update( digest, new TreeMap<Object, Object>( properties ).toString() );
+                    }
+                    else
+                    {
+                        update( digest, in );
+                    }
+                }
+                finally
+                {
+                    in.close();
+                }
+            }
+        }
+        finally
+        {
+            zip.close();
+        }
+    }
+
+    private static void update( MessageDigest digest, InputStream in )
+        throws IOException
+    {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        for ( int n = in.read( buffer ); n >= 0; n = in.read( buffer ) )
+        {
+            digest.update( buffer, 0, n );
+        }
+    }
+
+    private static void update( MessageDigest digest, String value )
+    {
+        try
+        {
+            digest.update( value.getBytes( "UTF-8" ) );
+            digest.update( (byte) 0 );
+        }
+        catch ( IOException e )
+        {
+            throw new IllegalStateException( e );
+        }
+    }
+
+    private static MessageDigest newDigest()
+    {
+        try
+        {
+            return MessageDigest.getInstance( "SHA-1" );
+        }
+        catch ( NoSuchAlgorithmException e )
+        {
+            throw new IllegalStateException( e );
+        }
+    }
+}
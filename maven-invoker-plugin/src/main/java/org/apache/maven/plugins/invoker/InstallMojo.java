@@ -21,16 +21,27 @@ package org.apache.maven.plugins.invoker;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.factory.ArtifactFactory;
 import org.apache.maven.artifact.repository.ArtifactRepository;
+import org.apache.maven.execution.MavenExecutionRequest;
 import org.apache.maven.execution.MavenSession;
 import org.apache.maven.model.Model;
 import org.apache.maven.model.Parent;
@@ -121,6 +132,33 @@ public class InstallMojo
     @Parameter( property = "invoker.skip", defaultValue = "false" )
     private boolean skipInstallation;
 
+    /**
+     * Whether to stage the artifacts copied from the local repository via hard links rather than copies, which saves
+     * both time and disk space. The files are copied anyway when they can't be linked, e.g. because the repositories
+     * are not on the same file system. The integration tests must not modify the staged artifacts.
+     *
+     * @since 3.0.2
+     */
+    @Parameter( property = "invoker.linkArtifacts", defaultValue = "false" )
+    private boolean linkArtifacts;
+
+    /**
+     * The number of threads used to stage the artifacts copied from the local repository.
+     *
+     * @since 3.0.2
+     */
+    @Parameter( property = "invoker.installThreads", defaultValue = "1" )
+    private int installThreads;
+
+    /**
+     * The artifacts staged by all executions of this mojo in a build, to stage each artifact only once for all the
+     * modules. The keys are the build requests, which are shared by the sessions of all the modules, and the values
+     * map the staging keys to the staging of the artifact, which the other executions wait for. A staging which fails
+     * is forgotten, so that another execution stages the artifact again.
+     */
+    private static final Map<MavenExecutionRequest, Map<String, Staging>> STAGED_ARTIFACTS =
+        new WeakHashMap<MavenExecutionRequest, Map<String, Staging>>();
+
     /**
      * The identifiers of already installed artifacts, used to avoid multiple installation of the same artifact.
      */
@@ -161,6 +199,16 @@ public class InstallMojo
 
     private ProjectBuildingRequest projectBuildingRequest;
 
+    /**
+     * The files copied from the local repository which still have to be staged, by destination.
+     */
+    private Map<File, File> pendingFiles;
+
+    /**
+     * The artifacts copied from the local repository which still need metadata, by destination.
+     */
+    private Map<File, Artifact> pendingArtifacts;
+
     /**
      * Performs this mojo's tasks.
      *
@@ -179,9 +227,13 @@ public class InstallMojo
 
         installedArtifacts = new HashSet<String>();
         copiedArtifacts = new HashSet<String>();
+        pendingFiles = new LinkedHashMap<File, File>();
+        pendingArtifacts = new LinkedHashMap<File, Artifact>();
 
         installProjectDependencies( project, reactorProjects );
+        stagePendingArtifacts();
         installProjectParents( project );
+        stagePendingArtifacts();
         installProjectArtifacts( project );
 
         installExtraArtifacts( extraArtifacts );
@@ -234,16 +286,36 @@ public class InstallMojo
                 throw new IllegalStateException( "Artifact is not fully assembled: " + file );
             }
 
-            if ( installedArtifacts.add( artifact.getId() ) )
+            if ( !installedArtifacts.add( artifact.getId() ) )
+            {
+                getLog().debug( "Not re-installing " + artifact + ", " + file );
+                return;
+            }
+
+            String key = getStagingKey( file, artifact );
+            Staging staging = new Staging();
+            for ( Staging staged = claimStaging( key, staging ); staged != null; staged = claimStaging( key, staging ) )
+            {
+                if ( awaitStaging( key, staged ) )
+                {
+                    getLog().debug( "Not re-installing " + artifact + ", " + file
+                        + ", already installed in this build" );
+                    return;
+                }
+            }
+
+            try
             {
                 artifact.setFile( file );
                 installer.install( projectBuildingRequest, localRepositoryPath,
                                    Collections.singletonList( artifact ) );
             }
-            else
+            catch ( Exception e )
             {
-                getLog().debug( "Not re-installing " + artifact + ", " + file );
+                releaseStaging( key, staging, e );
+                throw e;
             }
+            releaseStaging( key, staging, null );
         }
         catch ( Exception e )
         {
@@ -284,9 +356,9 @@ public class InstallMojo
 
                 getLog().debug( "Installing " + file + " to " + destination );
 
-                copyFileIfDifferent( file, destination );
-
-                MetadataUtils.createMetadata( destination, artifact );
+                // the files are staged together, see stagePendingArtifacts()
+                pendingFiles.put( destination, file );
+                pendingArtifacts.put( destination, artifact );
             }
             else
             {
@@ -299,11 +371,291 @@ public class InstallMojo
         }
     }
 
-    private void copyFileIfDifferent( File src, File dst )
+    /**
+     * Gets the key under which the staging of the specified artifact file is shared by all the executions of this mojo
+     * in the build.
+     *
+     * @param file The file associated with the artifact, must not be <code>null</code>.
+     * @param artifact The artifact, must not be <code>null</code>.
+     * @return The staging key, never <code>null</code>.
+     */
+    private String getStagingKey( File file, Artifact artifact )
+    {
+        return localRepositoryPath.getAbsolutePath() + '|' + artifact.getId() + '|' + file.getAbsolutePath() + '|'
+            + file.lastModified() + '|' + file.length();
+    }
+
+    /**
+     * Claims the staging of an artifact file for this execution, unless another execution of this mojo in the same
+     * build already staged it or is staging it.
+     *
+     * @param key The staging key, must not be <code>null</code>.
+     * @param staging The staging to register, to be released by this execution once done.
+     * @return <code>null</code> if the staging was claimed, or else the staging of the other execution.
+     */
+    private Staging claimStaging( String key, Staging staging )
+    {
+        MavenExecutionRequest request = session.getRequest();
+        if ( request == null )
+        {
+            return null;
+        }
+
+        synchronized ( STAGED_ARTIFACTS )
+        {
+            Map<String, Staging> stagedArtifacts = STAGED_ARTIFACTS.get( request );
+            if ( stagedArtifacts == null )
+            {
+                stagedArtifacts = new HashMap<String, Staging>();
+                STAGED_ARTIFACTS.put( request, stagedArtifacts );
+            }
+            Staging staged = stagedArtifacts.get( key );
+            if ( staged == null )
+            {
+                stagedArtifacts.put( key, staging );
+            }
+            return staged;
+        }
+    }
+
+    /**
+     * Releases a staging claimed by this execution, which the other executions waiting for it can then use.
+     *
+     * @param key The staging key, must not be <code>null</code>.
+     * @param staging The staging claimed by this execution, must not be <code>null</code>.
+     * @param failure The reason why the artifact could not be staged, or <code>null</code> if it was staged.
+     */
+    private void releaseStaging( String key, Staging staging, Throwable failure )
+    {
+        if ( failure != null )
+        {
+            forgetStaging( key, staging );
+            staging.failed( failure );
+        }
+        else
+        {
+            staging.staged();
+        }
+    }
+
+    /**
+     * Waits for the staging of an artifact file by another execution of this mojo in the same build.
+     *
+     * @param key The staging key, must not be <code>null</code>.
+     * @param staging The staging of the other execution, must not be <code>null</code>.
+     * @return <code>true</code> if the artifact file was staged, <code>false</code> if the staging failed and must be
+     *         claimed again.
+     * @throws MojoExecutionException If interrupted while waiting.
+     */
+    private boolean awaitStaging( String key, Staging staging )
+        throws MojoExecutionException
+    {
+        try
+        {
+            staging.get();
+            return true;
+        }
+        catch ( ExecutionException e )
+        {
+            getLog().debug( "Staging " + key + " failed in another module: " + e.getCause().getMessage() );
+            forgetStaging( key, staging );
+            return false;
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+            throw new MojoExecutionException( "Interrupted while waiting for the staging of " + key, e );
+        }
+    }
+
+    private void forgetStaging( String key, Staging staging )
+    {
+        synchronized ( STAGED_ARTIFACTS )
+        {
+            Map<String, Staging> stagedArtifacts = STAGED_ARTIFACTS.get( session.getRequest() );
+            if ( stagedArtifacts != null && stagedArtifacts.get( key ) == staging )
+            {
+                stagedArtifacts.remove( key );
+            }
+        }
+    }
+
+    /**
+     * Stages the files of the artifacts copied from the local repository so far, using the configured number of
+     * threads, and creates their metadata. The artifacts claimed by another execution of this mojo in the same build
+     * are not staged again, but waited for.
+     *
+     * @throws MojoExecutionException If any file could not be staged.
+     */
+    private void stagePendingArtifacts()
+        throws MojoExecutionException
+    {
+        if ( pendingFiles.isEmpty() )
+        {
+            return;
+        }
+
+        Map<File, String> keys = new HashMap<File, String>();
+        Map<File, Staging> claimed = new LinkedHashMap<File, Staging>();
+        Map<File, Staging> awaited = new LinkedHashMap<File, Staging>();
+        for ( Map.Entry<File, File> pendingFile : pendingFiles.entrySet() )
+        {
+            String key = getStagingKey( pendingFile.getValue(), pendingArtifacts.get( pendingFile.getKey() ) );
+            Staging staging = new Staging();
+            Staging staged = claimStaging( key, staging );
+            keys.put( pendingFile.getKey(), key );
+            if ( staged == null )
+            {
+                claimed.put( pendingFile.getKey(), staging );
+            }
+            else
+            {
+                awaited.put( pendingFile.getKey(), staged );
+            }
+        }
+
+        try
+        {
+            stageFiles( claimed.keySet() );
+        }
+        catch ( MojoExecutionException e )
+        {
+            for ( Map.Entry<File, Staging> staging : claimed.entrySet() )
+            {
+                releaseStaging( keys.get( staging.getKey() ), staging.getValue(), e );
+            }
+            throw e;
+        }
+        catch ( RuntimeException e )
+        {
+            for ( Map.Entry<File, Staging> staging : claimed.entrySet() )
+            {
+                releaseStaging( keys.get( staging.getKey() ), staging.getValue(), e );
+            }
+            throw e;
+        }
+        for ( Map.Entry<File, Staging> staging : claimed.entrySet() )
+        {
+            releaseStaging( keys.get( staging.getKey() ), staging.getValue(), null );
+        }
+
+        Map<File, File> retriedFiles = new LinkedHashMap<File, File>();
+        Map<File, Artifact> retriedArtifacts = new LinkedHashMap<File, Artifact>();
+        for ( Map.Entry<File, Staging> staging : awaited.entrySet() )
+        {
+            File destination = staging.getKey();
+            if ( awaitStaging( keys.get( destination ), staging.getValue() ) )
+            {
+                getLog().debug( "Not re-installing " + pendingArtifacts.get( destination ) + ", "
+                    + pendingFiles.get( destination ) + ", already installed in this build" );
+            }
+            else
+            {
+                retriedFiles.put( destination, pendingFiles.get( destination ) );
+                retriedArtifacts.put( destination, pendingArtifacts.get( destination ) );
+            }
+        }
+
+        pendingFiles.clear();
+        pendingArtifacts.clear();
+
+        if ( !retriedFiles.isEmpty() )
+        {
+            pendingFiles.putAll( retriedFiles );
+            pendingArtifacts.putAll( retriedArtifacts );
+            stagePendingArtifacts();
+        }
+    }
+
+    /**
+     * Stages the specified pending files, using the configured number of threads, and creates their metadata.
+     *
+     * @param destinations The destinations of the pending files to stage, must not be <code>null</code>.
+     * @throws MojoExecutionException If any file could not be staged.
+     */
+    private void stageFiles( Collection<File> destinations )
+        throws MojoExecutionException
+    {
+        if ( installThreads > 1 && destinations.size() > 1 )
+        {
+            ExecutorService executorService =
+                Executors.newFixedThreadPool( Math.min( installThreads, destinations.size() ) );
+            try
+            {
+                List<Future<Void>> futures = new ArrayList<Future<Void>>( destinations.size() );
+                for ( final File destination : destinations )
+                {
+                    final File file = pendingFiles.get( destination );
+                    futures.add( executorService.submit( new Callable<Void>()
+                    {
+                        public Void call()
+                            throws IOException
+                        {
+                            stageFile( file, destination );
+                            return null;
+                        }
+                    } ) );
+                }
+                for ( Future<Void> future : futures )
+                {
+                    future.get();
+                }
+            }
+            catch ( ExecutionException e )
+            {
+                throw new MojoExecutionException( "Failed to stage artifact: " + e.getCause().getMessage(),
+                                                  e.getCause() );
+            }
+            catch ( InterruptedException e )
+            {
+                Thread.currentThread().interrupt();
+                throw new MojoExecutionException( e.getMessage(), e );
+            }
+            finally
+            {
+                executorService.shutdownNow();
+            }
+        }
+        else
+        {
+            for ( File destination : destinations )
+            {
+                try
+                {
+                    stageFile( pendingFiles.get( destination ), destination );
+                }
+                catch ( IOException e )
+                {
+                    throw new MojoExecutionException( "Failed to stage artifact: " + pendingFiles.get( destination ),
+                                                      e );
+                }
+            }
+        }
+
+        // the metadata of the artifacts in a same directory are merged, so they can't be created concurrently
+        for ( File destination : destinations )
+        {
+            try
+            {
+                MetadataUtils.createMetadata( destination, pendingArtifacts.get( destination ) );
+            }
+            catch ( IOException e )
+            {
+                throw new MojoExecutionException( "Failed to stage artifact: " + pendingArtifacts.get( destination ),
+                                                  e );
+            }
+        }
+    }
+
+    private void stageFile( File src, File dst )
         throws IOException
     {
         if ( src.lastModified() != dst.lastModified() || src.length() != dst.length() )
         {
+            if ( linkArtifacts && LinkUtils.link( src, dst ) )
+            {
+                return;
+            }
             FileUtils.copyFile( src, dst );
             dst.setLastModified( src.lastModified() );
         }
@@ -602,4 +954,31 @@ public class InstallMojo
         }
     }
 
+    /**
+     * The staging of an artifact file by an execution of this mojo, which the other executions can wait for.
+     */
+    private static class Staging
+        extends FutureTask<Void>
+    {
+        Staging()
+        {
+            super( new Runnable()
+            {
+                public void run()
+                {
+                    // completed explicitly, see staged() and failed()
+                }
+            }, null );
+        }
+
+        void staged()
+        {
+            set( null );
+        }
+
+        void failed( Throwable failure )
+        {
+            setException( failure );
+        }
+    }
 }
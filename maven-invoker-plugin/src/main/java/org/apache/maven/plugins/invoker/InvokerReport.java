@@ -294,7 +294,7 @@ public class InvokerReport
         }
         sinkCell( sink, buffer.toString() );
         // FIXME image
-        sinkCell( sink, buildJob.getResult() );
+        sinkCell( sink, buildJob.isCached() ? buildJob.getResult() + " (cached)" : buildJob.getResult() );
         sinkCell( sink, secondsFormat.format( buildJob.getTime() ) );
         sinkCell( sink, buildJob.getFailureMessage() );
         sink.tableRow_();
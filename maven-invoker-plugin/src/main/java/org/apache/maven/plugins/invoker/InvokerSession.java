@@ -202,8 +202,18 @@ class InvokerSession
 
         logger.info( separator );
         logger.info( "Build Summary:" );
+        int cachedJobs = 0;
+        for ( BuildJob buildJob : successfulJobs )
+        {
+            if ( buildJob.isCached() )
+            {
+                cachedJobs++;
+            }
+        }
+
         logger.info( "  Passed: " + successfulJobs.size() + ", Failed: " + failedJobs.size() + ", Errors: "
-            + errorJobs.size() + ", Skipped: " + skippedJobs.size() );
+            + errorJobs.size() + ", Skipped: " + skippedJobs.size()
+            + ( cachedJobs > 0 ? " (" + cachedJobs + " passed from cache)" : "" ) );
         logger.info( separator );
 
         if ( !failedJobs.isEmpty() )
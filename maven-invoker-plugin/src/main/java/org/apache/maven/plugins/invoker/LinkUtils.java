@@ -0,0 +1,99 @@
+package org.apache.maven.plugins.invoker;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+/**
+ * Provides utility methods for hard links. Hard links require Java 7, on older Java versions the files are never
+ * linked.
+ *
+ * @since 3.0.2
+ */
+class LinkUtils
+{
+
+    private static final boolean AVAILABLE = isAvailable();
+
+    /**
+     * Creates a hard link to the specified file, replacing the link target if it exists.
+     *
+     * @param src The existing file, must not be <code>null</code>.
+     * @param dst The link to create, must not be <code>null</code>.
+     * @return <code>true</code> if the link was created, <code>false</code> if hard links are not supported, e.g. by
+     *         the Java version or because both files are not on the same file system.
+     * @throws IOException If an existing link target could not be deleted.
+     */
+    public static boolean link( File src, File dst )
+        throws IOException
+    {
+        if ( !AVAILABLE )
+        {
+            return false;
+        }
+
+        dst.getParentFile().mkdirs();
+        if ( dst.exists() && !dst.delete() )
+        {
+            throw new IOException( "Failed to delete " + dst );
+        }
+        try
+        {
+            Holder.link( src, dst );
+            return true;
+        }
+        catch ( IOException e )
+        {
+            return false;
+        }
+        catch ( UnsupportedOperationException e )
+        {
+            return false;
+        }
+    }
+
+    private static boolean isAvailable()
+    {
+        try
+        {
+            Class.forName( "java.nio.file.Files" );
+            return true;
+        }
+        catch ( ClassNotFoundException e )
+        {
+            return false;
+        }
+    }
+
+    /**
+     * Isolates the references to the Java 7 API, so that the enclosing class can be loaded on Java 6.
+     */
+    private static class Holder
+    {
+        private static void link( File src, File dst )
+            throws IOException
+        {
+            Files.createLink( dst.toPath(), src.toPath() );
+        }
+    }
+
+}
@@ -0,0 +1,297 @@
+package org.apache.maven.plugins.invoker;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileDescriptor;
+import java.io.FileFilter;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Properties;
+
+/**
+ * The main class of a resident Maven worker process, which runs the Maven invocations it receives one after the other
+ * in the same JVM, through the <code>MavenCli</code> of a Maven installation.
+ * <p>
+ * The invocations are read from the standard input, as their working directory followed by the arguments of the
+ * Maven command line. The working directory is passed to <code>MavenCli</code> and set as <code>user.dir</code> for
+ * the time of the invocation, like an embedded Maven does. The output of each invocation is sent line by line to the
+ * standard output, encoded in UTF-8, followed by its exit code. Anything else written to the standard output of the
+ * process is redirected to its standard error.
+ * </p>
+ * <strong>Note: </strong> This class is run with the plugin JAR as its only class path, so it must only use the Java
+ * runtime classes.
+ *
+ * @since 3.0.2
+ */
+public final class MavenWorkerMain
+{
+
+    /**
+     * The frame of a line of the standard output of an invocation.
+     */
+    static final int OUTPUT = 1;
+
+    /**
+     * The frame of a line of the standard error of an invocation.
+     */
+    static final int ERROR = 2;
+
+    /**
+     * The frame of the exit code of an invocation.
+     */
+    static final int EXIT = 3;
+
+    /**
+     * The encoding of the strings sent to and by the worker.
+     */
+    static final String UTF_8 = "UTF-8";
+
+    private MavenWorkerMain()
+    {
+        // main class
+    }
+
+    /**
+     * Runs the worker until its standard input is closed.
+     *
+     * @param args The Maven home directory.
+     * @throws Exception If the worker failed.
+     */
+    public static void main( String[] args )
+        throws Exception
+    {
+        File mavenHome = new File( args[0] );
+        DataInputStream in = new DataInputStream( new BufferedInputStream( System.in ) );
+        DataOutputStream out =
+            new DataOutputStream( new BufferedOutputStream( new FileOutputStream( FileDescriptor.out ) ) );
+        System.setOut( System.err );
+
+        System.setProperty( "maven.home", mavenHome.getAbsolutePath() );
+        ClassLoader bootLoader = new URLClassLoader( getJars( new File( mavenHome, "boot" ) ), null );
+        Class<?> launcherClass = bootLoader.loadClass( "org.codehaus.plexus.classworlds.launcher.Launcher" );
+        Object launcher = launcherClass.newInstance();
+        launcherClass.getMethod( "setSystemClassLoader", ClassLoader.class ).invoke( launcher, bootLoader );
+        InputStream m2conf = new FileInputStream( new File( mavenHome, "bin/m2.conf" ) );
+        try
+        {
+            launcherClass.getMethod( "configure", InputStream.class ).invoke( launcher, m2conf );
+        }
+        finally
+        {
+            m2conf.close();
+        }
+        Object world = launcherClass.getMethod( "getWorld" ).invoke( launcher );
+        ClassLoader mainRealm = (ClassLoader) launcherClass.getMethod( "getMainRealm" ).invoke( launcher );
+        Class<?> cliClass = mainRealm.loadClass( "org.apache.maven.cli.MavenCli" );
+        Object cli = cliClass.getConstructor( world.getClass() ).newInstance( world );
+        Method doMain =
+            cliClass.getMethod( "doMain", String[].class, String.class, PrintStream.class, PrintStream.class );
+
+        // every invocation starts from the same system properties, as a forked Maven would
+        Properties systemProperties = (Properties) System.getProperties().clone();
+
+        while ( true )
+        {
+            File workingDirectory;
+            try
+            {
+                workingDirectory = new File( readString( in ) );
+            }
+            catch ( EOFException e )
+            {
+                return;
+            }
+            String[] cliArgs = new String[in.readInt()];
+            for ( int i = 0; i < cliArgs.length; i++ )
+            {
+                cliArgs[i] = readString( in );
+            }
+
+            FrameOutputStream stdout = new FrameOutputStream( out, OUTPUT );
+            FrameOutputStream stderr = new FrameOutputStream( out, ERROR );
+            PrintStream stdoutStream = new PrintStream( stdout, true, UTF_8 );
+            PrintStream stderrStream = new PrintStream( stderr, true, UTF_8 );
+            System.setProperty( "user.dir", workingDirectory.getPath() );
+            System.setProperty( "maven.multiModuleProjectDirectory",
+                                getMultiModuleProjectDirectory( workingDirectory ).getAbsolutePath() );
+            Thread.currentThread().setContextClassLoader( mainRealm );
+            int exitCode;
+            try
+            {
+                exitCode = (Integer) doMain.invoke( cli, cliArgs, workingDirectory.getPath(), stdoutStream,
+                                                    stderrStream );
+            }
+            catch ( InvocationTargetException e )
+            {
+                e.getCause().printStackTrace( stderrStream );
+                exitCode = 1;
+            }
+            finally
+            {
+                stdout.close();
+                stderr.close();
+                System.setOut( System.err );
+                System.setProperties( (Properties) systemProperties.clone() );
+            }
+
+            synchronized ( out )
+            {
+                out.writeByte( EXIT );
+                out.writeInt( exitCode );
+                out.flush();
+            }
+        }
+    }
+
+    /**
+     * Finds the base directory of a multi module project like the <code>mvn</code> script does, i.e. the nearest
+     * directory containing a <code>.mvn</code> directory, or else the working directory.
+     */
+    private static File getMultiModuleProjectDirectory( File workingDirectory )
+    {
+        for ( File dir = workingDirectory; dir != null; dir = dir.getParentFile() )
+        {
+            if ( new File( dir, ".mvn" ).isDirectory() )
+            {
+                return dir;
+            }
+        }
+        return workingDirectory;
+    }
+
+    private static URL[] getJars( File dir )
+        throws IOException
+    {
+        File[] jars = dir.listFiles( new FileFilter()
+        {
+            public boolean accept( File file )
+            {
+                return file.getName().endsWith( ".jar" );
+            }
+        } );
+        if ( jars == null )
+        {
+            throw new IOException( "Not a Maven home directory: " + dir.getParentFile() );
+        }
+        URL[] urls = new URL[jars.length];
+        for ( int i = 0; i < jars.length; i++ )
+        {
+            urls[i] = jars[i].toURI().toURL();
+        }
+        return urls;
+    }
+
+    static String readString( DataInputStream in )
+        throws IOException
+    {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully( bytes );
+        return new String( bytes, UTF_8 );
+    }
+
+    static void writeString( DataOutputStream out, String string )
+        throws IOException
+    {
+        byte[] bytes = string.getBytes( UTF_8 );
+        out.writeInt( bytes.length );
+        out.write( bytes );
+    }
+
+    /**
+     * Sends the lines written to it as frames, until it is closed. The lines written by the threads an invocation
+     * left behind are dropped once the invocation completed.
+     */
+    private static class FrameOutputStream
+        extends OutputStream
+    {
+        private final DataOutputStream out;
+
+        private final int type;
+
+        private final ByteArrayOutputStream line = new ByteArrayOutputStream( 256 );
+
+        private boolean closed;
+
+        FrameOutputStream( DataOutputStream out, int type )
+        {
+            this.out = out;
+            this.type = type;
+        }
+
+        @Override
+        public synchronized void write( int b )
+            throws IOException
+        {
+            if ( closed )
+            {
+                return;
+            }
+            if ( b == '\n' )
+            {
+                sendLine();
+            }
+            else if ( b != '\r' )
+            {
+                line.write( b );
+            }
+        }
+
+        @Override
+        public synchronized void close()
+            throws IOException
+        {
+            if ( !closed && line.size() > 0 )
+            {
+                sendLine();
+            }
+            closed = true;
+        }
+
+        private void sendLine()
+            throws IOException
+        {
+            // the print streams of the invocation encode in UTF-8
+            String string = new String( line.toByteArray(), UTF_8 );
+            line.reset();
+            synchronized ( out )
+            {
+                out.writeByte( type );
+                writeString( out, string );
+                out.flush();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,451 @@
+package org.apache.maven.plugins.invoker;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Timer;
+import java.util.TimerTask;
+
+import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.shared.invoker.CommandLineConfigurationException;
+import org.apache.maven.shared.invoker.InvocationOutputHandler;
+import org.apache.maven.shared.invoker.InvocationRequest;
+import org.apache.maven.shared.invoker.InvocationResult;
+import org.apache.maven.shared.invoker.MavenCommandLineBuilder;
+import org.apache.maven.shared.invoker.SystemOutHandler;
+import org.codehaus.plexus.util.StringUtils;
+import org.codehaus.plexus.util.cli.CommandLineException;
+import org.codehaus.plexus.util.cli.CommandLineUtils;
+import org.codehaus.plexus.util.cli.Commandline;
+
+/**
+ * A pool of resident Maven worker processes, which run the Maven invocations without starting a new JVM each time.
+ * A worker runs with the Java home, the JVM arguments from <code>MAVEN_OPTS</code> and the environment variables of
+ * the invocation it was started for, and is only reused by the invocations with the same ones, whatever their working
+ * directory. A worker is started when no such idle worker is available, stopping the least recently used idle worker
+ * if any, so there are at most as many workers as concurrent invocations. A worker is
+ * recycled after a number of invocations and after any failed invocation, so that the state a build leaves behind in
+ * the JVM can't affect too many other builds.
+ *
+ * @see MavenWorkerMain
+ * @since 3.0.2
+ */
+class MavenWorkerPool
+{
+
+    private final File mavenHome;
+
+    private final int maxInvocations;
+
+    private final int timeoutInSeconds;
+
+    private final Log log;
+
+    private final LinkedList<Worker> idleWorkers = new LinkedList<Worker>();
+
+    private final Collection<Worker> workers = new HashSet<Worker>();
+
+    private final Timer timer = new Timer( "maven-worker-timeout", true );
+
+    private boolean closed;
+
+    /**
+     * Creates a new pool, without starting any worker yet.
+     *
+     * @param mavenHome The Maven installation to run the invocations with, must not be <code>null</code>.
+     * @param maxInvocations The number of invocations after which a worker is recycled.
+     * @param timeoutInSeconds The number of seconds after which an invocation is aborted, <code>0</code> or less
+     *            for no limit.
+     * @param log The log, must not be <code>null</code>.
+     */
+    MavenWorkerPool( File mavenHome, int maxInvocations, int timeoutInSeconds, Log log )
+    {
+        this.mavenHome = mavenHome;
+        this.maxInvocations = maxInvocations;
+        this.timeoutInSeconds = timeoutInSeconds;
+        this.log = log;
+    }
+
+    /**
+     * Runs a Maven invocation in a worker.
+     *
+     * @param request The invocation request, must not be <code>null</code>.
+     * @return The result of the invocation, never <code>null</code>.
+     */
+    InvocationResult execute( InvocationRequest request )
+    {
+        Commandline cli;
+        List<String> jvmArguments = new ArrayList<String>();
+        try
+        {
+            MavenCommandLineBuilder builder = new MavenCommandLineBuilder();
+            builder.setMavenHome( mavenHome );
+            cli = builder.build( request );
+            if ( StringUtils.isNotEmpty( request.getMavenOpts() ) )
+            {
+                jvmArguments.addAll( Arrays.asList( CommandLineUtils.translateCommandline( request.getMavenOpts() ) ) );
+            }
+        }
+        catch ( CommandLineConfigurationException e )
+        {
+            return new Result( new CommandLineException( e.getMessage(), e ), Integer.MIN_VALUE );
+        }
+        catch ( Exception e )
+        {
+            return new Result( new CommandLineException( "Invalid MAVEN_OPTS: " + request.getMavenOpts(), e ),
+                               Integer.MIN_VALUE );
+        }
+        Map<String, String> environment = new HashMap<String, String>( request.getShellEnvironments() );
+
+        InvocationOutputHandler outputHandler = request.getOutputHandler( new SystemOutHandler() );
+        InvocationOutputHandler errorHandler = request.getErrorHandler( new SystemOutHandler() );
+
+        File workingDirectory = cli.getWorkingDirectory();
+        if ( workingDirectory == null )
+        {
+            workingDirectory = new File( System.getProperty( "user.dir" ) );
+        }
+
+        Worker worker = null;
+        boolean reusable = false;
+        try
+        {
+            worker = acquire( getJavaHome( request, environment ), jvmArguments, environment );
+            int exitCode =
+                worker.execute( workingDirectory.getAbsolutePath(), cli.getArguments(), outputHandler, errorHandler );
+            reusable = exitCode == 0 && worker.invocations < maxInvocations;
+            return new Result( null, exitCode );
+        }
+        catch ( IOException e )
+        {
+            return new Result( new CommandLineException( "Maven worker failed: " + e.getMessage(), e ),
+                               Integer.MIN_VALUE );
+        }
+        finally
+        {
+            if ( worker != null )
+            {
+                release( worker, reusable );
+            }
+        }
+    }
+
+    /**
+     * Stops all the workers.
+     */
+    synchronized void close()
+    {
+        closed = true;
+        timer.cancel();
+        for ( Worker worker : workers )
+        {
+            worker.destroy();
+        }
+        workers.clear();
+        idleWorkers.clear();
+    }
+
+    /**
+     * Gets the Java home of a worker running the specified invocation, i.e. the one a forked <code>mvn</code> would run
+     * with: the Java home of the request, or else the <code>JAVA_HOME</code> environment variable, or else the current
+     * Java home.
+     */
+    private static File getJavaHome( InvocationRequest request, Map<String, String> environment )
+    {
+        if ( request.getJavaHome() != null )
+        {
+            return request.getJavaHome().getAbsoluteFile();
+        }
+        String javaHome = environment.get( "JAVA_HOME" );
+        if ( javaHome == null )
+        {
+            javaHome = System.getenv( "JAVA_HOME" );
+        }
+        if ( javaHome == null || javaHome.length() == 0 )
+        {
+            javaHome = System.getProperty( "java.home" );
+        }
+        return new File( javaHome ).getAbsoluteFile();
+    }
+
+    private Worker acquire( File javaHome, List<String> jvmArguments, Map<String, String> environment )
+        throws IOException
+    {
+        synchronized ( this )
+        {
+            if ( closed )
+            {
+                throw new IOException( "The Maven workers are stopped" );
+            }
+            for ( Iterator<Worker> it = idleWorkers.iterator(); it.hasNext(); )
+            {
+                Worker worker = it.next();
+                if ( worker.javaHome.equals( javaHome ) && worker.jvmArguments.equals( jvmArguments )
+                    && worker.environment.equals( environment ) )
+                {
+                    it.remove();
+                    return worker;
+                }
+            }
+            if ( !idleWorkers.isEmpty() )
+            {
+                Worker worker = idleWorkers.removeLast();
+                workers.remove( worker );
+                worker.destroy();
+            }
+        }
+
+        List<String> command = new ArrayList<String>();
+        command.add( new File( javaHome, "bin" + File.separator + "java" ).getPath() );
+        command.addAll( jvmArguments );
+        command.add( "-Dmaven.home=" + mavenHome.getAbsolutePath() );
+        command.add( "-cp" );
+        command.add( getWorkerClassPath() );
+        command.add( MavenWorkerMain.class.getName() );
+        command.add( mavenHome.getAbsolutePath() );
+
+        log.debug( "Starting Maven worker: " + command );
+        ProcessBuilder processBuilder = new ProcessBuilder( command );
+        processBuilder.environment().putAll( environment );
+        processBuilder.environment().put( "JAVA_HOME", javaHome.getPath() );
+        Worker worker = new Worker( processBuilder.start(), javaHome, jvmArguments, environment );
+        synchronized ( this )
+        {
+            if ( closed )
+            {
+                worker.destroy();
+                throw new IOException( "The Maven workers are stopped" );
+            }
+            workers.add( worker );
+        }
+        return worker;
+    }
+
+    private synchronized void release( Worker worker, boolean reusable )
+    {
+        if ( reusable && !closed )
+        {
+            idleWorkers.addFirst( worker );
+        }
+        else
+        {
+            workers.remove( worker );
+            worker.destroy();
+        }
+    }
+
+    /**
+     * Schedules the destruction of a worker when its invocation times out.
+     *
+     * @param worker The worker running the invocation, must not be <code>null</code>.
+     * @return The scheduled task, to cancel once the invocation completed, or <code>null</code> if there is no time
+     *         limit.
+     */
+    private synchronized TimerTask scheduleTimeout( final Worker worker )
+    {
+        if ( timeoutInSeconds <= 0 || closed )
+        {
+            return null;
+        }
+        TimerTask timeout = new TimerTask()
+        {
+            public void run()
+            {
+                worker.timedOut = true;
+                worker.destroy();
+            }
+        };
+        timer.schedule( timeout, timeoutInSeconds * 1000L );
+        return timeout;
+    }
+
+    private static String getWorkerClassPath()
+    {
+        try
+        {
+            return new File( MavenWorkerMain.class.getProtectionDomain().getCodeSource().getLocation().toURI() )
+                .getAbsolutePath();
+        }
+        catch ( Exception e )
+        {
+            throw new IllegalStateException( "Failed to locate the Maven worker class", e );
+        }
+    }
+
+    /**
+     * A worker process.
+     */
+    private class Worker
+    {
+        private final Process process;
+
+        private final File javaHome;
+
+        private final List<String> jvmArguments;
+
+        private final Map<String, String> environment;
+
+        private final DataOutputStream out;
+
+        private final DataInputStream in;
+
+        private int invocations;
+
+        private volatile boolean timedOut;
+
+        Worker( final Process process, File javaHome, List<String> jvmArguments, Map<String, String> environment )
+        {
+            this.process = process;
+            this.javaHome = javaHome;
+            this.jvmArguments = jvmArguments;
+            this.environment = environment;
+            out = new DataOutputStream( new BufferedOutputStream( process.getOutputStream() ) );
+            in = new DataInputStream( new BufferedInputStream( process.getInputStream() ) );
+
+            // the worker writes there what isn't part of an invocation
+            Thread errorReader = new Thread( "maven-worker-stderr" )
+            {
+                public void run()
+                {
+                    try
+                    {
+                        BufferedReader reader =
+                            new BufferedReader( new InputStreamReader( process.getErrorStream() ) );
+                        for ( String line = reader.readLine(); line != null; line = reader.readLine() )
+                        {
+                            log.debug( "[maven-worker] " + line );
+                        }
+                    }
+                    catch ( IOException e )
+                    {
+                        // the worker was destroyed
+                    }
+                }
+            };
+            errorReader.setDaemon( true );
+            errorReader.start();
+        }
+
+        int execute( String workingDirectory, String[] args, InvocationOutputHandler outputHandler,
+                     InvocationOutputHandler errorHandler )
+            throws IOException
+        {
+            invocations++;
+
+            TimerTask timeout = scheduleTimeout( this );
+            try
+            {
+                MavenWorkerMain.writeString( out, workingDirectory );
+                out.writeInt( args.length );
+                for ( String arg : args )
+                {
+                    MavenWorkerMain.writeString( out, arg );
+                }
+                out.flush();
+
+                while ( true )
+                {
+                    int type = in.read();
+                    if ( type == MavenWorkerMain.OUTPUT )
+                    {
+                        outputHandler.consumeLine( MavenWorkerMain.readString( in ) );
+                    }
+                    else if ( type == MavenWorkerMain.ERROR )
+                    {
+                        errorHandler.consumeLine( MavenWorkerMain.readString( in ) );
+                    }
+                    else if ( type == MavenWorkerMain.EXIT )
+                    {
+                        return in.readInt();
+                    }
+                    else
+                    {
+                        throw new IOException( "The Maven worker terminated unexpectedly" );
+                    }
+                }
+            }
+            catch ( IOException e )
+            {
+                if ( timedOut )
+                {
+                    throw new IOException( "The Maven invocation timed out after " + timeoutInSeconds + " seconds",
+                                           e );
+                }
+                throw e;
+            }
+            finally
+            {
+                if ( timeout != null )
+                {
+                    timeout.cancel();
+                }
+            }
+        }
+
+        void destroy()
+        {
+            process.destroy();
+        }
+    }
+
+    /**
+     * The result of an invocation run by a worker.
+     */
+    private static class Result
+        implements InvocationResult
+    {
+        private final CommandLineException executionException;
+
+        private final int exitCode;
+
+        Result( CommandLineException executionException, int exitCode )
+        {
+            this.executionException = executionException;
+            this.exitCode = exitCode;
+        }
+
+        public CommandLineException getExecutionException()
+        {
+            return executionException;
+        }
+
+        public int getExitCode()
+        {
+            return exitCode;
+        }
+    }
+
+}
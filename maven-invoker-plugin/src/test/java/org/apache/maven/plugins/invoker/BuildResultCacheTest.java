@@ -0,0 +1,140 @@
+package org.apache.maven.plugins.invoker;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.maven.plugins.invoker.model.BuildJob;
+import org.codehaus.plexus.util.FileUtils;
+import org.codehaus.plexus.util.IOUtil;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests the fingerprints and results remembered by {@link BuildResultCache}.
+ */
+public class BuildResultCacheTest
+    extends TestCase
+{
+
+    public void testFingerprint()
+        throws Exception
+    {
+        File baseDir = new File( "target/test/build-result-cache" );
+        FileUtils.deleteDirectory( baseDir );
+        File projectDir = new File( baseDir, "project" );
+        projectDir.mkdirs();
+        FileUtils.fileWrite( new File( projectDir, "pom.xml" ), "<project/>" );
+
+        BuildResultCache cache = new BuildResultCache( new File( baseDir, "cache" ) );
+        cache.addInput( "package" );
+        String fingerprint = cache.getFingerprint( projectDir );
+        assertEquals( fingerprint, cache.getFingerprint( projectDir ) );
+
+        // the outputs of a build in place are not inputs
+        FileUtils.fileWrite( new File( projectDir, "build.log" ), "[INFO] BUILD SUCCESS" );
+        new File( projectDir, "target" ).mkdirs();
+        assertEquals( fingerprint, cache.getFingerprint( projectDir ) );
+
+        FileUtils.fileWrite( new File( projectDir, "invoker.properties" ), "invoker.goals = install" );
+        assertFalse( fingerprint.equals( cache.getFingerprint( projectDir ) ) );
+
+        BuildResultCache otherCache = new BuildResultCache( new File( baseDir, "cache" ) );
+        otherCache.addInput( "install" );
+        assertFalse( cache.getFingerprint( projectDir ).equals( otherCache.getFingerprint( projectDir ) ) );
+    }
+
+    public void testArchiveFingerprint()
+        throws Exception
+    {
+        File baseDir = new File( "target/test/build-result-cache/archive" );
+        FileUtils.deleteDirectory( baseDir );
+        File projectDir = new File( baseDir, "project" );
+        projectDir.mkdirs();
+        File jar = new File( baseDir, "plugin.jar" );
+
+        writeJar( jar, 1000000000000L, "class A" );
+        BuildResultCache cache = new BuildResultCache( new File( baseDir, "cache" ) );
+        cache.addInput( jar );
+        String fingerprint = cache.getFingerprint( projectDir );
+
+        // repackaged later with the same classes
+        writeJar( jar, 1500000000000L, "class A" );
+        cache = new BuildResultCache( new File( baseDir, "cache" ) );
+        cache.addInput( jar );
+        assertEquals( fingerprint, cache.getFingerprint( projectDir ) );
+
+        writeJar( jar, 1500000000000L, "class B" );
+        cache = new BuildResultCache( new File( baseDir, "cache" ) );
+        cache.addInput( jar );
+        assertFalse( fingerprint.equals( cache.getFingerprint( projectDir ) ) );
+    }
+
+    public void testResults()
+        throws Exception
+    {
+        File cacheDir = new File( "target/test/build-result-cache/results" );
+        FileUtils.deleteDirectory( cacheDir );
+        BuildResultCache cache = new BuildResultCache( cacheDir );
+
+        assertFalse( cache.isSuccessful( "project/pom.xml", "1234" ) );
+
+        cache.setResult( "project/pom.xml", "1234", BuildJob.Result.SUCCESS );
+        assertTrue( cache.isSuccessful( "project/pom.xml", "1234" ) );
+        assertFalse( cache.isSuccessful( "project/pom.xml", "5678" ) );
+        assertFalse( cache.isSuccessful( "other/pom.xml", "1234" ) );
+
+        // failures are not remembered, so that the build job runs again
+        cache.setResult( "project/pom.xml", "1234", BuildJob.Result.FAILURE_BUILD );
+        assertFalse( cache.isSuccessful( "project/pom.xml", "1234" ) );
+
+        // the keys are escaped without collisions
+        cache.setResult( "project_pom.xml", "1234", BuildJob.Result.SUCCESS );
+        assertTrue( cache.isSuccessful( "project_pom.xml", "1234" ) );
+        assertFalse( cache.isSuccessful( "project/pom.xml", "1234" ) );
+        assertFalse( cache.isSuccessful( "project pom.xml", "1234" ) );
+    }
+
+    private static void writeJar( File file, long time, String content )
+        throws Exception
+    {
+        ZipOutputStream out = new ZipOutputStream( new FileOutputStream( file ) );
+        try
+        {
+            ZipEntry entry = new ZipEntry( "META-INF/maven/test/test/pom.properties" );
+            entry.setTime( time );
+            out.putNextEntry( entry );
+            out.write( ( "#Generated by Maven\n#" + time + "\nversion=1.0\n" ).getBytes( "UTF-8" ) );
+
+            entry = new ZipEntry( "A.class" );
+            entry.setTime( time );
+            out.putNextEntry( entry );
+            out.write( content.getBytes( "UTF-8" ) );
+        }
+        finally
+        {
+            IOUtil.close( out );
+        }
+    }
+
+}
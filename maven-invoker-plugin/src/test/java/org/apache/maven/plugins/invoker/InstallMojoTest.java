@@ -0,0 +1,210 @@
+package org.apache.maven.plugins.invoker;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.File;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.factory.ArtifactFactory;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.artifact.repository.MavenArtifactRepository;
+import org.apache.maven.artifact.repository.layout.DefaultRepositoryLayout;
+import org.apache.maven.execution.DefaultMavenExecutionRequest;
+import org.apache.maven.execution.DefaultMavenExecutionResult;
+import org.apache.maven.execution.MavenExecutionRequest;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.model.Model;
+import org.apache.maven.plugin.testing.AbstractMojoTestCase;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.shared.artifact.install.ArtifactInstaller;
+import org.apache.maven.shared.repository.RepositoryManager;
+import org.codehaus.plexus.util.FileUtils;
+
+/**
+ * Tests that the executions of {@link InstallMojo} in the same build share the staging of the artifacts.
+ */
+public class InstallMojoTest
+    extends AbstractMojoTestCase
+{
+
+    private File baseDir;
+
+    private File testRepository;
+
+    private List<String> installedArtifacts;
+
+    @Override
+    protected void setUp()
+        throws Exception
+    {
+        super.setUp();
+        baseDir = new File( getBasedir(), "target/test/install-mojo" );
+        FileUtils.deleteDirectory( baseDir );
+        testRepository = new File( baseDir, "it-repo" );
+        installedArtifacts = Collections.synchronizedList( new ArrayList<String>() );
+    }
+
+    public void testArtifactsAreStagedOncePerBuild()
+        throws Exception
+    {
+        Artifact dependency = newArtifact( "dep", "jar" );
+        dependency.setFile( writeFile( "repo/dep-1.0.jar", "dependency" ) );
+
+        MavenProject lib = newProject( "lib" );
+        MavenProject moduleA = newProject( "module-a" );
+        MavenProject moduleB = newProject( "module-b" );
+        moduleA.setArtifacts( Collections.singleton( dependency ) );
+        moduleB.setArtifacts( Collections.singleton( dependency ) );
+        List<MavenProject> reactorProjects = Arrays.asList( lib, moduleA, moduleB );
+
+        MavenExecutionRequest request = new DefaultMavenExecutionRequest();
+        MavenSession session =
+            new MavenSession( getContainer(), null, request, new DefaultMavenExecutionResult() );
+
+        newMojo( session, moduleA, reactorProjects ).execute();
+
+        File stagedDependency = new File( testRepository, "org/test/dep/1.0/dep-1.0.jar" );
+        assertTrue( stagedDependency.isFile() );
+        assertTrue( stagedDependency.delete() );
+
+        newMojo( session, moduleB, reactorProjects ).execute();
+
+        // the second execution neither installs the artifacts of lib and module-a again nor stages the dependency
+        List<String> expected =
+            Arrays.asList( "org.test:lib:pom:1.0", "org.test:lib:jar:1.0", "org.test:module-a:pom:1.0",
+                           "org.test:module-a:jar:1.0", "org.test:module-b:pom:1.0", "org.test:module-b:jar:1.0" );
+        assertEquals( new LinkedHashSet<String>( expected ), new LinkedHashSet<String>( installedArtifacts ) );
+        assertEquals( expected.size(), installedArtifacts.size() );
+        assertFalse( stagedDependency.exists() );
+
+        // another build stages the artifacts again
+        MavenSession otherSession =
+            new MavenSession( getContainer(), null, new DefaultMavenExecutionRequest(),
+                              new DefaultMavenExecutionResult() );
+        newMojo( otherSession, moduleB, reactorProjects ).execute();
+        assertEquals( 2 * expected.size(), installedArtifacts.size() );
+        assertTrue( stagedDependency.isFile() );
+    }
+
+    private InstallMojo newMojo( MavenSession session, MavenProject project, List<MavenProject> reactorProjects )
+        throws Exception
+    {
+        InstallMojo mojo = new InstallMojo();
+        setVariableValueToObject( mojo, "session", session );
+        setVariableValueToObject( mojo, "project", project );
+        setVariableValueToObject( mojo, "reactorProjects", reactorProjects );
+        setVariableValueToObject( mojo, "localRepositoryPath", testRepository );
+        setVariableValueToObject( mojo, "localRepository",
+                                  new MavenArtifactRepository( "local", new File( baseDir, "repo" ).toURI().toString(),
+                                                               new DefaultRepositoryLayout(), null, null ) );
+        setVariableValueToObject( mojo, "artifactFactory", lookup( ArtifactFactory.class ) );
+        setVariableValueToObject( mojo, "installer", newInstaller() );
+        setVariableValueToObject( mojo, "repositoryManager", newRepositoryManager() );
+        setVariableValueToObject( mojo, "installThreads", 2 );
+        return mojo;
+    }
+
+    private MavenProject newProject( String artifactId )
+        throws Exception
+    {
+        Model model = new Model();
+        model.setGroupId( "org.test" );
+        model.setArtifactId( artifactId );
+        model.setVersion( "1.0" );
+        MavenProject project = new MavenProject( model );
+        project.setFile( writeFile( artifactId + "/pom.xml", "<project/>" ) );
+        Artifact artifact = newArtifact( artifactId, "jar" );
+        artifact.setFile( writeFile( artifactId + "/target/" + artifactId + "-1.0.jar", artifactId ) );
+        project.setArtifact( artifact );
+        return project;
+    }
+
+    private static Artifact newArtifact( String artifactId, String type )
+    {
+        return new DefaultArtifact( "org.test", artifactId, "1.0", null, type, null,
+                                    new DefaultArtifactHandler( type ) );
+    }
+
+    private File writeFile( String path, String content )
+        throws Exception
+    {
+        File file = new File( baseDir, path );
+        file.getParentFile().mkdirs();
+        FileUtils.fileWrite( file, content );
+        return file;
+    }
+
+    private ArtifactInstaller newInstaller()
+    {
+        return (ArtifactInstaller) newProxy( ArtifactInstaller.class, new InvocationHandler()
+        {
+            public Object invoke( Object proxy, Method method, Object[] args )
+            {
+                if ( !"install".equals( method.getName() ) )
+                {
+                    throw new UnsupportedOperationException( method.getName() );
+                }
+                for ( Object artifact : (Collection<?>) args[args.length - 1] )
+                {
+                    installedArtifacts.add( ( (Artifact) artifact ).getId() );
+                }
+                return null;
+            }
+        } );
+    }
+
+    private RepositoryManager newRepositoryManager()
+    {
+        return (RepositoryManager) newProxy( RepositoryManager.class, new InvocationHandler()
+        {
+            public Object invoke( Object proxy, Method method, Object[] args )
+            {
+                if ( "setLocalRepositoryBasedir".equals( method.getName() ) )
+                {
+                    return args[0];
+                }
+                if ( "getPathForLocalArtifact".equals( method.getName() ) )
+                {
+                    Artifact artifact = (Artifact) args[1];
+                    return artifact.getGroupId().replace( '.', '/' ) + '/' + artifact.getArtifactId() + '/'
+                        + artifact.getVersion() + '/' + artifact.getArtifactId() + '-' + artifact.getVersion() + '.'
+                        + artifact.getType();
+                }
+                throw new UnsupportedOperationException( method.getName() );
+            }
+        } );
+    }
+
+    private static Object newProxy( Class<?> type, InvocationHandler handler )
+    {
+        return Proxy.newProxyInstance( InstallMojoTest.class.getClassLoader(), new Class<?>[] { type }, handler );
+    }
+
+}
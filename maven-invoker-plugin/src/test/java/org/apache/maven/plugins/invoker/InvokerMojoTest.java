@@ -20,11 +20,15 @@ package org.apache.maven.plugins.invoker;
  */
 
 import java.io.File;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Properties;
 
+import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.testing.AbstractMojoTestCase;
 import org.apache.maven.plugins.invoker.model.BuildJob;
+import org.codehaus.plexus.util.FileUtils;
 
 /**
  * @author Olivier Lamy
@@ -84,4 +88,80 @@ public class InvokerMojoTest
         assertFalse( AbstractInvokerMojo.alreadyCloned( "dirs", Collections.singletonList( "dir" ) ) );
     }
 
+    public void testCloneIncremental()
+        throws Exception
+    {
+        File baseDir = new File( getBasedir(), "target/unit/clone-incremental" );
+        FileUtils.deleteDirectory( baseDir );
+        File projectsDir = new File( baseDir, "src" );
+        File cloneDir = new File( baseDir, "it" );
+        writeFile( new File( projectsDir, "group/a/file.txt" ), "a" );
+        writeFile( new File( projectsDir, "group/b/file.txt" ), "b" );
+        writeFile( new File( projectsDir, "c/file.txt" ), "c" );
+
+        InvokerMojo invokerMojo = new InvokerMojo();
+        setVariableValueToObject( invokerMojo, "projectsDirectory", projectsDir );
+        setVariableValueToObject( invokerMojo, "cloneProjectsTo", cloneDir );
+        setVariableValueToObject( invokerMojo, "cloneClean", Boolean.TRUE );
+        setVariableValueToObject( invokerMojo, "cloneIncremental", Boolean.TRUE );
+        invokerMojo.cloneProjects( Arrays.asList( "group/a", "group/b", "c" ) );
+        assertEquals( "a", FileUtils.fileRead( new File( cloneDir, "group/a/file.txt" ), "UTF-8" ) );
+
+        // the outputs of a run, a changed project and a removed project
+        writeFile( new File( cloneDir, "group/a/build.log" ), "log" );
+        writeFile( new File( projectsDir, "group/a/file.txt" ), "changed" );
+        FileUtils.deleteDirectory( new File( projectsDir, "group/b" ) );
+        writeFile( new File( cloneDir, "interpolated-settings.xml" ), "settings" );
+        invokerMojo.cloneProjects( Arrays.asList( "group/a" ) );
+
+        assertEquals( "changed", FileUtils.fileRead( new File( cloneDir, "group/a/file.txt" ), "UTF-8" ) );
+        assertFalse( new File( cloneDir, "group/a/build.log" ).exists() );
+        assertFalse( new File( cloneDir, "group/b" ).exists() );
+        assertFalse( new File( cloneDir, "interpolated-settings.xml" ).exists() );
+        // a project which is not selected is kept for the next runs
+        assertTrue( new File( cloneDir, "c/file.txt" ).isFile() );
+    }
+
+    public void testParallelThreadsCount()
+        throws Exception
+    {
+        int processors = Runtime.getRuntime().availableProcessors();
+        assertEquals( 1, AbstractInvokerMojo.getParallelThreadsCount( null ) );
+        assertEquals( 1, AbstractInvokerMojo.getParallelThreadsCount( "0" ) );
+        assertEquals( 4, AbstractInvokerMojo.getParallelThreadsCount( "4" ) );
+        assertEquals( processors, AbstractInvokerMojo.getParallelThreadsCount( "1C" ) );
+        assertEquals( Math.max( 1, (int) ( 1.5f * processors ) ),
+                      AbstractInvokerMojo.getParallelThreadsCount( "1.5C" ) );
+        try
+        {
+            AbstractInvokerMojo.getParallelThreadsCount( "many" );
+            fail( "An invalid number of threads must fail" );
+        }
+        catch ( MojoExecutionException e )
+        {
+            assertTrue( true );
+        }
+    }
+
+    public void testOrderByDuration()
+        throws Exception
+    {
+        BuildJob fast = new BuildJob( "fast", BuildJob.Type.NORMAL );
+        BuildJob slow = new BuildJob( "slow", BuildJob.Type.NORMAL );
+        BuildJob unknown = new BuildJob( "unknown", BuildJob.Type.NORMAL );
+        Properties durations = new Properties();
+        durations.setProperty( "fast", "1.5" );
+        durations.setProperty( "slow", "42.0" );
+
+        BuildJob[] buildJobs = AbstractInvokerMojo.orderByDuration( new BuildJob[] { fast, slow, unknown }, durations );
+        assertEquals( Arrays.asList( unknown, slow, fast ), Arrays.asList( buildJobs ) );
+    }
+
+    private static void writeFile( File file, String content )
+        throws Exception
+    {
+        file.getParentFile().mkdirs();
+        FileUtils.fileWrite( file, "UTF-8", content );
+    }
+
 }
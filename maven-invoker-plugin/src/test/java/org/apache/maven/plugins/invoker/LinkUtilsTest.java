@@ -0,0 +1,61 @@
+package org.apache.maven.plugins.invoker;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.File;
+
+import org.codehaus.plexus.util.FileUtils;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests the hard links created by {@link LinkUtils}.
+ */
+public class LinkUtilsTest
+    extends TestCase
+{
+
+    public void testLink()
+        throws Exception
+    {
+        File baseDir = new File( "target/test/link-utils" );
+        FileUtils.deleteDirectory( baseDir );
+        File src = new File( baseDir, "repo/artifact-1.0.jar" );
+        src.getParentFile().mkdirs();
+        FileUtils.fileWrite( src, "artifact" );
+
+        // an existing link target is replaced
+        File dst = new File( baseDir, "it-repo/artifact-1.0.jar" );
+        dst.getParentFile().mkdirs();
+        FileUtils.fileWrite( dst, "outdated" );
+
+        if ( LinkUtils.link( src, dst ) )
+        {
+            assertEquals( "artifact", FileUtils.fileRead( dst ) );
+        }
+        else
+        {
+            // hard links not supported, the caller copies the file
+            assertFalse( dst.exists() );
+        }
+        assertEquals( "artifact", FileUtils.fileRead( src ) );
+    }
+
+}
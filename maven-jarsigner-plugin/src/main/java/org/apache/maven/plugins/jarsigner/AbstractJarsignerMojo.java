@@ -47,8 +47,14 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.ResourceBundle;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.apache.maven.shared.utils.ReaderFactory;
 
 /**
@@ -187,6 +193,15 @@ public abstract class AbstractJarsignerMojo
     @Parameter( property = "jarsigner.protectedAuthenticationPath", defaultValue = "false" )
     private boolean protectedAuthenticationPath;
 
+    /**
+     * The number of archives to process concurrently. Each archive is still processed by a forked
+     * <code>jarsigner</code>, unless it is signed in-process.
+     *
+     * @since 1.5
+     */
+    @Parameter( property = "jarsigner.threadCount", defaultValue = "1" )
+    private int threadCount;
+
     /**
      * Controls processing of project attachments.
      *
@@ -276,18 +291,17 @@ public abstract class AbstractJarsignerMojo
                 jarSigner.setToolchain( toolchain );
             }
 
-            int processed = 0;
+            List<File> archives = new ArrayList<File>();
 
             if ( this.archive != null )
             {
-                processArchive( this.archive );
-                processed++;
+                archives.add( this.archive );
             }
             else
             {
                 if ( processMainArtifact )
                 {
-                    processed += processArtifact( this.project.getArtifact() ) ? 1 : 0;
+                    processArtifact( this.project.getArtifact(), archives );
                 }
 
                 if ( processAttachedArtifacts && !Boolean.FALSE.equals( attachments ) )
@@ -318,7 +332,7 @@ public abstract class AbstractJarsignerMojo
                             continue;
                         }
 
-                        processed += processArtifact( artifact ) ? 1 : 0;
+                        processArtifact( artifact, archives );
                     }
                 }
                 else
@@ -349,15 +363,13 @@ public abstract class AbstractJarsignerMojo
                             + e.getMessage(), e );
                     }
 
-                    for ( File jarFile : jarFiles )
-                    {
-                        processArchive( jarFile );
-                        processed++;
-                    }
+                    archives.addAll( jarFiles );
                 }
             }
 
-            getLog().info( getMessage( "processed", processed ) );
+            processArchives( archives );
+
+            getLog().info( getMessage( "processed", archives.size() ) );
         }
         else
         {
@@ -419,15 +431,14 @@ public abstract class AbstractJarsignerMojo
     }
 
     /**
-     * Processes a given artifact.
+     * Adds a given artifact to the archives to process.
      *
      * @param artifact The artifact to process.
-     * @return <code>true</code> if the artifact is a JAR and was processed, <code>false</code> otherwise.
+     * @param archives The archives to process.
+     * @return <code>true</code> if the artifact is a JAR and will be processed, <code>false</code> otherwise.
      * @throws NullPointerException if {@code artifact} is {@code null}.
-     * @throws MojoExecutionException if processing {@code artifact} fails.
      */
-    private boolean processArtifact( final Artifact artifact )
-        throws MojoExecutionException
+    private boolean processArtifact( final Artifact artifact, final List<File> archives )
     {
         if ( artifact == null )
         {
@@ -438,7 +449,7 @@ public abstract class AbstractJarsignerMojo
 
         if ( isZipFile( artifact ) )
         {
-            processArchive( artifact.getFile() );
+            archives.add( artifact.getFile() );
 
             processed = true;
         }
@@ -469,6 +480,75 @@ public abstract class AbstractJarsignerMojo
         // default does nothing
     }
 
+    /**
+     * Processes the given archives, concurrently if {@link #threadCount} is greater than 1.
+     *
+     * @param archives The archives to process.
+     * @throws MojoExecutionException if processing an archive fails.
+     */
+    private void processArchives( final List<File> archives )
+        throws MojoExecutionException
+    {
+        if ( threadCount <= 1 || archives.size() <= 1 )
+        {
+            for ( File file : archives )
+            {
+                processArchive( file );
+            }
+            return;
+        }
+
+        // an archive listed twice must not be processed concurrently with itself
+        Collection<File> uniqueArchives = new LinkedHashSet<File>();
+        for ( File file : archives )
+        {
+            uniqueArchives.add( file.getAbsoluteFile() );
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool( Math.min( threadCount, uniqueArchives.size() ) );
+        try
+        {
+            List<Future<Void>> futures = new ArrayList<Future<Void>>( uniqueArchives.size() );
+            for ( final File file : uniqueArchives )
+            {
+                futures.add( executor.submit( new Callable<Void>()
+                {
+                    public Void call()
+                        throws MojoExecutionException
+                    {
+                        processArchive( file );
+                        return null;
+                    }
+                } ) );
+            }
+
+            for ( Future<Void> future : futures )
+            {
+                future.get();
+            }
+        }
+        catch ( ExecutionException e )
+        {
+            if ( e.getCause() instanceof MojoExecutionException )
+            {
+                throw (MojoExecutionException) e.getCause();
+            }
+            if ( e.getCause() instanceof RuntimeException )
+            {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new MojoExecutionException( e.getCause().getMessage(), e.getCause() );
+        }
+        catch ( InterruptedException e )
+        {
+            throw new MojoExecutionException( "Interrupted while processing archives", e );
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
     /**
      * Processes a given archive.
      *
@@ -564,6 +644,19 @@ public abstract class AbstractJarsignerMojo
         // Special handling for passwords through the Maven Security Dispatcher
         request.setStorepass( decrypt( storepass ) );
 
+        executeRequest( request );
+    }
+
+    /**
+     * Executes the jar signer request of an archive, by forking <code>jarsigner</code>.
+     *
+     * @param request The request to execute, must not be <code>null</code>.
+     * @throws MojoExecutionException if executing {@code request} fails.
+     * @since 1.5
+     */
+    protected void executeRequest( final JarSignerRequest request )
+        throws MojoExecutionException
+    {
         try
         {
             JavaToolResult result = jarSigner.execute( request );
@@ -643,7 +736,7 @@ public abstract class AbstractJarsignerMojo
      *
      * @return Toolchain instance
      */
-    private Toolchain getToolchain()
+    protected Toolchain getToolchain()
     {
         Toolchain tc = null;
         if ( toolchainManager != null )
@@ -0,0 +1,394 @@
+package org.apache.maven.plugins.jarsigner;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.shared.jarsigner.JarSignerSignRequest;
+import org.apache.maven.shared.utils.ReaderFactory;
+import org.apache.maven.shared.utils.StringUtils;
+import org.apache.maven.shared.utils.io.IOUtil;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyStore;
+import java.security.PrivateKey;
+import java.security.cert.CertPath;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.ZipFile;
+
+/**
+ * Signs archives in the running JVM with the <code>jdk.security.jarsigner.JarSigner</code> API of Java 9, instead of
+ * forking the <code>jarsigner</code> tool for each archive. The keystore is loaded once, and the archives may be signed
+ * concurrently since the signer is immutable.
+ * <p>
+ * The API is called by reflection, as the plugin still runs on older JDKs where it is not available.
+ * </p>
+ *
+ * @version $Id$
+ * @since 1.5
+ */
+class InProcessJarSigner
+{
+    private static final String JAR_SIGNER = "jdk.security.jarsigner.JarSigner";
+
+    private static final String JAR_SIGNER_BUILDER = JAR_SIGNER + "$Builder";
+
+    private final Object signer;
+
+    private final Method signMethod;
+
+    /**
+     * Loads the key and certificate chain of a request, and creates the signer.
+     *
+     * @param request the request giving the keystore, alias and signing options, must not be <code>null</code>.
+     * @throws MojoExecutionException if the key could not be loaded or the signer could not be created.
+     */
+    InProcessJarSigner( JarSignerSignRequest request )
+        throws MojoExecutionException
+    {
+        if ( request.getAlias() == null )
+        {
+            throw new MojoExecutionException( "The alias of the signing key is required" );
+        }
+
+        try
+        {
+            KeyStore keyStore = loadKeyStore( request );
+
+            String keypass = request.getKeypass() != null ? request.getKeypass() : request.getStorepass();
+            Key key = keyStore.getKey( request.getAlias(), toCharArray( keypass ) );
+            if ( !( key instanceof PrivateKey ) )
+            {
+                throw new MojoExecutionException( "The alias '" + request.getAlias()
+                    + "' is not a private key entry of the keystore" );
+            }
+
+            List<Certificate> certificates = loadCertificateChain( request, keyStore );
+            CertPath certPath = CertificateFactory.getInstance( "X.509" ).generateCertPath( certificates );
+
+            Class<?> builderClass = Class.forName( JAR_SIGNER_BUILDER );
+            Object builder =
+                builderClass.getConstructor( PrivateKey.class, CertPath.class ).newInstance( key, certPath );
+
+            builderClass.getMethod( "signerName", String.class ).invoke( builder, getSignerName( request ) );
+
+            if ( StringUtils.isNotEmpty( request.getTsaLocation() ) )
+            {
+                builderClass.getMethod( "tsa", URI.class ).invoke( builder, new URI( request.getTsaLocation() ) );
+            }
+
+            signer = builderClass.getMethod( "build" ).invoke( builder );
+            signMethod = Class.forName( JAR_SIGNER ).getMethod( "sign", ZipFile.class, OutputStream.class );
+        }
+        catch ( IOException e )
+        {
+            throw new MojoExecutionException( "Failed to load the keystore: " + e.getMessage(), e );
+        }
+        catch ( GeneralSecurityException e )
+        {
+            throw new MojoExecutionException( "Failed to load the signing key: " + e.getMessage(), e );
+        }
+        catch ( URISyntaxException e )
+        {
+            throw new MojoExecutionException( "Invalid TSA location: " + e.getMessage(), e );
+        }
+        catch ( InvocationTargetException e )
+        {
+            throw new MojoExecutionException( "Failed to create the signer: " + e.getCause().getMessage(),
+                                              e.getCause() );
+        }
+        catch ( ClassNotFoundException e )
+        {
+            throw new MojoExecutionException( "The JarSigner API is not available: " + e.getMessage(), e );
+        }
+        catch ( NoSuchMethodException e )
+        {
+            throw new MojoExecutionException( "The JarSigner API is not available: " + e.getMessage(), e );
+        }
+        catch ( InstantiationException e )
+        {
+            throw new MojoExecutionException( "The JarSigner API is not available: " + e.getMessage(), e );
+        }
+        catch ( IllegalAccessException e )
+        {
+            throw new MojoExecutionException( "The JarSigner API is not available: " + e.getMessage(), e );
+        }
+    }
+
+    /**
+     * @return <code>true</code> if the JarSigner API is available in the running JVM.
+     */
+    static boolean isAvailable()
+    {
+        try
+        {
+            Class.forName( JAR_SIGNER_BUILDER );
+            return true;
+        }
+        catch ( ClassNotFoundException e )
+        {
+            return false;
+        }
+    }
+
+    /**
+     * Gets the first option of a request that can only be handled by the <code>jarsigner</code> tool.
+     *
+     * @param request the request, must not be <code>null</code>.
+     * @return the name of the option, or <code>null</code> if the request can be signed in-process.
+     */
+    static String getUnsupportedOption( JarSignerSignRequest request )
+    {
+        if ( request.getProviderName() != null || request.getProviderClass() != null
+            || request.getProviderArg() != null )
+        {
+            return "providerName/providerClass/providerArg";
+        }
+        if ( request.isProtectedAuthenticationPath() )
+        {
+            return "protectedAuthenticationPath";
+        }
+        if ( "NONE".equals( request.getKeystore() ) )
+        {
+            return "keystore NONE";
+        }
+        if ( request.getTsaAlias() != null )
+        {
+            return "tsacert";
+        }
+        if ( request.getArguments() != null )
+        {
+            for ( String argument : request.getArguments() )
+            {
+                String option = argument.trim();
+                if ( !option.startsWith( "-J" ) )
+                {
+                    return "arguments";
+                }
+                if ( !isIgnorableJvmOption( option, request ) )
+                {
+                    return option;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Tells whether an option of the forked JVM has no effect on the signature when signing in the running JVM: the
+     * encoding the running JVM already uses, or a proxy while no TSA is contacted. Any other JVM option, like a proxy
+     * for the TSA or a security property, could only be honoured by the forked <code>jarsigner</code>.
+     */
+    private static boolean isIgnorableJvmOption( String option, JarSignerSignRequest request )
+    {
+        if ( option.equals( "-J-Dfile.encoding=" + ReaderFactory.FILE_ENCODING ) )
+        {
+            return true;
+        }
+        return StringUtils.isEmpty( request.getTsaLocation() )
+            && option.matches( "-J-D(http|https|ftp)\\.(proxyHost|proxyPort|nonProxyHosts)=.*" );
+    }
+
+    /**
+     * Signs an archive in place.
+     *
+     * @param archive the archive to sign, must not be <code>null</code>.
+     * @throws MojoExecutionException if the archive could not be signed.
+     */
+    void sign( File archive )
+        throws MojoExecutionException
+    {
+        File signed;
+        try
+        {
+            signed = File.createTempFile( archive.getName(), ".tmp", archive.getAbsoluteFile().getParentFile() );
+        }
+        catch ( IOException e )
+        {
+            throw new MojoExecutionException( "Failed to sign archive " + archive + ": " + e.getMessage(), e );
+        }
+
+        try
+        {
+            ZipFile zipFile = null;
+            OutputStream out = null;
+            try
+            {
+                zipFile = new ZipFile( archive );
+                out = new FileOutputStream( signed );
+                signMethod.invoke( signer, zipFile, out );
+            }
+            finally
+            {
+                IOUtil.close( out );
+                if ( zipFile != null )
+                {
+                    zipFile.close();
+                }
+            }
+
+            if ( !signed.renameTo( archive ) )
+            {
+                archive.delete();
+                if ( !signed.renameTo( archive ) )
+                {
+                    throw new IOException( "Unable to replace " + archive + " by " + signed );
+                }
+            }
+        }
+        catch ( IOException e )
+        {
+            throw new MojoExecutionException( "Failed to sign archive " + archive + ": " + e.getMessage(), e );
+        }
+        catch ( InvocationTargetException e )
+        {
+            Throwable cause = e.getCause();
+            String message = cause.getCause() != null ? cause.getMessage() + ": " + cause.getCause().getMessage()
+                            : cause.getMessage();
+            throw new MojoExecutionException( "Failed to sign archive " + archive + ": " + message, cause );
+        }
+        catch ( IllegalAccessException e )
+        {
+            throw new MojoExecutionException( "Failed to sign archive " + archive + ": " + e.getMessage(), e );
+        }
+        finally
+        {
+            signed.delete();
+        }
+    }
+
+    private static KeyStore loadKeyStore( JarSignerSignRequest request )
+        throws IOException, GeneralSecurityException
+    {
+        KeyStore keyStore =
+            KeyStore.getInstance( request.getStoretype() != null ? request.getStoretype() : KeyStore.getDefaultType() );
+
+        InputStream in = openKeyStore( request );
+        try
+        {
+            keyStore.load( in, toCharArray( request.getStorepass() ) );
+        }
+        finally
+        {
+            IOUtil.close( in );
+        }
+        return keyStore;
+    }
+
+    /**
+     * Opens the keystore as the <code>jarsigner</code> tool run in the working directory would: a URL, a file
+     * relative to the working directory, or <code>.keystore</code> in the user home by default.
+     */
+    private static InputStream openKeyStore( JarSignerSignRequest request )
+        throws IOException
+    {
+        String keystore = request.getKeystore();
+        if ( keystore == null )
+        {
+            return new FileInputStream( new File( System.getProperty( "user.home" ), ".keystore" ) );
+        }
+
+        try
+        {
+            return new URL( keystore ).openStream();
+        }
+        catch ( MalformedURLException e )
+        {
+            File file = new File( keystore );
+            if ( !file.isAbsolute() && request.getWorkingDirectory() != null )
+            {
+                file = new File( request.getWorkingDirectory(), keystore );
+            }
+            return new FileInputStream( file );
+        }
+    }
+
+    private static List<Certificate> loadCertificateChain( JarSignerSignRequest request, KeyStore keyStore )
+        throws IOException, GeneralSecurityException
+    {
+        if ( request.getCertchain() == null )
+        {
+            Certificate[] chain = keyStore.getCertificateChain( request.getAlias() );
+            if ( chain == null )
+            {
+                throw new GeneralSecurityException( "No certificate chain found for the alias '"
+                    + request.getAlias() + "'" );
+            }
+            return Arrays.asList( chain );
+        }
+
+        InputStream in = new FileInputStream( request.getCertchain() );
+        try
+        {
+            return new ArrayList<Certificate>( CertificateFactory.getInstance( "X.509" ).generateCertificates( in ) );
+        }
+        finally
+        {
+            IOUtil.close( in );
+        }
+    }
+
+    /**
+     * Gets the name of the signature files, defaulting as the <code>jarsigner</code> tool to the first 8 characters
+     * of the alias.
+     */
+    private static String getSignerName( JarSignerSignRequest request )
+    {
+        if ( request.getSigfile() != null )
+        {
+            return request.getSigfile();
+        }
+
+        String alias = request.getAlias();
+        StringBuilder name = new StringBuilder( Math.min( alias.length(), 8 ) );
+        for ( int i = 0; i < alias.length() && i < 8; i++ )
+        {
+            char c = alias.charAt( i );
+            if ( !( ( c >= 'A' && c <= 'Z' ) || ( c >= 'a' && c <= 'z' ) || ( c >= '0' && c <= '9' ) || c == '-'
+                || c == '_' ) )
+            {
+                c = '_';
+            }
+            name.append( c );
+        }
+        return name.toString();
+    }
+
+    private static char[] toCharArray( String password )
+    {
+        return password != null ? password.toCharArray() : null;
+    }
+}
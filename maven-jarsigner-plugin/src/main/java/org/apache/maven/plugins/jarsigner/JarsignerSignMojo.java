@@ -94,6 +94,31 @@ public class JarsignerSignMojo
     @Parameter( property = "jarsigner.certchain", readonly = true, required = false )
     private File certchain;
 
+    /**
+     * Indicates whether the archives should be signed in the running JVM with the <code>JarSigner</code> API of
+     * Java 9, loading the keystore once instead of forking <code>jarsigner</code> for each archive. The plugin falls
+     * back to forking <code>jarsigner</code> when the API is not available, when a toolchain is used, or when an
+     * option only supported by the tool is set (<code>providerName</code>, <code>providerClass</code>,
+     * <code>providerArg</code>, <code>protectedAuthenticationPath</code>, <code>tsacert</code> and
+     * <code>arguments</code>). JVM options given as <code>-J</code> arguments also require <code>jarsigner</code>,
+     * except the <code>file.encoding</code> the running JVM already uses, and the proxy of the settings as long as no
+     * <code>tsa</code> is contacted.
+     *
+     * @since 1.5
+     */
+    @Parameter( property = "jarsigner.inProcess", defaultValue = "false" )
+    private boolean inProcess;
+
+    /**
+     * The in-process signer, created with the first request.
+     */
+    private InProcessJarSigner inProcessSigner;
+
+    /**
+     * Whether the archives are signed by forking <code>jarsigner</code>, decided with the first request.
+     */
+    private boolean forkJarSigner;
+
     @Override
     protected String getCommandlineInfo( final Commandline commandLine )
     {
@@ -141,4 +166,57 @@ public class JarsignerSignMojo
         return request;
     }
 
+    @Override
+    protected void executeRequest( final JarSignerRequest request )
+        throws MojoExecutionException
+    {
+        InProcessJarSigner signer = getInProcessSigner( (JarSignerSignRequest) request );
+
+        if ( signer == null )
+        {
+            super.executeRequest( request );
+        }
+        else
+        {
+            signer.sign( request.getArchive() );
+        }
+    }
+
+    /**
+     * Gets the in-process signer, creating it from the first request since all the requests share the same key.
+     *
+     * @param request The request to sign an archive.
+     * @return The in-process signer, or <code>null</code> if the archives are signed by forking <code>jarsigner</code>.
+     * @throws MojoExecutionException if the signer could not be created.
+     */
+    private synchronized InProcessJarSigner getInProcessSigner( final JarSignerSignRequest request )
+        throws MojoExecutionException
+    {
+        if ( !inProcess || forkJarSigner || inProcessSigner != null )
+        {
+            return inProcessSigner;
+        }
+
+        forkJarSigner = true;
+        String unsupportedOption = InProcessJarSigner.getUnsupportedOption( request );
+        if ( !InProcessJarSigner.isAvailable() )
+        {
+            getLog().warn( "The JarSigner API requires Java 9, signing archives with jarsigner." );
+        }
+        else if ( getToolchain() != null )
+        {
+            getLog().warn( "A toolchain is used, signing archives with its jarsigner." );
+        }
+        else if ( unsupportedOption != null )
+        {
+            getLog().warn( "The option " + unsupportedOption + " requires jarsigner, signing archives with it." );
+        }
+        else
+        {
+            inProcessSigner = new InProcessJarSigner( request );
+            forkJarSigner = false;
+        }
+        return inProcessSigner;
+    }
+
 }
@@ -0,0 +1,226 @@
+package org.apache.maven.plugins.jarsigner;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.shared.jarsigner.JarSignerSignRequest;
+import org.apache.maven.shared.utils.ReaderFactory;
+import org.apache.maven.shared.utils.io.IOUtil;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.util.Enumeration;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Tests {@link InProcessJarSigner}. The signing tests need the <code>JarSigner</code> API of Java 9, and are skipped
+ * on older JDKs.
+ */
+public class InProcessJarSignerTest
+{
+    private static final String ALIAS = "testkey";
+
+    private static final String PASSWORD = "changeit";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private File keystore;
+
+    private File archive;
+
+    @Before
+    public void setUp()
+        throws Exception
+    {
+        keystore = new File( temporaryFolder.getRoot(), "keystore.p12" );
+        archive = temporaryFolder.newFile( "archive.jar" );
+
+        JarOutputStream out = new JarOutputStream( new FileOutputStream( archive ) );
+        try
+        {
+            out.putNextEntry( new JarEntry( "test.txt" ) );
+            out.write( "content".getBytes( "UTF-8" ) );
+            out.closeEntry();
+        }
+        finally
+        {
+            IOUtil.close( out );
+        }
+    }
+
+    @Test
+    public void testSign()
+        throws Exception
+    {
+        assumeTrue( InProcessJarSigner.isAvailable() );
+        generateKeyStore();
+
+        new InProcessJarSigner( newRequest() ).sign( archive );
+
+        JarFile jarFile = new JarFile( archive, true );
+        try
+        {
+            assertNotNull( jarFile.getEntry( "META-INF/TESTKEY.SF" ) );
+            assertNotNull( jarFile.getEntry( "META-INF/TESTKEY.RSA" ) );
+
+            JarEntry entry = jarFile.getJarEntry( "test.txt" );
+            InputStream in = jarFile.getInputStream( entry );
+            try
+            {
+                // the signature of an entry is verified while reading it
+                assertEquals( "content", IOUtil.toString( in, "UTF-8" ) );
+            }
+            finally
+            {
+                IOUtil.close( in );
+            }
+            assertNotNull( entry.getCodeSigners() );
+            assertEquals( 1, entry.getCodeSigners().length );
+        }
+        finally
+        {
+            jarFile.close();
+        }
+        // only the keystore and the archive are left, the temporary signed archive replaced the original one
+        assertEquals( 2, temporaryFolder.getRoot().listFiles().length );
+    }
+
+    @Test
+    public void testSignWithTsaFailure()
+        throws Exception
+    {
+        assumeTrue( InProcessJarSigner.isAvailable() );
+        generateKeyStore();
+
+        // a TSA stub recording the timestamp queries and failing them
+        final StringBuilder contentTypes = new StringBuilder();
+        HttpServer server = HttpServer.create( new InetSocketAddress( "localhost", 0 ), 0 );
+        server.createContext( "/", new HttpHandler()
+        {
+            public void handle( HttpExchange exchange )
+                throws IOException
+            {
+                contentTypes.append( exchange.getRequestHeaders().getFirst( "Content-Type" ) );
+                IOUtil.toByteArray( exchange.getRequestBody() );
+                exchange.sendResponseHeaders( 500, -1 );
+                exchange.close();
+            }
+        } );
+        server.start();
+        try
+        {
+            JarSignerSignRequest request = newRequest();
+            request.setTsaLocation( "http://localhost:" + server.getAddress().getPort() + "/" );
+
+            new InProcessJarSigner( request ).sign( archive );
+            fail( "The archive was signed without a timestamp" );
+        }
+        catch ( MojoExecutionException e )
+        {
+            assertTrue( e.getMessage(), e.getMessage().startsWith( "Failed to sign archive " + archive ) );
+        }
+        finally
+        {
+            server.stop( 0 );
+        }
+        assertEquals( "application/timestamp-query", contentTypes.toString() );
+
+        // the archive is left untouched
+        JarFile jarFile = new JarFile( archive );
+        try
+        {
+            assertNull( jarFile.getEntry( "META-INF/TESTKEY.SF" ) );
+        }
+        finally
+        {
+            jarFile.close();
+        }
+    }
+
+    @Test
+    public void testUnsupportedOption()
+    {
+        JarSignerSignRequest request = newRequest();
+        assertNull( InProcessJarSigner.getUnsupportedOption( request ) );
+
+        request.setArguments( "-J-Dfile.encoding=" + ReaderFactory.FILE_ENCODING, "-J-Dhttp.proxyHost=proxy",
+                              "-J-Dhttp.proxyPort=8080" );
+        assertNull( InProcessJarSigner.getUnsupportedOption( request ) );
+
+        // the proxy is needed to contact the TSA
+        request.setTsaLocation( "http://tsa.example.org/" );
+        assertEquals( "-J-Dhttp.proxyHost=proxy", InProcessJarSigner.getUnsupportedOption( request ) );
+
+        request.setTsaLocation( null );
+        request.setArguments( "-J-Dfile.encoding=" + ReaderFactory.FILE_ENCODING + "-other" );
+        assertEquals( "-J-Dfile.encoding=" + ReaderFactory.FILE_ENCODING + "-other",
+                      InProcessJarSigner.getUnsupportedOption( request ) );
+
+        request.setArguments( " -J-Xmx64m " );
+        assertEquals( "-J-Xmx64m", InProcessJarSigner.getUnsupportedOption( request ) );
+
+        request.setArguments( "-strict" );
+        assertEquals( "arguments", InProcessJarSigner.getUnsupportedOption( request ) );
+    }
+
+    private JarSignerSignRequest newRequest()
+    {
+        JarSignerSignRequest request = new JarSignerSignRequest();
+        request.setKeystore( keystore.getPath() );
+        request.setStoretype( "PKCS12" );
+        request.setStorepass( PASSWORD );
+        request.setAlias( ALIAS );
+        request.setArchive( archive );
+        return request;
+    }
+
+    private void generateKeyStore()
+        throws Exception
+    {
+        String keytool = new File( System.getProperty( "java.home" ), "bin/keytool" ).getPath();
+        ProcessBuilder builder =
+            new ProcessBuilder( keytool, "-genkeypair", "-keystore", keystore.getPath(), "-storetype", "PKCS12",
+                                "-storepass", PASSWORD, "-keypass", PASSWORD, "-alias", ALIAS, "-keyalg", "RSA",
+                                "-keysize", "2048", "-validity", "1", "-dname", "CN=Test" );
+        Process process = builder.redirectErrorStream( true ).start();
+        String output = IOUtil.toString( process.getInputStream() );
+        assertEquals( output, 0, process.waitFor() );
+    }
+}
@@ -33,6 +33,7 @@ import com.thoughtworks.qdox.model.JavaGenericDeclaration;
 import com.thoughtworks.qdox.model.JavaMember;
 import com.thoughtworks.qdox.model.JavaMethod;
 import com.thoughtworks.qdox.model.JavaParameter;
+import com.thoughtworks.qdox.model.JavaSource;
 import com.thoughtworks.qdox.model.JavaType;
 import com.thoughtworks.qdox.model.JavaTypeVariable;
 import com.thoughtworks.qdox.parser.ParseException;
@@ -60,8 +61,11 @@ import org.codehaus.plexus.util.WriterFactory;
 
 import java.io.BufferedReader;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.io.Writer;
@@ -73,14 +77,23 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -207,6 +220,11 @@ public abstract class AbstractFixJavadocMojo
      */
     private static final String CLIRR_MAVEN_PLUGIN_GOAL = "check";
 
+    /**
+     * The suffix of the index keys recording the source files a source file depends on.
+     */
+    private static final String INDEX_DEPENDENCIES = ".dependencies";
+
     /**
      * Java Files Pattern.
      */
@@ -367,6 +385,34 @@ public abstract class AbstractFixJavadocMojo
     @Parameter ( property = "outputDirectory", defaultValue = "${project.build.sourceDirectory}" )
     private File outputDirectory;
 
+    /**
+     * The number of threads fixing the source files. Each thread parses its own share of the source files, the types
+     * of the other source files being resolved from the compiled classes.
+     *
+     * @since 3.0.1
+     */
+    @Parameter ( property = "threads", defaultValue = "1" )
+    private int threads = 1;
+
+    /**
+     * Flag to only fix the source files which changed since the last execution with the same configuration, or whose
+     * dependencies changed, as recorded in the <code>indexDirectory</code>. Only these source files are parsed, with
+     * the source files they depended on, the types of the other source files being resolved from the compiled classes.
+     *
+     * @since 3.0.1
+     */
+    @Parameter ( property = "incremental", defaultValue = "false" )
+    private boolean incremental;
+
+    /**
+     * The directory of the index recording the source files fixed by the last execution, used if
+     * <code>incremental</code> is set.
+     *
+     * @since 3.0.1
+     */
+    @Parameter ( defaultValue = "${project.build.directory}/javadoc-fix", readonly = true )
+    private File indexDirectory;
+
     /**
      * The Maven Project Object.
      */
@@ -407,8 +453,9 @@ public abstract class AbstractFixJavadocMojo
 
     /**
      * List of classes where <code>&#42;since</code> is added. Will be used to add or not this tag in the methods.
+     * Kept by thread, as the classes are only looked up while fixing their own source file.
      */
-    private List<String> sinceClasses;
+    private final ThreadLocal<List<String>> sinceClasses = new ThreadLocal<>();
 
     /**
      * {@inheritDoc}
@@ -459,20 +506,21 @@ public abstract class AbstractFixJavadocMojo
         // run qdox and process
         try
         {
-            Collection<JavaClass> javaClasses = getQdoxClasses();
+            List<File> javaFiles = getJavaFiles();
 
-            if ( javaClasses != null )
+            if ( javaFiles != null )
             {
-                for ( JavaClass javaClass : javaClasses )
-                {
-                    processFix( javaClass );
-                }
-         }
+                processFix( javaFiles );
+            }
         }
         catch ( IOException e )
         {
             throw new MojoExecutionException( "IOException: " + e.getMessage(), e );
         }
+        finally
+        {
+            sinceClasses.remove();
+        }
     }
 
     // ----------------------------------------------------------------------
@@ -870,15 +918,13 @@ public abstract class AbstractFixJavadocMojo
     }
 
     /**
-     * Calling Qdox to find {@link JavaClass} objects from the Maven project sources.
-     * Ignore java class if Qdox has parsing errors.
+     * Find the Java files of the Maven project sources.
      *
-     * @return an array of {@link JavaClass} found by QDox
-     * @throws IOException            if any
-     * @throws MojoExecutionException if any
+     * @return the Java files, or <code>null</code> if the project has no Java sources.
+     * @throws IOException if any
      */
-    private Collection<JavaClass> getQdoxClasses()
-        throws IOException, MojoExecutionException
+    private List<File> getJavaFiles()
+        throws IOException
     {
         if ( "pom".equalsIgnoreCase( project.getPackaging() ) )
         {
@@ -903,19 +949,427 @@ public abstract class AbstractFixJavadocMojo
             }
         }
 
-        ClassLibraryBuilder classLibraryBuilder = new OrderedClassLibraryBuilder();
-        classLibraryBuilder.appendClassLoader( getProjectClassLoader() );
-
-        JavaProjectBuilder builder = new JavaProjectBuilder( classLibraryBuilder );
-        builder.setEncoding( encoding );
-        for ( File f : javaFiles )
+        for ( Iterator<File> it = javaFiles.iterator(); it.hasNext(); )
         {
+            File f = it.next();
             if ( !f.getAbsolutePath().toLowerCase( Locale.ENGLISH ).endsWith( ".java" ) && getLog().isWarnEnabled() )
             {
                 getLog().warn( "'" + f + "' is not a Java file. Ignored it." );
+                it.remove();
+            }
+        }
+
+        return javaFiles;
+    }
+
+    /**
+     * Fix the given Java files, concurrently if {@link #threads} is greater than one, and only the ones which changed
+     * since the last execution if {@link #incremental} is set.
+     *
+     * @param javaFiles not null
+     * @throws IOException            if any
+     * @throws MojoExecutionException if any
+     */
+    private void processFix( List<File> javaFiles )
+        throws IOException, MojoExecutionException
+    {
+        Set<File> sourceFiles = new HashSet<>( javaFiles );
+        List<String> sourceRoots = getProjectSourceRoots( project );
+
+        // shared by the fix and test-fix goals, as their source files differ
+        File indexFile = new File( indexDirectory, "index.properties" );
+        Properties index = new Properties();
+        Collection<File> changedFiles = javaFiles;
+        if ( incremental )
+        {
+            index = readIndex( indexFile );
+            changedFiles = new ArrayList<>( javaFiles.size() );
+            for ( File f : javaFiles )
+            {
+                String stamp = getIndexStamp( f, getIndexDependencies( index, f ) );
+                if ( !stamp.equals( index.getProperty( f.getAbsolutePath() ) ) )
+                {
+                    changedFiles.add( f );
+                }
+            }
+
+            if ( getLog().isInfoEnabled() )
+            {
+                getLog().info( "Fixing " + changedFiles.size() + " source file(s) changed since the last execution, "
+                    + ( javaFiles.size() - changedFiles.size() ) + " unchanged." );
+            }
+
+            // unrecorded until fixed, in case the execution fails
+            for ( File f : changedFiles )
+            {
+                index.remove( f.getAbsolutePath() );
+                index.remove( f.getAbsolutePath() + INDEX_DEPENDENCIES );
+            }
+        }
+
+        Map<File, Set<File>> dependencies;
+        if ( threads <= 1 || changedFiles.size() <= 1 )
+        {
+            dependencies = processFix( changedFiles, index, sourceFiles, sourceRoots );
+        }
+        else
+        {
+            dependencies = processFixConcurrently( changedFiles, index, sourceFiles, sourceRoots );
+        }
+
+        if ( incremental )
+        {
+            // the files QDox couldn't parse are not recorded
+            for ( Map.Entry<File, Set<File>> fileDependencies : dependencies.entrySet() )
+            {
+                String path = fileDependencies.getKey().getAbsolutePath();
+                index.setProperty( path, getIndexStamp( fileDependencies.getKey(), fileDependencies.getValue() ) );
+                index.setProperty( path + INDEX_DEPENDENCIES,
+                                   StringUtils.join( fileDependencies.getValue().iterator(), File.pathSeparator ) );
+            }
+            writeIndex( indexFile, index );
+        }
+    }
+
+    /**
+     * Fix the given Java files with {@link #threads} threads. Each thread parses and fixes its own share of the Java
+     * files with its own QDox builder, since a QDox model isn't thread-safe.
+     *
+     * @param javaFiles not null
+     * @param index the index of the last execution, not null
+     * @param sourceFiles all the source files of the project, not null
+     * @param sourceRoots the source roots of the project, not null
+     * @return the source files each fixed Java file depends on.
+     * @throws IOException            if any
+     * @throws MojoExecutionException if any
+     */
+    private Map<File, Set<File>> processFixConcurrently( Collection<File> javaFiles, final Properties index,
+                                                         final Set<File> sourceFiles, final List<String> sourceRoots )
+        throws IOException, MojoExecutionException
+    {
+        int threadCount = Math.min( threads, javaFiles.size() );
+        List<List<File>> shares = new ArrayList<>( threadCount );
+        for ( int i = 0; i < threadCount; i++ )
+        {
+            shares.add( new ArrayList<File>() );
+        }
+        int i = 0;
+        for ( File f : javaFiles )
+        {
+            shares.get( i++ % threadCount ).add( f );
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool( threadCount );
+        try
+        {
+            List<Future<Map<File, Set<File>>>> futures = new ArrayList<>( threadCount );
+            for ( final List<File> share : shares )
+            {
+                futures.add( executor.submit( new Callable<Map<File, Set<File>>>()
+                {
+                    @Override
+                    public Map<File, Set<File>> call()
+                        throws IOException, MojoExecutionException
+                    {
+                        sinceClasses.remove();
+                        return processFix( share, index, sourceFiles, sourceRoots );
+                    }
+                } ) );
+            }
+
+            Map<File, Set<File>> dependencies = new LinkedHashMap<>();
+            for ( Future<Map<File, Set<File>>> future : futures )
+            {
+                dependencies.putAll( future.get() );
+            }
+            return dependencies;
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+            throw new MojoExecutionException( "Interrupted while fixing the Java files", e );
+        }
+        catch ( ExecutionException e )
+        {
+            if ( e.getCause() instanceof IOException )
+            {
+                throw (IOException) e.getCause();
+            }
+            if ( e.getCause() instanceof MojoExecutionException )
+            {
+                throw (MojoExecutionException) e.getCause();
+            }
+            if ( e.getCause() instanceof RuntimeException )
+            {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new MojoExecutionException( e.getCause().getMessage(), e.getCause() );
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Fix the given Java files, parsed together with the source files they depended on at the last execution. The
+     * types of the other source files are resolved from the compiled classes.
+     *
+     * @param javaFiles not null
+     * @param index the index of the last execution, not null
+     * @param sourceFiles all the source files of the project, not null
+     * @param sourceRoots the source roots of the project, not null
+     * @return the source files each fixed Java file depends on.
+     * @throws IOException            if any
+     * @throws MojoExecutionException if any
+     */
+    private Map<File, Set<File>> processFix( Collection<File> javaFiles, Properties index, Set<File> sourceFiles,
+                                             List<String> sourceRoots )
+        throws IOException, MojoExecutionException
+    {
+        Set<File> parsedFiles = new LinkedHashSet<>( javaFiles );
+        for ( File f : javaFiles )
+        {
+            for ( File dependency : getIndexDependencies( index, f ) )
+            {
+                if ( sourceFiles.contains( dependency ) && dependency.isFile() )
+                {
+                    parsedFiles.add( dependency );
+                }
+            }
+        }
+
+        Map<File, Set<File>> dependencies = new LinkedHashMap<>();
+        for ( JavaSource javaSource : getQdoxSources( parsedFiles ) )
+        {
+            File javaFile = getSourceFile( javaSource );
+            if ( !javaFiles.contains( javaFile ) )
+            {
                 continue;
             }
 
+            Set<File> files = new TreeSet<>();
+            for ( JavaClass javaClass : javaSource.getClasses() )
+            {
+                processFix( javaClass );
+
+                Map<String, JavaClass> referencedClasses = new LinkedHashMap<>();
+                collectReferencedClasses( javaClass, referencedClasses );
+                for ( JavaClass referencedClass : referencedClasses.values() )
+                {
+                    File dependency = getSourceFile( referencedClass, sourceRoots );
+                    if ( dependency != null && !dependency.equals( javaFile ) && sourceFiles.contains( dependency ) )
+                    {
+                        files.add( dependency );
+                    }
+                }
+            }
+            dependencies.put( javaFile, files );
+        }
+        return dependencies;
+    }
+
+    /**
+     * @param javaSource not null
+     * @return the source file of the given source, or <code>null</code> if it was not parsed from a file.
+     */
+    private static File getSourceFile( JavaSource javaSource )
+    {
+        if ( javaSource.getURL() == null )
+        {
+            return null;
+        }
+        return new File( javaSource.getURL().getFile() );
+    }
+
+    /**
+     * @param javaClass not null
+     * @param sourceRoots the source roots of the project, not null
+     * @return the source file of the given class, parsed or else found in the source roots from the name of the class,
+     *         or <code>null</code> if none.
+     */
+    private static File getSourceFile( JavaClass javaClass, List<String> sourceRoots )
+    {
+        if ( javaClass.getSource() != null && javaClass.getSource().getURL() != null )
+        {
+            return getSourceFile( javaClass.getSource() );
+        }
+
+        // a class resolved from the compiled classes, possibly nested in a top level class
+        for ( String name = javaClass.getFullyQualifiedName().replace( '$', '.' ); name.length() > 0;
+              name = name.substring( 0, Math.max( name.lastIndexOf( '.' ), 0 ) ) )
+        {
+            for ( String sourceRoot : sourceRoots )
+            {
+                File sourceFile = new File( sourceRoot, name.replace( '.', '/' ) + ".java" );
+                if ( sourceFile.isFile() )
+                {
+                    return sourceFile;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param index the index of the last execution, not null
+     * @param javaFile not null
+     * @return the source files the given Java file depended on at the last execution, as recorded in the index.
+     */
+    private static Set<File> getIndexDependencies( Properties index, File javaFile )
+    {
+        Set<File> dependencies = new TreeSet<>();
+        String paths = index.getProperty( javaFile.getAbsolutePath() + INDEX_DEPENDENCIES );
+        if ( StringUtils.isNotEmpty( paths ) )
+        {
+            for ( String path : paths.split( File.pathSeparator ) )
+            {
+                dependencies.add( new File( path ) );
+            }
+        }
+        return dependencies;
+    }
+
+    /**
+     * Collect the classes referenced by the given class: its super classes and interfaces, transitively, and the types
+     * of its members and of its inner classes. This resolves all these types in the QDox model.
+     *
+     * @param javaClass not null
+     * @param referencedClasses the classes collected so far, by name, not null
+     */
+    private static void collectReferencedClasses( JavaClass javaClass, Map<String, JavaClass> referencedClasses )
+    {
+        for ( JavaClass superClass = javaClass.getSuperJavaClass(); superClass != null
+            && !referencedClasses.containsKey( superClass.getFullyQualifiedName() ); superClass =
+                superClass.getSuperJavaClass() )
+        {
+            referencedClasses.put( superClass.getFullyQualifiedName(), superClass );
+            collectInterfaces( superClass, referencedClasses );
+        }
+        collectInterfaces( javaClass, referencedClasses );
+
+        for ( JavaField field : javaClass.getFields() )
+        {
+            collectType( field.getType(), referencedClasses );
+        }
+        for ( JavaConstructor constructor : javaClass.getConstructors() )
+        {
+            collectTypes( constructor, referencedClasses );
+        }
+        for ( JavaMethod method : javaClass.getMethods() )
+        {
+            collectType( method.getReturns(), referencedClasses );
+            collectTypes( method, referencedClasses );
+        }
+        for ( JavaClass nestedClass : javaClass.getNestedClasses() )
+        {
+            collectReferencedClasses( nestedClass, referencedClasses );
+        }
+    }
+
+    private static void collectInterfaces( JavaClass javaClass, Map<String, JavaClass> referencedClasses )
+    {
+        for ( JavaClass intface : javaClass.getInterfaces() )
+        {
+            if ( !referencedClasses.containsKey( intface.getFullyQualifiedName() ) )
+            {
+                referencedClasses.put( intface.getFullyQualifiedName(), intface );
+                collectInterfaces( intface, referencedClasses );
+            }
+        }
+    }
+
+    private static void collectTypes( JavaExecutable executable, Map<String, JavaClass> referencedClasses )
+    {
+        for ( JavaParameter parameter : executable.getParameters() )
+        {
+            parameter.getResolvedFullyQualifiedName();
+            collectType( parameter.getJavaClass(), referencedClasses );
+        }
+        for ( JavaClass exception : executable.getExceptions() )
+        {
+            collectType( exception, referencedClasses );
+        }
+    }
+
+    private static void collectType( JavaClass type, Map<String, JavaClass> referencedClasses )
+    {
+        if ( type != null && !type.isPrimitive() )
+        {
+            referencedClasses.put( type.getFullyQualifiedName(), type );
+        }
+    }
+
+    /**
+     * @param javaFile not null
+     * @param dependencies the source files the given Java file depends on, may be <code>null</code>
+     * @return the stamp of the given Java file, of its dependencies and of the configuration, recorded in the index.
+     */
+    private String getIndexStamp( File javaFile, Collection<File> dependencies )
+    {
+        String configuration =
+            fixClassComment + ":" + fixFieldComment + ":" + fixMethodComment + ":" + fixTags + ":" + level + ":"
+                + removeUnknownThrows + ":" + defaultAuthor + ":" + defaultSince + ":" + defaultVersion + ":"
+                + encoding + ":" + ignoreClirr + ":" + clirrNewClasses + ":" + clirrNewMethods + ":"
+                + outputDirectory;
+
+        StringBuilder dependencyStamps = new StringBuilder();
+        if ( dependencies != null )
+        {
+            for ( File dependency : dependencies )
+            {
+                dependencyStamps.append( dependency.getAbsolutePath() ).append( ':' ).append( dependency.length() )
+                    .append( ':' ).append( dependency.lastModified() ).append( ';' );
+            }
+        }
+
+        return javaFile.length() + ":" + javaFile.lastModified() + ":" + Integer.toHexString( configuration.hashCode() )
+            + ":" + Integer.toHexString( dependencyStamps.toString().hashCode() );
+    }
+
+    private static Properties readIndex( File indexFile )
+        throws IOException
+    {
+        Properties index = new Properties();
+        if ( indexFile.isFile() )
+        {
+            try ( InputStream in = new FileInputStream( indexFile ) )
+            {
+                index.load( in );
+            }
+        }
+        return index;
+    }
+
+    private static void writeIndex( File indexFile, Properties index )
+        throws IOException
+    {
+        indexFile.getAbsoluteFile().getParentFile().mkdirs();
+        try ( OutputStream out = new FileOutputStream( indexFile ) )
+        {
+            index.store( out, "Source files fixed by the javadoc:fix goal" );
+        }
+    }
+
+    /**
+     * Calling Qdox to find {@link JavaSource} objects from the given Java files, with a new builder.
+     * Ignore java file if Qdox has parsing errors.
+     *
+     * @param javaFiles not null
+     * @return the {@link JavaSource} found by QDox
+     * @throws IOException            if any
+     * @throws MojoExecutionException if any
+     */
+    private Collection<JavaSource> getQdoxSources( Collection<File> javaFiles )
+        throws IOException, MojoExecutionException
+    {
+        ClassLibraryBuilder classLibraryBuilder = new OrderedClassLibraryBuilder();
+        classLibraryBuilder.appendClassLoader( getProjectClassLoader() );
+
+        JavaProjectBuilder builder = new JavaProjectBuilder( classLibraryBuilder );
+        builder.setEncoding( encoding );
+        for ( File f : javaFiles )
+        {
             try
             {
                 builder.addSource( f );
@@ -929,14 +1383,14 @@ public abstract class AbstractFixJavadocMojo
             }
         }
 
-        return builder.getClasses();
+        return builder.getSources();
     }
 
     /**
      * @return the classLoader for the given project using lazy instantiation.
      * @throws MojoExecutionException if any
      */
-    private ClassLoader getProjectClassLoader()
+    private synchronized ClassLoader getProjectClassLoader()
         throws MojoExecutionException
     {
         if ( projectClassLoader == null )
@@ -2325,7 +2779,7 @@ public abstract class AbstractFixJavadocMojo
                         appendDefaultSinceTag( sb, indent );
                     }
                 }
-                else if ( sinceClasses != null )
+                else if ( sinceClasses.get() != null )
                 {
                     if ( entity instanceof JavaMember
                         && !sinceClassesContains( ( (JavaMember) entity ).getDeclaringClass() ) )
@@ -2423,7 +2877,7 @@ public abstract class AbstractFixJavadocMojo
                 }
                 else
                 {
-                    if ( sinceClasses != null && !sinceClassesContains( javaExecutable.getDeclaringClass() ) )
+                    if ( sinceClasses.get() != null && !sinceClassesContains( javaExecutable.getDeclaringClass() ) )
                     {
                         separatorAdded = appendDefaultSinceTag( sb, indent, separatorAdded );
                     }
@@ -3002,16 +3456,16 @@ public abstract class AbstractFixJavadocMojo
      */
     private void addSinceClasses( JavaClass javaClass )
     {
-        if ( sinceClasses == null )
+        if ( sinceClasses.get() == null )
         {
-            sinceClasses = new ArrayList<>();
+            sinceClasses.set( new ArrayList<String>() );
         }
-        sinceClasses.add( javaClass.getFullyQualifiedName() );
+        sinceClasses.get().add( javaClass.getFullyQualifiedName() );
     }
 
     private boolean sinceClassesContains( JavaClass javaClass )
     {
-        return sinceClasses.contains( javaClass.getFullyQualifiedName() );
+        return sinceClasses.get().contains( javaClass.getFullyQualifiedName() );
     }
 
     // ----------------------------------------------------------------------
@@ -24,6 +24,7 @@ import static org.apache.maven.plugins.javadoc.JavadocUtil.isNotEmpty;
 import static org.apache.maven.plugins.javadoc.JavadocUtil.toList;
 import static org.apache.maven.plugins.javadoc.JavadocUtil.toRelative;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
@@ -33,13 +34,17 @@ import java.io.OutputStream;
 import java.io.Writer;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.math.BigInteger;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
@@ -56,6 +61,13 @@ import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -135,6 +147,7 @@ import org.codehaus.plexus.util.WriterFactory;
 import org.codehaus.plexus.util.cli.CommandLineException;
 import org.codehaus.plexus.util.cli.CommandLineUtils;
 import org.codehaus.plexus.util.cli.Commandline;
+import org.codehaus.plexus.util.cli.StreamConsumer;
 import org.codehaus.plexus.util.xml.Xpp3Dom;
 
 /**
@@ -302,6 +315,24 @@ public abstract class AbstractJavadocMojo
     // JAVA_VERSION can have -ea suffix, which is not supported (yet)
     private static final JavadocVersion JAVA_VERSION = JavadocVersion.parse( SystemUtils.JAVA_SPECIFICATION_VERSION );
 
+    /**
+     * The versions of the Javadoc Tool executables already detected, by canonical executable path and modification
+     * time, so that an executable replaced in place is detected again.
+     */
+    private static final Map<String, JavadocVersion> JAVADOC_VERSIONS = new ConcurrentHashMap<>();
+
+    /**
+     * The options of the Javadoc Tool whose values are paths or lists of paths.
+     */
+    private static final List<String> PATH_OPTIONS =
+        Arrays.asList( "-bootclasspath", "-classpath", "-d", "-docletpath", "-extdirs", "-helpfile", "-overview",
+                       "-sourcepath", "-stylesheetfile", "-tagletpath" );
+
+    /**
+     * The maximum number of links of a module validated concurrently.
+     */
+    private static final int MAX_LINK_VALIDATION_THREADS = 8;
+
     // ----------------------------------------------------------------------
     // Mojo components
     // ----------------------------------------------------------------------
@@ -492,6 +523,60 @@ public abstract class AbstractJavadocMojo
      */
     private JavadocVersion javadocRuntimeVersion;
 
+    /**
+     * Specifies whether the Javadoc Tool is run in a separate process. If <code>false</code>, the Javadoc Tool of the
+     * JDK running Maven is called in-process with the <code>javax.tools.DocumentationTool</code> API, which avoids to
+     * start a new JVM for each execution.
+     * <br/>
+     * The Javadoc Tool is still forked if a toolchain or the <code>javadocExecutable</code> parameter is used, if JVM
+     * options are required, e.g. by the <code>maxmemory</code>, <code>additionalJOption</code> parameters or an active
+     * proxy, or if the JDK running Maven doesn't provide the API, which requires Java 8.
+     *
+     * @since 3.0.1
+     */
+    @Parameter( property = "maven.javadoc.fork", defaultValue = "true" )
+    private boolean fork = true;
+
+    /**
+     * Whether the Javadoc Tool of the current execution is run in-process.
+     */
+    private boolean inProcess;
+
+    /**
+     * The cache of the <code>package-list</code> resources, if {@link #linksCache} is set.
+     */
+    private PackageListCache packageListCache;
+
+    /**
+     * Specifies whether the Javadoc generation is skipped when nothing changed since the last execution. The
+     * fingerprint of an execution covers the Javadoc Tool, the effective options, the files of the source paths and of
+     * the <code>javadocDirectory</code>, and the class path elements. The content of the links is not covered.
+     * <br/>
+     * The <code>jar</code> goals also reuse the previous archive, if it was created after the last generation.
+     *
+     * @since 3.0.1
+     */
+    @Parameter( property = "maven.javadoc.incremental", defaultValue = "false" )
+    private boolean incremental;
+
+    /**
+     * Directory into which the fingerprints of the executions are written, if <code>incremental</code> is set.
+     *
+     * @since 3.0.1
+     */
+    @Parameter( defaultValue = "${project.build.directory}/javadoc-fingerprints", readonly = true )
+    private File fingerprintsDirectory;
+
+    /**
+     * Whether the output of the current execution was up to date, so the Javadoc Tool was not run.
+     */
+    private boolean upToDate;
+
+    /**
+     * The class path or module path elements given to the Javadoc Tool.
+     */
+    private List<File> pathElements = Collections.emptyList();
+
     /**
      * Specifies whether the Javadoc generation should be skipped.
      *
@@ -615,6 +700,40 @@ public abstract class AbstractJavadocMojo
     @Parameter( property = "validateLinks", defaultValue = "false" )
     private boolean validateLinks;
 
+    /**
+     * Flag controlling the cache of the <code>package-list</code> resources of the remote links. If set, the
+     * <code>package-list</code> resources are fetched once in the {@link #linksCacheDirectory}, and the remote links
+     * whose <code>package-list</code> is cached are given to Javadoc as <code>-linkoffline</code> options, so that
+     * Javadoc doesn't fetch them again.
+     *
+     * @see #linksCacheDirectory
+     * @see #linksCacheTtl
+     * @since 3.0.1
+     */
+    @Parameter( property = "maven.javadoc.linksCache", defaultValue = "false" )
+    private boolean linksCache;
+
+    /**
+     * The directory of the cache of the <code>package-list</code> resources, which may be shared by several builds.
+     * <br/>
+     * Default value is <code>.cache/maven-javadoc-plugin/links</code> in the local repository.
+     *
+     * @see #linksCache
+     * @since 3.0.1
+     */
+    @Parameter( property = "maven.javadoc.linksCacheDirectory" )
+    private File linksCacheDirectory;
+
+    /**
+     * The time to live of a cached <code>package-list</code> resource, in minutes. An expired
+     * <code>package-list</code> is fetched again, but still used if fetching it fails.
+     *
+     * @see #linksCache
+     * @since 3.0.1
+     */
+    @Parameter( property = "maven.javadoc.linksCacheTtl", defaultValue = "1440" )
+    private int linksCacheTtl;
+
     // ----------------------------------------------------------------------
     // Javadoc Options - all alphabetical
     // ----------------------------------------------------------------------
@@ -1638,6 +1757,27 @@ public abstract class AbstractJavadocMojo
     @Parameter( defaultValue = "${project.build.directory}/distro-javadoc-sources" )
     private File sourceDependencyCacheDir;
 
+    /**
+     * Directory where the dependency -sources jars and javadoc resources bundles are unpacked, in a sub-directory
+     * named after the SHA-1 checksum of the jar, so that they are unpacked once for all the projects and builds using
+     * this directory. If not set, they are unpacked in the <code>sourceDependencyCacheDir</code> by each build.
+     *
+     * @see #includeDependencySources
+     * @since 3.0.1
+     */
+    @Parameter( property = "maven.javadoc.sharedDependencySourcesCacheDir" )
+    private File sharedDependencySourcesCacheDir;
+
+    /**
+     * The maximum number of dependency -sources jars and javadoc resources bundles resolved and unpacked
+     * concurrently. The default value <code>0</code> uses the number of available processors.
+     *
+     * @see #includeDependencySources
+     * @since 3.0.1
+     */
+    @Parameter( property = "maven.javadoc.dependencySourcesThreads", defaultValue = "0" )
+    private int dependencySourcesThreads;
+
     /**
      * Whether to include transitive dependencies in the list of dependency -sources jars to include
      * in this javadoc run.
@@ -2004,6 +2144,8 @@ public abstract class AbstractJavadocMojo
         {
             throw new MavenReportException( "Unable to find javadoc command: " + e.getMessage(), e );
         }
+        // getJavadocExecutable() sets javadocExecutable when using a toolchain
+        inProcess = !fork && StringUtils.isEmpty( javadocExecutable ) && InProcessJavadoc.isAvailable();
         setFJavadocVersion( new File( jExecutable ) );
 
         // ----------------------------------------------------------------------
@@ -2128,7 +2270,21 @@ public abstract class AbstractJavadocMojo
         // Execute command line
         // ----------------------------------------------------------------------
 
-        executeJavadocCommandLine( cmd, javadocOutputDirectory );
+        String fingerprint = null;
+        if ( incremental )
+        {
+            fingerprint = computeFingerprint( cmd, javadocOutputDirectory, collectedSourcePaths );
+            upToDate = isUpToDate( fingerprint );
+        }
+
+        if ( upToDate )
+        {
+            getLog().info( "Skipping javadoc generation, nothing changed since the last execution" );
+        }
+        else
+        {
+            executeJavadocCommandLine( cmd, javadocOutputDirectory );
+        }
 
         // delete generated javadoc files only if no error and no debug mode
         // [MJAVADOC-336] Use File.delete() instead of File.deleteOnExit() to
@@ -2157,6 +2313,10 @@ public abstract class AbstractJavadocMojo
                 scriptFile.delete();
             }
         }
+        if ( upToDate )
+        {
+            return;
+        }
         if ( applyJavadocSecurityFix )
         {
             // finally, patch the Javadoc vulnerability in older Javadoc tools (CVE-2013-1571):
@@ -2179,6 +2339,176 @@ public abstract class AbstractJavadocMojo
         {
           getLog().info( "applying javadoc security fix has been disabled" );
         }
+
+        if ( fingerprint != null )
+        {
+            try
+            {
+                FileUtils.fileWrite( getFingerprintFile(), "UTF-8", fingerprint );
+            }
+            catch ( IOException e )
+            {
+                throw new MavenReportException( "Unable to write the javadoc fingerprint: " + e.getMessage(), e );
+            }
+        }
+    }
+
+    /**
+     * @return <code>true</code> if the Javadoc Tool was not run by the current execution, because its output was up
+     *         to date.
+     * @see #incremental
+     * @since 3.0.1
+     */
+    protected final boolean isUpToDate()
+    {
+        return upToDate;
+    }
+
+    /**
+     * @return the file of the fingerprint of the last execution generating the output directory.
+     * @see #incremental
+     * @since 3.0.1
+     */
+    protected final File getFingerprintFile()
+    {
+        String outputDirectory = new File( getOutputDirectory() ).getAbsolutePath();
+        MessageDigest digest = getSha1Digest();
+        digest.update( outputDirectory.getBytes( StandardCharsets.UTF_8 ) );
+        return new File( fingerprintsDirectory, toHex( digest.digest() ) + ".sha1" );
+    }
+
+    /**
+     * @param fingerprint the fingerprint of the current execution, not null.
+     * @return <code>true</code> if the fingerprint of the last execution is the same, and its output still exists.
+     * @throws MavenReportException if any
+     */
+    private boolean isUpToDate( String fingerprint )
+        throws MavenReportException
+    {
+        File fingerprintFile = getFingerprintFile();
+        try
+        {
+            if ( fingerprintFile.isFile() && fingerprint.equals( FileUtils.fileRead( fingerprintFile, "UTF-8" ) )
+                && new File( getOutputDirectory(), "index.html" ).exists() )
+            {
+                return true;
+            }
+
+            // the output is not up to date anymore, even if the execution fails
+            Files.deleteIfExists( fingerprintFile.toPath() );
+            fingerprintFile.getAbsoluteFile().getParentFile().mkdirs();
+            return false;
+        }
+        catch ( IOException e )
+        {
+            throw new MavenReportException( "Unable to read the javadoc fingerprint: " + e.getMessage(), e );
+        }
+    }
+
+    /**
+     * Computes the fingerprint of the current execution: the Javadoc Tool and its arguments, with the content of the
+     * argument files, the javadoc options file, and the name, length and last modification date of the files of the
+     * source paths, of the <code>javadocDirectory</code> and of the class path elements.
+     *
+     * @param cmd the command line of the Javadoc Tool, not null.
+     * @param javadocOutputDirectory the directory of the argument files, not null.
+     * @param sourcePaths the source paths, not null.
+     * @return the fingerprint, as an hexadecimal SHA-1 string.
+     * @throws MavenReportException if any
+     */
+    private String computeFingerprint( Commandline cmd, File javadocOutputDirectory, Collection<String> sourcePaths )
+        throws MavenReportException
+    {
+        MessageDigest digest = getSha1Digest();
+        try
+        {
+            updateDigest( digest, cmd.getExecutable() + '\n' + javadocRuntimeVersion + '\n' );
+            for ( String argument : cmd.getArguments() )
+            {
+                updateDigest( digest, argument + '\n' );
+
+                if ( argument.trim().startsWith( "@" ) )
+                {
+                    File argumentFile = new File( javadocOutputDirectory, argument.trim().substring( 1 ) );
+                    if ( argumentFile.isFile() )
+                    {
+                        digest.update( Files.readAllBytes( argumentFile.toPath() ) );
+                    }
+                }
+            }
+
+            File javadocOptionsFile = getJavadocOptionsFile();
+            if ( javadocOptionsFile.isFile() )
+            {
+                digest.update( Files.readAllBytes( javadocOptionsFile.toPath() ) );
+            }
+
+            for ( String sourcePath : sourcePaths )
+            {
+                updateDigest( digest, new File( sourcePath ) );
+            }
+            if ( getJavadocDirectory() != null )
+            {
+                updateDigest( digest, getJavadocDirectory() );
+            }
+            for ( File pathElement : pathElements )
+            {
+                updateDigest( digest, pathElement );
+            }
+        }
+        catch ( IOException e )
+        {
+            throw new MavenReportException( "Unable to compute the javadoc fingerprint: " + e.getMessage(), e );
+        }
+        return toHex( digest.digest() );
+    }
+
+    /**
+     * Updates a digest with the name, length and last modification date of a file, or of the files of a directory.
+     *
+     * @param digest not null
+     * @param file not null
+     */
+    private static void updateDigest( MessageDigest digest, File file )
+    {
+        if ( file.isDirectory() )
+        {
+            File[] children = file.listFiles();
+            if ( children != null )
+            {
+                Arrays.sort( children );
+                for ( File child : children )
+                {
+                    updateDigest( digest, child );
+                }
+            }
+        }
+        else
+        {
+            updateDigest( digest, file.getAbsolutePath() + ':' + file.length() + ':' + file.lastModified() + '\n' );
+        }
+    }
+
+    private static void updateDigest( MessageDigest digest, String string )
+    {
+        digest.update( string.getBytes( StandardCharsets.UTF_8 ) );
+    }
+
+    private static MessageDigest getSha1Digest()
+    {
+        try
+        {
+            return MessageDigest.getInstance( "SHA-1" );
+        }
+        catch ( NoSuchAlgorithmException e )
+        {
+            throw new IllegalStateException( e );
+        }
+    }
+
+    private static String toHex( byte[] bytes )
+    {
+        return String.format( "%0" + ( bytes.length * 2 ) + "x", new BigInteger( 1, bytes ) );
     }
 
     protected final Collection<String> collect( Collection<Collection<String>> sourcePaths )
@@ -2427,9 +2757,12 @@ public abstract class AbstractJavadocMojo
      */
     private SourceResolverConfig getDependencySourceResolverConfig()
     {
+        int threads =
+            dependencySourcesThreads > 0 ? dependencySourcesThreads : Runtime.getRuntime().availableProcessors();
         return configureDependencySourceResolution(
                         new SourceResolverConfig( project, session.getProjectBuildingRequest(),
-                                                  sourceDependencyCacheDir ).withReactorProjects( reactorProjects ) );
+                                                  sourceDependencyCacheDir ).withReactorProjects( reactorProjects )
+                            .withSharedCacheDirectory( sharedDependencySourcesCacheDir ).withThreads( threads ) );
     }
 
     /**
@@ -3734,7 +4067,21 @@ public abstract class AbstractJavadocMojo
         JavadocVersion jVersion;
         try
         {
-            jVersion = JavadocUtil.getJavadocVersion( jExecutable );
+            if ( inProcess )
+            {
+                jVersion = JAVA_VERSION;
+            }
+            else
+            {
+                File canonicalExecutable = jExecutable.getCanonicalFile();
+                String key = canonicalExecutable.getPath() + '@' + canonicalExecutable.lastModified();
+                jVersion = JAVADOC_VERSIONS.get( key );
+                if ( jVersion == null )
+                {
+                    jVersion = JavadocUtil.getJavadocVersion( jExecutable );
+                    JAVADOC_VERSIONS.put( key, jVersion );
+                }
+            }
         }
         catch ( IOException e )
         {
@@ -4025,6 +4372,16 @@ public abstract class AbstractJavadocMojo
 
         offlineLinksList.addAll( getModulesLinks() );
 
+        List<String> locations = new ArrayList<>();
+        for ( OfflineLink offlineLink : offlineLinksList )
+        {
+            if ( StringUtils.isNotEmpty( offlineLink.getUrl() ) && StringUtils.isNotEmpty( offlineLink.getLocation() ) )
+            {
+                locations.add( offlineLink.getLocation() );
+            }
+        }
+        Set<String> validLocations = new HashSet<>( getValidJavadocLinks( locations, false ) );
+
         for ( OfflineLink offlineLink : offlineLinksList )
         {
             String url = offlineLink.getUrl();
@@ -4039,8 +4396,14 @@ public abstract class AbstractJavadocMojo
             {
                 continue;
             }
-            if ( isValidJavadocLink( location, false ) )
+            if ( validLocations.contains( location ) )
             {
+                File cachedLocation = getCachedPackageListDirectory( location );
+                if ( cachedLocation != null )
+                {
+                    location = cachedLocation.getAbsolutePath();
+                }
+
                 addArgIfNotEmpty( arguments, "-linkoffline",
                                   JavadocUtil.quotedPathArgument( url ) + " " + JavadocUtil.quotedPathArgument(
                                       location ), true );
@@ -4060,10 +4423,13 @@ public abstract class AbstractJavadocMojo
      * <li>Javadoc 1.4 and less throw an exception</li>
      * <li>Javadoc 1.5 and more display a warning</li>
      * </ul>
+     * If {@link #linksCache}, the remote links whose <code>package-list</code> is cached are given as
+     * <code>-linkoffline</code> options instead.
      *
      * @param arguments a list of arguments, not null
      * @throws MavenReportException
      * @see #detectLinks
+     * @see #linksCache
      * @see #getDependenciesLinks()
      * @see <a href="http://docs.oracle.com/javase/7/docs/technotes/tools/windows/javadoc.html#package-list">package-list spec</a>
      */
@@ -4072,6 +4438,7 @@ public abstract class AbstractJavadocMojo
     {
         Set<String> links = collectLinks();
 
+        List<String> cleanLinks = new ArrayList<>();
         for ( String link : links )
         {
             if ( StringUtils.isEmpty( link ) )
@@ -4084,7 +4451,35 @@ public abstract class AbstractJavadocMojo
                 link = link.substring( 0, link.lastIndexOf( "/" ) );
             }
 
-            addArgIfNotEmpty( arguments, "-link", JavadocUtil.quotedPathArgument( link ), true, false );
+            cleanLinks.add( link );
+        }
+
+        if ( linksCache )
+        {
+            // fetches the package-list of all the remote links concurrently
+            List<String> remoteLinks = new ArrayList<>();
+            for ( String link : cleanLinks )
+            {
+                if ( isRemoteLink( link ) )
+                {
+                    remoteLinks.add( link );
+                }
+            }
+            getValidJavadocLinks( remoteLinks, true );
+        }
+
+        for ( String link : cleanLinks )
+        {
+            File cachedLocation = getCachedPackageListDirectory( link );
+            if ( cachedLocation != null )
+            {
+                addArgIfNotEmpty( arguments, "-linkoffline", JavadocUtil.quotedPathArgument( link ) + " "
+                    + JavadocUtil.quotedPathArgument( cachedLocation.getAbsolutePath() ), true );
+            }
+            else
+            {
+                addArgIfNotEmpty( arguments, "-link", JavadocUtil.quotedPathArgument( link ), true, false );
+            }
         }
     }
 
@@ -4678,6 +5073,8 @@ public abstract class AbstractJavadocMojo
             addArgIf( arguments, breakiterator, "-breakiterator", SINCE_JAVADOC_1_5 );
         }
 
+        pathElements = getPathElements();
+
         List<String> roots = getProjectSourceRoots( getProject() );
         
         File mainDescriptor = findMainDescriptor( roots );
@@ -4687,7 +5084,7 @@ public abstract class AbstractJavadocMojo
         if ( mainDescriptor != null && !isTest() )
         {
             ResolvePathsRequest<File> request =
-                ResolvePathsRequest.withFiles( getPathElements() ).setMainModuleDescriptor( mainDescriptor );
+                ResolvePathsRequest.withFiles( pathElements ).setMainModuleDescriptor( mainDescriptor );
             try
             {
                 ResolvePathsResult<File> result = locationManager.resolvePaths( request );
@@ -4713,7 +5110,7 @@ public abstract class AbstractJavadocMojo
         }
         else
         {
-            String classpath = StringUtils.join( getPathElements().iterator(), File.pathSeparator );
+            String classpath = StringUtils.join( pathElements.iterator(), File.pathSeparator );
             addArgIfNotEmpty( arguments, "-classpath", JavadocUtil.quotedPathArgument( classpath ) );
         }
 
@@ -5252,7 +5649,27 @@ public abstract class AbstractJavadocMojo
         CommandLineUtils.StringStreamConsumer out = new CommandLineUtils.StringStreamConsumer();
         try
         {
-            int exitCode = CommandLineUtils.executeCommandLine( cmd, out, err );
+            int exitCode;
+            String[] inProcessArguments = null;
+            if ( inProcess )
+            {
+                try
+                {
+                    inProcessArguments = getInProcessArguments( cmd, javadocOutputDirectory );
+                }
+                catch ( IOException e )
+                {
+                    throw new MavenReportException( "Unable to read the javadoc arguments: " + e.getMessage(), e );
+                }
+            }
+            if ( inProcessArguments != null )
+            {
+                exitCode = executeJavadocInProcess( inProcessArguments, out, err );
+            }
+            else
+            {
+                exitCode = CommandLineUtils.executeCommandLine( cmd, out, err );
+            }
 
             String output = ( StringUtils.isEmpty( out.getOutput() ) ? null : '\n' + out.getOutput().trim() );
 
@@ -5323,6 +5740,146 @@ public abstract class AbstractJavadocMojo
         }
     }
 
+    /**
+     * Gets the arguments to run the Javadoc Tool in-process, with the argument files resolved against the working
+     * directory of the command line. The in-process Javadoc Tool resolves the relative paths against the working
+     * directory of Maven instead, so it is only used if the arguments have none.
+     *
+     * @param cmd                    not null
+     * @param javadocOutputDirectory not null
+     * @return the arguments, or <code>null</code> if the command line has JVM options or relative paths, which
+     *         require to fork
+     * @throws IOException if an argument file could not be read
+     */
+    private String[] getInProcessArguments( Commandline cmd, File javadocOutputDirectory )
+        throws IOException
+    {
+        String[] arguments = cmd.getArguments();
+        String[] inProcessArguments = new String[arguments.length];
+        for ( int i = 0; i < arguments.length; i++ )
+        {
+            String arg = arguments[i];
+            if ( arg.startsWith( "-J" ) )
+            {
+                getLog().debug( "Forking the javadoc tool because of the JVM option " + arg );
+                return null;
+            }
+            if ( arg.startsWith( "@" ) )
+            {
+                File argFile = new File( javadocOutputDirectory, arg.substring( 1 ) );
+                // the packages file holds package names, the other argument files options and source files
+                if ( !PACKAGES_FILE_NAME.equals( argFile.getName() ) && hasRelativePaths( argFile ) )
+                {
+                    getLog().debug( "Forking the javadoc tool because of the relative paths in " + argFile );
+                    return null;
+                }
+                arg = "@" + argFile.getAbsolutePath();
+            }
+            else if ( hasRelativePaths( new String[] { arg } ) )
+            {
+                getLog().debug( "Forking the javadoc tool because of the relative path " + arg );
+                return null;
+            }
+            inProcessArguments[i] = arg;
+        }
+        return inProcessArguments;
+    }
+
+    /**
+     * @param argFile an argument file of the Javadoc Tool, not null
+     * @return <code>true</code> if the options or the source files of the argument file have relative paths, or if
+     *         it can't be parsed
+     * @throws IOException if the file could not be read
+     */
+    private static boolean hasRelativePaths( File argFile )
+        throws IOException
+    {
+        // written in the platform encoding
+        for ( String line : FileUtils.fileRead( argFile ).split( "\\r?\\n" ) )
+        {
+            String[] tokens;
+            try
+            {
+                tokens = CommandLineUtils.translateCommandline( line );
+            }
+            catch ( Exception e )
+            {
+                return true;
+            }
+            if ( hasRelativePaths( tokens ) )
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param tokens the unquoted tokens of a line of arguments, not null
+     * @return <code>true</code> if the tokens are a relative source file, or have a path option with a relative path
+     */
+    private static boolean hasRelativePaths( String[] tokens )
+    {
+        if ( tokens.length == 1 && !tokens[0].startsWith( "-" ) )
+        {
+            return isRelativePath( tokens[0] );
+        }
+        for ( int i = 0; i < tokens.length; i++ )
+        {
+            if ( PATH_OPTIONS.contains( tokens[i] ) && i + 1 < tokens.length )
+            {
+                for ( String path : tokens[i + 1].split( File.pathSeparator ) )
+                {
+                    if ( isRelativePath( path ) )
+                    {
+                        return true;
+                    }
+                }
+            }
+            // the second value of -linkoffline is the location of the package list, a path or an URL
+            if ( "-linkoffline".equals( tokens[i] ) && i + 2 < tokens.length && isRelativePath( tokens[i + 2] ) )
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isRelativePath( String path )
+    {
+        return path.length() > 0 && !path.contains( ":/" ) && !new File( path ).isAbsolute();
+    }
+
+    /**
+     * Runs the Javadoc Tool in-process.
+     *
+     * @param arguments not null
+     * @param out       the consumer of the notices, not null
+     * @param err       the consumer of the warnings and errors, not null
+     * @return the exit code of the Javadoc Tool
+     */
+    private int executeJavadocInProcess( String[] arguments, StreamConsumer out, StreamConsumer err )
+    {
+        getLog().debug( "Running the javadoc tool in-process" );
+
+        ByteArrayOutputStream outStream = new ByteArrayOutputStream();
+        ByteArrayOutputStream errStream = new ByteArrayOutputStream();
+        int exitCode = InProcessJavadoc.execute( outStream, errStream, arguments );
+
+        consumeLines( outStream.toString(), out );
+        consumeLines( errStream.toString(), err );
+        return exitCode;
+    }
+
+    private static void consumeLines( String output, StreamConsumer consumer )
+    {
+        StringTokenizer token = new StringTokenizer( output, "\r\n" );
+        while ( token.hasMoreTokens() )
+        {
+            consumer.consumeLine( token.nextToken() );
+        }
+    }
+
     /**
      * Patches the given Javadoc output directory to work around CVE-2013-1571
      * (see http://www.kb.cert.org/vuls/id/225657).
@@ -5683,7 +6240,7 @@ public abstract class AbstractJavadocMojo
 
         getLog().debug( "Trying to add links for dependencies..." );
 
-        List<String> dependenciesLinks = new ArrayList<>();
+        Map<String, String> detectedLinks = new LinkedHashMap<>();
 
         final Set<Artifact> dependencies = project.getDependencyArtifacts();
         for ( Artifact artifact : dependencies )
@@ -5700,14 +6257,7 @@ public abstract class AbstractJavadocMojo
 
                 if ( StringUtils.isNotEmpty( artifactProject.getUrl() ) )
                 {
-                    String url = getJavadocLink( artifactProject );
-
-                    if ( isValidJavadocLink( url, true ) )
-                    {
-                        getLog().debug( "Added Javadoc link: " + url + " for " + artifactProject.getId() );
-
-                        dependenciesLinks.add( url );
-                    }
+                    detectedLinks.put( getJavadocLink( artifactProject ), artifactProject.getId() );
                 }
             }
             catch ( ProjectBuildingException e )
@@ -5716,6 +6266,12 @@ public abstract class AbstractJavadocMojo
             }
         }
 
+        List<String> dependenciesLinks = getValidJavadocLinks( detectedLinks.keySet(), true );
+        for ( String url : dependenciesLinks )
+        {
+            getLog().debug( "Added Javadoc link: " + url + " for " + detectedLinks.get( url ) );
+        }
+
         return dependenciesLinks;
     }
 
@@ -5838,9 +6394,7 @@ public abstract class AbstractJavadocMojo
         try
         {
             URI linkUri;
-            if ( link.trim().toLowerCase( Locale.ENGLISH ).startsWith( "http:" ) || link.trim().toLowerCase(
-                Locale.ENGLISH ).startsWith( "https:" ) || link.trim().toLowerCase( Locale.ENGLISH ).startsWith(
-                "ftp:" ) || link.trim().toLowerCase( Locale.ENGLISH ).startsWith( "file:" ) )
+            if ( isRemoteLink( link ) || link.trim().toLowerCase( Locale.ENGLISH ).startsWith( "file:" ) )
             {
                 linkUri = new URI( link + "/package-list" );
             }
@@ -5866,7 +6420,17 @@ public abstract class AbstractJavadocMojo
                 linkUri = new File( dir, "package-list" ).toURI();
             }
 
-            if ( !JavadocUtil.isValidPackageList( linkUri.toURL(), settings, validateLinks ) )
+            boolean valid;
+            if ( linksCache && isRemoteLink( link ) )
+            {
+                valid = getPackageListCache().getPackageListDirectory( linkUri.toURL() ) != null;
+            }
+            else
+            {
+                valid = JavadocUtil.isValidPackageList( linkUri.toURL(), settings, validateLinks );
+            }
+
+            if ( !valid )
             {
                 if ( getLog().isErrorEnabled() )
                 {
@@ -5917,6 +6481,131 @@ public abstract class AbstractJavadocMojo
         }
     }
 
+    /**
+     * Validates the given links concurrently.
+     *
+     * @param links the links, not null
+     * @param detecting <code>true</code> if the links are generated by
+     * <code>detectLinks</code>, or <code>false</code> otherwise
+     * @return the valid links, in the order of the given links.
+     * @see #isValidJavadocLink(String, boolean)
+     * @since 3.0.1
+     */
+    private List<String> getValidJavadocLinks( Collection<String> links, final boolean detecting )
+    {
+        List<String> validLinks = new ArrayList<>();
+        if ( links.size() <= 1 )
+        {
+            for ( String link : links )
+            {
+                if ( isValidJavadocLink( link, detecting ) )
+                {
+                    validLinks.add( link );
+                }
+            }
+            return validLinks;
+        }
+
+        ExecutorService executor =
+            Executors.newFixedThreadPool( Math.min( links.size(), MAX_LINK_VALIDATION_THREADS ) );
+        try
+        {
+            Map<String, Future<Boolean>> results = new LinkedHashMap<>();
+            for ( final String link : links )
+            {
+                results.put( link, executor.submit( new Callable<Boolean>()
+                {
+                    @Override
+                    public Boolean call()
+                    {
+                        return isValidJavadocLink( link, detecting );
+                    }
+                } ) );
+            }
+
+            for ( Map.Entry<String, Future<Boolean>> result : results.entrySet() )
+            {
+                try
+                {
+                    if ( result.getValue().get() )
+                    {
+                        validLinks.add( result.getKey() );
+                    }
+                }
+                catch ( ExecutionException e )
+                {
+                    logError( "Error validating link: " + result.getKey() + ". Ignored it.", e.getCause() );
+                }
+            }
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+        return validLinks;
+    }
+
+    /**
+     * @param link not null
+     * @return <code>true</code> if the link is an <code>http</code>, <code>https</code> or <code>ftp</code> URL.
+     * @since 3.0.1
+     */
+    private static boolean isRemoteLink( String link )
+    {
+        String lowerCaseLink = link.trim().toLowerCase( Locale.ENGLISH );
+        return lowerCaseLink.startsWith( "http:" ) || lowerCaseLink.startsWith( "https:" )
+            || lowerCaseLink.startsWith( "ftp:" );
+    }
+
+    /**
+     * @return the cache of the <code>package-list</code> resources, created at the first call.
+     * @see #linksCacheDirectory
+     * @since 3.0.1
+     */
+    private synchronized PackageListCache getPackageListCache()
+    {
+        if ( packageListCache == null )
+        {
+            File directory = linksCacheDirectory;
+            if ( directory == null )
+            {
+                directory = new File( localRepository.getBasedir(), ".cache/maven-javadoc-plugin/links" );
+            }
+            packageListCache =
+                new PackageListCache( directory, TimeUnit.MINUTES.toMillis( linksCacheTtl ), settings, validateLinks,
+                                      getLog() );
+        }
+        return packageListCache;
+    }
+
+    /**
+     * @param link not null
+     * @return if {@link #linksCache}, the directory of the cached <code>package-list</code> of a remote link, to be
+     *         used as the location of a <code>-linkoffline</code> option, or <code>null</code> if it can't be cached.
+     * @since 3.0.1
+     */
+    private File getCachedPackageListDirectory( String link )
+    {
+        if ( !linksCache || !isRemoteLink( link ) )
+        {
+            return null;
+        }
+
+        try
+        {
+            return getPackageListCache().getPackageListDirectory( new URI( link + "/package-list" ).toURL() );
+        }
+        catch ( URISyntaxException | IOException e )
+        {
+            getLog().debug( "Unable to cache the package-list of " + link + ": " + e.getMessage() );
+            return null;
+        }
+    }
+
     /**
      * Write a debug javadoc script in case of command line error or in debug mode.
      *
@@ -0,0 +1,78 @@
+package org.apache.maven.plugins.javadoc;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.OutputStream;
+
+import javax.tools.DocumentationTool;
+import javax.tools.ToolProvider;
+
+import org.apache.commons.lang3.JavaVersion;
+import org.apache.commons.lang3.SystemUtils;
+
+/**
+ * Runs the Javadoc tool of the current JDK in-process, through the <code>javax.tools</code> API.
+ * <p>
+ * <strong>Note: </strong> The API is only available since Java 8, so this class must not be loaded before
+ * {@link #isAvailable()} returned <code>true</code>.
+ * </p>
+ *
+ * @since 3.0.1
+ */
+final class InProcessJavadoc
+{
+    private InProcessJavadoc()
+    {
+        // utility class
+    }
+
+    /**
+     * @return <code>true</code> if the current JVM provides a documentation tool.
+     */
+    static boolean isAvailable()
+    {
+        return SystemUtils.isJavaVersionAtLeast( JavaVersion.JAVA_1_8 ) && Holder.getTool() != null;
+    }
+
+    /**
+     * Runs the Javadoc tool.
+     *
+     * @param out the stream for the notices of the tool.
+     * @param err the stream for the warnings and errors of the tool.
+     * @param arguments the arguments, as for the <code>javadoc</code> executable but without the <code>-J</code>
+     *            options, and with absolute paths to the argument files.
+     * @return the exit code of the tool, <code>0</code> for success.
+     */
+    static int execute( OutputStream out, OutputStream err, String... arguments )
+    {
+        return Holder.getTool().run( null, out, err, arguments );
+    }
+
+    /**
+     * Isolates the references to the Java 8 API, so that the enclosing class can be loaded on Java 7.
+     */
+    private static class Holder
+    {
+        private static DocumentationTool getTool()
+        {
+            return ToolProvider.getSystemDocumentationTool();
+        }
+    }
+}
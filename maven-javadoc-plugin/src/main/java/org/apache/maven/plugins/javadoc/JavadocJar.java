@@ -202,7 +202,16 @@ public class JavadocJar
         {
             try
             {
-                File outputFile = generateArchive( innerDestDir, finalName + "-" + getClassifier() + ".jar" );
+                String jarFileName = finalName + "-" + getClassifier() + ".jar";
+                File outputFile = new File( jarOutputDirectory, jarFileName );
+                if ( isUpToDate() && outputFile.lastModified() >= getFingerprintFile().lastModified() )
+                {
+                    getLog().info( "Reusing " + outputFile + ", nothing changed since it was created" );
+                }
+                else
+                {
+                    outputFile = generateArchive( innerDestDir, jarFileName );
+                }
 
                 if ( !attach )
                 {
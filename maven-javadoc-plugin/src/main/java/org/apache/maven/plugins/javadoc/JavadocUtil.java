@@ -1637,6 +1637,31 @@ public class JavadocUtil
      */
     protected static boolean isValidPackageList( URL url, Settings settings, boolean validateContent )
         throws IOException
+    {
+        return isValidPackageList( url, settings, validateContent, null );
+    }
+
+    /**
+     * Validates an <code>URL</code> to point to a valid <code>package-list</code> resource, and writes a copy of
+     * the resource to the given file if it is valid.
+     *
+     * @param url The URL to validate.
+     * @param settings The user settings used to configure the connection to the URL or {@code null}.
+     * @param validateContent <code>true</code> to validate the content of the <code>package-list</code> resource;
+     * <code>false</code> to only check the existence of the <code>package-list</code> resource.
+     * @param copy The file to write the content of a valid <code>package-list</code> resource to, or {@code null}.
+     *
+     * @return <code>true</code> if <code>url</code> points to a valid <code>package-list</code> resource;
+     * <code>false</code> else.
+     *
+     * @throws IOException if reading the resource or writing the copy fails.
+     *
+     * @see #isValidPackageList(URL, Settings, boolean)
+     *
+     * @since 3.0.1
+     */
+    protected static boolean isValidPackageList( URL url, Settings settings, boolean validateContent, File copy )
+        throws IOException
     {
         if ( url == null )
         {
@@ -1682,20 +1707,31 @@ public class JavadocUtil
                 reader = new BufferedReader( new InputStreamReader( response.getEntity().getContent() ) );
             }
 
-            if ( validateContent )
+            StringBuilder content = ( copy != null ) ? new StringBuilder() : null;
+            if ( validateContent || content != null )
             {
                 for ( String line = reader.readLine(); line != null; line = reader.readLine() )
                 {
-                    if ( !isValidPackageName( line ) )
+                    if ( validateContent && !isValidPackageName( line ) )
                     {
                         return false;
                     }
+                    if ( content != null )
+                    {
+                        content.append( line ).append( '\n' );
+                    }
                 }
             }
 
             reader.close();
             reader = null;
 
+            if ( content != null )
+            {
+                // Intentionally using the platform default encoding here since this is what Javadoc uses internally.
+                FileUtils.fileWrite( copy, content.toString() );
+            }
+
             return true;
         }
         finally
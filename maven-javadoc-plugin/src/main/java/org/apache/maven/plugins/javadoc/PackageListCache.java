@@ -0,0 +1,146 @@
+package org.apache.maven.plugins.javadoc;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.settings.Settings;
+
+/**
+ * A persistent cache of the <code>package-list</code> files of the Javadoc links, shared by the builds using the same
+ * cache directory. The <code>package-list</code> of a link is stored in its own directory, so that the directory can
+ * be given as the location of a <code>-linkoffline</code> option.
+ * <p>
+ * A cached <code>package-list</code> is fetched again once it is older than the time to live. If fetching it fails,
+ * the expired copy is used rather than dropping the link.
+ * </p>
+ *
+ * @since 3.0.1
+ */
+class PackageListCache
+{
+    private static final String PACKAGE_LIST = "package-list";
+
+    private final File directory;
+
+    private final long ttl;
+
+    private final Settings settings;
+
+    private final boolean validateContent;
+
+    private final Log log;
+
+    /**
+     * @param directory the cache directory.
+     * @param ttl the time to live of a cached <code>package-list</code>, in milliseconds.
+     * @param settings the user settings used to configure the connections, or <code>null</code>.
+     * @param validateContent <code>true</code> to validate the content of the fetched <code>package-list</code>.
+     * @param log the log, for the warnings.
+     */
+    PackageListCache( File directory, long ttl, Settings settings, boolean validateContent, Log log )
+    {
+        this.directory = directory;
+        this.ttl = ttl;
+        this.settings = settings;
+        this.validateContent = validateContent;
+        this.log = log;
+    }
+
+    /**
+     * Gets the directory containing the cached copy of a <code>package-list</code>, fetching it first if it is not
+     * cached yet or expired. This method may be called concurrently, also by other builds using the same cache
+     * directory.
+     *
+     * @param packageListUrl the URL of the <code>package-list</code>, not null.
+     * @return the directory containing the <code>package-list</code>, or <code>null</code> if the fetched
+     *         <code>package-list</code> is not valid.
+     * @throws IOException if fetching the <code>package-list</code> fails and no expired copy is cached.
+     */
+    File getPackageListDirectory( URL packageListUrl )
+        throws IOException
+    {
+        File linkDirectory = new File( directory, hash( packageListUrl.toExternalForm() ) );
+        File packageList = new File( linkDirectory, PACKAGE_LIST );
+
+        if ( packageList.isFile() && System.currentTimeMillis() - packageList.lastModified() < ttl )
+        {
+            return linkDirectory;
+        }
+
+        linkDirectory.mkdirs();
+        File tempFile = File.createTempFile( PACKAGE_LIST, ".tmp", linkDirectory );
+        try
+        {
+            if ( !JavadocUtil.isValidPackageList( packageListUrl, settings, validateContent, tempFile ) )
+            {
+                return null;
+            }
+
+            try
+            {
+                Files.move( tempFile.toPath(), packageList.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                            StandardCopyOption.ATOMIC_MOVE );
+            }
+            catch ( AtomicMoveNotSupportedException e )
+            {
+                Files.move( tempFile.toPath(), packageList.toPath(), StandardCopyOption.REPLACE_EXISTING );
+            }
+            return linkDirectory;
+        }
+        catch ( IOException e )
+        {
+            if ( !packageList.isFile() )
+            {
+                throw e;
+            }
+
+            log.warn( "Error fetching " + packageListUrl + ": " + e.getMessage() + ", using the cached copy." );
+            return linkDirectory;
+        }
+        finally
+        {
+            Files.deleteIfExists( tempFile.toPath() );
+        }
+    }
+
+    private static String hash( String string )
+    {
+        try
+        {
+            MessageDigest digest = MessageDigest.getInstance( "SHA-1" );
+            return new BigInteger( 1, digest.digest( string.getBytes( StandardCharsets.UTF_8 ) ) ).toString( 16 );
+        }
+        catch ( NoSuchAlgorithmException e )
+        {
+            throw new IllegalStateException( e );
+        }
+    }
+}
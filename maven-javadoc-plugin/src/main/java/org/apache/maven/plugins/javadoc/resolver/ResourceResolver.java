@@ -24,6 +24,13 @@ import static org.codehaus.plexus.util.IOUtil.close;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -36,6 +43,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.DefaultArtifact;
@@ -61,6 +73,7 @@ import org.codehaus.plexus.archiver.manager.NoSuchArchiverException;
 import org.codehaus.plexus.component.annotations.Component;
 import org.codehaus.plexus.component.annotations.Requirement;
 import org.codehaus.plexus.logging.AbstractLogEnabled;
+import org.codehaus.plexus.util.FileUtils;
 import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
 
 /**
@@ -101,6 +114,8 @@ public final class ResourceResolver extends AbstractLogEnabled
         Arrays.asList( AbstractJavadocMojo.JAVADOC_RESOURCES_ATTACHMENT_CLASSIFIER,
                        AbstractJavadocMojo.TEST_JAVADOC_RESOURCES_ATTACHMENT_CLASSIFIER );
 
+    private static final int BUFFER_SIZE = 8192;
+
     /**
      * @param config {@link SourceResolverConfig}
      * @return list of {@link JavadocBundle}.
@@ -397,62 +412,269 @@ public final class ResourceResolver extends AbstractLogEnabled
             filter = null;
         }
         
-        final List<Map.Entry<String, String>> result = new ArrayList<>( artifacts.size() );
+        final List<Artifact> toUnpack = new ArrayList<>( artifactSet.size() );
         for ( final Artifact a : artifactSet )
         {
-            if ( !validClassifiers.contains( a.getClassifier() ) || ( filter != null && !filter.include( a ) ) )
+            if ( validClassifiers.contains( a.getClassifier() ) && ( filter == null || filter.include( a ) ) )
             {
-                continue;
+                toUnpack.add( a );
             }
-            
-            Artifact resolvedArtifact;
-            try
+        }
+
+        final List<Map.Entry<String, String>> result = new ArrayList<>( toUnpack.size() );
+        if ( toUnpack.isEmpty() )
+        {
+            return result;
+        }
+
+        final ExecutorService executor =
+            Executors.newFixedThreadPool( Math.max( 1, Math.min( config.threads(), toUnpack.size() ) ) );
+        try
+        {
+            final List<Future<Map.Entry<String, String>>> futures = new ArrayList<>( toUnpack.size() );
+            for ( final Artifact a : toUnpack )
             {
-                resolvedArtifact = resolver.resolveArtifact( config.getBuildingRequest(), a ).getArtifact();
+                futures.add( executor.submit( new Callable<Map.Entry<String, String>>()
+                {
+                    @Override
+                    public Map.Entry<String, String> call()
+                        throws ArtifactResolutionException
+                    {
+                        return resolveAndUnpack( a, config, propagateErrors );
+                    }
+                } ) );
             }
-            catch ( ArtifactResolverException e1 )
+
+            for ( int i = 0; i < futures.size(); i++ )
             {
-                continue;
+                final Artifact a = toUnpack.get( i );
+                try
+                {
+                    final Map.Entry<String, String> entry = futures.get( i ).get();
+                    if ( entry != null )
+                    {
+                        result.add( entry );
+                    }
+                }
+                catch ( final InterruptedException e )
+                {
+                    Thread.currentThread().interrupt();
+                    throw new ArtifactResolutionException( "Interrupted while unpacking: " + a.getId(), a, e );
+                }
+                catch ( final ExecutionException e )
+                {
+                    if ( e.getCause() instanceof ArtifactResolutionException )
+                    {
+                        throw (ArtifactResolutionException) e.getCause();
+                    }
+                    if ( e.getCause() instanceof RuntimeException )
+                    {
+                        throw (RuntimeException) e.getCause();
+                    }
+                    throw new ArtifactResolutionException( "Failed to unpack: " + a.getId(), a, e.getCause() );
+                }
             }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
 
-            final File d =
-                new File( config.outputBasedir(), a.getArtifactId() + "-" + a.getVersion() + "-" + a.getClassifier() );
+        return result;
+    }
+
+    /**
+     * @param a the artifact to resolve
+     * @param config the configuration
+     * @param propagateErrors
+     * @return the entry <dependencyConflictId, absolutePath>, or <code>null</code> if the artifact can't be resolved
+     *         or, if errors are not propagated, unpacked
+     * @throws ArtifactResolutionException if an exception occurs
+     */
+    private Map.Entry<String, String> resolveAndUnpack( final Artifact a, final SourceResolverConfig config,
+                                                        final boolean propagateErrors )
+        throws ArtifactResolutionException
+    {
+        Artifact resolvedArtifact;
+        try
+        {
+            resolvedArtifact = resolver.resolveArtifact( config.getBuildingRequest(), a ).getArtifact();
+        }
+        catch ( ArtifactResolverException e1 )
+        {
+            return null;
+        }
 
-            if ( !d.exists() )
+        try
+        {
+            final File d;
+            if ( config.sharedCacheDirectory() != null )
             {
-                d.mkdirs();
+                d = unpackToSharedCache( a, resolvedArtifact.getFile(), config.sharedCacheDirectory() );
             }
-
-            try
+            else
             {
-                final UnArchiver unArchiver = archiverManager.getUnArchiver( a.getType() );
+                d = new File( config.outputBasedir(),
+                              a.getArtifactId() + "-" + a.getVersion() + "-" + a.getClassifier() );
 
-                unArchiver.setDestDirectory( d );
-                unArchiver.setSourceFile( resolvedArtifact.getFile() );
+                if ( !d.exists() )
+                {
+                    d.mkdirs();
+                }
 
-                unArchiver.extract();
+                unpack( a, resolvedArtifact.getFile(), d );
+            }
 
-                result.add( new AbstractMap.SimpleEntry<String, String>( a.getDependencyConflictId(),
-                                                                         d.getAbsolutePath() ) );
+            return new AbstractMap.SimpleEntry<String, String>( a.getDependencyConflictId(), d.getAbsolutePath() );
+        }
+        catch ( final NoSuchArchiverException e )
+        {
+            if ( propagateErrors )
+            {
+                throw new ArtifactResolutionException( "Failed to retrieve valid un-archiver component: "
+                    + a.getType(), a, e );
             }
-            catch ( final NoSuchArchiverException e )
+        }
+        catch ( final ArchiverException | IOException e )
+        {
+            if ( propagateErrors )
             {
-                if ( propagateErrors )
-                {
-                    throw new ArtifactResolutionException( "Failed to retrieve valid un-archiver component: "
-                        + a.getType(), a, e );
-                }
+                throw new ArtifactResolutionException( "Failed to unpack: " + a.getId(), a, e );
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Unpacks an artifact in the shared cache, in a directory named after the SHA-1 checksum of the artifact file,
+     * unless it was already unpacked, e.g. by another build. The artifact is unpacked in a temporary directory which
+     * is then renamed, so that an incompletely unpacked artifact is never used.
+     *
+     * @param a the artifact
+     * @param file the file of the artifact
+     * @param sharedCacheDirectory the shared cache directory
+     * @return the directory of the unpacked artifact
+     */
+    File unpackToSharedCache( final Artifact a, final File file, final File sharedCacheDirectory )
+        throws NoSuchArchiverException, IOException
+    {
+        final File d = new File( sharedCacheDirectory, checksum( file, sharedCacheDirectory ) );
+        if ( d.isDirectory() )
+        {
+            getLogger().debug( "Reusing " + d + " for " + a.getId() );
+            return d;
+        }
+
+        sharedCacheDirectory.mkdirs();
+        final File tmp = Files.createTempDirectory( sharedCacheDirectory.toPath(), d.getName() + "-" ).toFile();
+        try
+        {
+            unpack( a, file, tmp );
+            try
+            {
+                Files.move( tmp.toPath(), d.toPath(), StandardCopyOption.ATOMIC_MOVE );
             }
-            catch ( final ArchiverException e )
+            catch ( final IOException e )
             {
-                if ( propagateErrors )
+                if ( !d.isDirectory() )
                 {
-                    throw new ArtifactResolutionException( "Failed to unpack: " + a.getId(), a, e );
+                    throw e;
                 }
+                // unpacked concurrently by another build
+            }
+        }
+        finally
+        {
+            if ( tmp.exists() )
+            {
+                FileUtils.deleteDirectory( tmp );
             }
         }
+        return d;
+    }
 
-        return result;
+    private void unpack( final Artifact a, final File file, final File d )
+        throws NoSuchArchiverException
+    {
+        final UnArchiver unArchiver = archiverManager.getUnArchiver( a.getType() );
+
+        unArchiver.setDestDirectory( d );
+        unArchiver.setSourceFile( file );
+
+        unArchiver.extract();
+    }
+
+    /**
+     * Gets the SHA-1 checksum of an artifact file. The checksum is indexed in the shared cache by the path, size and
+     * modification time of the file, so that it is only computed again when the file changes.
+     *
+     * @param file the file of the artifact
+     * @param sharedCacheDirectory the shared cache directory
+     * @return the SHA-1 checksum of the file
+     */
+    private static String checksum( final File file, final File sharedCacheDirectory )
+        throws IOException
+    {
+        final String key = file.getAbsolutePath() + ':' + file.length() + ':' + file.lastModified();
+        final File index = new File( new File( sharedCacheDirectory, "checksums" ),
+                                     sha1( key.getBytes( StandardCharsets.UTF_8 ) ) );
+        if ( index.isFile() )
+        {
+            final String checksum = new String( Files.readAllBytes( index.toPath() ), StandardCharsets.UTF_8 ).trim();
+            if ( !checksum.isEmpty() )
+            {
+                return checksum;
+            }
+        }
+
+        final String checksum = sha1( file );
+
+        // written aside then renamed, as concurrent builds may share the index
+        index.getParentFile().mkdirs();
+        final File tmp = File.createTempFile( index.getName(), ".tmp", index.getParentFile() );
+        try
+        {
+            Files.write( tmp.toPath(), checksum.getBytes( StandardCharsets.UTF_8 ) );
+            Files.move( tmp.toPath(), index.toPath(), StandardCopyOption.REPLACE_EXISTING );
+        }
+        finally
+        {
+            tmp.delete();
+        }
+        return checksum;
+    }
+
+    private static String sha1( final byte[] bytes )
+    {
+        return String.format( "%040x", new BigInteger( 1, newSha1Digest().digest( bytes ) ) );
+    }
+
+    private static MessageDigest newSha1Digest()
+    {
+        try
+        {
+            return MessageDigest.getInstance( "SHA-1" );
+        }
+        catch ( final NoSuchAlgorithmException e )
+        {
+            throw new IllegalStateException( e );
+        }
+    }
+
+    private static String sha1( final File file )
+        throws IOException
+    {
+        final MessageDigest digest = newSha1Digest();
+
+        try ( InputStream in = new FileInputStream( file ) )
+        {
+            final byte[] buffer = new byte[BUFFER_SIZE];
+            for ( int n = in.read( buffer ); n != -1; n = in.read( buffer ) )
+            {
+                digest.update( buffer, 0, n );
+            }
+        }
+        return String.format( "%040x", new BigInteger( 1, digest.digest() ) );
     }
 
     private static Collection<String> resolveFromProject( final SourceResolverConfig config,
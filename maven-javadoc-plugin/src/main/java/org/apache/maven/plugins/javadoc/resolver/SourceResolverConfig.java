@@ -45,6 +45,10 @@ public class SourceResolverConfig
 
     private boolean testSourceIncluded;
 
+    private File sharedCacheDirectory;
+
+    private int threads = 1;
+
     /**
      * @param project {@link MavenProject}
      * @param buoildingRequest {@link ProjectBuildingRequest}
@@ -114,6 +118,29 @@ public class SourceResolverConfig
         return this;
     }
 
+    /**
+     * @param sharedCacheDirectory The directory of the artifacts unpacked by checksum, shared by the builds, or
+     *            <code>null</code> to unpack them in the output base directory.
+     * @return {@link SourceResolverConfig}
+     * @since 3.0.1
+     */
+    public SourceResolverConfig withSharedCacheDirectory( final File sharedCacheDirectory )
+    {
+        this.sharedCacheDirectory = sharedCacheDirectory;
+        return this;
+    }
+
+    /**
+     * @param threads The maximum number of artifacts resolved and unpacked concurrently.
+     * @return {@link SourceResolverConfig}
+     * @since 3.0.1
+     */
+    public SourceResolverConfig withThreads( final int threads )
+    {
+        this.threads = threads;
+        return this;
+    }
+
     /**
      * @return {@link MavenProject}
      */
@@ -169,4 +196,22 @@ public class SourceResolverConfig
     {
         return testSourceIncluded;
     }
+
+    /**
+     * @return {@link #sharedCacheDirectory}
+     * @since 3.0.1
+     */
+    public File sharedCacheDirectory()
+    {
+        return sharedCacheDirectory;
+    }
+
+    /**
+     * @return {@link #threads}
+     * @since 3.0.1
+     */
+    public int threads()
+    {
+        return threads;
+    }
 }
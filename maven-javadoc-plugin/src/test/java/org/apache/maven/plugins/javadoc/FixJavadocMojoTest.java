@@ -25,7 +25,10 @@ import java.io.Reader;
 import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 import org.apache.commons.lang3.SystemUtils;
@@ -160,6 +163,59 @@ public class FixJavadocMojoTest
             "InterfaceWithJavadoc.java", "InterfaceWithNoJavadoc.java", "SubClassWithJavadoc.java" } );
     }
 
+    /**
+     * @throws Exception if any
+     */
+    public void testFixConcurrentlyAndIncrementally()
+        throws Exception
+    {
+        File testPomBasedir = new File( getBasedir(), "target/test/unit/fix-test" );
+        String[] clazzToCompare = new String[] { "ClassWithJavadoc.java", "ClassWithNoJavadoc.java",
+            "InterfaceWithJavadoc.java", "InterfaceWithNoJavadoc.java" };
+
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put( "threads", 2 );
+        parameters.put( "incremental", true );
+        parameters.put( "indexDirectory", new File( testPomBasedir, "target/javadoc-fix" ) );
+        executeMojoAndTest( testPomBasedir, clazzToCompare, parameters );
+
+        File indexFile = new File( testPomBasedir, "target/javadoc-fix/index.properties" );
+        assertTrue( indexFile.exists() );
+
+        // the dependencies are recorded, so that the unchanged files don't need to be parsed
+        File sourceFile = new File( testPomBasedir, "src/main/java/fix/test/ClassWithNoJavadoc.java" );
+        File dependency = new File( testPomBasedir, "src/main/java/fix/test/InterfaceWithNoJavadoc.java" );
+        Properties index = new Properties();
+        try ( Reader reader = ReaderFactory.newReader( indexFile, "ISO-8859-1" ) )
+        {
+            index.load( reader );
+        }
+        assertEquals( dependency.getAbsolutePath(),
+                      index.getProperty( sourceFile.getAbsolutePath() + ".dependencies" ) );
+
+        // the unchanged files are not fixed again
+        File generatedFile = new File( testPomBasedir, "target/generated/fix/test/ClassWithNoJavadoc.java" );
+        assertTrue( generatedFile.delete() );
+
+        FixJavadocMojo mojo = (FixJavadocMojo) lookupMojo( "fix", new File( testPomBasedir, "pom.xml" ) );
+        for ( Map.Entry<String, Object> parameter : parameters.entrySet() )
+        {
+            setVariableValueToObject( mojo, parameter.getKey(), parameter.getValue() );
+        }
+        mojo.execute();
+        assertFalse( generatedFile.exists() );
+
+        // the files depending on a changed source file are fixed again
+        assertTrue( dependency.setLastModified( dependency.lastModified() + 2000 ) );
+        mojo = (FixJavadocMojo) lookupMojo( "fix", new File( testPomBasedir, "pom.xml" ) );
+        for ( Map.Entry<String, Object> parameter : parameters.entrySet() )
+        {
+            setVariableValueToObject( mojo, parameter.getKey(), parameter.getValue() );
+        }
+        mojo.execute();
+        assertTrue( generatedFile.exists() );
+    }
+
     /**
      * @throws Exception if any
      */
@@ -606,6 +662,18 @@ public class FixJavadocMojoTest
      */
     private void executeMojoAndTest( File testPomBasedir, String[] clazzToCompare )
         throws Exception
+    {
+        executeMojoAndTest( testPomBasedir, clazzToCompare, Collections.<String, Object>emptyMap() );
+    }
+
+    /**
+     * @param testPomBasedir the basedir for the test project
+     * @param clazzToCompare an array of the classes name to compare
+     * @param parameters the parameters to set in the mojo, by field name
+     * @throws Exception if any
+     */
+    private void executeMojoAndTest( File testPomBasedir, String[] clazzToCompare, Map<String, Object> parameters )
+        throws Exception
     {
         prepareTestProjects( testPomBasedir.getName() );
 
@@ -619,6 +687,10 @@ public class FixJavadocMojoTest
         invokeCompileGoal( testPom, mojo.getLog() );
         assertTrue( new File( testPomBasedir, "target/classes" ).exists() );
 
+        for ( Map.Entry<String, Object> parameter : parameters.entrySet() )
+        {
+            setVariableValueToObject( mojo, parameter.getKey(), parameter.getValue() );
+        }
         mojo.execute();
 
         File expectedDir = new File( testPomBasedir, "expected/src/main/java/fix/test" );
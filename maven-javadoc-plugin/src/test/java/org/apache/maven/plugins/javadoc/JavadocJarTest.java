@@ -136,6 +136,46 @@ public class JavadocJarTest
         assertTrue( FileUtils.fileExists( generatedFile.getAbsolutePath() ) );
     }
 
+    /**
+     * Test the incremental generation, which reuses the javadoc and the jar when nothing changed
+     *
+     * @throws Exception if any
+     */
+    public void testIncremental()
+        throws Exception
+    {
+        File testPom =
+            new File( getBasedir(), "src/test/resources/unit/javadocjar-default/javadocjar-default-plugin-config.xml" );
+        File fingerprintsDirectory =
+            new File( getBasedir(), "target/test/unit/javadocjar-default/target/javadoc-fingerprints" );
+        FileUtils.deleteDirectory( fingerprintsDirectory );
+
+        JavadocJar mojo = lookupMojo( testPom );
+        setVariableValueToObject( mojo, "incremental", Boolean.TRUE );
+        setVariableValueToObject( mojo, "fingerprintsDirectory", fingerprintsDirectory );
+        mojo.execute();
+        assertFalse( (Boolean) getVariableValueFromObject( mojo, "upToDate" ) );
+
+        File generatedFile =
+            new File( getBasedir(), "target/test/unit/javadocjar-default/target/javadocjar-default-javadoc.jar" );
+        long lastModified = generatedFile.lastModified();
+
+        mojo = lookupMojo( testPom );
+        setVariableValueToObject( mojo, "incremental", Boolean.TRUE );
+        setVariableValueToObject( mojo, "fingerprintsDirectory", fingerprintsDirectory );
+        mojo.execute();
+        assertTrue( (Boolean) getVariableValueFromObject( mojo, "upToDate" ) );
+        assertEquals( lastModified, generatedFile.lastModified() );
+
+        // a changed option generates the javadoc again
+        mojo = lookupMojo( testPom );
+        setVariableValueToObject( mojo, "incremental", Boolean.TRUE );
+        setVariableValueToObject( mojo, "fingerprintsDirectory", fingerprintsDirectory );
+        setVariableValueToObject( mojo, "doctitle", "Incremental" );
+        mojo.execute();
+        assertFalse( (Boolean) getVariableValueFromObject( mojo, "upToDate" ) );
+    }
+
     /**
      * Test when the specified destDir parameter has an invalid value
      *
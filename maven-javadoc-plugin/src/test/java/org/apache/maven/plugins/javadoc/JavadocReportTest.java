@@ -31,6 +31,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.commons.lang3.JavaVersion;
 import org.apache.commons.lang3.SystemUtils;
 import org.apache.maven.execution.MavenSession;
 import org.apache.maven.model.Plugin;
@@ -51,6 +52,8 @@ import org.codehaus.plexus.util.ReaderFactory;
 import org.codehaus.plexus.util.StringUtils;
 import org.sonatype.aether.impl.internal.SimpleLocalRepositoryManager;
 
+import junitx.util.PrivateAccessor;
+
 /**
  * Test {@link org.apache.maven.plugins.javadoc.JavadocReport} class.
  *
@@ -253,6 +256,66 @@ public class JavadocReportTest
         assertTrue( new File( apidocs, "stylesheet.css" ).exists() );
     }
 
+    /**
+     * Method to test the in-process execution of the Javadoc Tool.
+     *
+     * @throws Exception if any
+     */
+    public void testInProcess()
+        throws Exception
+    {
+        File apidocs = new File( getBasedir(), "target/test/unit/default-configuration/target/site/apidocs" );
+        FileUtils.deleteDirectory( apidocs );
+
+        File testPom = new File( unit, "default-configuration/default-configuration-plugin-config.xml" );
+        JavadocReport mojo = lookupMojo( testPom );
+        setVariableValueToObject( mojo, "fork", Boolean.FALSE );
+        mojo.execute();
+
+        if ( SystemUtils.isJavaVersionAtLeast( JavaVersion.JAVA_1_8 ) )
+        {
+            assertEquals( Boolean.TRUE, getVariableValueFromObject( mojo, "inProcess" ) );
+        }
+
+        assertTrue( new File( apidocs, "def/configuration/App.html" ).exists() );
+        assertTrue( new File( apidocs, "def/configuration/AppSample.html" ).exists() );
+        assertTrue( new File( apidocs, "index.html" ).exists() );
+    }
+
+    /**
+     * Method to test that relative paths make the Javadoc Tool fork, as only a forked one resolves them against the
+     * output directory.
+     *
+     * @throws Exception if any
+     */
+    public void testRelativePathsRequireFork()
+        throws Throwable
+    {
+        File options = new File( getBasedir(), "target/test/unit/in-process/options" );
+        options.getParentFile().mkdirs();
+        String absolutePath = new File( getBasedir(), "src/main/java" ).getAbsolutePath().replace( '\\', '/' );
+
+        FileUtils.fileWrite( options, "-d '" + absolutePath + "'\n-nodeprecated\n-link 'relative/link'\n"
+            + "-linkoffline '../api' 'http://localhost/api'" );
+        assertFalse( hasRelativePaths( options ) );
+
+        FileUtils.fileWrite( options, "-sourcepath '" + absolutePath + File.pathSeparator + "src/test/java'" );
+        assertTrue( hasRelativePaths( options ) );
+
+        FileUtils.fileWrite( options, "-linkoffline 'http://localhost/api' 'target/api'" );
+        assertTrue( hasRelativePaths( options ) );
+
+        FileUtils.fileWrite( options, "'" + absolutePath + "/App.java'\n'src/main/java/AppSample.java'" );
+        assertTrue( hasRelativePaths( options ) );
+    }
+
+    private static boolean hasRelativePaths( File argFile )
+        throws Throwable
+    {
+        return (Boolean) PrivateAccessor.invoke( AbstractJavadocMojo.class, "hasRelativePaths",
+                                                 new Class[] { File.class }, new Object[] { argFile } );
+    }
+
     /**
      * Method for testing the subpackages and excludePackageNames parameter
      *
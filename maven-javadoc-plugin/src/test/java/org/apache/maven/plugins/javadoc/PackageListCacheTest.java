@@ -0,0 +1,85 @@
+package org.apache.maven.plugins.javadoc;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.net.URL;
+
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.codehaus.plexus.PlexusTestCase;
+import org.codehaus.plexus.util.FileUtils;
+
+public class PackageListCacheTest
+    extends PlexusTestCase
+{
+    /**
+     * Test the cache of the package-list files, with its time to live and its fallback to an expired copy.
+     *
+     * @throws Exception if any
+     */
+    public void testGetPackageListDirectory()
+        throws Exception
+    {
+        File baseDir = new File( getBasedir(), "target/test/unit/package-list-cache" );
+        FileUtils.deleteDirectory( baseDir );
+
+        File linkDir = new File( baseDir, "link" );
+        File packageList = new File( linkDir, "package-list" );
+        linkDir.mkdirs();
+        FileUtils.fileWrite( packageList, "org.apache.maven.plugins.javadoc\n" );
+        URL url = packageList.toURI().toURL();
+
+        File cacheDir = new File( baseDir, "cache" );
+        PackageListCache cache = new PackageListCache( cacheDir, 60000L, null, true, new SystemStreamLog() );
+
+        File cachedDir = cache.getPackageListDirectory( url );
+        assertNotNull( cachedDir );
+        assertEquals( "org.apache.maven.plugins.javadoc\n", FileUtils.fileRead( new File( cachedDir, "package-list" ) ) );
+
+        // not fetched again until it expires
+        FileUtils.fileWrite( packageList, "org.apache.maven.plugins\n" );
+        assertEquals( cachedDir, cache.getPackageListDirectory( url ) );
+        assertEquals( "org.apache.maven.plugins.javadoc\n", FileUtils.fileRead( new File( cachedDir, "package-list" ) ) );
+
+        PackageListCache expiredCache = new PackageListCache( cacheDir, 0L, null, true, new SystemStreamLog() );
+        assertEquals( cachedDir, expiredCache.getPackageListDirectory( url ) );
+        assertEquals( "org.apache.maven.plugins\n", FileUtils.fileRead( new File( cachedDir, "package-list" ) ) );
+
+        // the expired copy is used if the package-list can't be fetched
+        packageList.delete();
+        assertEquals( cachedDir, expiredCache.getPackageListDirectory( url ) );
+        assertEquals( 1, cachedDir.list().length );
+
+        try
+        {
+            expiredCache.getPackageListDirectory( new File( linkDir, "missing/package-list" ).toURI().toURL() );
+            fail( "A missing package-list without cached copy must fail" );
+        }
+        catch ( FileNotFoundException e )
+        {
+            assertTrue( true );
+        }
+
+        // an invalid package-list is not cached
+        FileUtils.fileWrite( packageList, "<html>Not found</html>\n" );
+        assertNull( cache.getPackageListDirectory( new File( linkDir, "../link/package-list" ).toURI().toURL() ) );
+    }
+}
@@ -0,0 +1,86 @@
+package org.apache.maven.plugins.javadoc.resolver;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.plugin.testing.AbstractMojoTestCase;
+import org.codehaus.plexus.util.FileUtils;
+
+public class ResourceResolverTest
+    extends AbstractMojoTestCase
+{
+    /**
+     * Test the shared cache of the unpacked artifacts: reused while the artifact file keeps its path, size and
+     * modification time, and unpacked again once it changes.
+     *
+     * @throws Exception if any
+     */
+    public void testUnpackToSharedCache()
+        throws Exception
+    {
+        File baseDir = new File( getBasedir(), "target/test/unit/resource-resolver" );
+        FileUtils.deleteDirectory( baseDir );
+        baseDir.mkdirs();
+
+        File cacheDir = new File( baseDir, "cache" );
+        File file = new File( baseDir, "test-1.0-sources.jar" );
+        writeJar( file, "class A {}" );
+        long lastModified = file.lastModified();
+
+        Artifact artifact =
+            new DefaultArtifact( "test", "test", "1.0", null, "jar", "sources", new DefaultArtifactHandler( "jar" ) );
+        ResourceResolver resolver = lookup( ResourceResolver.class );
+
+        File unpacked = resolver.unpackToSharedCache( artifact, file, cacheDir );
+        assertEquals( "class A {}", FileUtils.fileRead( new File( unpacked, "A.java" ) ) );
+
+        // hit: the file is not read again while its path, size and modification time are unchanged
+        writeJar( file, "class B {}" );
+        assertTrue( file.setLastModified( lastModified ) );
+        assertEquals( unpacked, resolver.unpackToSharedCache( artifact, file, cacheDir ) );
+        assertFalse( new File( unpacked, "B.java" ).exists() );
+
+        // invalidation: a new modification time leads to the checksum of the new content
+        assertTrue( file.setLastModified( lastModified + 2000 ) );
+        File unpackedAgain = resolver.unpackToSharedCache( artifact, file, cacheDir );
+        assertFalse( unpacked.equals( unpackedAgain ) );
+        assertEquals( "class B {}", FileUtils.fileRead( new File( unpackedAgain, "B.java" ) ) );
+    }
+
+    private static void writeJar( File file, String content )
+        throws Exception
+    {
+        String name = content.substring( "class ".length(), "class ".length() + 1 ) + ".java";
+        try ( ZipOutputStream out = new ZipOutputStream( new FileOutputStream( file ) ) )
+        {
+            out.putNextEntry( new ZipEntry( name ) );
+            out.write( content.getBytes( StandardCharsets.UTF_8 ) );
+            out.closeEntry();
+        }
+    }
+}
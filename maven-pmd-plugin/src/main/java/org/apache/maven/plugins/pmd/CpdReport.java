@@ -30,8 +30,10 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Properties;
 import java.util.ResourceBundle;
+import java.util.TreeMap;
 
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugins.annotations.Mojo;
@@ -41,6 +43,7 @@ import org.codehaus.plexus.util.FileUtils;
 import org.codehaus.plexus.util.StringUtils;
 import org.codehaus.plexus.util.WriterFactory;
 
+import net.sourceforge.pmd.PMD;
 import net.sourceforge.pmd.cpd.CPD;
 import net.sourceforge.pmd.cpd.CPDConfiguration;
 import net.sourceforge.pmd.cpd.CSVRenderer;
@@ -51,7 +54,11 @@ import net.sourceforge.pmd.cpd.JavaTokenizer;
 import net.sourceforge.pmd.cpd.Language;
 import net.sourceforge.pmd.cpd.LanguageFactory;
 import net.sourceforge.pmd.cpd.Match;
+import net.sourceforge.pmd.cpd.MatchAlgorithm;
 import net.sourceforge.pmd.cpd.Renderer;
+import net.sourceforge.pmd.cpd.SourceCode;
+import net.sourceforge.pmd.cpd.TokenEntry;
+import net.sourceforge.pmd.cpd.Tokenizer;
 import net.sourceforge.pmd.cpd.XMLRenderer;
 
 /**
@@ -107,8 +114,26 @@ public class CpdReport
     @Parameter( property = "cpd.ignoreIdentifiers", defaultValue = "false" )
     private boolean ignoreIdentifiers;
 
-    /** The CPD instance used to analyze the files. Will itself collect the duplicated code matches. */
-    private CPD cpd;
+    /**
+     * Enables the token cache of CPD. The tokens of each file are stored in the cache with a hash of its content, so
+     * that only the new and modified files are tokenized again, and the duplications are searched in the tokens of all
+     * the files. Thus the cache is only effective if this file is not cleaned between runs.
+     *
+     * @since 3.9
+     */
+    @Parameter( property = "cpd.tokenCache", defaultValue = "false" )
+    private boolean tokenCache;
+
+    /**
+     * The location of the token cache, if it is enabled.
+     *
+     * @since 3.9
+     */
+    @Parameter( property = "cpd.tokenCacheLocation", defaultValue = "${project.build.directory}/pmd/cpd.cache" )
+    private File tokenCacheLocation;
+
+    /** The duplicated code matches found by CPD, or <code>null</code> if CPD has not been run yet. */
+    private List<Match> matches;
 
     /** Helper to exclude duplications from the result. */
     private final ExcludeDuplicationsFromFile excludeDuplicationsFromFile = new ExcludeDuplicationsFromFile();
@@ -163,7 +188,7 @@ public class CpdReport
 
                 if ( !isHtml() && !isXml() )
                 {
-                    writeNonHtml( cpd );
+                    writeNonHtml( matches );
                 }
             }
             finally
@@ -190,7 +215,7 @@ public class CpdReport
                 executeCpdWithClassloader();
                 if ( skipEmptyReport )
                 {
-                    result = cpd.getMatches().hasNext();
+                    result = !matches.isEmpty();
                     if ( result )
                     {
                         getLog().debug( "Skipping report since skipEmptyReport is true and there are no CPD issues." );
@@ -223,7 +248,7 @@ public class CpdReport
     private void executeCpd()
         throws MavenReportException
     {
-        if ( cpd != null )
+        if ( matches != null )
         {
             // CPD has already been run
             getLog().debug( "CPD has already been run - skipping redundant execution." );
@@ -280,11 +305,40 @@ public class CpdReport
             cpdConfiguration.setLanguage( cpdLanguage );
             cpdConfiguration.setSourceEncoding( encoding );
 
-            cpd = new CPD( cpdConfiguration );
-
-            for ( File file : filesToProcess.keySet() )
+            matches = null;
+            if ( tokenCache )
+            {
+                if ( CpdTokenCache.isSupported() )
+                {
+                    try
+                    {
+                        matches = executeCpdWithTokenCache( cpdConfiguration, p );
+                    }
+                    catch ( IllegalStateException | LinkageError e )
+                    {
+                        getLog().warn( "Unable to use the CPD token cache with PMD " + PMD.VERSION + ": "
+                            + e.getMessage() );
+                    }
+                }
+                else
+                {
+                    getLog().warn( "The CPD token cache is not supported by PMD " + PMD.VERSION + ", ignoring it" );
+                }
+            }
+            if ( matches == null )
             {
-                cpd.add( file );
+                CPD cpd = new CPD( cpdConfiguration );
+
+                for ( File file : filesToProcess.keySet() )
+                {
+                    cpd.add( file );
+                }
+
+                getLog().debug( "Executing CPD..." );
+                cpd.go();
+                getLog().debug( "CPD finished." );
+
+                matches = toList( cpd.getMatches() );
             }
         }
         catch ( UnsupportedEncodingException e )
@@ -295,18 +349,73 @@ public class CpdReport
         {
             throw new MavenReportException( e.getMessage(), e );
         }
-        getLog().debug( "Executing CPD..." );
-        cpd.go();
-        getLog().debug( "CPD finished." );
 
         // if format is XML, we need to output it even if the file list is empty or we have no duplications
         // so the "check" goals can check for violations
         if ( isXml() )
         {
-            writeNonHtml( cpd );
+            writeNonHtml( matches );
         }
     }
 
+    /**
+     * Searches the duplications like {@link CPD#go()}, but reuses the tokens of the unchanged files from the token
+     * cache.
+     */
+    private List<Match> executeCpdWithTokenCache( CPDConfiguration cpdConfiguration, Properties p )
+        throws IOException
+    {
+        String fingerprint = PMD.VERSION + ':' + cpdConfiguration.getLanguage().getTerseName() + ':'
+            + cpdConfiguration.getSourceEncoding() + ':' + new TreeMap<>( p );
+        CpdTokenCache cache = new CpdTokenCache( fingerprint );
+        try
+        {
+            if ( !cache.load( tokenCacheLocation ) )
+            {
+                getLog().debug( "No valid CPD token cache found at " + tokenCacheLocation );
+            }
+        }
+        catch ( IOException e )
+        {
+            getLog().warn( "Ignoring the CPD token cache " + tokenCacheLocation + ": " + e.getMessage() );
+        }
+
+        TokenEntry.clearImages();
+        Tokenizer tokenizer = cpdConfiguration.tokenizer();
+        Map<String, SourceCode> sources = new TreeMap<>();
+        int tokenized = 0;
+        for ( File file : filesToProcess.keySet() )
+        {
+            SourceCode sourceCode = cpdConfiguration.sourceCodeFor( file );
+            if ( cache.add( file, sourceCode, tokenizer ) )
+            {
+                tokenized++;
+            }
+            sources.put( sourceCode.getFileName(), sourceCode );
+        }
+        getLog().debug( "Tokenized " + tokenized + " of " + sources.size() + " files, the others were cached." );
+
+        cache.save( tokenCacheLocation );
+
+        getLog().debug( "Executing CPD..." );
+        MatchAlgorithm matchAlgorithm = new MatchAlgorithm( sources, cache.createTokens(),
+                                                            cpdConfiguration.getMinimumTileSize() );
+        matchAlgorithm.findMatches();
+        getLog().debug( "CPD finished." );
+
+        return toList( matchAlgorithm.matches() );
+    }
+
+    private static List<Match> toList( Iterator<Match> matches )
+    {
+        List<Match> list = new ArrayList<>();
+        while ( matches.hasNext() )
+        {
+            list.add( matches.next() );
+        }
+        return list;
+    }
+
     private Iterator<Match> filterMatches( Iterator<Match> matches )
     {
         getLog().debug( "Filtering duplications. Using " + excludeDuplicationsFromFile.countExclusions()
@@ -334,8 +443,7 @@ public class CpdReport
     private void generateReport( Locale locale )
     {
         CpdReportGenerator gen = new CpdReportGenerator( getSink(), filesToProcess, getBundle( locale ), aggregate );
-        Iterator<Match> matches = cpd.getMatches();
-        gen.generate( filterMatches( matches ) );
+        gen.generate( filterMatches( matches.iterator() ) );
     }
 
     private String determineEncoding( boolean showWarn )
@@ -361,6 +469,12 @@ public class CpdReport
 
     void writeNonHtml( CPD cpd )
         throws MavenReportException
+    {
+        writeNonHtml( toList( cpd.getMatches() ) );
+    }
+
+    void writeNonHtml( List<Match> matches )
+        throws MavenReportException
     {
         Renderer r = createRenderer();
 
@@ -369,7 +483,7 @@ public class CpdReport
             return;
         }
 
-        String buffer = r.render( filterMatches( cpd.getMatches() ) );
+        String buffer = r.render( filterMatches( matches.iterator() ) );
         File targetFile = new File( targetDirectory, "cpd." + format );
         targetDirectory.mkdirs();
         try ( Writer writer = new OutputStreamWriter( new FileOutputStream( targetFile ), getOutputEncoding() ) )
@@ -0,0 +1,369 @@
+package org.apache.maven.plugins.pmd;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import net.sourceforge.pmd.cpd.SourceCode;
+import net.sourceforge.pmd.cpd.TokenEntry;
+import net.sourceforge.pmd.cpd.Tokenizer;
+import net.sourceforge.pmd.cpd.Tokens;
+
+/**
+ * A cache of the CPD tokens of the source files, keyed by the hash of their content, so that only the new and the
+ * modified files need to be tokenized again. The tokens of all the files are then rebuilt from the cache in a single
+ * {@link Tokens} instance, to search the duplications with the {@link net.sourceforge.pmd.cpd.MatchAlgorithm}.
+ * <p>
+ * The tokens are cached by image. PMD doesn't expose the image of a token, only its identifier, so the images of the
+ * tokenized files are read from the dictionary of {@link TokenEntry}.
+ * </p>
+ *
+ * @since 3.9
+ */
+class CpdTokenCache
+{
+    private static final int VERSION = 1;
+
+    private final String fingerprint;
+
+    /** The tokens read from the cache file, by file name. */
+    private final Map<String, FileTokens> cached = new HashMap<>();
+
+    /** The tokens of the files of the current execution, by file name and in the order they were added. */
+    private final Map<String, FileTokens> current = new LinkedHashMap<>();
+
+    /** The files tokenized during the current execution, whose images must still be resolved. */
+    private final Map<FileTokens, List<TokenEntry>> tokenized = new HashMap<>();
+
+    /**
+     * @param fingerprint identifies the configuration of CPD, a cache file written with another fingerprint is ignored.
+     */
+    CpdTokenCache( String fingerprint )
+    {
+        this.fingerprint = fingerprint;
+    }
+
+    /**
+     * Loads the cache file, if it exists and was written with the same fingerprint.
+     *
+     * @param cacheFile the cache file.
+     * @return <code>true</code> if the cache file was loaded.
+     * @throws IOException if the cache file can't be read.
+     */
+    boolean load( File cacheFile )
+        throws IOException
+    {
+        if ( !cacheFile.isFile() )
+        {
+            return false;
+        }
+
+        try ( DataInputStream in = new DataInputStream(
+            new BufferedInputStream( new GZIPInputStream( new FileInputStream( cacheFile ) ) ) ) )
+        {
+            if ( in.readInt() != VERSION || !fingerprint.equals( readString( in ) ) )
+            {
+                return false;
+            }
+
+            int fileCount = in.readInt();
+            for ( int i = 0; i < fileCount; i++ )
+            {
+                String fileName = readString( in );
+                FileTokens fileTokens = new FileTokens( readString( in ) );
+                fileTokens.images = new String[in.readInt()];
+                for ( int j = 0; j < fileTokens.images.length; j++ )
+                {
+                    fileTokens.images[j] = readString( in );
+                }
+                int tokenCount = in.readInt();
+                fileTokens.imageIndexes = new int[tokenCount];
+                fileTokens.lines = new int[tokenCount];
+                for ( int j = 0; j < tokenCount; j++ )
+                {
+                    fileTokens.imageIndexes[j] = in.readInt();
+                    fileTokens.lines[j] = in.readInt();
+                }
+                cached.put( fileName, fileTokens );
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes the tokens of the files of the current execution to the cache file.
+     *
+     * @param cacheFile the cache file.
+     * @throws IOException if the cache file can't be written.
+     */
+    void save( File cacheFile )
+        throws IOException
+    {
+        resolveImages();
+
+        cacheFile.getParentFile().mkdirs();
+        try ( DataOutputStream out = new DataOutputStream(
+            new BufferedOutputStream( new GZIPOutputStream( new FileOutputStream( cacheFile ) ) ) ) )
+        {
+            out.writeInt( VERSION );
+            writeString( out, fingerprint );
+            out.writeInt( current.size() );
+            for ( Map.Entry<String, FileTokens> entry : current.entrySet() )
+            {
+                FileTokens fileTokens = entry.getValue();
+                writeString( out, entry.getKey() );
+                writeString( out, fileTokens.hash );
+                out.writeInt( fileTokens.images.length );
+                for ( String image : fileTokens.images )
+                {
+                    writeString( out, image );
+                }
+                out.writeInt( fileTokens.lines.length );
+                for ( int j = 0; j < fileTokens.lines.length; j++ )
+                {
+                    out.writeInt( fileTokens.imageIndexes[j] );
+                    out.writeInt( fileTokens.lines[j] );
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds a file, using its cached tokens if its content didn't change, tokenizing it otherwise.
+     *
+     * @param file the file.
+     * @param sourceCode the source code of the file.
+     * @param tokenizer the tokenizer of the language.
+     * @return <code>true</code> if the file has been tokenized, <code>false</code> if its tokens were cached.
+     * @throws IOException if the file can't be read or tokenized.
+     */
+    boolean add( File file, SourceCode sourceCode, Tokenizer tokenizer )
+        throws IOException
+    {
+        String fileName = sourceCode.getFileName();
+        String hash = hash( file );
+
+        FileTokens fileTokens = cached.get( fileName );
+        if ( fileTokens != null && fileTokens.hash.equals( hash ) )
+        {
+            current.put( fileName, fileTokens );
+            return false;
+        }
+
+        Tokens tokens = new Tokens();
+        tokenizer.tokenize( sourceCode, tokens );
+
+        fileTokens = new FileTokens( hash );
+        tokenized.put( fileTokens, tokens.getTokens() );
+        current.put( fileName, fileTokens );
+        return true;
+    }
+
+    /**
+     * Creates the tokens of all the files added to the current execution. The identifiers of the tokens are
+     * reassigned, so the tokens created before are not valid anymore.
+     *
+     * @return the tokens.
+     */
+    Tokens createTokens()
+    {
+        resolveImages();
+
+        TokenEntry.clearImages();
+        Tokens tokens = new Tokens();
+        for ( Map.Entry<String, FileTokens> entry : current.entrySet() )
+        {
+            FileTokens fileTokens = entry.getValue();
+            for ( int i = 0; i < fileTokens.lines.length; i++ )
+            {
+                tokens.add( new TokenEntry( fileTokens.images[fileTokens.imageIndexes[i]], entry.getKey(),
+                                            fileTokens.lines[i] ) );
+            }
+            tokens.add( TokenEntry.getEOF() );
+        }
+        return tokens;
+    }
+
+    /**
+     * Converts the tokens of the tokenized files to images, while the dictionary of {@link TokenEntry} still knows
+     * their identifiers.
+     */
+    private void resolveImages()
+    {
+        if ( tokenized.isEmpty() )
+        {
+            return;
+        }
+
+        String[] imagesByIdentifier = getImagesByIdentifier();
+        for ( Map.Entry<FileTokens, List<TokenEntry>> entry : tokenized.entrySet() )
+        {
+            FileTokens fileTokens = entry.getKey();
+            List<TokenEntry> tokens = new ArrayList<>( entry.getValue().size() );
+            for ( TokenEntry token : entry.getValue() )
+            {
+                if ( token != TokenEntry.EOF )
+                {
+                    tokens.add( token );
+                }
+            }
+
+            Map<Integer, Integer> imageIndexes = new HashMap<>();
+            List<String> images = new ArrayList<>();
+            fileTokens.imageIndexes = new int[tokens.size()];
+            fileTokens.lines = new int[tokens.size()];
+            for ( int i = 0; i < tokens.size(); i++ )
+            {
+                TokenEntry token = tokens.get( i );
+                Integer imageIndex = imageIndexes.get( token.getIdentifier() );
+                if ( imageIndex == null )
+                {
+                    imageIndex = images.size();
+                    imageIndexes.put( token.getIdentifier(), imageIndex );
+                    images.add( imagesByIdentifier[token.getIdentifier()] );
+                }
+                fileTokens.imageIndexes[i] = imageIndex;
+                fileTokens.lines[i] = token.getBeginLine();
+            }
+            fileTokens.images = images.toArray( new String[images.size()] );
+        }
+        tokenized.clear();
+    }
+
+    /**
+     * Checks that the images of the tokens can be read from the dictionary of {@link TokenEntry}, which depends on the
+     * internals of the PMD version used.
+     *
+     * @return <code>true</code> if the tokens can be cached with this PMD version.
+     */
+    static boolean isSupported()
+    {
+        try
+        {
+            return getTokensField().get( null ) instanceof ThreadLocal;
+        }
+        catch ( ReflectiveOperationException | RuntimeException e )
+        {
+            return false;
+        }
+    }
+
+    private static Field getTokensField()
+        throws NoSuchFieldException
+    {
+        Field field = TokenEntry.class.getDeclaredField( "TOKENS" );
+        field.setAccessible( true );
+        return field;
+    }
+
+    /**
+     * @return the images of the tokens created by the current thread, indexed by their identifier.
+     */
+    private static String[] getImagesByIdentifier()
+    {
+        try
+        {
+            @SuppressWarnings( "unchecked" )
+            ThreadLocal<Map<String, Integer>> tokens = (ThreadLocal<Map<String, Integer>>) getTokensField().get( null );
+            Map<String, Integer> identifiers = tokens.get();
+
+            String[] images = new String[identifiers.size() + 1];
+            for ( Map.Entry<String, Integer> entry : identifiers.entrySet() )
+            {
+                images[entry.getValue()] = entry.getKey();
+            }
+            return images;
+        }
+        catch ( ReflectiveOperationException | ClassCastException e )
+        {
+            throw new IllegalStateException( "Unsupported PMD version, can't read the images of the CPD tokens", e );
+        }
+    }
+
+    private static String hash( File file )
+        throws IOException
+    {
+        try
+        {
+            MessageDigest digest = MessageDigest.getInstance( "SHA-1" );
+            return new BigInteger( 1, digest.digest( Files.readAllBytes( file.toPath() ) ) ).toString( 16 );
+        }
+        catch ( NoSuchAlgorithmException e )
+        {
+            throw new IllegalStateException( e );
+        }
+    }
+
+    private static String readString( DataInputStream in )
+        throws IOException
+    {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully( bytes );
+        return new String( bytes, StandardCharsets.UTF_8 );
+    }
+
+    // writeUTF() is limited to 64k, which a string literal may exceed
+    private static void writeString( DataOutputStream out, String string )
+        throws IOException
+    {
+        byte[] bytes = string.getBytes( StandardCharsets.UTF_8 );
+        out.writeInt( bytes.length );
+        out.write( bytes );
+    }
+
+    /**
+     * The tokens of a file: the distinct images, and for each token the index of its image and its line.
+     */
+    private static class FileTokens
+    {
+        private final String hash;
+
+        private String[] images;
+
+        private int[] imageIndexes;
+
+        private int[] lines;
+
+        FileTokens( String hash )
+        {
+            this.hash = hash;
+        }
+    }
+}
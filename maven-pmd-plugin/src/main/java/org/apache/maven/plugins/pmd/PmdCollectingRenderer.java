@@ -37,7 +37,11 @@ import org.codehaus.plexus.util.StringUtils;
 /**
  * A PMD renderer, that collects all violations and processing errors
  * from a pmd execution.
- * 
+ * <p>
+ * The reports can be rendered concurrently by several threads: the violations and errors of a report
+ * are added together, so that the ones of different files are never interleaved.
+ * </p>
+ *
  * @author Andreas Dangel
  */
 public class PmdCollectingRenderer extends AbstractRenderer
@@ -56,14 +60,19 @@ public class PmdCollectingRenderer extends AbstractRenderer
     @Override
     public void renderFileReport( Report report ) throws IOException
     {
+        List<RuleViolation> reportViolations = new ArrayList<>( report.size() );
         for ( RuleViolation v : report )
         {
-            violations.add( v );
+            reportViolations.add( v );
         }
+        List<ProcessingError> reportErrors = new ArrayList<>();
         for ( Iterator<ProcessingError> it = report.errors(); it.hasNext(); )
         {
-            errors.add( it.next() );
+            reportErrors.add( it.next() );
         }
+
+        violations.addAll( reportViolations );
+        errors.addAll( reportErrors );
     }
 
     /**
@@ -109,9 +118,12 @@ public class PmdCollectingRenderer extends AbstractRenderer
     public String getErrorsAsString()
     {
         List<String> errorsAsString = new ArrayList<>( errors.size() );
-        for ( ProcessingError error : errors )
+        synchronized ( errors )
         {
-            errorsAsString.add( error.getFile() + ": " + error.getMsg() );
+            for ( ProcessingError error : errors )
+            {
+                errorsAsString.add( error.getFile() + ": " + error.getMsg() );
+            }
         }
         return StringUtils.join( errorsAsString.toArray(), System.getProperty( "line.separator" ) );
     }
@@ -123,9 +135,12 @@ public class PmdCollectingRenderer extends AbstractRenderer
     public Report asReport()
     {
         Report report = new Report();
-        for ( RuleViolation v : violations )
+        synchronized ( violations )
         {
-            report.addRuleViolation( v );
+            for ( RuleViolation v : violations )
+            {
+                report.addRuleViolation( v );
+            }
         }
         return report;
     }
@@ -26,20 +26,32 @@ import java.io.IOException;
 import java.io.OutputStreamWriter;
 import java.io.PrintStream;
 import java.io.Writer;
+import java.lang.reflect.Method;
+import java.math.BigInteger;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Properties;
 import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
+import org.apache.maven.artifact.DependencyResolutionRequiredException;
 import org.apache.maven.doxia.sink.Sink;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugins.annotations.Component;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.apache.maven.project.MavenProject;
 import org.apache.maven.reporting.MavenReportException;
 import org.codehaus.plexus.resource.ResourceManager;
 import org.codehaus.plexus.resource.loader.FileResourceCreationException;
@@ -52,10 +64,14 @@ import org.codehaus.plexus.util.StringUtils;
 import net.sourceforge.pmd.PMD;
 import net.sourceforge.pmd.PMDConfiguration;
 import net.sourceforge.pmd.Report;
+import net.sourceforge.pmd.Rule;
 import net.sourceforge.pmd.RuleContext;
 import net.sourceforge.pmd.RulePriority;
+import net.sourceforge.pmd.RuleSet;
 import net.sourceforge.pmd.RuleSetFactory;
+import net.sourceforge.pmd.RuleSetNotFoundException;
 import net.sourceforge.pmd.RuleSetReferenceId;
+import net.sourceforge.pmd.RuleSets;
 import net.sourceforge.pmd.RuleViolation;
 import net.sourceforge.pmd.benchmark.Benchmarker;
 import net.sourceforge.pmd.benchmark.TextReport;
@@ -167,6 +183,12 @@ public class PmdReport
     @Component
     private ResourceManager locator;
 
+    /**
+     * The key of the rulesets downloaded during the build, stored as a context value of the first reactor project so
+     * that they are only shared by the modules of the same build.
+     */
+    private static final String DOWNLOADED_RULESETS_KEY = PmdReport.class.getName() + ".downloadedRuleSets";
+
     /** The PMD renderer for collecting violations. */
     private PmdCollectingRenderer renderer;
 
@@ -204,6 +226,33 @@ public class PmdReport
     @Parameter( property = "pmd.analysisCacheLocation", defaultValue = "${project.build.directory}/pmd/pmd.cache" )
     private String analysisCacheLocation;
 
+    /**
+     * A directory to store the analysis caches of all the modules of the build, for example
+     * <code>${session.executionRootDirectory}/.pmd-cache</code>, or a directory kept between the builds of a CI server.
+     * Unlike the <code>analysisCacheLocation</code>, this directory is meant to be outside of the build directory, so
+     * that the cache survives <code>mvn clean</code>. Setting it enables the analysis cache.
+     * <p>
+     * The cache of a module is stored in a sub-directory named after a hash of the content of the rulesets and of the
+     * PMD version, so that executions with a different configuration don't discard each other's cache. A change of the
+     * auxiliary classpath is detected by PMD itself, which then discards the cache of the module. This directory takes
+     * precedence over the <code>analysisCacheLocation</code>.
+     * </p>
+     *
+     * @since 3.9
+     */
+    @Parameter( property = "pmd.analysisCacheDirectory" )
+    private File analysisCacheDirectory;
+
+    /**
+     * The number of threads used by PMD to analyze the files. With <code>1</code>, the default, the files are
+     * analyzed one after the other in the build thread. A value of <code>0</code> or less uses one thread per
+     * available processor.
+     *
+     * @since 3.9
+     */
+    @Parameter( property = "pmd.threads", defaultValue = "1" )
+    private int threads = 1;
+
     /**
      * {@inheritDoc}
      */
@@ -350,13 +399,7 @@ public class PmdReport
             {
                 String set = rulesets[idx];
                 getLog().debug( "Preparing ruleset: " + set );
-                RuleSetReferenceId id = new RuleSetReferenceId( set );
-                File ruleset = locator.getResourceAsFile( id.getRuleSetFileName(), getLocationTemp( set ) );
-                if ( null == ruleset )
-                {
-                    throw new MavenReportException( "Could not resolve " + set );
-                }
-                sets[idx] = ruleset.getAbsolutePath();
+                sets[idx] = resolveRuleSet( set ).getAbsolutePath();
             }
         }
         catch ( ResourceNotFoundException e )
@@ -367,8 +410,20 @@ public class PmdReport
         {
             throw new MavenReportException( e.getMessage(), e );
         }
+        catch ( IOException e )
+        {
+            throw new MavenReportException( e.getMessage(), e );
+        }
         pmdConfiguration.setRuleSets( StringUtils.join( sets, "," ) );
 
+        if ( analysisCacheDirectory != null )
+        {
+            File cacheFile = getSharedAnalysisCacheFile( sets );
+            cacheFile.getParentFile().mkdirs();
+            pmdConfiguration.setAnalysisCacheLocation( cacheFile.getAbsolutePath() );
+            getLog().debug( "Using analysis cache location: " + cacheFile );
+        }
+
         try
         {
             if ( filesToProcess == null )
@@ -437,6 +492,10 @@ public class PmdReport
             try ( PrintStream benchmarkFileStream = new PrintStream( benchmarkOutputFilename ) )
             {
                 ( new TextReport() ).generate( Benchmarker.values(), benchmarkFileStream );
+                if ( sets.length > 0 )
+                {
+                    writeRuleSetBenchmark( sets, benchmarkFileStream );
+                }
             }
             catch ( FileNotFoundException fnfe )
             {
@@ -445,6 +504,118 @@ public class PmdReport
         }
     }
 
+    /**
+     * Resolves a ruleset and copies it to the target directory. A ruleset given as a remote URL is only downloaded
+     * once per build, the following modules copy the file downloaded by the first one.
+     *
+     * @param set the ruleset, as configured
+     * @return the resolved ruleset file
+     */
+    private File resolveRuleSet( String set )
+        throws ResourceNotFoundException, FileResourceCreationException, IOException, MavenReportException
+    {
+        RuleSetReferenceId id = new RuleSetReferenceId( set );
+        String name = id.getRuleSetFileName();
+        File target = new File( targetDirectory, getLocationTemp( set ) );
+
+        Map<String, File> downloaded = isRemoteUrl( name ) ? getDownloadedRuleSets() : null;
+        File resolved = downloaded != null ? downloaded.get( name ) : null;
+        if ( resolved != null && resolved.isFile() )
+        {
+            if ( !resolved.equals( target ) )
+            {
+                getLog().debug( "Reusing ruleset " + set + " downloaded to " + resolved );
+                FileUtils.copyFile( resolved, target );
+            }
+            return target;
+        }
+
+        File ruleset = locator.getResourceAsFile( name, getLocationTemp( set ) );
+        if ( null == ruleset )
+        {
+            throw new MavenReportException( "Could not resolve " + set );
+        }
+        if ( downloaded != null )
+        {
+            downloaded.put( name, ruleset );
+        }
+        return ruleset;
+    }
+
+    /**
+     * Tells whether a ruleset is downloaded from a URL. The rulesets read from a file or from the classpath are not
+     * shared, as they may change during the build or differ with the plugin dependencies of each module.
+     */
+    private static boolean isRemoteUrl( String name )
+    {
+        try
+        {
+            return !"file".equals( new URL( name ).getProtocol() );
+        }
+        catch ( MalformedURLException e )
+        {
+            return false;
+        }
+    }
+
+    /**
+     * Gets the rulesets downloaded during this build, by URL.
+     *
+     * @return the downloaded rulesets, or <code>null</code> if the reactor is unknown
+     */
+    @SuppressWarnings( "unchecked" )
+    private Map<String, File> getDownloadedRuleSets()
+    {
+        if ( reactorProjects == null || reactorProjects.isEmpty() )
+        {
+            return null;
+        }
+
+        MavenProject root = reactorProjects.get( 0 );
+        synchronized ( root )
+        {
+            Map<String, File> downloaded = (Map<String, File>) root.getContextValue( DOWNLOADED_RULESETS_KEY );
+            if ( downloaded == null )
+            {
+                downloaded = new ConcurrentHashMap<>();
+                root.setContextValue( DOWNLOADED_RULESETS_KEY, downloaded );
+            }
+            return downloaded;
+        }
+    }
+
+    /**
+     * Gets the analysis cache file of this module in the shared analysis cache directory.
+     *
+     * @param sets the resolved ruleset files
+     * @return the cache file
+     */
+    private File getSharedAnalysisCacheFile( String[] sets )
+        throws MavenReportException
+    {
+        try
+        {
+            MessageDigest digest = MessageDigest.getInstance( "SHA-1" );
+            digest.update( PMD.VERSION.getBytes( "UTF-8" ) );
+            for ( String set : sets )
+            {
+                digest.update( FileUtils.fileRead( set, "UTF-8" ).getBytes( "UTF-8" ) );
+            }
+
+            String key = new BigInteger( 1, digest.digest() ).toString( 16 );
+            return new File( new File( analysisCacheDirectory, key ),
+                             project.getGroupId() + '.' + project.getArtifactId() + ".cache" );
+        }
+        catch ( NoSuchAlgorithmException e )
+        {
+            throw new MavenReportException( e.getMessage(), e );
+        }
+        catch ( IOException e )
+        {
+            throw new MavenReportException( "Unable to compute the analysis cache key", e );
+        }
+    }
+
     private void removeExcludedViolations( List<RuleViolation> violations )
     {
         getLog().debug( "Removing excluded violations. Using " + excludeFromFile.countExclusions()
@@ -468,13 +639,18 @@ public class PmdReport
     private void processFilesWithPMD( PMDConfiguration pmdConfiguration, List<DataSource> dataSources )
             throws MavenReportException
     {
-        RuleSetFactory ruleSetFactory = new RuleSetFactory( RuleSetFactory.class.getClassLoader(),
-                RulePriority.valueOf( this.minimumPriority ), false, true );
+        RuleSetFactory ruleSetFactory = createRuleSetFactory();
         RuleContext ruleContext = new RuleContext();
 
+        if ( benchmark )
+        {
+            // the benchmark results are static, don't report the ones of a previous execution
+            Benchmarker.reset();
+        }
+
         try
         {
-            getLog().debug( "Executing PMD..." );
+            getLog().debug( "Executing PMD with " + pmdConfiguration.getThreads() + " thread(s)..." );
             PMD.processFiles( pmdConfiguration, ruleSetFactory, dataSources, ruleContext,
                               Arrays.<Renderer>asList( renderer ) );
 
@@ -494,6 +670,76 @@ public class PmdReport
         }
     }
 
+    private RuleSetFactory createRuleSetFactory()
+    {
+        return new RuleSetFactory( RuleSetFactory.class.getClassLoader(), RulePriority.valueOf( this.minimumPriority ),
+                                   false, true );
+    }
+
+    /**
+     * Writes the time spent in the rules of each ruleset, summed up from the rule timings of the PMD benchmark.
+     *
+     * @param sets the resolved ruleset files
+     * @param stream the stream to write the timings to
+     */
+    private void writeRuleSetBenchmark( String[] sets, PrintStream stream )
+    {
+        RuleSets ruleSets;
+        try
+        {
+            ruleSets = createRuleSetFactory().createRuleSets( StringUtils.join( sets, "," ) );
+        }
+        catch ( RuleSetNotFoundException e )
+        {
+            getLog().warn( "Unable to compute the ruleset timings: " + e.getLocalizedMessage() );
+            return;
+        }
+
+        Map<String, ?> results = Benchmarker.values();
+
+        stream.println();
+        stream.println( "Ruleset timings" );
+        stream.println( String.format( "%-50s %8s %12s", "Ruleset", "Rules", "Time (secs)" ) );
+        for ( RuleSet ruleSet : ruleSets.getAllRuleSets() )
+        {
+            long time = 0;
+            for ( Rule rule : ruleSet.getRules() )
+            {
+                Object result = results.get( rule.getName() );
+                if ( result != null )
+                {
+                    time += getBenchmarkTime( result );
+                }
+            }
+
+            String line = String.format( Locale.ENGLISH, "%-50s %8d %12.3f", ruleSet.getName(), ruleSet.size(),
+                                         time / (double) TimeUnit.SECONDS.toNanos( 1 ) );
+            stream.println( line );
+            getLog().debug( "PMD benchmark: " + line );
+        }
+    }
+
+    /**
+     * The benchmark results of PMD are not part of its public API, so their time is read reflectively.
+     *
+     * @param result a benchmark result
+     * @return its time in nanoseconds, or <code>0</code> if it can't be read
+     */
+    private long getBenchmarkTime( Object result )
+    {
+        try
+        {
+            Method getTime = result.getClass().getMethod( "getTime" );
+            getTime.setAccessible( true );
+            return (Long) getTime.invoke( result );
+        }
+        catch ( ReflectiveOperationException e )
+        {
+            getLog().debug( "Unable to read the PMD benchmark result " + result, e );
+            return 0;
+        }
+    }
+
     private Report generateReport( Locale locale )
         throws MavenReportException
     {
@@ -625,15 +871,13 @@ public class PmdReport
 
         if ( typeResolution )
         {
+            List<String> classpath = getAuxClasspath();
+            getLog().debug( "Using aux classpath: " + classpath );
             try
             {
-                @SuppressWarnings( "unchecked" )
-                List<String> classpath =
-                    includeTests ? project.getTestClasspathElements() : project.getCompileClasspathElements();
-                getLog().debug( "Using aux classpath: " + classpath );
                 configuration.prependClasspath( StringUtils.join( classpath.iterator(), File.pathSeparator ) );
             }
-            catch ( Exception e )
+            catch ( IOException e )
             {
                 throw new MavenReportException( e.getMessage(), e );
             }
@@ -646,7 +890,11 @@ public class PmdReport
 
         configuration.setBenchmark( benchmark );
 
-        if ( analysisCache )
+        // PMD uses its multi-threaded processor for any positive thread count, and the current thread for 0
+        int threadCount = ( threads > 0 ) ? threads : Runtime.getRuntime().availableProcessors();
+        configuration.setThreads( ( threadCount == 1 ) ? 0 : threadCount );
+
+        if ( analysisCache && analysisCacheDirectory == null )
         {
             configuration.setAnalysisCacheLocation( analysisCacheLocation );
             getLog().debug( "Using analysis cache location: " + analysisCacheLocation );
@@ -655,6 +903,30 @@ public class PmdReport
         return configuration;
     }
 
+    /**
+     * @return the classpath used by the type resolution, or an empty list if it is disabled
+     */
+    private List<String> getAuxClasspath()
+        throws MavenReportException
+    {
+        if ( !typeResolution )
+        {
+            return Collections.emptyList();
+        }
+
+        try
+        {
+            @SuppressWarnings( "unchecked" )
+            List<String> classpath =
+                includeTests ? project.getTestClasspathElements() : project.getCompileClasspathElements();
+            return classpath;
+        }
+        catch ( DependencyResolutionRequiredException e )
+        {
+            throw new MavenReportException( e.getMessage(), e );
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -97,6 +97,34 @@ public class CpdReportTest
         assertTrue( lowerCaseContains( str, "tmp = tmp + str.substring( i, i + 1);" ) );
     }
 
+    public void testTokenCache()
+        throws Exception
+    {
+        File testPom =
+            new File( getBasedir(),
+                      "src/test/resources/unit/default-configuration/cpd-default-configuration-plugin-config.xml" );
+        File generatedFile = new File( getBasedir(), "target/test/unit/default-configuration/target/cpd.xml" );
+        File cacheFile = new File( getBasedir(), "target/test/unit/default-configuration/target/pmd/cpd.cache" );
+        cacheFile.delete();
+
+        CpdReport mojo = (CpdReport) lookupMojo( "cpd", testPom );
+        mojo.execute();
+        String expected = readFile( generatedFile );
+        assertTrue( expected.contains( "<duplication" ) );
+
+        // the first execution fills the cache, the second one reuses it: both find the same duplications
+        for ( int i = 0; i < 2; i++ )
+        {
+            mojo = (CpdReport) lookupMojo( "cpd", testPom );
+            setVariableValueToObject( mojo, "tokenCache", Boolean.TRUE );
+            setVariableValueToObject( mojo, "tokenCacheLocation", cacheFile );
+            mojo.execute();
+
+            assertTrue( FileUtils.fileExists( cacheFile.getAbsolutePath() ) );
+            assertEquals( expected, readFile( generatedFile ) );
+        }
+    }
+
     /**
      * Test CPDReport using custom configuration
      *
@@ -25,6 +25,7 @@ import java.io.FileReader;
 import java.io.IOException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Locale;
 
 import org.apache.commons.io.IOUtils;
@@ -109,6 +110,79 @@ public class PmdReportTest
         assertTrue( FileUtils.fileExists( cacheFile.getAbsolutePath() ) );
     }
 
+    public void testDefaultConfigurationWithAnalysisCacheDirectory()
+            throws Exception
+    {
+        File cacheDirectory = new File( getBasedir(), "target/test/unit/pmd-analysis-cache" );
+        FileUtils.deleteDirectory( cacheDirectory );
+
+        File testPom =
+            new File( getBasedir(),
+                      "src/test/resources/unit/default-configuration/pmd-with-analysis-cache-directory-plugin-config.xml" );
+        PmdReport mojo = (PmdReport) lookupMojo( "pmd", testPom );
+        mojo.execute();
+
+        // the cache of the module is stored in a directory named after the configuration
+        File[] keyDirectories = cacheDirectory.listFiles();
+        assertNotNull( keyDirectories );
+        assertEquals( 1, keyDirectories.length );
+        File cacheFile = new File( keyDirectories[0], mojo.getProject().getGroupId() + '.'
+            + mojo.getProject().getArtifactId() + ".cache" );
+        assertTrue( FileUtils.fileExists( cacheFile.getAbsolutePath() ) );
+
+        // a second execution with the same configuration uses the same cache
+        mojo = (PmdReport) lookupMojo( "pmd", testPom );
+        mojo.execute();
+        assertEquals( 1, cacheDirectory.listFiles().length );
+
+        // a change of the auxiliary classpath is left to PMD: the cache stays in the same directory
+        File classes = new File( getBasedir(), "target/test/unit/pmd-analysis-cache-classes" );
+        File classFile = new File( classes, "A.class" );
+        FileUtils.deleteDirectory( classes );
+        classes.mkdirs();
+        FileUtils.fileWrite( classFile.getAbsolutePath(), "UTF-8", "a" );
+        executeWithAuxClasspath( testPom, classes );
+        FileUtils.fileWrite( classFile.getAbsolutePath(), "UTF-8", "b" );
+        executeWithAuxClasspath( testPom, classes );
+        assertEquals( 1, cacheDirectory.listFiles().length );
+        assertTrue( FileUtils.fileExists( cacheFile.getAbsolutePath() ) );
+    }
+
+    private void executeWithAuxClasspath( File testPom, File classes )
+        throws Exception
+    {
+        PmdReport mojo = (PmdReport) lookupMojo( "pmd", testPom );
+        setVariableValueToObject( mojo, "typeResolution", true );
+        // the project stub gives its compile source roots as compile classpath
+        List<String> classpath = mojo.getProject().getCompileSourceRoots();
+        classpath.clear();
+        classpath.add( classes.getAbsolutePath() );
+        mojo.execute();
+    }
+
+    public void testDefaultConfigurationWithThreads()
+            throws Exception
+    {
+        File testPom =
+            new File( getBasedir(),
+                      "src/test/resources/unit/default-configuration/pmd-with-threads-plugin-config.xml" );
+        PmdReport mojo = (PmdReport) lookupMojo( "pmd", testPom );
+        mojo.execute();
+
+        assertEquals( 2, mojo.getPMDConfiguration().getThreads() );
+
+        // check that the violations of all the threads have been collected
+        String str = readFile( new File( getBasedir(), "target/test/unit/pmd-with-threads-plugin-config/target/pmd.xml" ) );
+        assertTrue( str.contains( "<file name=\"" ) );
+        assertTrue( str.contains( "UnusedPrivateField" ) );
+        assertTrue( str.contains( "UnusedImports" ) );
+
+        // check that the benchmark contains the ruleset timings
+        str = readFile( new File( getBasedir(), "target/test/unit/pmd-with-threads-plugin-config/target/pmd-benchmark.txt" ) );
+        assertTrue( str.contains( "Ruleset timings" ) );
+        assertTrue( str.contains( "Unused Code" ) );
+    }
+
     public void testJavascriptConfiguration()
         throws Exception
     {
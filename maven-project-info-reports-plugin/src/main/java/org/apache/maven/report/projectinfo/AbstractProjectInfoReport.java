@@ -49,8 +49,10 @@ import org.apache.maven.doxia.siterenderer.SiteRenderingContext;
 import org.apache.maven.doxia.siterenderer.sink.SiteRendererSink;
 import org.apache.maven.doxia.tools.SiteTool;
 import org.apache.maven.doxia.tools.SiteToolException;
+import org.apache.maven.execution.MavenSession;
 import org.apache.maven.model.Plugin;
 import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.descriptor.PluginDescriptor;
 import org.apache.maven.plugins.annotations.Component;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.project.MavenProject;
@@ -169,6 +171,22 @@ public abstract class AbstractProjectInfoReport
     @Parameter( defaultValue = "${settings}", readonly = true, required = true )
     protected Settings settings;
 
+    /**
+     * The current build session, to share values between the reports of the modules.
+     *
+     * @since 2.10
+     */
+    @Parameter( defaultValue = "${session}", readonly = true )
+    private MavenSession session;
+
+    /**
+     * The descriptor of this plugin, to share values between the reports of the modules.
+     *
+     * @since 2.10
+     */
+    @Parameter( defaultValue = "${plugin}", readonly = true )
+    private PluginDescriptor pluginDescriptor;
+
     /**
      * Path for a custom bundle instead of using the default one. <br>
      * Using this field, you could change the texts in the generated reports.
@@ -331,6 +349,36 @@ public abstract class AbstractProjectInfoReport
         return reactorProjects;
     }
 
+    /**
+     * Gets the values shared by the reports of this plugin for all the modules of the build: the plugin context of
+     * the execution root, or else of the first reactor project, in the build session.
+     *
+     * @return the shared values, or a new map if there is no build session.
+     */
+    @SuppressWarnings( "unchecked" )
+    protected Map<String, Object> getBuildContext()
+    {
+        if ( session == null || pluginDescriptor == null )
+        {
+            return new HashMap<String, Object>();
+        }
+
+        MavenProject executionRoot = project;
+        if ( reactorProjects != null && !reactorProjects.isEmpty() )
+        {
+            executionRoot = reactorProjects.get( 0 );
+            for ( MavenProject reactorProject : reactorProjects )
+            {
+                if ( reactorProject.isExecutionRoot() )
+                {
+                    executionRoot = reactorProject;
+                    break;
+                }
+            }
+        }
+        return session.getPluginContext( pluginDescriptor, executionRoot );
+    }
+
     /**
      * @param pluginId The id of the plugin
      * @return The information about the plugin.
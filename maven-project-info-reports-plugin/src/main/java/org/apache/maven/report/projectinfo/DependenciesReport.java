@@ -28,6 +28,7 @@ import java.io.InputStreamReader;
 import java.io.LineNumberReader;
 import java.io.OutputStream;
 import java.util.Locale;
+import java.util.concurrent.TimeUnit;
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.factory.ArtifactFactory;
 import org.apache.maven.artifact.manager.WagonManager;
@@ -146,6 +147,35 @@ public class DependenciesReport
     @Parameter( property = "dependency.locations.enabled", defaultValue = "true" )
     private boolean dependencyLocationsEnabled;
 
+    /**
+     * The time to live, in minutes, of the repository locations of the dependencies stored in
+     * <code>dependency-locations.properties</code> in the {@link #dependencyDetailsCacheDirectory}, to share them
+     * with the next builds. The locations are not stored if <code>0</code>: they are only shared with the other
+     * modules.
+     *
+     * @since 2.10
+     */
+    @Parameter( property = "dependency.locations.cacheTimeToLive", defaultValue = "0" )
+    private long dependencyLocationsCacheTimeToLive;
+
+    /**
+     * The number of threads checking concurrently whether the dependencies exist in the repositories.
+     *
+     * @since 2.10
+     */
+    @Parameter( property = "dependency.locations.threads", defaultValue = "8" )
+    private int dependencyLocationsThreads;
+
+    /**
+     * The directory to cache the details of the dependency files in, by checksum, to share them with the other
+     * modules and the next builds. Defaults to <code>.cache/maven-project-info-reports-plugin</code> in the local
+     * repository.
+     *
+     * @since 2.10
+     */
+    @Parameter( property = "dependency.details.cacheDirectory" )
+    private File dependencyDetailsCacheDirectory;
+
     // ----------------------------------------------------------------------
     // Public methods
     // ----------------------------------------------------------------------
@@ -187,19 +217,45 @@ public class DependenciesReport
             new RepositoryUtils( getLog(), wagonManager, settings, mavenProjectBuilder, factory, resolver,
                                  project.getRemoteArtifactRepositories(), project.getPluginArtifactRepositories(),
                                  localRepository, repositoryMetadataManager );
+        File locationsCacheFile = new File( getDependencyDetailsCacheDirectory(), "dependency-locations.properties" );
+        repoUtils.setLocationsCache( locationsCacheFile,
+                                     TimeUnit.MINUTES.toMillis( dependencyLocationsCacheTimeToLive ),
+                                     getBuildContext() );
 
         DependencyNode dependencyNode = resolveProject();
 
-        Dependencies dependencies = new Dependencies( project, dependencyNode, classesAnalyzer );
+        Dependencies dependencies =
+            new Dependencies( project, dependencyNode, classesAnalyzer, getDependencyDetailsCacheDirectory(),
+                              getBuildContext() );
 
         DependenciesReportConfiguration config =
-            new DependenciesReportConfiguration( dependencyDetailsEnabled, dependencyLocationsEnabled );
+            new DependenciesReportConfiguration( dependencyDetailsEnabled, dependencyLocationsEnabled,
+                                                 dependencyLocationsThreads );
 
         DependenciesRenderer r =
             new DependenciesRenderer( getSink(), locale, getI18N( locale ), getLog(), settings, dependencies,
                                       dependencyNode, config, repoUtils, artifactFactory, mavenProjectBuilder,
                                       remoteRepositories, localRepository );
-        r.render();
+        try
+        {
+            r.render();
+        }
+        finally
+        {
+            repoUtils.close();
+        }
+    }
+
+    /**
+     * @return the directory to cache the details of the dependency files in.
+     */
+    private File getDependencyDetailsCacheDirectory()
+    {
+        if ( dependencyDetailsCacheDirectory != null )
+        {
+            return dependencyDetailsCacheDirectory;
+        }
+        return new File( localRepository.getBasedir(), ".cache/maven-project-info-reports-plugin" );
     }
 
     /**
@@ -82,6 +82,11 @@ public class DependencyConvergenceReport
 
     private static final int FULL_CONVERGENCE = 100;
 
+    /**
+     * The key of the analysis of the reactor in the build context, shared by the reports of its modules.
+     */
+    private static final String REACTOR_ANALYSIS_KEY = DependencyConvergenceReport.class.getName() + ".analysis";
+
     // ----------------------------------------------------------------------
     // Mojo parameters
     // ----------------------------------------------------------------------
@@ -119,7 +124,7 @@ public class DependencyConvergenceReport
 
     ArtifactFilter filter = null;
 
-    private Map<MavenProject, DependencyNode> projectMap = new HashMap<MavenProject, DependencyNode>();
+    private Map<MavenProject, DependencyNode> projectMap;
 
     // ----------------------------------------------------------------------
     // Public methods
@@ -513,7 +518,8 @@ public class DependencyConvergenceReport
      *
      * @return A Map of sorted unique artifacts
      */
-    private Map<String, List<ReverseDependencyLink>> getSortedUniqueArtifactMap( List<ReverseDependencyLink> depList )
+    private static Map<String, List<ReverseDependencyLink>> getSortedUniqueArtifactMap(
+        List<ReverseDependencyLink> depList )
     {
         Map<String, List<ReverseDependencyLink>> uniqueArtifactMap = new TreeMap<String, List<ReverseDependencyLink>>();
 
@@ -756,12 +762,44 @@ public class DependencyConvergenceReport
      * +--------------------+--------------------------------------------------|
      * </pre>
      *
+     * The result is computed once per build and shared by the reports of the reactor modules.
+     *
      * @return DependencyAnalyzeResult contains conflicting dependencies map, snapshot dependencies map and all
      *         dependencies map.
      * @throws MavenReportException
      */
     private DependencyAnalyzeResult analyzeDependencyTree()
         throws MavenReportException
+    {
+        Map<String, Object> buildContext = getBuildContext();
+        DependencyAnalyzeResult dependencyResult;
+        synchronized ( buildContext )
+        {
+            dependencyResult = (DependencyAnalyzeResult) buildContext.get( REACTOR_ANALYSIS_KEY );
+            if ( dependencyResult == null )
+            {
+                dependencyResult = analyzeDependencyTrees( getNodes( reactorProjects ) );
+                buildContext.put( REACTOR_ANALYSIS_KEY, dependencyResult );
+            }
+            else
+            {
+                getLog().debug( "Reusing the dependency convergence analysis of the reactor" );
+            }
+        }
+
+        this.projectMap = dependencyResult.getProjectMap();
+
+        return dependencyResult;
+    }
+
+    /**
+     * Analyzes the dependency trees of the reactor projects, visiting each tree once.
+     *
+     * @param nodes the root nodes of the dependency trees, by reactor project
+     * @return DependencyAnalyzeResult contains conflicting dependencies map, snapshot dependencies map and all
+     *         dependencies map.
+     */
+    private DependencyAnalyzeResult analyzeDependencyTrees( Map<MavenProject, DependencyNode> nodes )
     {
         Map<String, List<ReverseDependencyLink>> conflictingDependencyMap =
             new TreeMap<String, List<ReverseDependencyLink>>();
@@ -769,16 +807,20 @@ public class DependencyConvergenceReport
 
         for ( MavenProject reactorProject : reactorProjects )
         {
-            DependencyNode node = getNode( reactorProject );
+            DependencyNode node = nodes.get( reactorProject );
 
-            this.projectMap.put( reactorProject, node );
+            DependencyTreeVisitor visitor = new DependencyTreeVisitor();
+            node.accept( visitor );
 
-            getConflictingDependencyMap( conflictingDependencyMap, reactorProject, node );
+            getConflictingDependencyMap( conflictingDependencyMap, reactorProject, visitor.getVersionMap() );
 
-            getAllDependencyMap( allDependencies, reactorProject, node );
+            getAllDependencyMap( allDependencies, reactorProject, visitor.getDescendants() );
         }
 
-        return populateDependencyAnalyzeResult( conflictingDependencyMap, allDependencies );
+        DependencyAnalyzeResult dependencyResult =
+            populateDependencyAnalyzeResult( conflictingDependencyMap, allDependencies );
+        dependencyResult.setProjectMap( nodes );
+        return dependencyResult;
     }
 
     /**
@@ -809,16 +851,11 @@ public class DependencyConvergenceReport
      *
      * @param conflictingDependencyMap
      * @param reactorProject
-     * @param node
+     * @param visitor the version map of the dependency tree of the reactor project
      */
     private void getConflictingDependencyMap( Map<String, List<ReverseDependencyLink>> conflictingDependencyMap,
-                                              MavenProject reactorProject, DependencyNode node )
+                                              MavenProject reactorProject, DependencyVersionMap visitor )
     {
-        DependencyVersionMap visitor = new DependencyVersionMap();
-        visitor.setUniqueVersions( true );
-
-        node.accept( visitor );
-
         for ( List<DependencyNode> nodes : visitor.getConflictedVersionNumbers() )
         {
             DependencyNode dependencyNode = nodes.get( 0 );
@@ -851,13 +888,11 @@ public class DependencyConvergenceReport
      *
      * @param allDependencies
      * @param reactorProject
-     * @param node
+     * @param artifacts the descendants of the dependency tree of the reactor project
      */
     private void getAllDependencyMap( Map<String, List<ReverseDependencyLink>> allDependencies,
-                                      MavenProject reactorProject, DependencyNode node )
+                                      MavenProject reactorProject, Set<Artifact> artifacts )
     {
-        Set<Artifact> artifacts = getAllDescendants( node );
-
         for ( Artifact art : artifacts )
         {
             String key = art.getGroupId() + ":" + art.getArtifactId();
@@ -943,28 +978,22 @@ public class DependencyConvergenceReport
     }
 
     /**
-     * Get all descendants nodes for a given dependency node.
+     * Get the root nodes of the dependency trees of the given projects. The trees are built one after the other, as
+     * the dependency tree builder and the artifact collector are not meant to be used concurrently.
      *
-     * @param node
-     * @return set of descendants artifacts.
+     * @param projects
+     * @return root nodes of the dependency trees, by project
+     * @throws MavenReportException
      */
-    private Set<Artifact> getAllDescendants( DependencyNode node )
+    private Map<MavenProject, DependencyNode> getNodes( List<MavenProject> projects )
+        throws MavenReportException
     {
-        Set<Artifact> children = null;
-        if ( node.getChildren() != null )
+        Map<MavenProject, DependencyNode> nodes = new HashMap<MavenProject, DependencyNode>();
+        for ( MavenProject project : projects )
         {
-            children = new HashSet<Artifact>();
-            for ( DependencyNode depNode : node.getChildren() )
-            {
-                children.add( depNode.getArtifact() );
-                Set<Artifact> subNodes = getAllDescendants( depNode );
-                if ( subNodes != null )
-                {
-                    children.addAll( subNodes );
-                }
-            }
+            nodes.put( project, getNode( project ) );
         }
-        return children;
+        return nodes;
     }
 
     private int calculateConvergence( DependencyAnalyzeResult result )
@@ -1005,6 +1034,64 @@ public class DependencyConvergenceReport
         }
     }
 
+    /**
+     * Collects in a single visit of a dependency tree the descendants of its root and its version map, as visited by
+     * a {@link DependencyVersionMap} alone: the children of conflicting nodes are not added to the version map.
+     */
+    static class DependencyTreeVisitor
+        implements DependencyNodeVisitor
+    {
+        private final Set<Artifact> descendants = new HashSet<Artifact>();
+
+        private final DependencyVersionMap versionMap = new DependencyVersionMap();
+
+        private DependencyNode root;
+
+        private DependencyNode conflictingNode;
+
+        DependencyTreeVisitor()
+        {
+            versionMap.setUniqueVersions( true );
+        }
+
+        public boolean visit( DependencyNode node )
+        {
+            if ( root == null )
+            {
+                root = node;
+            }
+            else
+            {
+                descendants.add( node.getArtifact() );
+            }
+
+            if ( conflictingNode == null && !versionMap.visit( node ) )
+            {
+                conflictingNode = node;
+            }
+            return true;
+        }
+
+        public boolean endVisit( DependencyNode node )
+        {
+            if ( node == conflictingNode )
+            {
+                conflictingNode = null;
+            }
+            return true;
+        }
+
+        public Set<Artifact> getDescendants()
+        {
+            return descendants;
+        }
+
+        public DependencyVersionMap getVersionMap()
+        {
+            return versionMap;
+        }
+    }
+
     /**
      * Internal ReverseDependencyLink comparator
      */
@@ -1021,14 +1108,26 @@ public class DependencyConvergenceReport
     /**
      * Internal object
      */
-    private class DependencyAnalyzeResult
+    private static class DependencyAnalyzeResult
     {
+        Map<MavenProject, DependencyNode> projectMap;
+
         Map<String, List<ReverseDependencyLink>> all;
 
         List<ReverseDependencyLink> snapshots;
 
         Map<String, List<ReverseDependencyLink>> conflicting;
 
+        public Map<MavenProject, DependencyNode> getProjectMap()
+        {
+            return projectMap;
+        }
+
+        public void setProjectMap( Map<MavenProject, DependencyNode> projectMap )
+        {
+            this.projectMap = projectMap;
+        }
+
         public void setAll( Map<String, List<ReverseDependencyLink>> all )
         {
             this.all = all;
@@ -22,9 +22,15 @@ package org.apache.maven.report.projectinfo.dependencies;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.jar.JarEntry;
 
 import org.apache.maven.artifact.Artifact;
@@ -48,6 +54,8 @@ public class Dependencies
 
     private final JarClassesAnalysis classesAnalyzer;
 
+    private final DependencyFileDetailsCache detailsCache;
+
     /**
      * @since 2.1
      */
@@ -76,7 +84,8 @@ public class Dependencies
     /**
      * @since 2.1
      */
-    private Map<String, JarData> dependencyDetails;
+    private final Map<String, DependencyFileDetails> dependencyDetails =
+        new ConcurrentHashMap<String, DependencyFileDetails>();
 
     /**
      * Default constructor
@@ -86,10 +95,27 @@ public class Dependencies
      * @param classesAnalyzer the JarClassesAnalysis.
      */
     public Dependencies( MavenProject project, DependencyNode dependencyTreeNode, JarClassesAnalysis classesAnalyzer )
+    {
+        this( project, dependencyTreeNode, classesAnalyzer, null, null );
+    }
+
+    /**
+     * @param project the MavenProject.
+     * @param dependencyTreeNode the DependencyNode.
+     * @param classesAnalyzer the JarClassesAnalysis.
+     * @param detailsCacheDirectory the directory to cache the dependency file details in, by checksum, or
+     *            <code>null</code> to only cache them in memory.
+     * @param buildContext the values shared by the modules of the build, to share the dependency file details in, or
+     *            <code>null</code> to only share them within this instance.
+     * @since 2.10
+     */
+    public Dependencies( MavenProject project, DependencyNode dependencyTreeNode, JarClassesAnalysis classesAnalyzer,
+                         File detailsCacheDirectory, Map<String, Object> buildContext )
     {
         this.project = project;
         this.dependencyNode = dependencyTreeNode;
         this.classesAnalyzer = classesAnalyzer;
+        this.detailsCache = new DependencyFileDetailsCache( detailsCacheDirectory, buildContext );
     }
 
     /**
@@ -227,54 +253,140 @@ public class Dependencies
      * @param artifact the artifact.
      * @return the jardata object from the artifact
      * @throws IOException if any
+     * @deprecated use {@link #getDependencyFileDetails(Artifact)}, which caches the details.
      */
+    @Deprecated
     public JarData getJarDependencyDetails( Artifact artifact )
         throws IOException
     {
-        if ( dependencyDetails == null )
-        {
-            dependencyDetails = new HashMap<String, JarData>();
-        }
+        return analyze( artifact );
+    }
 
-        JarData jarData = dependencyDetails.get( artifact.getId() );
-        if ( jarData != null )
+    /**
+     * @param artifact the artifact.
+     * @return the details of the file of the artifact
+     * @throws IOException if any
+     * @since 2.10
+     */
+    public DependencyFileDetails getDependencyFileDetails( Artifact artifact )
+        throws IOException
+    {
+        DependencyFileDetails details = dependencyDetails.get( artifact.getId() );
+        if ( details != null )
         {
-            return jarData;
+            return details;
         }
 
         File file = getFile( artifact );
 
         if ( file.isDirectory() )
         {
-            jarData = new JarData( artifact.getFile(), null, new ArrayList<JarEntry>() );
-
-            jarData.setJarClasses( new JarClasses() );
+            details = new DependencyFileDetails( analyze( artifact ) );
         }
         else
         {
-            JarAnalyzer jarAnalyzer = new JarAnalyzer( file );
+            String checksum = detailsCache.getChecksum( file );
+
+            details = detailsCache.get( checksum );
+            if ( details == null )
+            {
+                details = new DependencyFileDetails( analyze( artifact ) );
+
+                detailsCache.put( checksum, details );
+            }
+        }
+
+        dependencyDetails.put( artifact.getId(), details );
+
+        return details;
+    }
+
+    /**
+     * Analyses the files of the given artifacts concurrently, so that {@link #getDependencyFileDetails(Artifact)}
+     * returns their details without waiting. The artifacts failing to be analysed are left to
+     * {@link #getDependencyFileDetails(Artifact)}, to report the failure.
+     *
+     * @param artifacts the artifacts, with their file resolved.
+     * @since 2.10
+     */
+    public void analyzeDependencyFiles( Collection<Artifact> artifacts )
+    {
+        int threads = Math.min( artifacts.size(), Runtime.getRuntime().availableProcessors() );
+        if ( threads <= 1 )
+        {
+            return;
+        }
 
-            try
+        ExecutorService executor = Executors.newFixedThreadPool( threads );
+        try
+        {
+            List<Future<DependencyFileDetails>> futures = new ArrayList<Future<DependencyFileDetails>>();
+            for ( final Artifact artifact : artifacts )
             {
-                classesAnalyzer.analyze( jarAnalyzer );
+                futures.add( executor.submit( new Callable<DependencyFileDetails>()
+                {
+                    public DependencyFileDetails call()
+                        throws IOException
+                    {
+                        return getDependencyFileDetails( artifact );
+                    }
+                } ) );
             }
-            finally
+            for ( Future<DependencyFileDetails> future : futures )
             {
-                jarAnalyzer.closeQuietly();
+                try
+                {
+                    future.get();
+                }
+                catch ( Exception e )
+                {
+                    // analysed again when rendered
+                }
             }
-            
-            jarData = jarAnalyzer.getJarData();
         }
-
-        dependencyDetails.put( artifact.getId(), jarData );
-    
-        return jarData;
+        finally
+        {
+            executor.shutdownNow();
+        }
     }
 
     // ----------------------------------------------------------------------
     // Private methods
     // ----------------------------------------------------------------------
 
+    /**
+     * @param artifact the artifact.
+     * @return the analysis of the file of the artifact, empty for a directory.
+     * @throws IOException if any
+     */
+    private JarData analyze( Artifact artifact )
+        throws IOException
+    {
+        File file = getFile( artifact );
+
+        if ( file.isDirectory() )
+        {
+            JarData jarData = new JarData( artifact.getFile(), null, new ArrayList<JarEntry>() );
+
+            jarData.setJarClasses( new JarClasses() );
+
+            return jarData;
+        }
+
+        JarAnalyzer jarAnalyzer = new JarAnalyzer( file );
+
+        try
+        {
+            classesAnalyzer.analyze( jarAnalyzer );
+        }
+        finally
+        {
+            jarAnalyzer.closeQuietly();
+        }
+
+        return jarAnalyzer.getJarData();
+    }
+
     /**
      * Recursive method to get all dependencies from a given <code>dependencyNode</code>
      *
@@ -31,14 +31,28 @@ public class DependenciesReportConfiguration
 
     private boolean dependencyLocationsEnabled;
 
+    private int dependencyLocationsThreads;
+
     /**
      * @param detailsEnabled whether details is enabled.
      * @param locationEnabled whether location is enabled.
      */
     public DependenciesReportConfiguration( boolean detailsEnabled, boolean locationEnabled )
+    {
+        this( detailsEnabled, locationEnabled, 1 );
+    }
+
+    /**
+     * @param detailsEnabled whether details is enabled.
+     * @param locationEnabled whether location is enabled.
+     * @param locationsThreads the number of threads checking the locations.
+     * @since 2.10
+     */
+    public DependenciesReportConfiguration( boolean detailsEnabled, boolean locationEnabled, int locationsThreads )
     {
         this.dependencyDetailsEnabled = detailsEnabled;
         this.dependencyLocationsEnabled = locationEnabled;
+        this.dependencyLocationsThreads = locationsThreads;
     }
 
     /**
@@ -56,4 +70,13 @@ public class DependenciesReportConfiguration
     {
         return dependencyLocationsEnabled;
     }
+
+    /**
+     * @return value of Mojo dependencyLocationsThreads parameter.
+     * @since 2.10
+     */
+    public int getDependencyLocationsThreads()
+    {
+        return dependencyLocationsThreads;
+    }
 }
@@ -0,0 +1,165 @@
+package org.apache.maven.report.projectinfo.dependencies;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.Properties;
+
+import org.apache.maven.shared.jar.JarData;
+
+/**
+ * The details of a dependency file shown in the "Dependency File Details" section, as analysed from a
+ * {@link JarData}.
+ *
+ * @version $Id$
+ * @since 2.10
+ */
+public class DependencyFileDetails
+{
+    private static final String ENTRIES = "entries";
+
+    private static final String CLASSES = "classes";
+
+    private static final String PACKAGES = "packages";
+
+    private static final String JDK_REVISION = "jdkRevision";
+
+    private static final String DEBUG_PRESENT = "debugPresent";
+
+    private static final String SEALED = "sealed";
+
+    private final int numEntries;
+
+    private final int numClasses;
+
+    private final int numPackages;
+
+    private final String jdkRevision;
+
+    private final boolean debugPresent;
+
+    private final boolean sealed;
+
+    /**
+     * @param jarData the analysed jar, not null.
+     */
+    public DependencyFileDetails( JarData jarData )
+    {
+        this( jarData.getNumEntries(), jarData.getNumClasses(), jarData.getNumPackages(), jarData.getJdkRevision(),
+              jarData.isDebugPresent(), jarData.isSealed() );
+    }
+
+    private DependencyFileDetails( int numEntries, int numClasses, int numPackages, String jdkRevision,
+                                   boolean debugPresent, boolean sealed )
+    {
+        this.numEntries = numEntries;
+        this.numClasses = numClasses;
+        this.numPackages = numPackages;
+        this.jdkRevision = jdkRevision;
+        this.debugPresent = debugPresent;
+        this.sealed = sealed;
+    }
+
+    /**
+     * @return the number of entries of the jar.
+     */
+    public int getNumEntries()
+    {
+        return numEntries;
+    }
+
+    /**
+     * @return the number of classes of the jar.
+     */
+    public int getNumClasses()
+    {
+        return numClasses;
+    }
+
+    /**
+     * @return the number of packages of the jar.
+     */
+    public int getNumPackages()
+    {
+        return numPackages;
+    }
+
+    /**
+     * @return the highest JDK revision of the classes of the jar, or <code>null</code> if it has no class.
+     */
+    public String getJdkRevision()
+    {
+        return jdkRevision;
+    }
+
+    /**
+     * @return <code>true</code> if the classes of the jar have debug information.
+     */
+    public boolean isDebugPresent()
+    {
+        return debugPresent;
+    }
+
+    /**
+     * @return <code>true</code> if the jar is sealed.
+     */
+    public boolean isSealed()
+    {
+        return sealed;
+    }
+
+    /**
+     * @return the details as properties, to be read by {@link #fromProperties(Properties)}.
+     */
+    Properties toProperties()
+    {
+        Properties properties = new Properties();
+        properties.setProperty( ENTRIES, String.valueOf( numEntries ) );
+        properties.setProperty( CLASSES, String.valueOf( numClasses ) );
+        properties.setProperty( PACKAGES, String.valueOf( numPackages ) );
+        if ( jdkRevision != null )
+        {
+            properties.setProperty( JDK_REVISION, jdkRevision );
+        }
+        properties.setProperty( DEBUG_PRESENT, String.valueOf( debugPresent ) );
+        properties.setProperty( SEALED, String.valueOf( sealed ) );
+        return properties;
+    }
+
+    /**
+     * @param properties the properties written by {@link #toProperties()}.
+     * @return the details, or <code>null</code> if the properties are not valid.
+     */
+    static DependencyFileDetails fromProperties( Properties properties )
+    {
+        try
+        {
+            return new DependencyFileDetails( Integer.parseInt( properties.getProperty( ENTRIES ) ),
+                                              Integer.parseInt( properties.getProperty( CLASSES ) ),
+                                              Integer.parseInt( properties.getProperty( PACKAGES ) ),
+                                              properties.getProperty( JDK_REVISION ),
+                                              Boolean.parseBoolean( properties.getProperty( DEBUG_PRESENT ) ),
+                                              Boolean.parseBoolean( properties.getProperty( SEALED ) ) );
+        }
+        catch ( NumberFormatException e )
+        {
+            return null;
+        }
+    }
+}
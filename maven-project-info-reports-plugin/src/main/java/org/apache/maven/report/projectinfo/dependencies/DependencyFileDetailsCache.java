@@ -0,0 +1,258 @@
+package org.apache.maven.report.projectinfo.dependencies;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.maven.shared.jar.JarAnalyzer;
+import org.codehaus.plexus.util.IOUtil;
+
+/**
+ * Caches the details of the dependency files by checksum, in memory for the modules of a build and in a directory
+ * for the next builds. The details are stored under the version of their format and of the analyzer, so that the
+ * details computed by another version are not reused.
+ *
+ * @version $Id$
+ * @since 2.10
+ */
+class DependencyFileDetailsCache
+{
+    /**
+     * The version of the stored details, to change when {@link DependencyFileDetails} or its analysis changes.
+     */
+    private static final String FORMAT_VERSION = "1";
+
+    /**
+     * The version of the cached details: the format version and the version of the jar analyzer.
+     */
+    static final String VERSION = FORMAT_VERSION + '-' + JarAnalyzer.class.getPackage().getImplementationVersion();
+
+    private static final String CHECKSUMS_KEY = DependencyFileDetailsCache.class.getName() + ".checksums";
+
+    private static final String DETAILS_KEY = DependencyFileDetailsCache.class.getName() + ".details";
+
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * The checksums of the files by path, size and modification time.
+     */
+    private final Map<String, String> checksums;
+
+    /**
+     * The details of the files as properties, by version and checksum.
+     */
+    private final Map<String, Properties> details;
+
+    private final File directory;
+
+    /**
+     * @param directory the directory to store the details in, or <code>null</code> to keep them in memory only.
+     * @param buildContext the values shared by the modules of the build, to keep the details of the build in, or
+     *            <code>null</code> to keep them in this cache only.
+     */
+    DependencyFileDetailsCache( File directory, Map<String, Object> buildContext )
+    {
+        this.directory = directory != null ? new File( directory, VERSION ) : null;
+        this.checksums = getBuildMap( buildContext, CHECKSUMS_KEY );
+        this.details = getBuildMap( buildContext, DETAILS_KEY );
+    }
+
+    /**
+     * Gets a map shared by the modules of the build.
+     *
+     * @param buildContext the values shared by the modules of the build, or <code>null</code> for a new map.
+     * @param key the key of the map in the build context.
+     * @return the map, never <code>null</code>.
+     */
+    @SuppressWarnings( "unchecked" )
+    static <V> Map<String, V> getBuildMap( Map<String, Object> buildContext, String key )
+    {
+        if ( buildContext == null )
+        {
+            return new ConcurrentHashMap<String, V>();
+        }
+
+        synchronized ( buildContext )
+        {
+            Map<String, V> map = (Map<String, V>) buildContext.get( key );
+            if ( map == null )
+            {
+                map = new ConcurrentHashMap<String, V>();
+                buildContext.put( key, map );
+            }
+            return map;
+        }
+    }
+
+    /**
+     * @param file the dependency file, not null.
+     * @return the checksum of the file.
+     * @throws IOException if the file could not be read.
+     */
+    String getChecksum( File file )
+        throws IOException
+    {
+        String key = file.getAbsolutePath() + ':' + file.length() + ':' + file.lastModified();
+        String checksum = checksums.get( key );
+        if ( checksum == null )
+        {
+            checksum = computeChecksum( file );
+            checksums.put( key, checksum );
+        }
+        return checksum;
+    }
+
+    /**
+     * @param checksum the checksum of the dependency file.
+     * @return the cached details, or <code>null</code> if the file was not analysed yet.
+     */
+    DependencyFileDetails get( String checksum )
+    {
+        String key = VERSION + '/' + checksum;
+        Properties properties = details.get( key );
+        if ( properties == null && directory != null )
+        {
+            properties = load( getFile( checksum ) );
+        }
+        if ( properties == null )
+        {
+            return null;
+        }
+
+        DependencyFileDetails fileDetails = DependencyFileDetails.fromProperties( properties );
+        if ( fileDetails != null )
+        {
+            details.put( key, properties );
+        }
+        return fileDetails;
+    }
+
+    /**
+     * @param checksum the checksum of the dependency file.
+     * @param fileDetails the details of the dependency file.
+     * @throws IOException if the details could not be stored.
+     */
+    void put( String checksum, DependencyFileDetails fileDetails )
+        throws IOException
+    {
+        Properties properties = fileDetails.toProperties();
+        details.put( VERSION + '/' + checksum, properties );
+        if ( directory == null )
+        {
+            return;
+        }
+
+        // written aside then renamed, as concurrent builds may share the directory
+        directory.mkdirs();
+        File tmp = File.createTempFile( checksum, ".tmp", directory );
+        OutputStream out = new FileOutputStream( tmp );
+        try
+        {
+            properties.store( out, null );
+        }
+        finally
+        {
+            IOUtil.close( out );
+        }
+        File file = getFile( checksum );
+        if ( !tmp.renameTo( file ) )
+        {
+            file.delete();
+            if ( !tmp.renameTo( file ) )
+            {
+                tmp.delete();
+            }
+        }
+    }
+
+    /**
+     * @param checksum the checksum of the dependency file.
+     * @return the file storing the details of the dependency file in the cache directory.
+     */
+    File getFile( String checksum )
+    {
+        return new File( directory, checksum + ".properties" );
+    }
+
+    private static Properties load( File file )
+    {
+        if ( !file.isFile() )
+        {
+            return null;
+        }
+
+        Properties properties = new Properties();
+        InputStream in = null;
+        try
+        {
+            in = new FileInputStream( file );
+            properties.load( in );
+        }
+        catch ( IOException e )
+        {
+            return null;
+        }
+        finally
+        {
+            IOUtil.close( in );
+        }
+        return properties;
+    }
+
+    private static String computeChecksum( File file )
+        throws IOException
+    {
+        MessageDigest digest;
+        try
+        {
+            digest = MessageDigest.getInstance( "SHA-1" );
+        }
+        catch ( NoSuchAlgorithmException e )
+        {
+            throw new IllegalStateException( e );
+        }
+
+        InputStream in = new FileInputStream( file );
+        try
+        {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            for ( int n = in.read( buffer ); n >= 0; n = in.read( buffer ) )
+            {
+                digest.update( buffer, 0, n );
+            }
+        }
+        finally
+        {
+            IOUtil.close( in );
+        }
+        return new BigInteger( 1, digest.digest() ).toString( 16 );
+    }
+}
@@ -0,0 +1,211 @@
+package org.apache.maven.report.projectinfo.dependencies;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.codehaus.plexus.util.IOUtil;
+
+/**
+ * Caches whether the dependencies exist in the repositories, by location, in memory for the modules of a build and
+ * optionally in a file for the next builds, until a time to live.
+ *
+ * @version $Id$
+ * @since 2.10
+ */
+class RepositoryLocationsCache
+{
+    private static final String LOCATIONS_KEY = RepositoryLocationsCache.class.getName() + ".locations";
+
+    /**
+     * Whether the resources exist by location, shared by the modules of a build.
+     */
+    private final Map<String, Boolean> locations;
+
+    private final File file;
+
+    private final long timeToLive;
+
+    /**
+     * The entries of the file, as <code>exists,timestamp</code> by location.
+     */
+    private final Map<String, String> entries = new ConcurrentHashMap<String, String>();
+
+    private volatile boolean modified;
+
+    /**
+     * @param file the file to store the locations in, or <code>null</code> to keep them in memory only.
+     * @param timeToLive the time to live of the stored locations, in milliseconds.
+     * @param buildContext the values shared by the modules of the build, to keep the locations of the build in, or
+     *            <code>null</code> to keep them in this cache only.
+     */
+    RepositoryLocationsCache( File file, long timeToLive, Map<String, Object> buildContext )
+    {
+        this.locations = DependencyFileDetailsCache.getBuildMap( buildContext, LOCATIONS_KEY );
+        this.file = timeToLive > 0 ? file : null;
+        this.timeToLive = timeToLive;
+        if ( this.file != null )
+        {
+            Properties properties = load();
+            for ( String key : properties.stringPropertyNames() )
+            {
+                entries.put( key, properties.getProperty( key ) );
+            }
+        }
+    }
+
+    /**
+     * @param key the location of the dependency: the repository, its authentication and the URL of the dependency.
+     * @return whether the dependency exists, or <code>null</code> if it is not known.
+     */
+    Boolean get( String key )
+    {
+        Boolean exists = locations.get( key );
+        if ( exists != null || file == null )
+        {
+            return exists;
+        }
+
+        String entry = entries.get( key );
+        if ( entry == null || isExpired( entry ) )
+        {
+            return null;
+        }
+        exists = Boolean.valueOf( entry.substring( 0, entry.indexOf( ',' ) ) );
+        locations.put( key, exists );
+        return exists;
+    }
+
+    /**
+     * @param key the location of the dependency: the repository, its authentication and the URL of the dependency.
+     * @param exists whether the dependency exists.
+     */
+    void put( String key, boolean exists )
+    {
+        locations.put( key, exists );
+        if ( file != null )
+        {
+            entries.put( key, exists + "," + System.currentTimeMillis() );
+            modified = true;
+        }
+    }
+
+    /**
+     * Stores the locations that did not expire, with the ones stored meanwhile by other builds.
+     *
+     * @throws IOException if the locations could not be stored.
+     */
+    void store()
+        throws IOException
+    {
+        if ( !modified )
+        {
+            return;
+        }
+
+        Properties properties = load();
+        for ( Map.Entry<String, String> entry : entries.entrySet() )
+        {
+            String stored = properties.getProperty( entry.getKey() );
+            if ( stored == null || getTimestamp( stored ) < getTimestamp( entry.getValue() ) )
+            {
+                properties.setProperty( entry.getKey(), entry.getValue() );
+            }
+        }
+        for ( String key : properties.stringPropertyNames() )
+        {
+            if ( isExpired( properties.getProperty( key ) ) )
+            {
+                properties.remove( key );
+            }
+        }
+
+        // written aside then renamed, as concurrent builds may share the file
+        file.getParentFile().mkdirs();
+        File tmp = File.createTempFile( file.getName(), ".tmp", file.getParentFile() );
+        OutputStream out = new FileOutputStream( tmp );
+        try
+        {
+            properties.store( out, null );
+        }
+        finally
+        {
+            IOUtil.close( out );
+        }
+        if ( !tmp.renameTo( file ) )
+        {
+            file.delete();
+            if ( !tmp.renameTo( file ) )
+            {
+                tmp.delete();
+            }
+        }
+        modified = false;
+    }
+
+    private boolean isExpired( String entry )
+    {
+        return System.currentTimeMillis() - getTimestamp( entry ) > timeToLive;
+    }
+
+    private static long getTimestamp( String entry )
+    {
+        try
+        {
+            return Long.parseLong( entry.substring( entry.indexOf( ',' ) + 1 ) );
+        }
+        catch ( NumberFormatException e )
+        {
+            return 0;
+        }
+    }
+
+    private Properties load()
+    {
+        Properties properties = new Properties();
+        if ( file.isFile() )
+        {
+            InputStream in = null;
+            try
+            {
+                in = new FileInputStream( file );
+                properties.load( in );
+            }
+            catch ( IOException e )
+            {
+                // rebuilt when stored
+                properties.clear();
+            }
+            finally
+            {
+                IOUtil.close( in );
+            }
+        }
+        return properties;
+    }
+}
@@ -19,9 +19,21 @@ package org.apache.maven.report.projectinfo.dependencies;
  * under the License.
  */
 
+import java.io.File;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.math.BigInteger;
 import java.net.UnknownHostException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
 
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.ArtifactUtils;
@@ -63,7 +75,7 @@ import org.codehaus.plexus.util.StringUtils;
  */
 public class RepositoryUtils
 {
-    private static final List<String> UNKNOWN_HOSTS = new ArrayList<String>();
+    private static final List<String> UNKNOWN_HOSTS = new CopyOnWriteArrayList<String>();
 
     private final Log log;
 
@@ -83,6 +95,14 @@ public class RepositoryUtils
 
     private final ArtifactRepository localRepository;
 
+    /**
+     * The connected wagons which are not in use, by repository.
+     */
+    private final ConcurrentMap<String, BlockingQueue<Wagon>> idleWagons =
+        new ConcurrentHashMap<String, BlockingQueue<Wagon>>();
+
+    private RepositoryLocationsCache locationsCache = new RepositoryLocationsCache( null, 0, null );
+
     /**
      * @param log {@link Log}
      * @param wagonManager {@link WagonManager}
@@ -136,6 +156,47 @@ public class RepositoryUtils
         return pluginRepositories;
     }
 
+    /**
+     * Shares whether the dependencies exist in the repositories with the other modules of the build, and stores it in
+     * a file to share it with the next builds.
+     *
+     * @param file the file to store the locations in.
+     * @param timeToLive the time to live of the stored locations, in milliseconds, or <code>0</code> to not store
+     *            them.
+     * @param buildContext the values shared by the modules of the build, to share the locations in, or
+     *            <code>null</code> to only share them within this instance.
+     * @since 2.10
+     */
+    public void setLocationsCache( File file, long timeToLive, Map<String, Object> buildContext )
+    {
+        locationsCache = new RepositoryLocationsCache( file, timeToLive, buildContext );
+    }
+
+    /**
+     * Disconnects the wagons used to check the repositories and stores the checked locations.
+     *
+     * @since 2.10
+     */
+    public void close()
+    {
+        for ( BlockingQueue<Wagon> wagons : idleWagons.values() )
+        {
+            for ( Wagon wagon = wagons.poll(); wagon != null; wagon = wagons.poll() )
+            {
+                disconnect( wagon );
+            }
+        }
+
+        try
+        {
+            locationsCache.store();
+        }
+        catch ( IOException e )
+        {
+            logError( "Unable to store the dependency locations - ignored", e );
+        }
+    }
+
     /**
      * @param artifact not null
      * @throws ArtifactResolutionException if any
@@ -160,6 +221,21 @@ public class RepositoryUtils
      * the repo is blacklisted.
      */
     public boolean dependencyExistsInRepo( ArtifactRepository repo, Artifact artifact )
+    {
+        String url = getDependencyUrlToCheck( repo, artifact );
+        return url != null && dependencyExistsInRepo( repo, url );
+    }
+
+    /**
+     * Gets the URL to check whether an artifact exists in a repository, in its mirror if any. This may resolve the
+     * artifact, so it must not be called concurrently for the same artifact.
+     *
+     * @param repo not null
+     * @param artifact not null
+     * @return the URL of the artifact, or <code>null</code> if the repo is blacklisted or its host is unknown.
+     * @since 2.10
+     */
+    public String getDependencyUrlToCheck( ArtifactRepository repo, Artifact artifact )
     {
         if ( repo.isBlacklisted() )
         {
@@ -167,7 +243,7 @@ public class RepositoryUtils
             {
                 log.debug( "The repo '" + repo.getId() + "' is black listed - Ignored it" );
             }
-            return false;
+            return null;
         }
 
         if ( UNKNOWN_HOSTS.contains( repo.getUrl() ) )
@@ -176,67 +252,52 @@ public class RepositoryUtils
             {
                 log.debug( "The repo url '" + repo.getUrl() + "' is unknown - Ignored it" );
             }
-            return false;
+            return null;
         }
 
-        repo = wagonManager.getMirrorRepository( repo );
-
-        String id = repo.getId();
-        Repository repository = new Repository( id, repo.getUrl() );
+        return getDependencyUrlFromRepository( artifact, wagonManager.getMirrorRepository( repo ) );
+    }
 
-        Wagon wagon;
-        try
-        {
-            wagon = wagonManager.getWagon( repository );
-        }
-        catch ( UnsupportedProtocolException e )
+    /**
+     * Checks whether an artifact exists in a repository, at the URL given by
+     * {@link #getDependencyUrlToCheck(ArtifactRepository, Artifact)}. This does not resolve the artifact, so it can be
+     * called concurrently.
+     *
+     * @param repo not null
+     * @param url the URL of the artifact in the repository or its mirror, not null
+     * @return <code>true</code> if the artifact exists at the given URL, <code>false</code> otherwise.
+     * @since 2.10
+     */
+    public boolean dependencyExistsInRepo( ArtifactRepository repo, String url )
+    {
+        if ( UNKNOWN_HOSTS.contains( repo.getUrl() ) )
         {
-            logError( "Unsupported protocol: '" + repo.getProtocol() + "'", e );
-            return false;
-        }
-        catch ( WagonConfigurationException e )
-        {
-            logError( "Unsupported protocol: '" + repo.getProtocol() + "'", e );
             return false;
         }
 
-        wagon.setTimeout( 1000 );
+        repo = wagonManager.getMirrorRepository( repo );
 
-        if ( log.isDebugEnabled() )
+        String key = getLocationKey( repo, url );
+        Boolean exists = locationsCache.get( key );
+        if ( exists != null )
         {
-            Debug debug = new Debug();
+            return exists;
+        }
 
-            wagon.addSessionListener( debug );
-            wagon.addTransferListener( debug );
+        Wagon wagon = getConnectedWagon( repo );
+        if ( wagon == null )
+        {
+            return false;
         }
 
+        boolean reusable = true;
         try
         {
-            // FIXME when upgrading to maven 3.x : this must be changed.
-            AuthenticationInfo auth = wagonManager.getAuthenticationInfo( repo.getId() );
+            exists = wagon.resourceExists( StringUtils.replace( url, repo.getUrl(), "" ) );
 
-            ProxyInfo proxyInfo = getProxyInfo();
-            if ( proxyInfo != null )
-            {
-                wagon.connect( repository, auth, proxyInfo );
-            }
-            else
-            {
-                wagon.connect( repository, auth );
-            }
+            locationsCache.put( key, exists );
 
-            return wagon.resourceExists( StringUtils.replace( getDependencyUrlFromRepository( artifact, repo ),
-                                                              repo.getUrl(), "" ) );
-        }
-        catch ( ConnectionException e )
-        {
-            logError( "Unable to connect to: " + repo.getUrl(), e );
-            return false;
-        }
-        catch ( AuthenticationException e )
-        {
-            logError( "Unable to connect to: " + repo.getUrl(), e );
-            return false;
+            return exists;
         }
         catch ( TransferFailedException e )
         {
@@ -247,7 +308,7 @@ public class RepositoryUtils
             }
             else
             {
-                logError( "Unable to determine if resource " + artifact + " exists in " + repo.getUrl(), e );
+                logError( "Unable to determine if resource " + url + " exists in " + repo.getUrl(), e );
             }
             return false;
         }
@@ -259,17 +320,18 @@ public class RepositoryUtils
         catch ( AbstractMethodError e )
         {
             log.error( "Wagon " + wagon.getClass().getName() + " does not support the resourceExists method" );
+            reusable = false;
             return false;
         }
         finally
         {
-            try
+            if ( reusable )
             {
-                wagon.disconnect();
+                getIdleWagons( repo ).add( wagon );
             }
-            catch ( ConnectionException e )
+            else
             {
-                logError( "Error disconnecting wagon - ignored", e );
+                disconnect( wagon );
             }
         }
     }
@@ -368,6 +430,135 @@ public class RepositoryUtils
     // Private methods
     // ----------------------------------------------------------------------
 
+    /**
+     * @param repo not null
+     * @return an idle wagon connected to the given repo, or a newly connected one, or <code>null</code> if the repo
+     * can't be connected to.
+     */
+    private Wagon getConnectedWagon( ArtifactRepository repo )
+    {
+        Wagon wagon = getIdleWagons( repo ).poll();
+        if ( wagon != null )
+        {
+            return wagon;
+        }
+
+        Repository repository = new Repository( repo.getId(), repo.getUrl() );
+
+        try
+        {
+            wagon = wagonManager.getWagon( repository );
+        }
+        catch ( UnsupportedProtocolException e )
+        {
+            logError( "Unsupported protocol: '" + repo.getProtocol() + "'", e );
+            return null;
+        }
+        catch ( WagonConfigurationException e )
+        {
+            logError( "Unsupported protocol: '" + repo.getProtocol() + "'", e );
+            return null;
+        }
+
+        wagon.setTimeout( 1000 );
+
+        if ( log.isDebugEnabled() )
+        {
+            Debug debug = new Debug();
+
+            wagon.addSessionListener( debug );
+            wagon.addTransferListener( debug );
+        }
+
+        try
+        {
+            // FIXME when upgrading to maven 3.x : this must be changed.
+            AuthenticationInfo auth = wagonManager.getAuthenticationInfo( repo.getId() );
+
+            ProxyInfo proxyInfo = getProxyInfo();
+            if ( proxyInfo != null )
+            {
+                wagon.connect( repository, auth, proxyInfo );
+            }
+            else
+            {
+                wagon.connect( repository, auth );
+            }
+
+            return wagon;
+        }
+        catch ( ConnectionException e )
+        {
+            logError( "Unable to connect to: " + repo.getUrl(), e );
+        }
+        catch ( AuthenticationException e )
+        {
+            logError( "Unable to connect to: " + repo.getUrl(), e );
+        }
+
+        disconnect( wagon );
+        return null;
+    }
+
+    /**
+     * @param repo the repository checked, not null
+     * @param url the URL checked, not null
+     * @return the key of the location in the cache: the repository id and URL, and a digest of its authentication,
+     * as another user may not have access to the same artifacts.
+     */
+    private String getLocationKey( ArtifactRepository repo, String url )
+    {
+        AuthenticationInfo auth = wagonManager.getAuthenticationInfo( repo.getId() );
+        String authDigest = "";
+        if ( auth != null )
+        {
+            try
+            {
+                MessageDigest digest = MessageDigest.getInstance( "SHA-1" );
+                digest.update( ( auth.getUserName() + ':' + auth.getPassword() + ':' + auth.getPrivateKey() + ':'
+                    + auth.getPassphrase() ).getBytes( "UTF-8" ) );
+                authDigest = new BigInteger( 1, digest.digest() ).toString( 16 );
+            }
+            catch ( NoSuchAlgorithmException e )
+            {
+                throw new IllegalStateException( e );
+            }
+            catch ( UnsupportedEncodingException e )
+            {
+                throw new IllegalStateException( e );
+            }
+        }
+        return repo.getId() + '|' + authDigest + '|' + url;
+    }
+
+    private BlockingQueue<Wagon> getIdleWagons( ArtifactRepository repo )
+    {
+        String key = repo.getId() + ':' + repo.getUrl();
+        BlockingQueue<Wagon> wagons = idleWagons.get( key );
+        if ( wagons == null )
+        {
+            wagons = new LinkedBlockingQueue<Wagon>();
+            BlockingQueue<Wagon> previous = idleWagons.putIfAbsent( key, wagons );
+            if ( previous != null )
+            {
+                wagons = previous;
+            }
+        }
+        return wagons;
+    }
+
+    private void disconnect( Wagon wagon )
+    {
+        try
+        {
+            wagon.disconnect();
+        }
+        catch ( ConnectionException e )
+        {
+            logError( "Error disconnecting wagon - ignored", e );
+        }
+    }
+
     /**
      * Convenience method to map a <code>Proxy</code> object from the user system settings to a <code>ProxyInfo</code>
      * object.
@@ -34,12 +34,18 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.factory.ArtifactFactory;
@@ -60,10 +66,10 @@ import org.apache.maven.report.projectinfo.AbstractProjectInfoRenderer;
 import org.apache.maven.report.projectinfo.ProjectInfoReportUtils;
 import org.apache.maven.report.projectinfo.dependencies.Dependencies;
 import org.apache.maven.report.projectinfo.dependencies.DependenciesReportConfiguration;
+import org.apache.maven.report.projectinfo.dependencies.DependencyFileDetails;
 import org.apache.maven.report.projectinfo.dependencies.RepositoryUtils;
 import org.apache.maven.settings.Settings;
 import org.apache.maven.shared.dependency.graph.DependencyNode;
-import org.apache.maven.shared.jar.JarData;
 import org.codehaus.plexus.i18n.I18N;
 import org.codehaus.plexus.util.StringUtils;
 
@@ -512,6 +518,16 @@ public class DependenciesRenderer
 
         resolveAtrifacts( alldeps );
 
+        List<Artifact> jardeps = new ArrayList<Artifact>();
+        for ( Artifact artifact : alldeps )
+        {
+            if ( artifact.getFile() != null && JAR_SUBTYPE.contains( artifact.getType().toLowerCase() ) )
+            {
+                jardeps.add( artifact );
+            }
+        }
+        dependencies.analyzeDependencyFiles( jardeps );
+
         // i18n
         String filename = getI18nString( "file.details.column.file" );
         String size = getI18nString( "file.details.column.size" );
@@ -579,7 +595,7 @@ public class DependenciesRenderer
             {
                 try
                 {
-                    JarData jarDetails = dependencies.getJarDependencyDetails( artifact );
+                    DependencyFileDetails jarDetails = dependencies.getDependencyFileDetails( artifact );
 
                     String debugInformationCellValue = debugInformationCellNo;
                     if ( jarDetails.isDebugPresent() )
@@ -1393,6 +1409,22 @@ public class DependenciesRenderer
             idnum++;
         }
 
+        // the urls are resolved first, as it may resolve the snapshots
+        Map<String, String> depUrls = new HashMap<String, String>();
+        for ( Artifact dependency : alldeps )
+        {
+            if ( !Artifact.SCOPE_SYSTEM.equals( dependency.getScope() ) )
+            {
+                for ( String repokey : repoIdList )
+                {
+                    depUrls.put( getLocationKey( dependency, repokey ),
+                                 repoUtils.getDependencyUrlFromRepository( dependency, repoMap.get( repokey ) ) );
+                }
+            }
+        }
+
+        Map<String, Boolean> locations = checkArtifactsLocations( repoMap, repoIdList, alldeps );
+
         Map<String, Integer> totalByRepo = new HashMap<String, Integer>();
         TotalCell totaldeps = new TotalCell( DEFAULT_DECIMAL_FORMAT );
 
@@ -1422,7 +1454,8 @@ public class DependenciesRenderer
                 {
                     ArtifactRepository repo = repoMap.get( repokey );
 
-                    String depUrl = repoUtils.getDependencyUrlFromRepository( dependency, repo );
+                    String key = getLocationKey( dependency, repokey );
+                    String depUrl = depUrls.get( key );
 
                     Integer old = totalByRepo.get( repokey );
                     if ( old == null )
@@ -1431,13 +1464,7 @@ public class DependenciesRenderer
                         totalByRepo.put( repokey, old );
                     }
 
-                    boolean dependencyExists = false;
-                    // check snapshots in snapshots repository only and releases in release repositories...
-                    if ( ( dependency.isSnapshot() && repo.getSnapshots().isEnabled() )
-                        || ( !dependency.isSnapshot() && repo.getReleases().isEnabled() ) )
-                    {
-                        dependencyExists = repoUtils.dependencyExistsInRepo( repo, dependency );
-                    }
+                    boolean dependencyExists = Boolean.TRUE.equals( locations.get( key ) );
 
                     if ( dependencyExists )
                     {
@@ -1493,6 +1520,97 @@ public class DependenciesRenderer
         endTable();
     }
 
+    /**
+     * Checks concurrently whether the artifacts exist in the repositories. Snapshots are only checked in snapshots
+     * repositories and releases in releases repositories. The URLs to check are computed first, as it may resolve the
+     * artifacts.
+     *
+     * @param repoMap not null
+     * @param repoIdList the ids of the repositories to check, not null
+     * @param alldeps not null
+     * @return whether the artifacts exist, by {@link #getLocationKey(Artifact, String)}.
+     */
+    private Map<String, Boolean> checkArtifactsLocations( Map<String, ArtifactRepository> repoMap,
+                                                          List<String> repoIdList, List<Artifact> alldeps )
+    {
+        final Map<String, Boolean> locations = new ConcurrentHashMap<String, Boolean>();
+
+        Map<String, ArtifactRepository> checkedRepos = new HashMap<String, ArtifactRepository>();
+        Map<String, String> checkedUrls = new LinkedHashMap<String, String>();
+        for ( Artifact dependency : alldeps )
+        {
+            if ( Artifact.SCOPE_SYSTEM.equals( dependency.getScope() ) )
+            {
+                continue;
+            }
+
+            for ( String repokey : repoIdList )
+            {
+                ArtifactRepository repo = repoMap.get( repokey );
+
+                if ( ( dependency.isSnapshot() && repo.getSnapshots().isEnabled() )
+                    || ( !dependency.isSnapshot() && repo.getReleases().isEnabled() ) )
+                {
+                    String url = repoUtils.getDependencyUrlToCheck( repo, dependency );
+                    if ( url != null )
+                    {
+                        String key = getLocationKey( dependency, repokey );
+                        checkedRepos.put( key, repo );
+                        checkedUrls.put( key, url );
+                    }
+                }
+            }
+        }
+
+        int threads = Math.max( 1, Math.min( checkedUrls.size(), configuration.getDependencyLocationsThreads() ) );
+        ExecutorService executor = Executors.newFixedThreadPool( threads );
+        try
+        {
+            List<Future<?>> futures = new ArrayList<Future<?>>();
+            for ( final Map.Entry<String, String> checkedUrl : checkedUrls.entrySet() )
+            {
+                final ArtifactRepository repo = checkedRepos.get( checkedUrl.getKey() );
+
+                futures.add( executor.submit( new Runnable()
+                {
+                    public void run()
+                    {
+                        locations.put( checkedUrl.getKey(),
+                                       repoUtils.dependencyExistsInRepo( repo, checkedUrl.getValue() ) );
+                    }
+                } ) );
+            }
+
+            for ( Future<?> future : futures )
+            {
+                try
+                {
+                    future.get();
+                }
+                catch ( ExecutionException e )
+                {
+                    log.error( "Unable to check a dependency location: " + e.getCause().getMessage(),
+                               e.getCause() );
+                }
+            }
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+
+        return locations;
+    }
+
+    private static String getLocationKey( Artifact artifact, String repokey )
+    {
+        return artifact.getId() + '@' + repokey;
+    }
+
     /**
      * @param artifacts not null
      * @return <code>true</code> if one artifact in the list has a classifier, <code>false</code> otherwise.
@@ -1539,7 +1657,7 @@ public class DependenciesRenderer
             {
                 try
                 {
-                    JarData jarDetails = dependencies.getJarDependencyDetails( artifact );
+                    DependencyFileDetails jarDetails = dependencies.getDependencyFileDetails( artifact );
                     if ( jarDetails.isSealed() )
                     {
                         return true;
@@ -20,6 +20,16 @@ package org.apache.maven.report.projectinfo;
  */
 
 import java.net.URL;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.artifact.versioning.VersionRange;
+import org.apache.maven.report.projectinfo.dependencies.DependencyVersionMap;
+import org.apache.maven.shared.dependency.tree.DependencyNode;
 
 import com.meterware.httpunit.GetMethodWebRequest;
 import com.meterware.httpunit.TextBlock;
@@ -71,4 +81,58 @@ public class DependencyConvergenceReportTest
         TextBlock[] textBlocks = response.getTextBlocks();
         assertEquals( getString( "report.dependency-convergence.reactor.name" ), textBlocks[0].getText() );
     }
+
+    /**
+     * Test that the visitor collects in one visit the descendants of the root and the version map, with the same
+     * conflicts as a {@link DependencyVersionMap} alone.
+     *
+     * @throws Exception if any
+     */
+    public void testDependencyTreeVisitor()
+        throws Exception
+    {
+        Artifact a = newArtifact( "a", "1.0" );
+        Artifact b = newArtifact( "b", "1.0" );
+        Artifact c1 = newArtifact( "c", "1.0" );
+        Artifact c2 = newArtifact( "c", "2.0" );
+        Artifact d = newArtifact( "d", "1.0" );
+        Artifact e1 = newArtifact( "e", "1.0" );
+        Artifact e2 = newArtifact( "e", "2.0" );
+
+        // root -> a -> c:1.0 -> d, root -> b -> c:2.0 -> e:1.0, root -> e:2.0
+        DependencyNode root = new DependencyNode( newArtifact( "root", "1.0" ) );
+        DependencyNode nodeA = new DependencyNode( a );
+        DependencyNode nodeC1 = new DependencyNode( c1 );
+        nodeC1.addChild( new DependencyNode( d ) );
+        nodeA.addChild( nodeC1 );
+        DependencyNode nodeB = new DependencyNode( b );
+        DependencyNode nodeC2 = new DependencyNode( c2 );
+        nodeC2.addChild( new DependencyNode( e1 ) );
+        nodeB.addChild( nodeC2 );
+        root.addChild( nodeA );
+        root.addChild( nodeB );
+        root.addChild( new DependencyNode( e2 ) );
+
+        DependencyConvergenceReport.DependencyTreeVisitor visitor =
+            new DependencyConvergenceReport.DependencyTreeVisitor();
+        root.accept( visitor );
+
+        assertEquals( new HashSet<Artifact>( Arrays.asList( a, b, c1, c2, d, e1, e2 ) ), visitor.getDescendants() );
+
+        DependencyVersionMap versionMap = new DependencyVersionMap();
+        versionMap.setUniqueVersions( true );
+        root.accept( versionMap );
+
+        // e:1.0 is below the conflicting c:2.0, so only c is conflicting
+        List<List<DependencyNode>> conflicts = visitor.getVersionMap().getConflictedVersionNumbers();
+        assertEquals( versionMap.getConflictedVersionNumbers(), conflicts );
+        assertEquals( 1, conflicts.size() );
+        assertEquals( Arrays.asList( nodeC1, nodeC2 ), conflicts.get( 0 ) );
+    }
+
+    private static Artifact newArtifact( String artifactId, String version )
+    {
+        return new DefaultArtifact( "test", artifactId, VersionRange.createFromVersion( version ), "compile", "jar",
+                                    null, new DefaultArtifactHandler( "jar" ) );
+    }
 }
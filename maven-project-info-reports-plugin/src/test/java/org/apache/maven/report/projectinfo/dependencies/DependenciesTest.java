@@ -0,0 +1,116 @@
+package org.apache.maven.report.projectinfo.dependencies;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.artifact.versioning.VersionRange;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.shared.jar.classes.JarClassesAnalysis;
+import org.codehaus.plexus.PlexusTestCase;
+import org.codehaus.plexus.util.FileUtils;
+import org.codehaus.plexus.util.IOUtil;
+
+/**
+ * @version $Id$
+ */
+public class DependenciesTest
+    extends PlexusTestCase
+{
+    /**
+     * Test the cache of the dependency file details: shared in memory by the modules of a build, stored on disk for
+     * the next builds, and not reused from another cache version.
+     *
+     * @throws Exception if any
+     */
+    public void testDependencyFileDetailsCache()
+        throws Exception
+    {
+        File baseDir = new File( getBasedir(), "target/unit/dependency-file-details" );
+        FileUtils.deleteDirectory( baseDir );
+        baseDir.mkdirs();
+
+        File jar = new File( baseDir, "test-1.0.jar" );
+        writeJar( jar, "a.txt", "b.txt" );
+        Artifact artifact = new DefaultArtifact( "test", "test", VersionRange.createFromVersion( "1.0" ), "compile",
+                                                 "jar", null, new DefaultArtifactHandler( "jar" ) );
+        artifact.setFile( jar );
+
+        File cacheDir = new File( baseDir, "cache" );
+        String checksum = new DependencyFileDetailsCache( null, null ).getChecksum( jar );
+        File cacheFile = new File( new File( cacheDir, DependencyFileDetailsCache.VERSION ), checksum + ".properties" );
+
+        // analysed, then stored for the next builds
+        Map<String, Object> build1 = new HashMap<String, Object>();
+        assertEquals( 2, newDependencies( cacheDir, build1 ).getDependencyFileDetails( artifact ).getNumEntries() );
+        assertTrue( cacheFile.isFile() );
+
+        // a next build reads the stored details
+        FileUtils.fileWrite( cacheFile.getAbsolutePath(), "ISO-8859-1",
+                             FileUtils.fileRead( cacheFile, "ISO-8859-1" ).replace( "entries=2", "entries=42" ) );
+        Map<String, Object> build2 = new HashMap<String, Object>();
+        assertEquals( 42, newDependencies( cacheDir, build2 ).getDependencyFileDetails( artifact ).getNumEntries() );
+
+        // the modules of the first build still share its details
+        assertEquals( 2, newDependencies( cacheDir, build1 ).getDependencyFileDetails( artifact ).getNumEntries() );
+
+        // the details stored by another version are not reused
+        FileUtils.rename( cacheFile, new File( cacheDir, cacheFile.getName() ) );
+        Map<String, Object> build3 = new HashMap<String, Object>();
+        assertEquals( 2, newDependencies( cacheDir, build3 ).getDependencyFileDetails( artifact ).getNumEntries() );
+
+        // the deprecated analysis is still available
+        assertEquals( 2, newDependencies( null, null ).getJarDependencyDetails( artifact ).getNumEntries() );
+    }
+
+    private Dependencies newDependencies( File cacheDir, Map<String, Object> buildContext )
+        throws Exception
+    {
+        JarClassesAnalysis classesAnalyzer = (JarClassesAnalysis) lookup( JarClassesAnalysis.class.getName() );
+        return new Dependencies( new MavenProject(), null, classesAnalyzer, cacheDir, buildContext );
+    }
+
+    private static void writeJar( File file, String... names )
+        throws Exception
+    {
+        ZipOutputStream out = new ZipOutputStream( new FileOutputStream( file ) );
+        try
+        {
+            for ( String name : names )
+            {
+                out.putNextEntry( new ZipEntry( name ) );
+                out.write( name.getBytes( "UTF-8" ) );
+                out.closeEntry();
+            }
+        }
+        finally
+        {
+            IOUtil.close( out );
+        }
+    }
+}
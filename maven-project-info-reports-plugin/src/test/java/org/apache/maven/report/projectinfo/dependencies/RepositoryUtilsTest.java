@@ -0,0 +1,119 @@
+package org.apache.maven.report.projectinfo.dependencies;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.artifact.manager.WagonManager;
+import org.apache.maven.artifact.repository.ArtifactRepository;
+import org.apache.maven.artifact.repository.DefaultArtifactRepository;
+import org.apache.maven.artifact.repository.layout.DefaultRepositoryLayout;
+import org.apache.maven.artifact.versioning.VersionRange;
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.codehaus.plexus.PlexusTestCase;
+import org.codehaus.plexus.util.FileUtils;
+
+/**
+ * @version $Id$
+ */
+public class RepositoryUtilsTest
+    extends PlexusTestCase
+{
+    /**
+     * Test the check of the dependency locations in a file repository: the result is shared by the modules of a
+     * build, and checked again by the next builds.
+     *
+     * @throws Exception if any
+     */
+    public void testDependencyExistsInRepo()
+        throws Exception
+    {
+        File repoDir = new File( getBasedir(), "target/unit/dependency-locations/repo" );
+        FileUtils.deleteDirectory( repoDir );
+        repoDir.mkdirs();
+
+        ArtifactRepository repo = new DefaultArtifactRepository( "test-repo", repoDir.toURI().toString(),
+                                                                 new DefaultRepositoryLayout() );
+        Artifact existing = newArtifact( "existing" );
+        Artifact missing = newArtifact( "missing" );
+        File existingFile = new File( repoDir, repo.pathOf( existing ) );
+        existingFile.getParentFile().mkdirs();
+        FileUtils.fileWrite( existingFile.getAbsolutePath(), "jar" );
+
+        Map<String, Object> build1 = new HashMap<String, Object>();
+        RepositoryUtils repoUtils = newRepositoryUtils( build1 );
+        try
+        {
+            String url = repoUtils.getDependencyUrlToCheck( repo, existing );
+            assertNotNull( url );
+            assertTrue( repoUtils.dependencyExistsInRepo( repo, url ) );
+            assertFalse( repoUtils.dependencyExistsInRepo( repo, missing ) );
+        }
+        finally
+        {
+            repoUtils.close();
+        }
+
+        assertTrue( existingFile.delete() );
+
+        // the modules of the first build still share its locations
+        repoUtils = newRepositoryUtils( build1 );
+        try
+        {
+            assertTrue( repoUtils.dependencyExistsInRepo( repo, existing ) );
+        }
+        finally
+        {
+            repoUtils.close();
+        }
+
+        // a next build checks the repository again
+        repoUtils = newRepositoryUtils( new HashMap<String, Object>() );
+        try
+        {
+            assertFalse( repoUtils.dependencyExistsInRepo( repo, existing ) );
+        }
+        finally
+        {
+            repoUtils.close();
+        }
+    }
+
+    private RepositoryUtils newRepositoryUtils( Map<String, Object> buildContext )
+        throws Exception
+    {
+        WagonManager wagonManager = (WagonManager) lookup( WagonManager.ROLE );
+        RepositoryUtils repoUtils =
+            new RepositoryUtils( new SystemStreamLog(), wagonManager, null, null, null, null, null, null, null, null );
+        repoUtils.setLocationsCache( null, 0, buildContext );
+        return repoUtils;
+    }
+
+    private static Artifact newArtifact( String artifactId )
+    {
+        return new DefaultArtifact( "test", artifactId, VersionRange.createFromVersion( "1.0" ), "compile", "jar",
+                                    null, new DefaultArtifactHandler( "jar" ) );
+    }
+}
@@ -0,0 +1,128 @@
+package org.apache.maven.plugins.resources;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.apache.maven.shared.utils.io.IOUtil;
+import org.codehaus.plexus.interpolation.multi.DelimiterSpecification;
+import org.codehaus.plexus.util.ReaderFactory;
+
+/**
+ * Detects whether a resource contains the begin token of at least one of the configured delimiters, so that the
+ * resources without any expression can be copied without creating an interpolator. The resource is read as a stream,
+ * keeping only a bounded window of characters in memory whatever its size.
+ * <p>
+ * Instances are immutable and can be shared between threads.
+ * </p>
+ *
+ * @since 3.0.3
+ */
+class DelimiterScanner
+{
+    private static final int BUFFER_SIZE = 8192;
+
+    private final List<String> beginTokens;
+
+    private final int maxBeginTokenLength;
+
+    /**
+     * @param delimiters The delimiters, in the {@code beginToken*endToken} form.
+     */
+    DelimiterScanner( Collection<String> delimiters )
+    {
+        this.beginTokens = new ArrayList<String>( delimiters.size() );
+        int maxLength = 0;
+        for ( String delimiter : delimiters )
+        {
+            String beginToken = DelimiterSpecification.parse( delimiter ).getBegin();
+            beginTokens.add( beginToken );
+            maxLength = Math.max( maxLength, beginToken.length() );
+        }
+        this.maxBeginTokenLength = maxLength;
+    }
+
+    /**
+     * @param file The file to check.
+     * @param encoding The encoding of the file, or <code>null</code> for the platform encoding.
+     * @return <code>true</code> if the file contains the begin token of one of the delimiters.
+     * @throws IOException if the file cannot be read.
+     */
+    boolean containsDelimiter( File file, String encoding )
+        throws IOException
+    {
+        Reader reader = null;
+        try
+        {
+            reader = encoding == null ? ReaderFactory.newPlatformReader( file )
+                            : ReaderFactory.newReader( file, encoding );
+            boolean found = containsDelimiter( reader );
+            reader.close();
+            reader = null;
+            return found;
+        }
+        finally
+        {
+            IOUtil.close( reader );
+        }
+    }
+
+    /**
+     * @param reader The content to check, read until a begin token is found.
+     * @return <code>true</code> if the content contains the begin token of one of the delimiters.
+     * @throws IOException if the content cannot be read.
+     */
+    boolean containsDelimiter( Reader reader )
+        throws IOException
+    {
+        // the end of the previous chunk is kept, for the begin tokens spanning two chunks
+        StringBuilder window = new StringBuilder( BUFFER_SIZE + maxBeginTokenLength );
+        char[] chars = new char[BUFFER_SIZE];
+        int read;
+        while ( ( read = reader.read( chars ) ) != -1 )
+        {
+            window.append( chars, 0, read );
+            if ( containsBeginToken( window ) )
+            {
+                return true;
+            }
+            window.delete( 0, Math.max( 0, window.length() - maxBeginTokenLength + 1 ) );
+        }
+        return false;
+    }
+
+    private boolean containsBeginToken( CharSequence content )
+    {
+        String text = content.toString();
+        for ( String beginToken : beginTokens )
+        {
+            if ( text.contains( beginToken ) )
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -20,12 +20,21 @@ package org.apache.maven.plugins.resources;
  */
 
 import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.maven.execution.MavenSession;
 import org.apache.maven.model.Resource;
@@ -36,9 +45,13 @@ import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.project.MavenProject;
+import org.apache.maven.shared.filtering.MavenFileFilter;
 import org.apache.maven.shared.filtering.MavenFilteringException;
 import org.apache.maven.shared.filtering.MavenResourcesExecution;
 import org.apache.maven.shared.filtering.MavenResourcesFiltering;
+import org.apache.maven.shared.utils.PathTool;
+import org.apache.maven.shared.utils.io.FileUtils;
+import org.apache.maven.shared.utils.io.IOUtil;
 import org.codehaus.plexus.PlexusConstants;
 import org.codehaus.plexus.PlexusContainer;
 import org.codehaus.plexus.component.repository.exception.ComponentLookupException;
@@ -46,7 +59,9 @@ import org.codehaus.plexus.context.Context;
 import org.codehaus.plexus.context.ContextException;
 import org.codehaus.plexus.personality.plexus.lifecycle.phase.Contextualizable;
 import org.codehaus.plexus.util.ReaderFactory;
+import org.codehaus.plexus.util.Scanner;
 import org.codehaus.plexus.util.StringUtils;
+import org.sonatype.plexus.build.incremental.BuildContext;
 
 /**
  * Copy resources for the main source code to the main output directory. Always uses the project.build.resources element
@@ -126,6 +141,18 @@ public class ResourcesMojo
     @Component( role = MavenResourcesFiltering.class, hint = "default" )
     protected MavenResourcesFiltering mavenResourcesFiltering;
 
+    /**
+     * @since 3.0.3
+     */
+    @Component( role = MavenFileFilter.class, hint = "default" )
+    protected MavenFileFilter mavenFileFilter;
+
+    /**
+     * @since 3.0.3
+     */
+    @Component
+    private BuildContext buildContext;
+
     /**
      *
      */
@@ -283,6 +310,19 @@ public class ResourcesMojo
     @Parameter( property = "maven.resources.skip", defaultValue = "false" )
     private boolean skip;
 
+    /**
+     * The number of threads used to copy and filter the resources. With a value greater than <code>1</code>, the
+     * filter properties and delimiters are computed once for the execution, the files of each resource are spread
+     * over the threads, and files which do not contain the begin token of any of the configured delimiters are copied
+     * without being interpolated. The resources themselves are still copied one after the other, in their declaration
+     * order. Additional filtering components configured with {@link #mavenFilteringHints} are still executed
+     * sequentially, after all resources have been copied.
+     *
+     * @since 3.0.3
+     */
+    @Parameter( property = "maven.resources.threads", defaultValue = "1" )
+    private int threads;
+
     /** {@inheritDoc} */
     public void contextualize( Context context )
         throws ContextException
@@ -339,7 +379,14 @@ public class ResourcesMojo
             {
                 mavenResourcesExecution.setNonFilteredFileExtensions( nonFilteredFileExtensions );
             }
-            mavenResourcesFiltering.filterResources( mavenResourcesExecution );
+            if ( threads > 1 )
+            {
+                filterResourcesConcurrently( mavenResourcesExecution );
+            }
+            else
+            {
+                mavenResourcesFiltering.filterResources( mavenResourcesExecution );
+            }
 
             executeUserFilterComponents( mavenResourcesExecution );
         }
@@ -376,6 +423,307 @@ public class ResourcesMojo
         return additionalProperties;
     }
 
+    /**
+     * Copies and filters the resources of the given execution using {@link #threads} threads. The resources are
+     * processed one after the other in their declaration order, so a later resource still overwrites the files an
+     * earlier one copied to the same target, and only the files of a single resource are copied concurrently. The
+     * default filter wrappers are computed once and shared by all the files. As with the default
+     * {@link MavenResourcesFiltering}, only the changed files are copied in an incremental build, and the files whose
+     * source was deleted are removed from the output directory.
+     *
+     * @param mavenResourcesExecution {@link MavenResourcesExecution}, left untouched.
+     * @throws MojoExecutionException in case of interruption.
+     * @throws MavenFilteringException in case of failure.
+     * @since 3.0.3
+     */
+    private void filterResourcesConcurrently( MavenResourcesExecution mavenResourcesExecution )
+        throws MojoExecutionException, MavenFilteringException
+    {
+        if ( mavenResourcesExecution.getResources() == null )
+        {
+            getLog().info( "No resources configured skip copying/filtering" );
+            return;
+        }
+
+        if ( mavenResourcesExecution.isIncludeEmptyDirs() )
+        {
+            // empty directories are only copied when scanning the whole resource directory
+            mavenResourcesFiltering.filterResources( mavenResourcesExecution );
+            return;
+        }
+
+        List<FileUtils.FilterWrapper> filterWrappers = new ArrayList<FileUtils.FilterWrapper>();
+        if ( mavenResourcesExecution.getFilterWrappers() != null )
+        {
+            filterWrappers.addAll( mavenResourcesExecution.getFilterWrappers() );
+        }
+        filterWrappers.addAll( mavenFileFilter.getDefaultFilterWrappers( mavenResourcesExecution ) );
+        DelimiterScanner delimiterScanner = new DelimiterScanner( mavenResourcesExecution.getDelimiters() );
+
+        if ( StringUtils.isEmpty( mavenResourcesExecution.getEncoding() ) )
+        {
+            getLog().warn( "Using platform encoding (" + ReaderFactory.FILE_ENCODING
+                + " actually) to copy filtered resources, i.e. build is platform dependent!" );
+        }
+        else
+        {
+            getLog().info( "Using '" + mavenResourcesExecution.getEncoding()
+                + "' encoding to copy filtered resources." );
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool( threads );
+        try
+        {
+            for ( Resource resource : mavenResourcesExecution.getResources() )
+            {
+                filterResourceConcurrently( resource, mavenResourcesExecution, filterWrappers, delimiterScanner,
+                                            executorService );
+            }
+        }
+        finally
+        {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * Copies and filters the files of a single resource concurrently, and waits for all of them to be copied.
+     *
+     * @param resource The resource to copy.
+     * @param mavenResourcesExecution The execution the resource belongs to.
+     * @param filterWrappers The precomputed filter wrappers.
+     * @param delimiterScanner The scanner telling the files to interpolate from the ones to copy as is.
+     * @param executorService The executor to copy the files with.
+     * @throws MojoExecutionException in case of interruption.
+     * @throws MavenFilteringException in case of failure.
+     */
+    private void filterResourceConcurrently( Resource resource, MavenResourcesExecution mavenResourcesExecution,
+                                             final List<FileUtils.FilterWrapper> filterWrappers,
+                                             final DelimiterScanner delimiterScanner,
+                                             ExecutorService executorService )
+        throws MojoExecutionException, MavenFilteringException
+    {
+        File resourceDirectory = new File( resource.getDirectory() );
+        if ( !resourceDirectory.isAbsolute() )
+        {
+            resourceDirectory =
+                new File( mavenResourcesExecution.getResourcesBaseDirectory(), resourceDirectory.getPath() );
+        }
+
+        if ( !resourceDirectory.exists() )
+        {
+            getLog().info( "skip non existing resourceDirectory " + resourceDirectory.getPath() );
+            return;
+        }
+
+        File outputDirectory = mavenResourcesExecution.getOutputDirectory();
+        boolean outputExists = outputDirectory.exists();
+        if ( !outputExists && !outputDirectory.mkdirs() )
+        {
+            throw new MavenFilteringException( "Cannot create resource output directory: " + outputDirectory );
+        }
+
+        boolean ignoreDelta = !outputExists || buildContext.hasDelta( mavenResourcesExecution.getFileFilters() )
+            || buildContext.hasDelta( getRelativeOutputDirectory( mavenResourcesExecution ) );
+        getLog().debug( "ignoreDelta " + ignoreDelta );
+        Scanner scanner = buildContext.newScanner( resourceDirectory, ignoreDelta );
+        setupScanner( resource, scanner, mavenResourcesExecution.isAddDefaultExcludes() );
+        scanner.scan();
+
+        String[] includedFiles = scanner.getIncludedFiles();
+        String targetPath = resource.getTargetPath();
+        getLog().info( "Copying " + includedFiles.length + " resource" + ( includedFiles.length > 1 ? "s" : "" )
+            + ( targetPath == null ? "" : " to " + targetPath ) );
+
+        final String encoding = mavenResourcesExecution.getEncoding();
+        final boolean overwrite = mavenResourcesExecution.isOverwrite();
+        List<Future<Void>> futures = new ArrayList<Future<Void>>( includedFiles.length );
+        for ( String name : includedFiles )
+        {
+            final File source = new File( resourceDirectory, name );
+            final File destination =
+                getDestinationFile( outputDirectory, targetPath, name, mavenResourcesExecution, filterWrappers );
+            final boolean filtering = resource.isFiltering() && mavenResourcesFiltering.filteredFileExtension(
+                source.getName(), mavenResourcesExecution.getNonFilteredFileExtensions() );
+
+            futures.add( executorService.submit( new Callable<Void>()
+            {
+                public Void call()
+                    throws MavenFilteringException
+                {
+                    try
+                    {
+                        if ( filtering && delimiterScanner.containsDelimiter( source, encoding ) )
+                        {
+                            mavenFileFilter.copyFile( source, destination, true, filterWrappers, encoding,
+                                                      overwrite );
+                        }
+                        else
+                        {
+                            FileUtils.copyFile( source, destination, encoding, new FileUtils.FilterWrapper[0],
+                                                overwrite );
+                            buildContext.refresh( destination );
+                        }
+                    }
+                    catch ( IOException e )
+                    {
+                        throw new MavenFilteringException( "Error copying file " + source + " to " + destination,
+                                                           e );
+                    }
+                    return null;
+                }
+            } ) );
+        }
+
+        try
+        {
+            for ( Future<Void> future : futures )
+            {
+                future.get();
+            }
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+            throw new MojoExecutionException( "Interrupted while filtering resources", e );
+        }
+        catch ( ExecutionException e )
+        {
+            if ( e.getCause() instanceof MavenFilteringException )
+            {
+                throw (MavenFilteringException) e.getCause();
+            }
+            throw new MojoExecutionException( e.getCause().getMessage(), e.getCause() );
+        }
+        finally
+        {
+            for ( Future<Void> future : futures )
+            {
+                future.cancel( true );
+            }
+        }
+
+        // deal with deleted source files
+        scanner = buildContext.newDeleteScanner( resourceDirectory );
+        setupScanner( resource, scanner, mavenResourcesExecution.isAddDefaultExcludes() );
+        scanner.scan();
+        for ( String name : scanner.getIncludedFiles() )
+        {
+            File destination =
+                getDestinationFile( outputDirectory, targetPath, name, mavenResourcesExecution, filterWrappers );
+            destination.delete();
+            buildContext.refresh( destination );
+        }
+    }
+
+    /**
+     * Configures the includes and excludes of the given resource on a scanner, as the default
+     * {@link MavenResourcesFiltering} does.
+     *
+     * @param resource The resource to scan.
+     * @param scanner The scanner to configure.
+     * @param addDefaultExcludes Whether the default excludes are added.
+     */
+    private static void setupScanner( Resource resource, Scanner scanner, boolean addDefaultExcludes )
+    {
+        if ( resource.getIncludes() != null && !resource.getIncludes().isEmpty() )
+        {
+            scanner.setIncludes( resource.getIncludes().toArray( new String[resource.getIncludes().size()] ) );
+        }
+        else
+        {
+            scanner.setIncludes( new String[] { "**/**" } );
+        }
+        if ( resource.getExcludes() != null && !resource.getExcludes().isEmpty() )
+        {
+            scanner.setExcludes( resource.getExcludes().toArray( new String[resource.getExcludes().size()] ) );
+        }
+        if ( addDefaultExcludes )
+        {
+            scanner.addDefaultExcludes();
+        }
+    }
+
+    /**
+     * @param mavenResourcesExecution The execution.
+     * @return the output directory of the execution, relative to the project base directory when possible, as the
+     *         default {@link MavenResourcesFiltering} checks it for a delta.
+     */
+    private static String getRelativeOutputDirectory( MavenResourcesExecution mavenResourcesExecution )
+    {
+        String relOutDir = mavenResourcesExecution.getOutputDirectory().getAbsolutePath();
+        if ( mavenResourcesExecution.getMavenProject() != null
+            && mavenResourcesExecution.getMavenProject().getBasedir() != null )
+        {
+            String basedir = mavenResourcesExecution.getMavenProject().getBasedir().getAbsolutePath();
+            relOutDir = PathTool.getRelativeFilePath( basedir, relOutDir );
+            if ( relOutDir == null )
+            {
+                relOutDir = mavenResourcesExecution.getOutputDirectory().getPath();
+            }
+            else
+            {
+                relOutDir = relOutDir.replace( '\\', '/' );
+            }
+        }
+        return relOutDir;
+    }
+
+    /**
+     * Gets the file a resource file is copied to, as the default {@link MavenResourcesFiltering} does. The parent
+     * directory is created upfront, so the concurrent copies do not race on its creation.
+     *
+     * @param outputDirectory The output directory of the execution.
+     * @param targetPath The target path of the resource, may be <code>null</code>.
+     * @param name The path of the file, relative to the resource directory.
+     * @param mavenResourcesExecution The execution the resource belongs to.
+     * @param filterWrappers The filter wrappers to filter the file name with.
+     * @return the destination file.
+     * @throws MavenFilteringException in case the file name cannot be filtered.
+     */
+    private File getDestinationFile( File outputDirectory, String targetPath, String name,
+                                     MavenResourcesExecution mavenResourcesExecution,
+                                     List<FileUtils.FilterWrapper> filterWrappers )
+        throws MavenFilteringException
+    {
+        String destination = name;
+        if ( mavenResourcesExecution.isFilterFilenames() )
+        {
+            Reader reader = new StringReader( destination );
+            for ( FileUtils.FilterWrapper filterWrapper : filterWrappers )
+            {
+                reader = filterWrapper.getReader( reader );
+            }
+            StringWriter writer = new StringWriter();
+            try
+            {
+                IOUtil.copy( reader, writer );
+            }
+            catch ( IOException e )
+            {
+                throw new MavenFilteringException( "Failed filtering filename" + name, e );
+            }
+            destination = writer.toString();
+        }
+
+        if ( targetPath != null )
+        {
+            destination = targetPath + "/" + destination;
+        }
+
+        File destinationFile = new File( destination );
+        if ( !destinationFile.isAbsolute() )
+        {
+            destinationFile = new File( outputDirectory, destination );
+        }
+
+        if ( !destinationFile.getParentFile().exists() )
+        {
+            destinationFile.getParentFile().mkdirs();
+        }
+        return destinationFile;
+    }
+
     /**
      * @param mavenResourcesExecution {@link MavenResourcesExecution} 
      * @throws MojoExecutionException in case of wrong lookup.
@@ -583,4 +931,20 @@ public class ResourcesMojo
         return skip;
     }
 
+    /**
+     * @return {@link #threads}
+     */
+    public int getThreads()
+    {
+        return threads;
+    }
+
+    /**
+     * @param threads The number of threads used to copy and filter resources.
+     */
+    public void setThreads( int threads )
+    {
+        this.threads = threads;
+    }
+
 }
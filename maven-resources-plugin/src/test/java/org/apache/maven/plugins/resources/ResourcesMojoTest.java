@@ -684,6 +684,98 @@ public class ResourcesMojoTest
             FileUtils.fileRead( new File( resourcesDir, "path-listing.txt" ) ) );
     }
 
+    /**
+     * @throws Exception
+     */
+    public void testResourceProjectProperties_FilteringWithThreads()
+        throws Exception
+    {
+        File testPom = new File( getBasedir(), defaultPomFilePath );
+        ResourcesMojo mojo = (ResourcesMojo) lookupMojo( "resources", testPom );
+        MavenProjectResourcesStub project =
+            new MavenProjectResourcesStub( "resourceProjectProperties_FilteringWithThreads" );
+        List<Resource> resources = project.getBuild()
+                                .getResources();
+
+        assertNotNull( mojo );
+
+        for ( int i = 0; i < 20; i++ )
+        {
+            project.addFile( "file" + i + ".txt", "file " + i + " description = ${description}" );
+            project.addFile( "static/static" + i + ".txt", "file " + i + " has no expression" );
+        }
+        project.setResourceFiltering( 0, true );
+        project.setDescription( "threaded" );
+        project.cleanBuildEnvironment();
+        project.setupBuildEnvironment();
+
+        setVariableValueToObject( mojo, "project", project );
+        setVariableValueToObject( mojo, "resources", resources );
+        setVariableValueToObject( mojo, "outputDirectory", new File( project.getBuild()
+                                                                            .getOutputDirectory() ) );
+        setVariableValueToObject( mojo, "buildFilters", Collections.emptyList() );
+        setVariableValueToObject( mojo, "useBuildFilters", Boolean.TRUE );
+        mojo.setThreads( 4 );
+        mojo.execute();
+
+        String resourcesDir = project.getOutputDirectory();
+
+        for ( int i = 0; i < 20; i++ )
+        {
+            assertContent( resourcesDir + "/file" + i + ".txt", "file " + i + " description = threaded" );
+            assertContent( resourcesDir + "/static/static" + i + ".txt", "file " + i + " has no expression" );
+        }
+    }
+
+    /**
+     * Ensures a later resource still overwrites the files of an earlier resource copied to the same target.
+     *
+     * @throws Exception
+     */
+    public void testResourceOrder_OverlappingTargetsWithThreads()
+        throws Exception
+    {
+        File testPom = new File( getBasedir(), defaultPomFilePath );
+        ResourcesMojo mojo = (ResourcesMojo) lookupMojo( "resources", testPom );
+        MavenProjectResourcesStub project =
+            new MavenProjectResourcesStub( "resourceOrder_OverlappingTargetsWithThreads" );
+        List<Resource> resources = project.getBuild()
+                                .getResources();
+
+        assertNotNull( mojo );
+
+        for ( int i = 0; i < 20; i++ )
+        {
+            project.addFile( "first/same" + i + ".txt", "description = ${description}" );
+            project.addFile( "second/same" + i + ".txt", "description = ${description}" );
+        }
+        project.setDirectory( project.getResourcesDirectory() + "/first" );
+        Resource second = resources.get( 0 ).clone();
+        second.setDirectory( project.getResourcesDirectory() + "/second" );
+        second.setFiltering( true );
+        resources.add( second );
+        project.setDescription( "second" );
+        project.cleanBuildEnvironment();
+        project.setupBuildEnvironment();
+
+        setVariableValueToObject( mojo, "project", project );
+        setVariableValueToObject( mojo, "resources", resources );
+        setVariableValueToObject( mojo, "outputDirectory", new File( project.getBuild()
+                                                                            .getOutputDirectory() ) );
+        setVariableValueToObject( mojo, "buildFilters", Collections.emptyList() );
+        setVariableValueToObject( mojo, "useBuildFilters", Boolean.TRUE );
+        setVariableValueToObject( mojo, "overwrite", Boolean.TRUE );
+        mojo.setThreads( 4 );
+        mojo.execute();
+
+        String resourcesDir = project.getOutputDirectory();
+
+        for ( int i = 0; i < 20; i++ )
+        {
+            assertContent( resourcesDir + "/same" + i + ".txt", "description = second" );
+        }
+    }
+
     /**
      * Ensures the file exists and its first line equals the given data.
      */
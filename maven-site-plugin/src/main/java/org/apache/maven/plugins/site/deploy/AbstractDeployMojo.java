@@ -67,9 +67,13 @@ import org.codehaus.plexus.util.StringUtils;
 import org.codehaus.plexus.util.xml.Xpp3Dom;
 
 import java.io.File;
+import java.io.IOException;
 import java.lang.reflect.Method;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Set;
@@ -128,6 +132,33 @@ public abstract class AbstractDeployMojo
     @Parameter( property = "maven.site.deploy.skip", defaultValue = "false" )
     private boolean skipDeploy;
 
+    /**
+     * Whether to upload only the files that changed since the previous deployment, instead of the whole site.
+     * The checksums of the deployed files are kept in a <code>.site-deploy-manifest.properties</code> file, in the
+     * deployed site and in <code>${project.build.directory}/site-deploy</code>.
+     *
+     * @since 3.7
+     */
+    @Parameter( property = "maven.site.deploy.differential", defaultValue = "false" )
+    private boolean differential;
+
+    /**
+     * The number of concurrent transfers of a differential deployment, each with its own connection.
+     *
+     * @since 3.7
+     */
+    @Parameter( property = "maven.site.deploy.threads", defaultValue = "1" )
+    private int deployThreads;
+
+    /**
+     * Whether a differential deployment deletes the deployed files that do not exist in the site anymore. This
+     * requires a protocol able to execute commands, like <code>scp</code>, or a <code>file</code> URL.
+     *
+     * @since 3.7
+     */
+    @Parameter( property = "maven.site.deploy.deleteRemoved", defaultValue = "false" )
+    private boolean deleteRemoved;
+
     /**
      */
     @Component
@@ -329,7 +360,14 @@ public abstract class AbstractDeployMojo
                 }
             }
 
-            push( directory, repository, wagon, proxyInfo, getLocales(), getDeployModuleDirectory() );
+            if ( differential )
+            {
+                pushDifferential( directory, repository, wagon, proxyInfo, getLocales(), getDeployModuleDirectory() );
+            }
+            else
+            {
+                push( directory, repository, wagon, proxyInfo, getLocales(), getDeployModuleDirectory() );
+            }
 
             if ( chmod )
             {
@@ -405,61 +443,122 @@ public abstract class AbstractDeployMojo
                        final ProxyInfo proxyInfo, final List<Locale> localesList, final String relativeDir )
         throws MojoExecutionException
     {
-        AuthenticationInfo authenticationInfo = wagonManager.getAuthenticationInfo( repository.getId() );
-        getLog().debug( "authenticationInfo with id '" + repository.getId() + "': "
-                            + ( ( authenticationInfo == null ) ? "-" : authenticationInfo.getUserName() ) );
-
         try
         {
-            if ( getLog().isDebugEnabled() )
-            {
-                Debug debug = new Debug();
+            connect( wagon, repository, proxyInfo );
 
-                wagon.addSessionListener( debug );
+            getLog().info( "Pushing " + inputDirectory );
 
-                wagon.addTransferListener( debug );
-            }
+            // Default is first in the list
+            final String defaultLocale = localesList.get( 0 ).getLanguage();
 
-            if ( proxyInfo != null )
-            {
-                getLog().debug( "connect with proxyInfo" );
-                wagon.connect( repository, authenticationInfo, proxyInfo );
-            }
-            else if ( proxyInfo == null && authenticationInfo != null )
+            for ( Locale locale : localesList )
             {
-                getLog().debug( "connect with authenticationInfo and without proxyInfo" );
-                wagon.connect( repository, authenticationInfo );
+                if ( locale.getLanguage().equals( defaultLocale ) )
+                {
+                    // TODO: this also uploads the non-default locales,
+                    // is there a way to exclude directories in wagon?
+                    getLog().info( "   >>> to " + repository.getUrl() + relativeDir );
+
+                    wagon.putDirectory( inputDirectory, relativeDir );
+                }
+                else
+                {
+                    getLog().info( "   >>> to " + repository.getUrl() + locale.getLanguage() + "/" + relativeDir );
+
+                    wagon.putDirectory( new File( inputDirectory, locale.getLanguage() ),
+                                        locale.getLanguage() + "/" + relativeDir );
+                }
             }
-            else
+        }
+        catch ( ResourceDoesNotExistException e )
+        {
+            throw new MojoExecutionException( "Error uploading site", e );
+        }
+        catch ( TransferFailedException e )
+        {
+            throw new MojoExecutionException( "Error uploading site", e );
+        }
+        catch ( AuthorizationException e )
+        {
+            throw new MojoExecutionException( "Error uploading site", e );
+        }
+        catch ( ConnectionException e )
+        {
+            throw new MojoExecutionException( "Error uploading site", e );
+        }
+        catch ( AuthenticationException e )
+        {
+            throw new MojoExecutionException( "Error uploading site", e );
+        }
+    }
+
+    /**
+     * Pushes only the files that changed since the previous deployment, with concurrent transfers if configured.
+     */
+    private void pushDifferential( final File inputDirectory, final Repository repository, final Wagon wagon,
+                                   final ProxyInfo proxyInfo, final List<Locale> localesList,
+                                   final String relativeDir )
+        throws MojoExecutionException
+    {
+        List<Wagon> wagons = new ArrayList<Wagon>();
+        try
+        {
+            connect( wagon, repository, proxyInfo );
+            wagons.add( wagon );
+            for ( int i = 1; i < deployThreads; i++ )
             {
-                getLog().debug( "connect without authenticationInfo and without proxyInfo" );
-                wagon.connect( repository );
+                Wagon transferWagon = getWagon( repository, wagonManager );
+                configureWagon( transferWagon, repository.getId(), settings, container, getLog() );
+                connect( transferWagon, repository, proxyInfo );
+                wagons.add( transferWagon );
             }
 
-            getLog().info( "Pushing " + inputDirectory );
+            DifferentialDeployer deployer =
+                new DifferentialDeployer( wagons, new File( project.getBuild().getDirectory(), "site-deploy" ),
+                                          deleteRemoved, getLog() );
+
+            getLog().info( "Pushing changes of " + inputDirectory );
 
             // Default is first in the list
             final String defaultLocale = localesList.get( 0 ).getLanguage();
 
+            // the other locales are deployed from their own subdirectories
+            Set<String> localeDirectories = new HashSet<String>();
+            for ( Locale locale : localesList )
+            {
+                if ( !locale.getLanguage().equals( defaultLocale ) )
+                {
+                    localeDirectories.add( locale.getLanguage() );
+                }
+            }
+
             for ( Locale locale : localesList )
             {
                 if ( locale.getLanguage().equals( defaultLocale ) )
                 {
-                    // TODO: this also uploads the non-default locales,
-                    // is there a way to exclude directories in wagon?
                     getLog().info( "   >>> to " + repository.getUrl() + relativeDir );
 
-                    wagon.putDirectory( inputDirectory, relativeDir );
+                    deployer.putDirectory( inputDirectory, relativeDir, localeDirectories );
                 }
                 else
                 {
                     getLog().info( "   >>> to " + repository.getUrl() + locale.getLanguage() + "/" + relativeDir );
 
-                    wagon.putDirectory( new File( inputDirectory, locale.getLanguage() ),
-                                        locale.getLanguage() + "/" + relativeDir );
+                    deployer.putDirectory( new File( inputDirectory, locale.getLanguage() ),
+                                           locale.getLanguage() + "/" + relativeDir,
+                                           Collections.<String>emptySet() );
                 }
             }
         }
+        catch ( IOException e )
+        {
+            throw new MojoExecutionException( "Error uploading site", e );
+        }
+        catch ( CommandExecutionException e )
+        {
+            throw new MojoExecutionException( "Error uploading site", e );
+        }
         catch ( ResourceDoesNotExistException e )
         {
             throw new MojoExecutionException( "Error uploading site", e );
@@ -480,6 +579,54 @@ public abstract class AbstractDeployMojo
         {
             throw new MojoExecutionException( "Error uploading site", e );
         }
+        finally
+        {
+            // the first wagon is disconnected by the caller
+            for ( Wagon transferWagon : wagons.subList( Math.min( 1, wagons.size() ), wagons.size() ) )
+            {
+                try
+                {
+                    transferWagon.disconnect();
+                }
+                catch ( ConnectionException e )
+                {
+                    getLog().error( "Error disconnecting wagon - ignored", e );
+                }
+            }
+        }
+    }
+
+    private void connect( final Wagon wagon, final Repository repository, final ProxyInfo proxyInfo )
+        throws ConnectionException, AuthenticationException
+    {
+        AuthenticationInfo authenticationInfo = wagonManager.getAuthenticationInfo( repository.getId() );
+        getLog().debug( "authenticationInfo with id '" + repository.getId() + "': "
+                            + ( ( authenticationInfo == null ) ? "-" : authenticationInfo.getUserName() ) );
+
+        if ( getLog().isDebugEnabled() )
+        {
+            Debug debug = new Debug();
+
+            wagon.addSessionListener( debug );
+
+            wagon.addTransferListener( debug );
+        }
+
+        if ( proxyInfo != null )
+        {
+            getLog().debug( "connect with proxyInfo" );
+            wagon.connect( repository, authenticationInfo, proxyInfo );
+        }
+        else if ( proxyInfo == null && authenticationInfo != null )
+        {
+            getLog().debug( "connect with authenticationInfo and without proxyInfo" );
+            wagon.connect( repository, authenticationInfo );
+        }
+        else
+        {
+            getLog().debug( "connect without authenticationInfo and without proxyInfo" );
+            wagon.connect( repository );
+        }
     }
 
     private static void chmod( final Wagon wagon, final Repository repository, final String chmodOptions,
@@ -0,0 +1,378 @@
+package org.apache.maven.plugins.site.deploy;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.wagon.CommandExecutionException;
+import org.apache.maven.wagon.CommandExecutor;
+import org.apache.maven.wagon.ResourceDoesNotExistException;
+import org.apache.maven.wagon.TransferFailedException;
+import org.apache.maven.wagon.Wagon;
+import org.apache.maven.wagon.authorization.AuthorizationException;
+import org.apache.maven.wagon.repository.Repository;
+import org.codehaus.plexus.util.IOUtil;
+
+/**
+ * Deploys a directory by uploading only the files that changed since the previous deployment. The checksums of the
+ * deployed files are kept in a manifest, stored both in the deployed directory and locally.
+ *
+ * @since 3.7
+ */
+class DifferentialDeployer
+{
+    /**
+     * The name of the manifest in the deployed directory.
+     */
+    static final String MANIFEST = ".site-deploy-manifest.properties";
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final List<Wagon> wagons;
+
+    private final File manifestDirectory;
+
+    private final boolean deleteRemoved;
+
+    private final Log log;
+
+    /**
+     * @param wagons the connected wagons to use concurrently, one per concurrent transfer
+     * @param manifestDirectory the directory to keep the local copies of the manifests in
+     * @param deleteRemoved whether to delete the deployed files that do not exist anymore
+     * @param log the log
+     */
+    DifferentialDeployer( List<Wagon> wagons, File manifestDirectory, boolean deleteRemoved, Log log )
+    {
+        this.wagons = wagons;
+        this.manifestDirectory = manifestDirectory;
+        this.deleteRemoved = deleteRemoved;
+        this.log = log;
+    }
+
+    /**
+     * Uploads the new and changed files of a directory.
+     *
+     * @param sourceDirectory the local directory
+     * @param destinationDirectory the remote directory, relative to the repository and ending with a slash
+     * @param excludedDirectories the names of the subdirectories deployed separately, like the locale directories,
+     *            which are neither uploaded nor deleted
+     * @throws IOException if a local file could not be read
+     * @throws TransferFailedException if a transfer failed
+     * @throws AuthorizationException if a transfer was not authorized
+     * @throws ResourceDoesNotExistException if a file could not be uploaded
+     * @throws CommandExecutionException if a removed file could not be deleted
+     */
+    void putDirectory( File sourceDirectory, String destinationDirectory, Collection<String> excludedDirectories )
+        throws IOException, TransferFailedException, AuthorizationException, ResourceDoesNotExistException,
+        CommandExecutionException
+    {
+        Wagon wagon = wagons.get( 0 );
+        File manifestFile = getManifestFile( wagon.getRepository(), destinationDirectory );
+
+        Properties deployed = new Properties();
+        try
+        {
+            manifestFile.getParentFile().mkdirs();
+            wagon.get( destinationDirectory + MANIFEST, manifestFile );
+            load( deployed, manifestFile );
+        }
+        catch ( ResourceDoesNotExistException e )
+        {
+            log.info( "No deployment manifest found, uploading all the files" );
+        }
+
+        Map<String, String> checksums = new TreeMap<String, String>();
+        computeChecksums( sourceDirectory, "", excludedDirectories, checksums );
+
+        List<String> changed = new ArrayList<String>();
+        for ( Map.Entry<String, String> entry : checksums.entrySet() )
+        {
+            if ( !entry.getValue().equals( deployed.getProperty( entry.getKey() ) ) )
+            {
+                changed.add( entry.getKey() );
+            }
+        }
+
+        List<String> removed = new ArrayList<String>();
+        for ( String path : deployed.stringPropertyNames() )
+        {
+            if ( !checksums.containsKey( path ) && !isExcluded( path, excludedDirectories ) )
+            {
+                removed.add( path );
+            }
+        }
+
+        log.info( "Uploading " + changed.size() + " new or changed file(s) out of " + checksums.size() );
+        upload( sourceDirectory, destinationDirectory, changed );
+
+        Properties manifest = new Properties();
+        manifest.putAll( checksums );
+        if ( !removed.isEmpty() )
+        {
+            if ( deleteRemoved && delete( wagon, destinationDirectory, removed ) )
+            {
+                log.info( "Deleted " + removed.size() + " removed file(s)" );
+            }
+            else
+            {
+                // still deployed, so still known for the next deployment
+                for ( String path : removed )
+                {
+                    manifest.setProperty( path, deployed.getProperty( path ) );
+                }
+            }
+        }
+
+        OutputStream out = new FileOutputStream( manifestFile );
+        try
+        {
+            manifest.store( out, "Files deployed by maven-site-plugin" );
+        }
+        finally
+        {
+            IOUtil.close( out );
+        }
+        wagon.put( manifestFile, destinationDirectory + MANIFEST );
+    }
+
+    private void upload( File sourceDirectory, final String destinationDirectory, List<String> paths )
+        throws TransferFailedException, AuthorizationException, ResourceDoesNotExistException
+    {
+        if ( wagons.size() == 1 || paths.size() <= 1 )
+        {
+            for ( String path : paths )
+            {
+                wagons.get( 0 ).put( new File( sourceDirectory, path ), destinationDirectory + path );
+            }
+            return;
+        }
+
+        final BlockingQueue<Wagon> idleWagons = new LinkedBlockingQueue<Wagon>( wagons );
+        ExecutorService executor = Executors.newFixedThreadPool( wagons.size() );
+        try
+        {
+            List<Future<Void>> futures = new ArrayList<Future<Void>>( paths.size() );
+            for ( final String path : paths )
+            {
+                final File file = new File( sourceDirectory, path );
+                futures.add( executor.submit( new Callable<Void>()
+                {
+                    public Void call()
+                        throws Exception
+                    {
+                        Wagon wagon = idleWagons.take();
+                        try
+                        {
+                            wagon.put( file, destinationDirectory + path );
+                        }
+                        finally
+                        {
+                            idleWagons.add( wagon );
+                        }
+                        return null;
+                    }
+                } ) );
+            }
+            for ( Future<Void> future : futures )
+            {
+                future.get();
+            }
+        }
+        catch ( ExecutionException e )
+        {
+            Throwable cause = e.getCause();
+            if ( cause instanceof TransferFailedException )
+            {
+                throw (TransferFailedException) cause;
+            }
+            if ( cause instanceof AuthorizationException )
+            {
+                throw (AuthorizationException) cause;
+            }
+            if ( cause instanceof ResourceDoesNotExistException )
+            {
+                throw (ResourceDoesNotExistException) cause;
+            }
+            throw new TransferFailedException( cause.getMessage(), cause );
+        }
+        catch ( InterruptedException e )
+        {
+            throw new TransferFailedException( "Interrupted while uploading", e );
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Deletes deployed files, through a command if the wagon supports it or directly on the file system for a
+     * <code>file:</code> repository.
+     *
+     * @return <code>false</code> if the files can't be deleted with this wagon
+     */
+    private boolean delete( Wagon wagon, String destinationDirectory, List<String> paths )
+        throws CommandExecutionException
+    {
+        Repository repository = wagon.getRepository();
+        if ( wagon instanceof CommandExecutor )
+        {
+            StringBuilder command = new StringBuilder( "rm -f --" );
+            for ( String path : paths )
+            {
+                command.append( ' ' ).append( quote( repository.getBasedir() + '/' + destinationDirectory + path ) );
+            }
+            ( (CommandExecutor) wagon ).executeCommand( command.toString() );
+            return true;
+        }
+        if ( "file".equals( repository.getProtocol() ) )
+        {
+            File basedir = new File( repository.getBasedir(), destinationDirectory );
+            for ( String path : paths )
+            {
+                File file = new File( basedir, path );
+                if ( file.exists() && !file.delete() )
+                {
+                    throw new CommandExecutionException( "Unable to delete " + file );
+                }
+            }
+            return true;
+        }
+
+        log.warn( "Removed files can't be deleted with the " + repository.getProtocol() + " protocol" );
+        return false;
+    }
+
+    /**
+     * Quotes a path for a POSIX shell: within single quotes, only the single quote itself must be escaped.
+     */
+    static String quote( String path )
+    {
+        return '\'' + path.replace( "'", "'\\''" ) + '\'';
+    }
+
+    private static boolean isExcluded( String path, Collection<String> excludedDirectories )
+    {
+        int slash = path.indexOf( '/' );
+        return slash > 0 && excludedDirectories.contains( path.substring( 0, slash ) );
+    }
+
+    private File getManifestFile( Repository repository, String destinationDirectory )
+    {
+        String name = ( repository.getUrl() + '/' + destinationDirectory ).replaceAll( "[^A-Za-z0-9._-]+", "_" );
+        return new File( manifestDirectory, name + ".properties" );
+    }
+
+    private static void load( Properties properties, File file )
+        throws IOException
+    {
+        InputStream in = new FileInputStream( file );
+        try
+        {
+            properties.load( in );
+        }
+        finally
+        {
+            IOUtil.close( in );
+        }
+    }
+
+    private static void computeChecksums( File directory, String prefix, Collection<String> excludedDirectories,
+                                          Map<String, String> checksums )
+        throws IOException
+    {
+        String[] names = directory.list();
+        if ( names == null )
+        {
+            return;
+        }
+
+        Arrays.sort( names );
+        for ( String name : names )
+        {
+            File file = new File( directory, name );
+            if ( file.isDirectory() )
+            {
+                if ( prefix.length() > 0 || !excludedDirectories.contains( name ) )
+                {
+                    computeChecksums( file, prefix + name + '/', Collections.<String>emptySet(), checksums );
+                }
+            }
+            else if ( !MANIFEST.equals( name ) )
+            {
+                checksums.put( prefix + name, checksum( file ) );
+            }
+        }
+    }
+
+    private static String checksum( File file )
+        throws IOException
+    {
+        MessageDigest digest;
+        try
+        {
+            digest = MessageDigest.getInstance( "SHA-1" );
+        }
+        catch ( NoSuchAlgorithmException e )
+        {
+            throw new IllegalStateException( e );
+        }
+
+        InputStream in = new FileInputStream( file );
+        try
+        {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            for ( int n = in.read( buffer ); n >= 0; n = in.read( buffer ) )
+            {
+                digest.update( buffer, 0, n );
+            }
+        }
+        finally
+        {
+            IOUtil.close( in );
+        }
+        return new BigInteger( 1, digest.digest() ).toString( 16 );
+    }
+}
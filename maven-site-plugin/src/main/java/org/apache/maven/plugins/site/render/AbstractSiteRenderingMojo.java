@@ -21,19 +21,26 @@ package org.apache.maven.plugins.site.render;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.TreeMap;
 
 import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.artifact.versioning.VersionRange;
 import org.apache.maven.doxia.site.decoration.DecorationModel;
 import org.apache.maven.doxia.site.decoration.Menu;
 import org.apache.maven.doxia.site.decoration.MenuItem;
+import org.apache.maven.doxia.site.decoration.io.xpp3.DecorationXpp3Writer;
 import org.apache.maven.doxia.siterenderer.DocumentRenderer;
 import org.apache.maven.doxia.siterenderer.Renderer;
 import org.apache.maven.doxia.siterenderer.RendererException;
@@ -41,12 +48,17 @@ import org.apache.maven.doxia.siterenderer.RenderingContext;
 import org.apache.maven.doxia.siterenderer.SiteRenderingContext;
 import org.apache.maven.doxia.tools.SiteToolException;
 import org.apache.maven.execution.MavenSession;
+import org.apache.maven.model.Plugin;
 import org.apache.maven.model.ReportPlugin;
+import org.apache.maven.model.ReportSet;
+import org.apache.maven.model.Resource;
+import org.apache.maven.model.io.xpp3.MavenXpp3Writer;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugins.annotations.Component;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.plugins.site.descriptor.AbstractSiteDescriptorMojo;
+import org.apache.maven.project.MavenProject;
 import org.apache.maven.reporting.MavenReport;
 import org.apache.maven.reporting.exec.MavenReportExecution;
 import org.apache.maven.reporting.exec.MavenReportExecutor;
@@ -206,6 +218,45 @@ public abstract class AbstractSiteRenderingMojo
     @Parameter
     private boolean saveProcessedContent;
 
+    /**
+     * Whether to render only the pages whose inputs changed since the previous execution, and to delete the pages
+     * that are not rendered anymore. The inputs of a page are its source document, the site descriptors of the project
+     * and its parents, the skin or template, the effective POM and the template properties, plus for a report its
+     * configuration, the sources and resources of the project and its resolved dependencies. They are recorded in
+     * <code>${project.build.directory}/site-manifest.properties</code>. The pages of the reports are always rendered
+     * again, unless their plugin is one of the <code>incrementalReportPlugins</code>.
+     *
+     * @since 3.7
+     */
+    @Parameter( property = "maven.site.incremental", defaultValue = "false" )
+    private boolean incremental;
+
+    /**
+     * The report plugins, as <code>groupId:artifactId</code>, whose pages are only rendered again when their inputs
+     * changed, when rendering incrementally. Their reports must only depend on the inputs recorded for a report page:
+     * the pages of reports rendering build outputs, like test or analysis results, would be stale.
+     *
+     * @since 3.7
+     */
+    @Parameter( property = "maven.site.incrementalReportPlugins",
+                defaultValue = "org.apache.maven.plugins:maven-project-info-reports-plugin" )
+    private List<String> incrementalReportPlugins;
+
+    /**
+     * The manifest of the rendered pages, when rendering incrementally.
+     */
+    private SiteManifest manifest;
+
+    /**
+     * The fingerprint of the effective model of the project, when rendering incrementally.
+     */
+    private String modelFingerprint;
+
+    /**
+     * The fingerprint of what all the reports depend on besides their configuration, when rendering incrementally.
+     */
+    private String reportInputsFingerprint;
+
     /** {@inheritDoc} */
     public void contextualize( Context context )
         throws ContextException
@@ -507,6 +558,284 @@ public abstract class AbstractSiteRenderingMojo
         return documents;
     }
 
+    /**
+     * Loads the manifest of the pages rendered by the previous execution, when rendering incrementally.
+     *
+     * @param outputDirectory the output directory of the site
+     * @throws IOException if the manifest could not be read
+     */
+    protected void loadManifest( File outputDirectory )
+        throws IOException
+    {
+        if ( !incremental )
+        {
+            return;
+        }
+
+        manifest = new SiteManifest( getManifestFile(), outputDirectory );
+        manifest.load();
+
+        StringWriter model = new StringWriter();
+        new MavenXpp3Writer().write( model, project.getModel() );
+        modelFingerprint = new SiteManifest.Fingerprint().add( model ).getValue();
+        reportInputsFingerprint = getReportInputsFingerprint();
+    }
+
+    /**
+     * Removes the documents whose inputs did not change since the previous execution, when rendering incrementally.
+     * The pages of the remaining documents are deleted, so that the site renderer does not skip them because they
+     * are newer than their source document.
+     *
+     * @param documents the documents to render, keyed by output name
+     * @param context the rendering context of the documents
+     * @param outputDir the output directory of the documents
+     * @throws IOException if the inputs of a document could not be read
+     */
+    protected void skipUnchangedDocuments( Map<String, DocumentRenderer> documents, SiteRenderingContext context,
+                                           File outputDir )
+        throws IOException
+    {
+        if ( manifest == null )
+        {
+            return;
+        }
+
+        String contextFingerprint = getContextFingerprint( context );
+        int skipped = 0;
+        for ( Iterator<DocumentRenderer> it = documents.values().iterator(); it.hasNext(); )
+        {
+            DocumentRenderer doc = it.next();
+            File page = new File( outputDir, doc.getOutputName() );
+            // the fingerprint of every page is recorded, even when the page is rendered anyway
+            if ( manifest.isUpToDate( page, getDocumentFingerprint( contextFingerprint, doc ) )
+                && isIncremental( doc ) )
+            {
+                it.remove();
+                skipped++;
+            }
+            else if ( page.isFile() && !page.delete() )
+            {
+                throw new IOException( "Unable to delete " + page );
+            }
+        }
+
+        if ( skipped > 0 )
+        {
+            getLog().info( "Skipped " + skipped + " unchanged page" + ( skipped > 1 ? "s" : "" ) + "." );
+        }
+    }
+
+    /**
+     * Deletes the pages that were not rendered anymore and stores the manifest of the rendered pages, when rendering
+     * incrementally.
+     *
+     * @throws IOException if the manifest could not be written
+     */
+    protected void storeManifest()
+        throws IOException
+    {
+        if ( manifest == null )
+        {
+            return;
+        }
+
+        for ( File orphan : manifest.getOrphans() )
+        {
+            getLog().info( "Deleting orphaned page " + orphan );
+            orphan.delete();
+        }
+
+        manifest.store();
+        manifest = null;
+    }
+
+    private File getManifestFile()
+    {
+        return new File( project.getBuild().getDirectory(), "site-manifest.properties" );
+    }
+
+    /**
+     * @return the fingerprint of what all the pages of a locale depend on
+     */
+    private String getContextFingerprint( SiteRenderingContext context )
+        throws IOException
+    {
+        SiteManifest.Fingerprint fingerprint = new SiteManifest.Fingerprint();
+        fingerprint.add( context.getLocale() ).add( context.getInputEncoding() ).add( context.getOutputEncoding() );
+
+        StringWriter decoration = new StringWriter();
+        new DecorationXpp3Writer().write( decoration, context.getDecoration() );
+        fingerprint.add( decoration );
+
+        if ( context.getSkin() != null )
+        {
+            fingerprint.add( context.getSkin().getId() );
+            fingerprint.addTimestamps( context.getSkin().getFile(), Collections.<File>emptyList() );
+        }
+        else
+        {
+            fingerprint.add( context.getTemplateName() ).addContent( templateFile );
+        }
+
+        addParentSiteDescriptors( fingerprint, context.getLocale() );
+
+        // the effective model covers the parent POMs
+        fingerprint.add( modelFingerprint );
+        Map<String, Object> templateProperties = new TreeMap<String, Object>();
+        if ( context.getTemplateProperties() != null )
+        {
+            templateProperties.putAll( context.getTemplateProperties() );
+        }
+        for ( Map.Entry<String, Object> entry : templateProperties.entrySet() )
+        {
+            fingerprint.add( entry.getKey() );
+            // values without a stable string form, if any, make the pages always rendered
+            fingerprint.add( entry.getValue() instanceof MavenProject ? modelFingerprint : entry.getValue() );
+        }
+
+        return fingerprint.getValue();
+    }
+
+    /**
+     * Adds the site descriptors inherited from the parents of the project: the descriptor in the site directory of a
+     * parent with sources, or else the descriptor attached to the parent in the local repository.
+     */
+    private void addParentSiteDescriptors( SiteManifest.Fingerprint fingerprint, Locale locale )
+        throws IOException
+    {
+        String basedir = project.getBasedir() == null ? null : project.getBasedir().getAbsolutePath() + File.separator;
+        String siteDirectoryPath = siteDirectory == null ? null : siteDirectory.getAbsolutePath();
+        String relativeSiteDirectory = null;
+        if ( basedir != null && siteDirectoryPath != null && siteDirectoryPath.startsWith( basedir ) )
+        {
+            relativeSiteDirectory = siteDirectoryPath.substring( basedir.length() );
+        }
+
+        MavenProject current = project;
+        while ( current.getModel().getParent() != null )
+        {
+            MavenProject parent = siteTool.getParentProject( current, reactorProjects, localRepository );
+            if ( parent == null )
+            {
+                break;
+            }
+
+            fingerprint.add( parent.getId() );
+            File descriptor = null;
+            if ( parent.getBasedir() != null && relativeSiteDirectory != null )
+            {
+                descriptor = siteTool.getSiteDescriptor( new File( parent.getBasedir(), relativeSiteDirectory ),
+                                                         locale );
+            }
+            if ( descriptor != null && descriptor.isFile() )
+            {
+                fingerprint.addContent( descriptor );
+            }
+            else
+            {
+                fingerprint.addContent( getSiteDescriptorArtifactFile( parent, "site_" + locale.getLanguage() ) );
+                fingerprint.addContent( getSiteDescriptorArtifactFile( parent, "site" ) );
+            }
+            current = parent;
+        }
+    }
+
+    private File getSiteDescriptorArtifactFile( MavenProject parent, String classifier )
+    {
+        Artifact artifact =
+            new DefaultArtifact( parent.getGroupId(), parent.getArtifactId(),
+                                 VersionRange.createFromVersion( parent.getVersion() ), null, "xml", classifier,
+                                 new DefaultArtifactHandler( "xml" ) );
+        return new File( localRepository.getBasedir(), localRepository.pathOf( artifact ) );
+    }
+
+    /**
+     * @return whether the page of the document may be skipped when its inputs did not change
+     */
+    private boolean isIncremental( DocumentRenderer doc )
+    {
+        if ( !( doc instanceof ReportDocumentRenderer ) )
+        {
+            return true;
+        }
+        Plugin plugin = ( (ReportDocumentRenderer) doc ).getMavenReportExecution().getPlugin();
+        return plugin != null && incrementalReportPlugins != null
+            && incrementalReportPlugins.contains( plugin.getKey() );
+    }
+
+    private String getDocumentFingerprint( String contextFingerprint, DocumentRenderer doc )
+        throws IOException
+    {
+        SiteManifest.Fingerprint fingerprint = new SiteManifest.Fingerprint();
+        fingerprint.add( contextFingerprint ).add( doc.getClass().getName() ).add( doc.getOutputName() );
+
+        if ( doc instanceof ReportDocumentRenderer )
+        {
+            MavenReportExecution execution = ( (ReportDocumentRenderer) doc ).getMavenReportExecution();
+            fingerprint.add( reportInputsFingerprint );
+            Plugin plugin = execution.getPlugin();
+            if ( plugin == null )
+            {
+                // Maven 2
+                fingerprint.add( execution.getMavenReport().getClass().getName() );
+            }
+            else
+            {
+                fingerprint.add( plugin.getId() ).add( execution.getGoal() ).add( plugin.getConfiguration() );
+                for ( ReportPlugin reportPlugin : reportingPlugins == null ? new ReportPlugin[0] : reportingPlugins )
+                {
+                    if ( reportPlugin.getKey().equals( plugin.getKey() ) )
+                    {
+                        fingerprint.add( reportPlugin.getConfiguration() );
+                        for ( ReportSet reportSet : reportPlugin.getReportSets() )
+                        {
+                            fingerprint.add( reportSet.getReports() ).add( reportSet.getConfiguration() );
+                        }
+                    }
+                }
+            }
+        }
+        else
+        {
+            RenderingContext renderingContext = doc.getRenderingContext();
+            fingerprint.addContent( new File( renderingContext.getBasedir(), renderingContext.getInputName() ) );
+        }
+
+        return fingerprint.getValue();
+    }
+
+    /**
+     * @return the fingerprint of what the reports may depend on besides their configuration and the effective model:
+     *         the sources and resources of the project, and its resolved dependencies
+     */
+    private String getReportInputsFingerprint()
+    {
+        Collection<File> excludes = Collections.emptyList();
+
+        SiteManifest.Fingerprint fingerprint = new SiteManifest.Fingerprint();
+        for ( String root : project.getCompileSourceRoots() )
+        {
+            fingerprint.addTimestamps( new File( root ), excludes );
+        }
+        for ( String root : project.getTestCompileSourceRoots() )
+        {
+            fingerprint.addTimestamps( new File( root ), excludes );
+        }
+        for ( Resource resource : project.getResources() )
+        {
+            fingerprint.addTimestamps( new File( resource.getDirectory() ), excludes );
+        }
+        for ( Resource resource : project.getTestResources() )
+        {
+            fingerprint.addTimestamps( new File( resource.getDirectory() ), excludes );
+        }
+        for ( Artifact artifact : project.getArtifacts() )
+        {
+            fingerprint.add( artifact.getId() );
+        }
+        return fingerprint.getValue();
+    }
+
     protected void populateReportItems( DecorationModel decorationModel, Locale locale,
                                         Map<String, MavenReport> reportsByOutputName )
     {
@@ -58,6 +58,8 @@ import org.codehaus.plexus.util.WriterFactory;
 public class ReportDocumentRenderer
     implements DocumentRenderer
 {
+    private final MavenReportExecution mavenReportExecution;
+
     private final MavenReport report;
 
     private final RenderingContext renderingContext;
@@ -71,6 +73,8 @@ public class ReportDocumentRenderer
     public ReportDocumentRenderer( MavenReportExecution mavenReportExecution, RenderingContext renderingContext,
                                    Log log )
     {
+        this.mavenReportExecution = mavenReportExecution;
+
         this.report = mavenReportExecution.getMavenReport();
 
         this.renderingContext = renderingContext;
@@ -362,6 +366,14 @@ public class ReportDocumentRenderer
         return renderingContext;
     }
 
+    /**
+     * @return the execution of the report rendered by this renderer
+     */
+    MavenReportExecution getMavenReportExecution()
+    {
+        return mavenReportExecution;
+    }
+
     public boolean isOverwrite()
     {
         // TODO: would be nice to query the report to see if it is modified
@@ -0,0 +1,281 @@
+package org.apache.maven.plugins.site.render;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Properties;
+
+import org.codehaus.plexus.util.IOUtil;
+
+/**
+ * Remembers the fingerprint of the inputs of every page rendered by the previous execution, so that only the pages
+ * whose inputs changed are rendered again, and the pages that are not rendered anymore can be deleted.
+ *
+ * @since 3.7
+ */
+class SiteManifest
+{
+    private static final String PAGE = "page.";
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final File file;
+
+    private final File outputDirectory;
+
+    private final Properties previous = new Properties();
+
+    private final Properties current = new Properties();
+
+    /**
+     * Creates a new manifest.
+     *
+     * @param file the file to store the manifest to
+     * @param outputDirectory the output directory of the site, which the pages are relative to
+     */
+    SiteManifest( File file, File outputDirectory )
+    {
+        this.file = file;
+        this.outputDirectory = outputDirectory;
+    }
+
+    /**
+     * Loads the manifest of the previous execution, if any.
+     *
+     * @throws IOException if the manifest could not be read
+     */
+    void load()
+        throws IOException
+    {
+        if ( !file.isFile() )
+        {
+            return;
+        }
+
+        InputStream in = new FileInputStream( file );
+        try
+        {
+            previous.load( in );
+        }
+        finally
+        {
+            IOUtil.close( in );
+        }
+    }
+
+    /**
+     * Records the fingerprint of a page for the next execution, and tells whether the page was rendered by the
+     * previous execution with the same fingerprint.
+     *
+     * @param page the output file of the page
+     * @param fingerprint the fingerprint of the inputs of the page
+     * @return <code>true</code> if the page does not need to be rendered again
+     */
+    boolean isUpToDate( File page, String fingerprint )
+    {
+        String key = getKey( page );
+        if ( key == null )
+        {
+            return false;
+        }
+
+        current.setProperty( PAGE + key, fingerprint );
+        return page.exists() && fingerprint.equals( previous.getProperty( PAGE + key ) );
+    }
+
+    /**
+     * @return the pages rendered by the previous execution but not by this one, which still exist
+     */
+    List<File> getOrphans()
+    {
+        List<File> orphans = new ArrayList<File>();
+        for ( String key : previous.stringPropertyNames() )
+        {
+            if ( key.startsWith( PAGE ) && !current.containsKey( key ) )
+            {
+                File page = new File( outputDirectory, key.substring( PAGE.length() ) );
+                if ( page.isFile() )
+                {
+                    orphans.add( page );
+                }
+            }
+        }
+        return orphans;
+    }
+
+    /**
+     * Stores the manifest of this execution.
+     *
+     * @throws IOException if the manifest could not be written
+     */
+    void store()
+        throws IOException
+    {
+        file.getParentFile().mkdirs();
+        OutputStream out = new FileOutputStream( file );
+        try
+        {
+            current.store( out, "Pages rendered by maven-site-plugin" );
+        }
+        finally
+        {
+            IOUtil.close( out );
+        }
+    }
+
+    /**
+     * @return the path of the page relative to the output directory, or <code>null</code> if it is not in there
+     */
+    private String getKey( File page )
+    {
+        String root = outputDirectory.getAbsolutePath() + File.separator;
+        String path = page.getAbsolutePath();
+        if ( !path.startsWith( root ) )
+        {
+            return null;
+        }
+        return path.substring( root.length() ).replace( File.separatorChar, '/' );
+    }
+
+    /**
+     * Computes a fingerprint from values and files.
+     */
+    static class Fingerprint
+    {
+        private final MessageDigest digest;
+
+        Fingerprint()
+        {
+            try
+            {
+                digest = MessageDigest.getInstance( "SHA-1" );
+            }
+            catch ( NoSuchAlgorithmException e )
+            {
+                throw new IllegalStateException( e );
+            }
+        }
+
+        /**
+         * Adds a value.
+         *
+         * @param value the value, may be <code>null</code>
+         * @return this fingerprint
+         */
+        Fingerprint add( Object value )
+        {
+            try
+            {
+                digest.update( String.valueOf( value ).getBytes( "UTF-8" ) );
+                digest.update( (byte) 0 );
+            }
+            catch ( IOException e )
+            {
+                throw new IllegalStateException( e );
+            }
+            return this;
+        }
+
+        /**
+         * Adds the content of a file.
+         *
+         * @param file the file, may be <code>null</code>
+         * @return this fingerprint
+         * @throws IOException if the file could not be read
+         */
+        Fingerprint addContent( File file )
+            throws IOException
+        {
+            if ( file == null || !file.isFile() )
+            {
+                return add( "missing" );
+            }
+
+            add( file.length() );
+            InputStream in = new FileInputStream( file );
+            try
+            {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                for ( int n = in.read( buffer ); n >= 0; n = in.read( buffer ) )
+                {
+                    digest.update( buffer, 0, n );
+                }
+            }
+            finally
+            {
+                IOUtil.close( in );
+            }
+            return this;
+        }
+
+        /**
+         * Adds the paths, sizes and modification times of a file, or of all the files of a directory.
+         *
+         * @param file the file or directory, may be <code>null</code>
+         * @param excludes the files and directories to leave out
+         * @return this fingerprint
+         */
+        Fingerprint addTimestamps( File file, Collection<File> excludes )
+        {
+            if ( file == null || !file.exists() || excludes.contains( file ) )
+            {
+                return this;
+            }
+
+            if ( file.isDirectory() )
+            {
+                String[] names = file.list();
+                if ( names != null )
+                {
+                    Arrays.sort( names );
+                    for ( String name : names )
+                    {
+                        addTimestamps( new File( file, name ), excludes );
+                    }
+                }
+            }
+            else
+            {
+                add( file.getPath() ).add( file.length() ).add( file.lastModified() );
+            }
+            return this;
+        }
+
+        /**
+         * @return the fingerprint of what was added, after which nothing can be added anymore
+         */
+        String getValue()
+        {
+            return new BigInteger( 1, digest.digest() ).toString( 16 );
+        }
+    }
+}
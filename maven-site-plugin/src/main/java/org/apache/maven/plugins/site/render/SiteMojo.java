@@ -23,10 +23,16 @@ import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.maven.doxia.siterenderer.DocumentRenderer;
 import org.apache.maven.doxia.siterenderer.DoxiaDocumentRenderer;
@@ -87,6 +93,18 @@ public class SiteMojo
     @Parameter( property = "validate", defaultValue = "false" )
     private boolean validate;
 
+    /**
+     * The number of threads used to render the Doxia documents. The documents of the different source formats, e.g.
+     * apt, markdown and xdoc, are rendered concurrently, while the reports are still rendered one after the other.
+     * The Doxia parsers are shared and not thread-safe, so the documents of a format, whatever their locale, are
+     * rendered one after the other: at most one thread per source format is used. This parameter therefore has no
+     * effect on a site written in a single source format, however many documents and locales it has.
+     *
+     * @since 3.7
+     */
+    @Parameter( property = "maven.site.threads", defaultValue = "1" )
+    private int threads;
+
     /**
      * {@inheritDoc} Generate the project site
      * <p/>
@@ -128,10 +146,21 @@ public class SiteMojo
             Locale defaultLocale = localesList.get( 0 );
             Locale.setDefault( defaultLocale );
 
-            for ( Locale locale : localesList )
+            loadManifest( outputDirectory );
+
+            if ( threads > 1 )
             {
-                renderLocale( locale, reports );
+                renderLocales( localesList, reports );
             }
+            else
+            {
+                for ( Locale locale : localesList )
+                {
+                    renderLocales( Collections.singletonList( locale ), reports );
+                }
+            }
+
+            storeManifest();
         }
         catch ( RendererException e )
         {
@@ -148,30 +177,57 @@ public class SiteMojo
         }
     }
 
-    private void renderLocale( Locale locale, List<MavenReportExecution> reports )
+    /**
+     * Renders the site of the given locales: the Doxia documents of all the locales first, then the reports and the
+     * generated documents locale after locale, since the reports are shared by all the locales.
+     */
+    private void renderLocales( List<Locale> locales, List<MavenReportExecution> reports )
         throws IOException, RendererException, MojoFailureException, MojoExecutionException
     {
-        SiteRenderingContext context = createSiteRenderingContext( locale );
-        // MSITE-723 add generated site directory, in case some content has been put in pre-site phase
-        context.addSiteDirectory( generatedSiteDirectory );
+        List<SiteRenderingContext> contexts = new ArrayList<SiteRenderingContext>( locales.size() );
+        List<List<DocumentRenderer>> reportDocuments = new ArrayList<List<DocumentRenderer>>( locales.size() );
+        List<DoxiaRendering> renderings = new ArrayList<DoxiaRendering>();
 
-        context.setInputEncoding( getInputEncoding() );
-        context.setOutputEncoding( getOutputEncoding() );
-        context.setValidate( validate );
-        if ( validate )
+        for ( Locale locale : locales )
         {
-            getLog().info( "Validation is switched on, xml input documents will be validated!" );
-        }
+            SiteRenderingContext context = createSiteRenderingContext( locale );
+            // MSITE-723 add generated site directory, in case some content has been put in pre-site phase
+            context.addSiteDirectory( generatedSiteDirectory );
+
+            context.setInputEncoding( getInputEncoding() );
+            context.setOutputEncoding( getOutputEncoding() );
+            context.setValidate( validate );
+            if ( validate )
+            {
+                getLog().info( "Validation is switched on, xml input documents will be validated!" );
+            }
 
-        File outputDir = getOutputDirectory( locale );
+            File outputDir = getOutputDirectory( locale );
 
-        Map<String, DocumentRenderer> documents = locateDocuments( context, reports, locale );
+            Map<String, DocumentRenderer> documents = locateDocuments( context, reports, locale );
+            skipUnchangedDocuments( documents, context, outputDir );
 
-        // copy resources
-        siteRenderer.copyResources( context, outputDir );
+            // copy resources
+            siteRenderer.copyResources( context, outputDir );
+
+            contexts.add( context );
+            reportDocuments.add( locateDoxiaDocuments( documents, context, outputDir, false, renderings ) );
+        }
 
         // 1. render Doxia documents first
-        List<DocumentRenderer> reportDocuments = renderDoxiaDocuments( documents, context, outputDir, false );
+        renderDoxiaDocuments( renderings );
+
+        for ( int i = 0; i < locales.size(); i++ )
+        {
+            renderReports( locales.get( i ), reports, reportDocuments.get( i ), contexts.get( i ) );
+        }
+    }
+
+    private void renderReports( Locale locale, List<MavenReportExecution> reports,
+                                List<DocumentRenderer> reportDocuments, SiteRenderingContext context )
+        throws IOException, RendererException, MojoFailureException, MojoExecutionException
+    {
+        File outputDir = getOutputDirectory( locale );
 
         // 2. then reports
         // prepare external reports
@@ -196,51 +252,48 @@ public class SiteMojo
         context.addSiteDirectory( generatedSiteDirectory );
 
         Map<String, DocumentRenderer> generatedDocuments = siteRenderer.locateDocumentFiles( context );
+        skipUnchangedDocuments( generatedDocuments, context, outputDir );
 
-        renderDoxiaDocuments( generatedDocuments, context, outputDir, true );
+        List<DoxiaRendering> renderings = new ArrayList<DoxiaRendering>();
+        locateDoxiaDocuments( generatedDocuments, context, outputDir, true, renderings );
+        renderDoxiaDocuments( renderings );
 
         // copy generated resources also
         siteRenderer.copyResources( context, outputDir );
     }
 
     /**
-     * Render Doxia documents from the list given, but not reports.
+     * Locate Doxia documents from the list given, but not reports, and group them by parser for rendering.
      * 
      * @param documents a collection of documents containing both Doxia source files and reports
+     * @param renderings the list to add the renderings of the Doxia documents to
      * @return the sublist of documents that are not Doxia source files
      */
-    private List<DocumentRenderer> renderDoxiaDocuments( Map<String, DocumentRenderer> documents,
-                                                         SiteRenderingContext context, File outputDir,
-                                                         boolean generated )
-                                                             throws RendererException, IOException
+    List<DocumentRenderer> locateDoxiaDocuments( Map<String, DocumentRenderer> documents,
+                                                 SiteRenderingContext context, File outputDir, boolean generated,
+                                                 List<DoxiaRendering> renderings )
     {
-        Map<String, DocumentRenderer> doxiaDocuments = new TreeMap<String, DocumentRenderer>();
+        Map<String, List<DocumentRenderer>> doxiaDocuments = new TreeMap<String, List<DocumentRenderer>>();
         List<DocumentRenderer> nonDoxiaDocuments = new ArrayList<DocumentRenderer>();
 
-        Map<String, Integer> counts = new TreeMap<String, Integer>();
-
-        for ( Map.Entry<String, DocumentRenderer> entry : documents.entrySet() )
+        int count = 0;
+        for ( DocumentRenderer doc : new TreeMap<String, DocumentRenderer>( documents ).values() )
         {
-            DocumentRenderer doc = entry.getValue();
 
             if ( doc instanceof DoxiaDocumentRenderer )
             {
-                doxiaDocuments.put( entry.getKey(), doc );
-
                 DoxiaDocumentRenderer doxia = (DoxiaDocumentRenderer) doc;
 
-                // count documents per parserId
+                // group documents per parserId
                 String parserId = doxia.getRenderingContext().getParserId();
-                Integer count = counts.get( parserId );
-                if ( count == null )
-                {
-                    count = 1;
-                }
-                else
+                List<DocumentRenderer> parserDocuments = doxiaDocuments.get( parserId );
+                if ( parserDocuments == null )
                 {
-                    count++;
+                    parserDocuments = new ArrayList<DocumentRenderer>();
+                    doxiaDocuments.put( parserId, parserDocuments );
                 }
-                counts.put( parserId, count );
+                parserDocuments.add( doc );
+                count++;
             }
             else
             {
@@ -248,29 +301,121 @@ public class SiteMojo
             }
         }
 
-        if ( doxiaDocuments.size() > 0 )
+        if ( count > 0 )
         {
-            StringBuilder sb = new StringBuilder( 15 * counts.size() );
-            for ( Map.Entry<String, Integer> entry : counts.entrySet() )
+            StringBuilder sb = new StringBuilder( 15 * doxiaDocuments.size() );
+            for ( Map.Entry<String, List<DocumentRenderer>> entry : doxiaDocuments.entrySet() )
             {
                 if ( sb.length() > 0 )
                 {
                     sb.append( ", " );
                 }
-                sb.append( entry.getValue() );
+                sb.append( entry.getValue().size() );
                 sb.append( ' ' );
                 sb.append( entry.getKey() );
-            }
 
-            getLog().info( "Rendering " + doxiaDocuments.size() + ( generated ? " generated" : "" ) + " Doxia document"
-                + ( doxiaDocuments.size() > 1 ? "s" : "" ) + ": " + sb.toString() );
+                renderings.add( new DoxiaRendering( entry.getKey(), entry.getValue(), context, outputDir ) );
+            }
 
-            siteRenderer.render( doxiaDocuments.values(), context, outputDir );
+            getLog().info( "Rendering " + count + ( generated ? " generated" : "" ) + " Doxia document"
+                + ( count > 1 ? "s" : "" ) + ": " + sb.toString() );
         }
 
         return nonDoxiaDocuments;
     }
 
+    /**
+     * Render Doxia documents, concurrently if more than one thread is configured. As a Doxia parser is shared by all
+     * the documents it parses, the renderings of a parser are done one after the other by the same thread.
+     *
+     * @param renderings the renderings of the Doxia documents, grouped by parser
+     */
+    void renderDoxiaDocuments( List<DoxiaRendering> renderings )
+        throws RendererException, IOException
+    {
+        Map<String, List<DoxiaRendering>> renderingsByParser = new LinkedHashMap<String, List<DoxiaRendering>>();
+        for ( DoxiaRendering rendering : renderings )
+        {
+            List<DoxiaRendering> parserRenderings = renderingsByParser.get( rendering.parserId );
+            if ( parserRenderings == null )
+            {
+                parserRenderings = new ArrayList<DoxiaRendering>();
+                renderingsByParser.put( rendering.parserId, parserRenderings );
+            }
+            parserRenderings.add( rendering );
+        }
+
+        if ( threads > 1 && renderingsByParser.size() == 1 )
+        {
+            getLog().info( "The documents are rendered by a single thread, as they share a single source format" );
+        }
+        if ( threads <= 1 || renderingsByParser.size() <= 1 )
+        {
+            for ( DoxiaRendering rendering : renderings )
+            {
+                renderDoxiaDocuments( rendering );
+            }
+            return;
+        }
+
+        ExecutorService executorService =
+            Executors.newFixedThreadPool( Math.min( threads, renderingsByParser.size() ) );
+        try
+        {
+            List<Future<Void>> futures = new ArrayList<Future<Void>>( renderingsByParser.size() );
+            for ( final List<DoxiaRendering> parserRenderings : renderingsByParser.values() )
+            {
+                futures.add( executorService.submit( new Callable<Void>()
+                {
+                    public Void call()
+                        throws RendererException, IOException
+                    {
+                        for ( DoxiaRendering rendering : parserRenderings )
+                        {
+                            renderDoxiaDocuments( rendering );
+                        }
+                        return null;
+                    }
+                } ) );
+            }
+            for ( Future<Void> future : futures )
+            {
+                future.get();
+            }
+        }
+        catch ( ExecutionException e )
+        {
+            if ( e.getCause() instanceof RendererException )
+            {
+                throw (RendererException) e.getCause();
+            }
+            if ( e.getCause() instanceof IOException )
+            {
+                throw (IOException) e.getCause();
+            }
+            throw new RendererException( e.getCause().getMessage(), e.getCause() );
+        }
+        catch ( InterruptedException e )
+        {
+            throw new RendererException( e.getMessage(), e );
+        }
+        finally
+        {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void renderDoxiaDocuments( DoxiaRendering rendering )
+        throws RendererException, IOException
+    {
+        long start = System.currentTimeMillis();
+
+        siteRenderer.render( rendering.documents, rendering.context, rendering.outputDir );
+
+        getLog().info( "Rendered " + rendering.documents.size() + " " + rendering.parserId + " document"
+            + ( rendering.documents.size() > 1 ? "s" : "" ) + " in " + ( System.currentTimeMillis() - start ) + " ms" );
+    }
+
     private File getOutputDirectory( Locale locale )
     {
         File file;
@@ -301,4 +446,27 @@ public class SiteMojo
     {
         return mavenSession;
     }
+
+    /**
+     * Doxia documents of a locale rendered by the same parser.
+     */
+    static class DoxiaRendering
+    {
+        private final String parserId;
+
+        private final List<DocumentRenderer> documents;
+
+        private final SiteRenderingContext context;
+
+        private final File outputDir;
+
+        DoxiaRendering( String parserId, List<DocumentRenderer> documents, SiteRenderingContext context,
+                        File outputDir )
+        {
+            this.parserId = parserId;
+            this.documents = documents;
+            this.context = context;
+            this.outputDir = outputDir;
+        }
+    }
 }
@@ -19,9 +19,17 @@ package org.apache.maven.plugins.site.run;
  * under the License.
  */
 
+import java.io.File;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.maven.doxia.siterenderer.DocumentRenderer;
+import org.apache.maven.doxia.siterenderer.Renderer;
+import org.apache.maven.doxia.siterenderer.RendererException;
 import org.apache.maven.doxia.siterenderer.SiteRenderingContext;
 
 /**
@@ -38,6 +46,25 @@ public class DoxiaBean
 
     private SiteRenderingContext generatedSiteContext;
 
+    /**
+     * The rendered pages by source file, cached as long as the sources are watched.
+     */
+    private final Map<File, String> renderedPages = new ConcurrentHashMap<File, String>();
+
+    /**
+     * The source files of the pages which have been cached, even if invalidated since.
+     */
+    private final Set<File> pageSources = new HashSet<File>();
+
+    private Map<String, DocumentRenderer> generatedDocuments;
+
+    /**
+     * The directories whose changes invalidate the cache, or <code>null</code> if the cache is disabled.
+     */
+    private List<File> watchedDirectories;
+
+    private long version;
+
     /**
      * @param context
      * @param documents
@@ -80,4 +107,108 @@ public class DoxiaBean
     {
         this.generatedSiteContext = generatedSiteContext;
     }
+
+    /**
+     * Locates the generated documents, only once as long as the generated site directory is watched.
+     *
+     * @param siteRenderer the site renderer
+     * @return the generated documents by output name
+     * @throws IOException if the documents could not be located
+     * @throws RendererException if the documents could not be located
+     */
+    synchronized Map<String, DocumentRenderer> getGeneratedDocuments( Renderer siteRenderer )
+        throws IOException, RendererException
+    {
+        if ( generatedDocuments == null || watchedDirectories == null )
+        {
+            generatedDocuments = siteRenderer.locateDocumentFiles( generatedSiteContext );
+        }
+        return generatedDocuments;
+    }
+
+    /**
+     * @return <code>true</code> if the rendered pages can be cached
+     */
+    synchronized boolean isCacheEnabled()
+    {
+        return watchedDirectories != null;
+    }
+
+    /**
+     * @param watchedDirectories the directories whose changes invalidate the cache
+     */
+    synchronized void setWatchedDirectories( List<File> watchedDirectories )
+    {
+        this.watchedDirectories = watchedDirectories;
+    }
+
+    /**
+     * @return the version of the cached content, to be given back when caching a page rendered meanwhile
+     */
+    synchronized long getVersion()
+    {
+        return version;
+    }
+
+    /**
+     * @param source the source file of the page
+     * @return the rendered page, or <code>null</code> if it is not cached
+     */
+    String getRenderedPage( File source )
+    {
+        return renderedPages.get( source );
+    }
+
+    /**
+     * Caches a rendered page, unless the sources changed since it started to be rendered or its source is not
+     * watched.
+     *
+     * @param source the source file of the page
+     * @param page the rendered page
+     * @param renderedVersion the version of the cached content when the page started to be rendered
+     */
+    synchronized void putRenderedPage( File source, String page, long renderedVersion )
+    {
+        if ( watchedDirectories != null && renderedVersion == version && isWatched( source ) )
+        {
+            renderedPages.put( source, page );
+            pageSources.add( source );
+        }
+    }
+
+    private boolean isWatched( File source )
+    {
+        String path = source.getAbsolutePath();
+        for ( File directory : watchedDirectories )
+        {
+            if ( path.startsWith( directory.getAbsolutePath() + File.separator ) )
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Invalidates the rendered page of a modified source file.
+     *
+     * @param source the source file
+     * @return <code>true</code> if the file is the source of a page which has been cached, even if invalidated since
+     */
+    synchronized boolean invalidate( File source )
+    {
+        version++;
+        renderedPages.remove( source );
+        return pageSources.contains( source );
+    }
+
+    /**
+     * Invalidates all the rendered pages and the located generated documents.
+     */
+    synchronized void invalidateAll()
+    {
+        version++;
+        renderedPages.clear();
+        generatedDocuments = null;
+    }
 }
@@ -20,8 +20,10 @@ package org.apache.maven.plugins.site.run;
  */
 
 import org.apache.maven.doxia.siterenderer.DocumentRenderer;
+import org.apache.maven.doxia.siterenderer.DoxiaDocumentRenderer;
 import org.apache.maven.doxia.siterenderer.Renderer;
 import org.apache.maven.doxia.siterenderer.RendererException;
+import org.apache.maven.doxia.siterenderer.RenderingContext;
 import org.apache.maven.doxia.siterenderer.SiteRenderingContext;
 import org.apache.maven.plugins.site.render.ReportDocumentRenderer;
 
@@ -34,7 +36,9 @@ import javax.servlet.ServletRequest;
 import javax.servlet.ServletResponse;
 import javax.servlet.http.HttpServletRequest;
 
+import java.io.File;
 import java.io.IOException;
+import java.io.StringWriter;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -96,6 +100,7 @@ public class DoxiaFilter
         path = path.substring( 1 );
 
         // Handle locale request
+        DoxiaBean doxiaBean;
         SiteRenderingContext context;
         Map<String, DocumentRenderer> documents;
         SiteRenderingContext generatedSiteContext;
@@ -117,6 +122,7 @@ public class DoxiaFilter
             {
                 throw new ServletException( "No doxia bean found for the default locale" );
             }
+            doxiaBean = defaultDoxiaBean;
             context = defaultDoxiaBean.getContext();
             documents = defaultDoxiaBean.getDocuments();
             generatedSiteContext = defaultDoxiaBean.getGeneratedSiteContext();
@@ -128,6 +134,7 @@ public class DoxiaFilter
             {
                 throw new ServletException( "No doxia bean found for the locale " + localeWanted );
             }
+            doxiaBean = i18nDoxiaBean;
             context = i18nDoxiaBean.getContext();
             documents = i18nDoxiaBean.getDocuments();
             generatedSiteContext = i18nDoxiaBean.getGeneratedSiteContext();
@@ -141,7 +148,7 @@ public class DoxiaFilter
             try
             {
                 DocumentRenderer renderer = documents.get( path );
-                renderer.renderDocument( servletResponse.getWriter(), siteRenderer, context );
+                renderDocument( doxiaBean, renderer, context, servletResponse );
 
                 if ( renderer instanceof ReportDocumentRenderer )
                 {
@@ -170,13 +177,12 @@ public class DoxiaFilter
         {
             try
             {
-                Map<String, DocumentRenderer> locateDocuments =
-                    siteRenderer.locateDocumentFiles( generatedSiteContext );
+                Map<String, DocumentRenderer> locateDocuments = doxiaBean.getGeneratedDocuments( siteRenderer );
 
                 if ( locateDocuments.containsKey( path ) )
                 {
                     DocumentRenderer renderer = locateDocuments.get( path );
-                    renderer.renderDocument( servletResponse.getWriter(), siteRenderer, generatedSiteContext );
+                    renderDocument( doxiaBean, renderer, generatedSiteContext, servletResponse );
 
                     return;
                 }
@@ -190,6 +196,35 @@ public class DoxiaFilter
         filterChain.doFilter( servletRequest, servletResponse );
     }
 
+    /**
+     * Renders a document, or writes its cached rendering if its source did not change since it was rendered.
+     */
+    private void renderDocument( DoxiaBean doxiaBean, DocumentRenderer renderer, SiteRenderingContext context,
+                                 ServletResponse servletResponse )
+        throws IOException, RendererException
+    {
+        // only Doxia documents are cached, reports are always rendered again
+        if ( !doxiaBean.isCacheEnabled() || !( renderer instanceof DoxiaDocumentRenderer ) )
+        {
+            renderer.renderDocument( servletResponse.getWriter(), siteRenderer, context );
+            return;
+        }
+
+        RenderingContext renderingContext = renderer.getRenderingContext();
+        File source = new File( renderingContext.getBasedir(), renderingContext.getInputName() ).getAbsoluteFile();
+
+        String page = doxiaBean.getRenderedPage( source );
+        if ( page == null )
+        {
+            long version = doxiaBean.getVersion();
+            StringWriter writer = new StringWriter();
+            renderer.renderDocument( writer, siteRenderer, context );
+            page = writer.toString();
+            doxiaBean.putRenderedPage( source, page, version );
+        }
+        servletResponse.getWriter().write( page );
+    }
+
     /**
      * @see javax.servlet.Filter#destroy()
      */
@@ -24,7 +24,10 @@ import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -68,8 +71,19 @@ public class SiteRunMojo
     @Parameter( property = "port", defaultValue = "8080" )
     private int port;
 
+    /**
+     * Whether to cache the rendered pages until their source changes, which requires Java 7 to watch the sources.
+     * The pages are not cached if any source directory can't be watched.
+     *
+     * @since 3.7
+     */
+    @Parameter( property = "maven.site.run.cache", defaultValue = "false" )
+    private boolean cache;
+
     private static final int MAX_IDLE_TIME = 30000;
 
+    private SiteWatcher siteWatcher;
+
     /**
      * @see org.apache.maven.plugin.AbstractMojo#execute()
      */
@@ -114,6 +128,13 @@ public class SiteRunMojo
         {
             getLog().warn( "Jetty was interrupted", e );
         }
+        finally
+        {
+            if ( siteWatcher != null )
+            {
+                siteWatcher.stop();
+            }
+        }
     }
 
     private WebAppContext createWebApplication()
@@ -216,6 +237,11 @@ public class SiteRunMojo
             }
 
             webapp.setAttribute( DoxiaFilter.I18N_DOXIA_CONTEXTS_KEY, i18nDoxiaContexts );
+
+            if ( cache )
+            {
+                watchSites( new LinkedHashSet<DoxiaBean>( i18nDoxiaContexts.values() ) );
+            }
         }
         catch ( Exception e )
         {
@@ -224,6 +250,33 @@ public class SiteRunMojo
         return webapp;
     }
 
+    /**
+     * Watches the source directories of the sites, so that the pages can be cached until their source changes.
+     */
+    private void watchSites( Collection<DoxiaBean> doxiaBeans )
+        throws IOException
+    {
+        try
+        {
+            Class.forName( "java.nio.file.WatchService" );
+        }
+        catch ( ClassNotFoundException e )
+        {
+            getLog().info( "Rendered pages are not cached, watching their sources requires Java 7" );
+            return;
+        }
+
+        List<File> directories = new ArrayList<File>();
+        for ( DoxiaBean doxiaBean : doxiaBeans )
+        {
+            directories.addAll( doxiaBean.getContext().getSiteDirectories() );
+            directories.addAll( doxiaBean.getGeneratedSiteContext().getSiteDirectories() );
+        }
+
+        siteWatcher = new SiteWatcher( doxiaBeans, directories, getLog() );
+        siteWatcher.start();
+    }
+
     private Connector getDefaultConnector()
     {
         Connector connector = new SelectChannelConnector();
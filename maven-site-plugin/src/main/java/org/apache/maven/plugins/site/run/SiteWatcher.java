@@ -0,0 +1,274 @@
+package org.apache.maven.plugins.site.run;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.apache.maven.plugin.logging.Log;
+
+/**
+ * Watches the source directories of the site, to invalidate the rendered pages cached by the {@link DoxiaBean}s when
+ * a document changes. A modified document only invalidates its own page, while a created or deleted file
+ * invalidates all the pages and the located generated documents. The caches are disabled as soon as a directory can't
+ * be watched, since its changes would go unnoticed.
+ * <p>
+ * <strong>Note:</strong> This class requires Java 7, so it must only be loaded once <code>java.nio.file</code> is known
+ * to be available.
+ * </p>
+ *
+ * @since 3.7
+ */
+class SiteWatcher
+    implements Runnable
+{
+    private final Collection<DoxiaBean> doxiaBeans;
+
+    private final List<Path> roots = new ArrayList<Path>();
+
+    /**
+     * The roots whose changes are watched, the others can't contain any cached page.
+     */
+    private final List<Path> watchedRoots = new ArrayList<Path>();
+
+    private final WatchService watchService;
+
+    private final Log log;
+
+    private volatile boolean failed;
+
+    /**
+     * @param doxiaBeans the beans to invalidate
+     * @param directories the directories to watch, with their subdirectories
+     * @param log the log
+     * @throws IOException if the watch service could not be created
+     */
+    SiteWatcher( Collection<DoxiaBean> doxiaBeans, Collection<File> directories, Log log )
+        throws IOException
+    {
+        this.doxiaBeans = doxiaBeans;
+        this.log = log;
+        watchService = FileSystems.getDefault().newWatchService();
+
+        for ( File directory : directories )
+        {
+            Path root = directory.getAbsoluteFile().toPath().normalize();
+            if ( !roots.contains( root ) )
+            {
+                roots.add( root );
+                register( root );
+            }
+        }
+    }
+
+    /**
+     * Starts watching the directories in a daemon thread, and enables the caches of the beans for their documents,
+     * unless a directory could not be watched.
+     */
+    void start()
+    {
+        if ( !failed )
+        {
+            List<File> directories = new ArrayList<File>( watchedRoots.size() );
+            for ( Path root : watchedRoots )
+            {
+                directories.add( root.toFile() );
+            }
+            for ( DoxiaBean doxiaBean : doxiaBeans )
+            {
+                doxiaBean.setWatchedDirectories( directories );
+            }
+        }
+
+        Thread thread = new Thread( this, "site-watcher" );
+        thread.setDaemon( true );
+        thread.start();
+    }
+
+    /**
+     * Stops watching the directories.
+     */
+    void stop()
+    {
+        try
+        {
+            watchService.close();
+        }
+        catch ( IOException e )
+        {
+            log.debug( "Unable to close the site watcher", e );
+        }
+    }
+
+    public void run()
+    {
+        try
+        {
+            while ( true )
+            {
+                WatchKey key = watchService.take();
+                Path directory = (Path) key.watchable();
+                for ( WatchEvent<?> event : key.pollEvents() )
+                {
+                    if ( event.kind() == StandardWatchEventKinds.OVERFLOW )
+                    {
+                        invalidateAll();
+                    }
+                    else
+                    {
+                        onEvent( event.kind(), directory.resolve( (Path) event.context() ) );
+                    }
+                }
+                key.reset();
+            }
+        }
+        catch ( InterruptedException e )
+        {
+            // stopped
+        }
+        catch ( ClosedWatchServiceException e )
+        {
+            // stopped
+        }
+    }
+
+    private void onEvent( WatchEvent.Kind<?> kind, Path path )
+    {
+        if ( !isInRoot( path ) )
+        {
+            // the parent of a missing root, which may have been created
+            if ( kind == StandardWatchEventKinds.ENTRY_CREATE && roots.contains( path ) )
+            {
+                register( path );
+                invalidateAll();
+            }
+            return;
+        }
+
+        if ( kind == StandardWatchEventKinds.ENTRY_MODIFY && !path.toFile().isDirectory() )
+        {
+            boolean cached = false;
+            for ( DoxiaBean doxiaBean : doxiaBeans )
+            {
+                cached |= doxiaBean.invalidate( path.toFile() );
+            }
+            if ( !cached )
+            {
+                // maybe included by a document
+                invalidateAll();
+            }
+            return;
+        }
+
+        if ( kind == StandardWatchEventKinds.ENTRY_CREATE && path.toFile().isDirectory() )
+        {
+            register( path );
+        }
+        invalidateAll();
+    }
+
+    /**
+     * Disables the caches of the beans, for good.
+     */
+    private void disableCaches()
+    {
+        failed = true;
+        for ( DoxiaBean doxiaBean : doxiaBeans )
+        {
+            doxiaBean.setWatchedDirectories( null );
+            doxiaBean.invalidateAll();
+        }
+    }
+
+    private void invalidateAll()
+    {
+        for ( DoxiaBean doxiaBean : doxiaBeans )
+        {
+            doxiaBean.invalidateAll();
+        }
+    }
+
+    private boolean isInRoot( Path path )
+    {
+        for ( Path root : roots )
+        {
+            if ( path.startsWith( root ) )
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Registers a directory with its subdirectories, or the parent of a directory that does not exist yet.
+     */
+    private void register( Path path )
+    {
+        File directory = path.toFile();
+        try
+        {
+            if ( directory.isDirectory() )
+            {
+                path.register( watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                               StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.ENTRY_MODIFY );
+                if ( roots.contains( path ) && !watchedRoots.contains( path ) )
+                {
+                    watchedRoots.add( path );
+                }
+                File[] files = directory.listFiles();
+                if ( files != null )
+                {
+                    for ( File file : files )
+                    {
+                        if ( file.isDirectory() )
+                        {
+                            register( file.toPath() );
+                        }
+                    }
+                }
+            }
+            else if ( roots.contains( path ) && directory.getParentFile() != null
+                && directory.getParentFile().isDirectory() )
+            {
+                // with all the kinds, in case the parent is watched as well
+                path.getParent().register( watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                                           StandardWatchEventKinds.ENTRY_DELETE,
+                                           StandardWatchEventKinds.ENTRY_MODIFY );
+                watchedRoots.add( path );
+            }
+        }
+        catch ( IOException e )
+        {
+            log.warn( "Unable to watch " + directory + ", the rendered pages are not cached: " + e.getMessage() );
+            disableCaches();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package org.apache.maven.plugins.site.deploy;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.apache.maven.wagon.Wagon;
+import org.apache.maven.wagon.providers.file.FileWagon;
+import org.apache.maven.wagon.repository.Repository;
+import org.codehaus.plexus.util.FileUtils;
+
+/**
+ * Tests the differential deployment to a <code>file:</code> repository.
+ */
+public class DifferentialDeployerTest
+    extends TestCase
+{
+    private static final Collection<String> NO_EXCLUDES = Collections.emptySet();
+
+    private File siteDirectory;
+
+    private File deployDirectory;
+
+    private List<Wagon> wagons = new ArrayList<Wagon>();
+
+    @Override
+    protected void setUp()
+        throws Exception
+    {
+        super.setUp();
+        File baseDirectory = new File( "target/differential-deploy" );
+        FileUtils.deleteDirectory( baseDirectory );
+        siteDirectory = new File( baseDirectory, "site" );
+        deployDirectory = new File( baseDirectory, "deploy" );
+        new File( siteDirectory, "css" ).mkdirs();
+        FileUtils.fileWrite( new File( siteDirectory, "index.html" ).getPath(), "index" );
+        FileUtils.fileWrite( new File( siteDirectory, "css/site.css" ).getPath(), "css" );
+        FileUtils.fileWrite( new File( siteDirectory, "old.html" ).getPath(), "old" );
+
+        Repository repository = new Repository( "test", deployDirectory.getAbsoluteFile().toURI().toString() );
+        for ( int i = 0; i < 2; i++ )
+        {
+            Wagon wagon = new FileWagon();
+            wagon.connect( repository );
+            wagons.add( wagon );
+        }
+    }
+
+    @Override
+    protected void tearDown()
+        throws Exception
+    {
+        for ( Wagon wagon : wagons )
+        {
+            wagon.disconnect();
+        }
+        super.tearDown();
+    }
+
+    public void testPutDirectory()
+        throws Exception
+    {
+        File manifestDirectory = new File( "target/differential-deploy/manifests" );
+        new DifferentialDeployer( wagons, manifestDirectory, true, new SystemStreamLog() )
+            .putDirectory( siteDirectory, "./", NO_EXCLUDES );
+        assertEquals( "index", FileUtils.fileRead( new File( deployDirectory, "index.html" ) ) );
+        assertEquals( "css", FileUtils.fileRead( new File( deployDirectory, "css/site.css" ) ) );
+        assertTrue( new File( deployDirectory, DifferentialDeployer.MANIFEST ).isFile() );
+
+        // unchanged files are not uploaded again
+        File deployedCss = new File( deployDirectory, "css/site.css" );
+        FileUtils.fileWrite( deployedCss.getPath(), "not uploaded" );
+        FileUtils.fileWrite( new File( siteDirectory, "index.html" ).getPath(), "changed" );
+        new File( siteDirectory, "old.html" ).delete();
+
+        new DifferentialDeployer( wagons.subList( 0, 1 ), manifestDirectory, true, new SystemStreamLog() )
+            .putDirectory( siteDirectory, "./", NO_EXCLUDES );
+        assertEquals( "changed", FileUtils.fileRead( new File( deployDirectory, "index.html" ) ) );
+        assertEquals( "not uploaded", FileUtils.fileRead( deployedCss ) );
+        assertFalse( new File( deployDirectory, "old.html" ).exists() );
+    }
+
+    public void testLocaleDirectoriesAreExcluded()
+        throws Exception
+    {
+        File manifestDirectory = new File( "target/differential-deploy/manifests" );
+        new File( siteDirectory, "fr/css" ).mkdirs();
+        FileUtils.fileWrite( new File( siteDirectory, "fr/index.html" ).getPath(), "index fr" );
+        FileUtils.fileWrite( new File( siteDirectory, "fr/css/site.css" ).getPath(), "css fr" );
+
+        DifferentialDeployer deployer =
+            new DifferentialDeployer( wagons, manifestDirectory, true, new SystemStreamLog() );
+        deployer.putDirectory( siteDirectory, "./", Collections.singleton( "fr" ) );
+        deployer.putDirectory( new File( siteDirectory, "fr" ), "fr/", NO_EXCLUDES );
+        assertEquals( "index", FileUtils.fileRead( new File( deployDirectory, "index.html" ) ) );
+        assertEquals( "index fr", FileUtils.fileRead( new File( deployDirectory, "fr/index.html" ) ) );
+
+        // the default locale neither lists nor deletes the files of the other locales
+        String manifest = FileUtils.fileRead( new File( deployDirectory, DifferentialDeployer.MANIFEST ) );
+        assertFalse( manifest.contains( "fr/" ) );
+        deployer.putDirectory( siteDirectory, "./", Collections.singleton( "fr" ) );
+        assertTrue( new File( deployDirectory, "fr/css/site.css" ).isFile() );
+    }
+
+    public void testQuote()
+    {
+        assertEquals( "'/var/www/site/index.html'", DifferentialDeployer.quote( "/var/www/site/index.html" ) );
+        assertEquals( "'/var/www/my site/it'\\''s; rm -rf ~.html'",
+                      DifferentialDeployer.quote( "/var/www/my site/it's; rm -rf ~.html" ) );
+    }
+}
@@ -0,0 +1,223 @@
+package org.apache.maven.plugins.site.render;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.maven.doxia.site.decoration.DecorationModel;
+import org.apache.maven.doxia.siterenderer.DocumentRenderer;
+import org.apache.maven.doxia.siterenderer.DoxiaDocumentRenderer;
+import org.apache.maven.doxia.siterenderer.RenderingContext;
+import org.apache.maven.doxia.siterenderer.SiteRenderingContext;
+import org.apache.maven.model.Build;
+import org.apache.maven.model.Model;
+import org.apache.maven.model.Plugin;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.reporting.exec.MavenReportExecution;
+import org.codehaus.plexus.util.FileUtils;
+import org.codehaus.plexus.util.ReflectionUtils;
+import org.junit.Before;
+import org.junit.Test;
+
+public class AbstractSiteRenderingMojoTest
+{
+    private File siteDirectory;
+
+    private File outputDirectory;
+
+    private MavenProject project;
+
+    private SiteMojo mojo;
+
+    @Before
+    public void setUp()
+        throws Exception
+    {
+        File baseDir = new File( "target/test-incremental-site" ).getAbsoluteFile();
+        FileUtils.deleteDirectory( baseDir );
+        siteDirectory = new File( baseDir, "src/site" );
+        outputDirectory = new File( baseDir, "target/site" );
+        new File( siteDirectory, "apt" ).mkdirs();
+        outputDirectory.mkdirs();
+
+        Model model = new Model();
+        model.setGroupId( "test" );
+        model.setArtifactId( "test" );
+        model.setVersion( "1.0" );
+        model.setBuild( new Build() );
+        model.getBuild().setDirectory( new File( baseDir, "target" ).getPath() );
+        project = new MavenProject( model );
+
+        mojo = new SiteMojo();
+        ReflectionUtils.setVariableValueInObject( mojo, "project", project );
+        ReflectionUtils.setVariableValueInObject( mojo, "siteDirectory", siteDirectory );
+        ReflectionUtils.setVariableValueInObject( mojo, "incremental", Boolean.TRUE );
+    }
+
+    @Test
+    public void testUnchangedPagesAreSkipped()
+        throws Exception
+    {
+        FileUtils.fileWrite( new File( siteDirectory, "apt/index.apt" ), "UTF-8", "index" );
+        FileUtils.fileWrite( new File( siteDirectory, "apt/other.apt" ), "UTF-8", "other" );
+
+        assertEquals( 2, render( "index", "other" ) );
+
+        // nothing changed
+        assertEquals( 0, render( "index", "other" ) );
+        assertTrue( new File( outputDirectory, "index.html" ).isFile() );
+
+        // a page deleted from the output is rendered again
+        assertTrue( new File( outputDirectory, "other.html" ).delete() );
+        assertEquals( 1, render( "index", "other" ) );
+    }
+
+    @Test
+    public void testChangedInputsInvalidatePages()
+        throws Exception
+    {
+        File index = new File( siteDirectory, "apt/index.apt" );
+        FileUtils.fileWrite( index, "UTF-8", "index" );
+        FileUtils.fileWrite( new File( siteDirectory, "apt/other.apt" ), "UTF-8", "other" );
+        assertEquals( 2, render( "index", "other" ) );
+
+        // the source document of a page
+        FileUtils.fileWrite( index, "UTF-8", "changed index" );
+        assertEquals( 1, render( "index", "other" ) );
+
+        // the effective model, which holds what is inherited from the parent POMs
+        project.getModel().setDescription( "changed" );
+        assertEquals( 2, render( "index", "other" ) );
+
+        // the template properties
+        Map<String, Object> templateProperties = Collections.<String, Object>singletonMap( "key", "value" );
+        assertEquals( 2, render( templateProperties, "index", "other" ) );
+        assertEquals( 0, render( templateProperties, "index", "other" ) );
+
+        // the project in the template properties stands for its effective model
+        templateProperties = Collections.<String, Object>singletonMap( "project", project );
+        assertEquals( 2, render( templateProperties, "index", "other" ) );
+        assertEquals( 0, render( templateProperties, "index", "other" ) );
+    }
+
+    @Test
+    public void testOrphanedPagesAreDeleted()
+        throws Exception
+    {
+        FileUtils.fileWrite( new File( siteDirectory, "apt/index.apt" ), "UTF-8", "index" );
+        FileUtils.fileWrite( new File( siteDirectory, "apt/other.apt" ), "UTF-8", "other" );
+        assertEquals( 2, render( "index", "other" ) );
+
+        assertEquals( 0, render( "index" ) );
+        assertTrue( new File( outputDirectory, "index.html" ).isFile() );
+        assertFalse( new File( outputDirectory, "other.html" ).exists() );
+    }
+
+    @Test
+    public void testReportsAreRenderedAgainUnlessIncremental()
+        throws Exception
+    {
+        ReflectionUtils.setVariableValueInObject( mojo, "incrementalReportPlugins",
+                                                  Collections.singletonList( "org.apache.maven.plugins:"
+                                                      + "maven-project-info-reports-plugin" ) );
+
+        assertEquals( 2, renderReports() );
+
+        // the surefire report renders the test results, which are not inputs of the page
+        assertEquals( 1, renderReports() );
+        assertTrue( new File( outputDirectory, "dependencies.html" ).isFile() );
+    }
+
+    private int renderReports()
+        throws Exception
+    {
+        Map<String, DocumentRenderer> documents = new TreeMap<String, DocumentRenderer>();
+        for ( String[] report : new String[][] { { "maven-project-info-reports-plugin", "dependencies" },
+            { "maven-surefire-report-plugin", "surefire-report" } } )
+        {
+            Plugin plugin = new Plugin();
+            plugin.setArtifactId( report[0] );
+            plugin.setVersion( "1.0" );
+            MavenReportExecution execution = new MavenReportExecution( report[1], plugin, null, null );
+            RenderingContext renderingContext = new RenderingContext( siteDirectory, report[1] + ".html" );
+            documents.put( report[1] + ".html", new ReportDocumentRenderer( execution, renderingContext, null ) );
+        }
+        return render( Collections.<String, Object>emptyMap(), documents );
+    }
+
+    private int render( String... names )
+        throws Exception
+    {
+        return render( Collections.<String, Object>emptyMap(), names );
+    }
+
+    /**
+     * Renders the given APT documents incrementally.
+     *
+     * @return the number of rendered pages
+     */
+    private int render( Map<String, Object> templateProperties, String... names )
+        throws Exception
+    {
+        Map<String, DocumentRenderer> documents = new TreeMap<String, DocumentRenderer>();
+        for ( String name : names )
+        {
+            RenderingContext renderingContext =
+                new RenderingContext( new File( siteDirectory, "apt" ), name + ".apt", "apt", "apt" );
+            documents.put( name + ".html", new DoxiaDocumentRenderer( renderingContext ) );
+        }
+        return render( templateProperties, documents );
+    }
+
+    /**
+     * Runs the incremental part of a rendering of the given documents, then writes the pages which were not skipped.
+     *
+     * @return the number of rendered pages
+     */
+    private int render( Map<String, Object> templateProperties, Map<String, DocumentRenderer> documents )
+        throws Exception
+    {
+        SiteRenderingContext context = new SiteRenderingContext();
+        context.setLocale( Locale.ENGLISH );
+        context.setDecoration( new DecorationModel() );
+        context.setTemplateName( "default" );
+        context.setTemplateProperties( templateProperties );
+
+        mojo.loadManifest( outputDirectory );
+        mojo.skipUnchangedDocuments( documents, context, outputDirectory );
+        for ( DocumentRenderer doc : documents.values() )
+        {
+            File page = new File( outputDirectory, doc.getOutputName() );
+            assertFalse( page.exists() );
+            FileUtils.fileWrite( page, "UTF-8", doc.getOutputName() );
+        }
+        mojo.storeManifest();
+
+        return documents.size();
+    }
+}
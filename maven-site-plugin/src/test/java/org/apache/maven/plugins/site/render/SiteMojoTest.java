@@ -0,0 +1,133 @@
+package org.apache.maven.plugins.site.render;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.doxia.siterenderer.DocumentRenderer;
+import org.apache.maven.doxia.siterenderer.DoxiaDocumentRenderer;
+import org.apache.maven.doxia.siterenderer.Renderer;
+import org.apache.maven.doxia.siterenderer.RenderingContext;
+import org.apache.maven.doxia.siterenderer.SiteRenderingContext;
+import org.codehaus.plexus.util.ReflectionUtils;
+import org.junit.Test;
+
+public class SiteMojoTest
+{
+    private static final long TIMEOUT = 30000L;
+
+    /**
+     * Test that the Doxia documents of different formats are rendered concurrently, while the documents of a format
+     * are rendered by one thread at a time since they share its parser.
+     *
+     * @throws Exception if any
+     */
+    @Test
+    public void testRenderDoxiaDocumentsConcurrentlyByFormat()
+        throws Exception
+    {
+        // the apt and xdoc renderings of each locale can only complete together
+        final CyclicBarrier barrier = new CyclicBarrier( 2 );
+        final Set<String> busyParsers = Collections.synchronizedSet( new TreeSet<String>() );
+        final List<String> rendered = Collections.synchronizedList( new ArrayList<String>() );
+        final List<String> errors = Collections.synchronizedList( new ArrayList<String>() );
+
+        Renderer siteRenderer = (Renderer) Proxy.newProxyInstance( getClass().getClassLoader(), new Class<?>[] {
+            Renderer.class }, new InvocationHandler()
+            {
+                public Object invoke( Object proxy, Method method, Object[] args )
+                    throws Throwable
+                {
+                    if ( !"render".equals( method.getName() ) )
+                    {
+                        throw new UnsupportedOperationException( method.getName() );
+                    }
+
+                    Collection<?> documents = (Collection<?>) args[0];
+                    String parserId =
+                        ( (DocumentRenderer) documents.iterator().next() ).getRenderingContext().getParserId();
+                    if ( !busyParsers.add( parserId ) )
+                    {
+                        errors.add( parserId + " parser used concurrently" );
+                    }
+                    try
+                    {
+                        barrier.await( TIMEOUT, TimeUnit.MILLISECONDS );
+                        for ( Object doc : documents )
+                        {
+                            rendered.add( args[2] + "/" + ( (DocumentRenderer) doc ).getOutputName() );
+                        }
+                    }
+                    finally
+                    {
+                        busyParsers.remove( parserId );
+                    }
+                    return null;
+                }
+            } );
+
+        SiteMojo mojo = new SiteMojo();
+        ReflectionUtils.setVariableValueInObject( mojo, "siteRenderer", siteRenderer );
+        ReflectionUtils.setVariableValueInObject( mojo, "threads", 4 );
+
+        List<SiteMojo.DoxiaRendering> renderings = new ArrayList<SiteMojo.DoxiaRendering>();
+        for ( String locale : new String[] { "en", "fr" } )
+        {
+            Map<String, DocumentRenderer> documents = new TreeMap<String, DocumentRenderer>();
+            addDocument( documents, "apt", "index" );
+            addDocument( documents, "apt", "usage" );
+            addDocument( documents, "xdoc", "faq" );
+            mojo.locateDoxiaDocuments( documents, new SiteRenderingContext(), new File( locale ), false,
+                                       renderings );
+        }
+        assertEquals( 4, renderings.size() );
+
+        mojo.renderDoxiaDocuments( renderings );
+
+        assertEquals( Collections.emptyList(), errors );
+        assertEquals( 6, rendered.size() );
+        assertTrue( rendered.containsAll( Arrays.asList( "en/index.html", "en/usage.html", "en/faq.html",
+                                                         "fr/index.html", "fr/usage.html", "fr/faq.html" ) ) );
+    }
+
+    private static void addDocument( Map<String, DocumentRenderer> documents, String parserId, String name )
+    {
+        RenderingContext renderingContext =
+            new RenderingContext( new File( parserId ), name + "." + parserId, parserId, parserId );
+        documents.put( name + ".html", new DoxiaDocumentRenderer( renderingContext ) );
+    }
+}
@@ -0,0 +1,138 @@
+package org.apache.maven.plugins.site.run;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.Collections;
+
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.codehaus.plexus.util.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SiteWatcherTest
+{
+    private static final long TIMEOUT = 30000L;
+
+    private File siteDirectory;
+
+    private DoxiaBean doxiaBean;
+
+    private SiteWatcher siteWatcher;
+
+    @Before
+    public void setUp()
+        throws Exception
+    {
+        siteDirectory = new File( "target/test-site-watcher" ).getAbsoluteFile();
+        FileUtils.deleteDirectory( siteDirectory );
+        new File( siteDirectory, "apt" ).mkdirs();
+
+        doxiaBean = new DoxiaBean( null, null, null );
+        siteWatcher = new SiteWatcher( Collections.singleton( doxiaBean ), Collections.singleton( siteDirectory ),
+                                       new SystemStreamLog() );
+        siteWatcher.start();
+    }
+
+    @After
+    public void tearDown()
+    {
+        siteWatcher.stop();
+    }
+
+    @Test
+    public void testModifiedDocumentInvalidatesItsPage()
+        throws Exception
+    {
+        File index = new File( siteDirectory, "apt/index.apt" );
+        File other = new File( siteDirectory, "apt/other.apt" );
+        FileUtils.fileWrite( index, "UTF-8", "index" );
+        FileUtils.fileWrite( other, "UTF-8", "other" );
+        assertTrue( doxiaBean.isCacheEnabled() );
+
+        waitForVersionChange();
+        doxiaBean.putRenderedPage( index, "<p>index</p>", doxiaBean.getVersion() );
+        doxiaBean.putRenderedPage( other, "<p>other</p>", doxiaBean.getVersion() );
+        assertEquals( "<p>index</p>", doxiaBean.getRenderedPage( index ) );
+
+        FileUtils.fileWrite( index, "UTF-8", "index changed" );
+        long deadline = System.currentTimeMillis() + TIMEOUT;
+        while ( doxiaBean.getRenderedPage( index ) != null && System.currentTimeMillis() < deadline )
+        {
+            Thread.sleep( 50 );
+        }
+        assertNull( doxiaBean.getRenderedPage( index ) );
+        assertEquals( "<p>other</p>", doxiaBean.getRenderedPage( other ) );
+    }
+
+    @Test
+    public void testPageRenderedDuringChangeIsNotCached()
+        throws Exception
+    {
+        File index = new File( siteDirectory, "apt/index.apt" );
+        long version = doxiaBean.getVersion();
+
+        FileUtils.fileWrite( index, "UTF-8", "index" );
+        waitForVersionChange( version );
+
+        doxiaBean.putRenderedPage( index, "<p>stale</p>", version );
+        assertNull( doxiaBean.getRenderedPage( index ) );
+    }
+
+    @Test
+    public void testUnwatchedSourceIsNotCached()
+        throws Exception
+    {
+        File outside = new File( siteDirectory.getParentFile(), "test-site-watcher-outside.apt" );
+
+        doxiaBean.putRenderedPage( outside, "<p>outside</p>", doxiaBean.getVersion() );
+        assertNull( doxiaBean.getRenderedPage( outside ) );
+        assertFalse( outside.exists() );
+    }
+
+    /**
+     * Waits for the events of the files written so far to be handled, which change the version of the cache.
+     */
+    private void waitForVersionChange()
+        throws InterruptedException
+    {
+        waitForVersionChange( -1 );
+    }
+
+    private void waitForVersionChange( long version )
+        throws InterruptedException
+    {
+        long deadline = System.currentTimeMillis() + TIMEOUT;
+        long current = doxiaBean.getVersion();
+        while ( ( version < 0 ? current == 0 : current == version ) && System.currentTimeMillis() < deadline )
+        {
+            Thread.sleep( 50 );
+            current = doxiaBean.getVersion();
+        }
+        // let the remaining events of the same files be handled
+        Thread.sleep( 200 );
+    }
+}